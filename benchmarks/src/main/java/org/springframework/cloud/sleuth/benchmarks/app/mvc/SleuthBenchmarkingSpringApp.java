@@ -84,6 +84,10 @@ public class SleuthBenchmarkingSpringApp implements ApplicationListener<ServletW
 		return this.aClass.newSpan();
 	}
 
+	public String newSpanWithTag(String tagValue) {
+		return this.aClass.newSpanWithTag(tagValue);
+	}
+
 	@Override
 	public void onApplicationEvent(ServletWebServerInitializedEvent event) {
 		this.port = event.getSource().getPort();
@@ -154,6 +158,11 @@ class AClass {
 		return this.anotherClass.continuedAnnotation("bar");
 	}
 
+	@NewSpan(name = "customNameSpan")
+	public String newSpanWithTag(@SpanTag("tag") String tagValue) {
+		return this.anotherClass.continuedAnnotation(tagValue);
+	}
+
 }
 
 class AnotherClass {
@@ -44,6 +44,10 @@ import org.springframework.context.annotation.Configuration;
 
 import static org.assertj.core.api.BDDAssertions.then;
 
+/**
+ * Benchmarks of the tracer bridge. Run with the GC profiler (e.g. {@code -prof gc}) to see
+ * the allocation rate of the span lookups.
+ */
 @Measurement(iterations = 5, time = 1)
 @Warmup(iterations = 5, time = 1)
 @Fork(2)
@@ -89,6 +93,36 @@ public class BridgeTests {
 		}
 	}
 
+	@Benchmark
+	public void should_retrieve_current_span_repeatedly(BenchmarkContext context) throws Exception {
+		Tracer tracer = context.tracer;
+		Span span = context.parent;
+		try (Tracer.SpanInScope ws = tracer.withSpan(span)) {
+			for (int i = 0; i < 10; i++) {
+				then(tracer.currentSpan().context().spanId()).isEqualTo(span.context().spanId());
+			}
+		}
+	}
+
+	@Benchmark
+	public void should_customize_current_span(BenchmarkContext context) throws Exception {
+		Tracer tracer = context.tracer;
+		try (Tracer.SpanInScope ws = tracer.withSpan(context.parent)) {
+			tracer.currentSpanCustomizer().tag("foo", "bar").event("baz");
+		}
+	}
+
+	@Benchmark
+	public void should_put_span_already_in_scope_in_scope(BenchmarkContext context) throws Exception {
+		Tracer tracer = context.tracer;
+		Span span = context.parent;
+		try (Tracer.SpanInScope ws = tracer.withSpan(span)) {
+			try (Tracer.SpanInScope same = tracer.withSpan(tracer.currentSpan())) {
+				then(same).isSameAs(Tracer.SpanInScope.NOOP);
+			}
+		}
+	}
+
 	@State(Scope.Benchmark)
 	public static class BenchmarkContext {
 
@@ -0,0 +1,140 @@
+/*
+ * Copyright 2013-2023 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.cloud.sleuth.benchmarks.jmh.docs;
+
+import java.util.concurrent.TimeUnit;
+
+import jmh.mbr.junit5.Microbenchmark;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import org.springframework.boot.SpringApplication;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.autoconfigure.ImportAutoConfiguration;
+import org.springframework.cloud.sleuth.Span;
+import org.springframework.cloud.sleuth.Tracer;
+import org.springframework.cloud.sleuth.autoconfig.brave.BraveAutoConfiguration;
+import org.springframework.cloud.sleuth.docs.DocumentedSpan;
+import org.springframework.cloud.sleuth.docs.TagKey;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Compares creating, tagging and ending a span that is always wrapped in assertions with
+ * one that is wrapped only when assertions are turned on. Assertions are off in the forked
+ * JVMs, as in production. Run with the GC profiler (e.g. {@code -prof gc}) and compare the
+ * {@code gc.alloc.rate.norm} metric to see the allocation per span.
+ */
+@Measurement(iterations = 5, time = 1)
+@Warmup(iterations = 5, time = 1)
+@Fork(value = 2, jvmArgsAppend = "-Dspring.cloud.sleuth.assertions.enabled=false")
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Microbenchmark
+public class DocumentedSpanBenchmarkTests {
+
+	@Benchmark
+	public Span alwaysWrapped(BenchmarkContext context) {
+		Span span = BenchmarkSpan.SPAN.wrap(context.tracer.nextSpan()).name("benchmark")
+				.tag(BenchmarkSpan.Tags.CLASS, "BenchmarkClass").tag(BenchmarkSpan.Tags.METHOD, "benchmarkMethod")
+				.start();
+		span.end();
+		return span;
+	}
+
+	@Benchmark
+	public Span wrappedIfAssertionsEnabled(BenchmarkContext context) {
+		Span span = BenchmarkSpan.SPAN.wrapIfAssertionsEnabled(context.tracer.nextSpan()).name("benchmark")
+				.tag(BenchmarkSpan.Tags.CLASS.getKey(), "BenchmarkClass")
+				.tag(BenchmarkSpan.Tags.METHOD.getKey(), "benchmarkMethod").start();
+		span.end();
+		return span;
+	}
+
+	@State(Scope.Benchmark)
+	public static class BenchmarkContext {
+
+		volatile ConfigurableApplicationContext context;
+
+		volatile Tracer tracer;
+
+		@Setup
+		public void setup() {
+			SpringApplication application = new SpringApplication(TestConfiguration.class);
+			application.setWebApplicationType(WebApplicationType.NONE);
+			this.context = application.run("--spring.jmx.enabled=false",
+					"--spring.application.name=documentedSpanBenchmark");
+			this.tracer = this.context.getBean(Tracer.class);
+		}
+
+		@TearDown
+		public void clean() {
+			this.context.close();
+		}
+
+		@Configuration(proxyBeanMethods = false)
+		@ImportAutoConfiguration(BraveAutoConfiguration.class)
+		static class TestConfiguration {
+
+		}
+
+	}
+
+	enum BenchmarkSpan implements DocumentedSpan {
+
+		SPAN {
+			@Override
+			public String getName() {
+				return "benchmark";
+			}
+
+			@Override
+			public TagKey[] getTagKeys() {
+				return Tags.values();
+			}
+		};
+
+		enum Tags implements TagKey {
+
+			CLASS {
+				@Override
+				public String getKey() {
+					return "class";
+				}
+			},
+
+			METHOD {
+				@Override
+				public String getKey() {
+					return "method";
+				}
+			}
+
+		}
+
+	}
+
+}
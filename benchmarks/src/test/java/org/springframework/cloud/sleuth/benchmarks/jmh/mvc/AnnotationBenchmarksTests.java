@@ -59,6 +59,11 @@ public class AnnotationBenchmarksTests {
 		then(context.sleuth.newSpan()).isEqualTo("continued");
 	}
 
+	@Benchmark
+	public void spanCreatedWithAnnotationsAndTags(BenchmarkContext context) throws Exception {
+		then(context.sleuth.newSpanWithTag("bar")).isEqualTo("continued");
+	}
+
 	@State(Scope.Benchmark)
 	public static class BenchmarkContext {
 
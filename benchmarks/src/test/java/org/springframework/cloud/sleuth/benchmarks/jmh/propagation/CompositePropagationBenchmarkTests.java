@@ -0,0 +1,131 @@
+/*
+ * Copyright 2013-2023 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.cloud.sleuth.benchmarks.jmh.propagation;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import brave.propagation.Propagation;
+import brave.propagation.TraceContext;
+import brave.propagation.TraceContextOrSamplingFlags;
+import jmh.mbr.junit5.Microbenchmark;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import org.springframework.beans.factory.support.StaticListableBeanFactory;
+import org.springframework.cloud.sleuth.brave.bridge.CompositePropagationFactorySupplier;
+import org.springframework.cloud.sleuth.brave.propagation.PropagationType;
+
+import static org.assertj.core.api.BDDAssertions.then;
+
+/**
+ * Benchmarks of injecting and extracting the trace context with the composite
+ * propagation. Run with the GC profiler (e.g. {@code -prof gc}) to see the allocation
+ * rate per request.
+ */
+@Measurement(iterations = 5, time = 1)
+@Warmup(iterations = 5, time = 1)
+@Fork(2)
+@BenchmarkMode(Mode.SampleTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Microbenchmark
+public class CompositePropagationBenchmarkTests {
+
+	@Benchmark
+	public void should_inject_with_cached_injector(BenchmarkContext context) {
+		Map<String, String> carrier = new HashMap<>();
+
+		context.injector.inject(context.context, carrier);
+
+		then(carrier).isNotEmpty();
+	}
+
+	@Benchmark
+	public void should_inject_with_new_injector(BenchmarkContext context) {
+		Map<String, String> carrier = new HashMap<>();
+
+		context.propagation.injector(BenchmarkContext.SETTER).inject(context.context, carrier);
+
+		then(carrier).isNotEmpty();
+	}
+
+	@Benchmark
+	public void should_extract_with_cached_extractor(BenchmarkContext context) {
+		TraceContextOrSamplingFlags extracted = context.extractor.extract(context.carrier);
+
+		then(extracted.context()).isNotNull();
+	}
+
+	@Benchmark
+	public void should_extract_with_new_extractor(BenchmarkContext context) {
+		TraceContextOrSamplingFlags extracted = context.propagation.extractor(BenchmarkContext.GETTER)
+				.extract(context.carrier);
+
+		then(extracted.context()).isNotNull();
+	}
+
+	@State(Scope.Benchmark)
+	public static class BenchmarkContext {
+
+		static final Propagation.Setter<Map<String, String>, String> SETTER = Map::put;
+
+		static final Propagation.Getter<Map<String, String>, String> GETTER = Map::get;
+
+		@Param({ "B3", "W3C", "B3,W3C" })
+		private String propagationTypes;
+
+		volatile Propagation<String> propagation;
+
+		volatile TraceContext.Injector<Map<String, String>> injector;
+
+		volatile TraceContext.Extractor<Map<String, String>> extractor;
+
+		volatile TraceContext context;
+
+		volatile Map<String, String> carrier;
+
+		@Setup
+		public void setup() {
+			List<PropagationType> types = Stream.of(this.propagationTypes.split(",")).map(PropagationType::valueOf)
+					.collect(Collectors.toList());
+			this.propagation = new CompositePropagationFactorySupplier(new StaticListableBeanFactory(),
+					Collections.emptyList(), types).get().get();
+			this.injector = this.propagation.injector(SETTER);
+			this.extractor = this.propagation.extractor(GETTER);
+			this.context = TraceContext.newBuilder().traceIdHigh(0x463ac35c9f6413adL).traceId(0x48485a3953bb6124L)
+					.spanId(0xa2fb4a1d1a96d312L).sampled(true).build();
+			this.carrier = new HashMap<>();
+			this.injector.inject(this.context, this.carrier);
+		}
+
+	}
+
+}
@@ -0,0 +1,139 @@
+/*
+ * Copyright 2013-2023 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.cloud.sleuth.benchmarks.jmh.propagation;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import brave.propagation.Propagation;
+import brave.propagation.TraceContext;
+import jmh.mbr.junit5.Microbenchmark;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import org.springframework.beans.factory.support.StaticListableBeanFactory;
+import org.springframework.cloud.sleuth.brave.bridge.CompositePropagationFactorySupplier;
+import org.springframework.cloud.sleuth.brave.propagation.PropagationType;
+import org.springframework.cloud.sleuth.internal.EncodingUtils;
+
+/**
+ * Compares the substring and split based parsing of the W3C {@code traceparent} and
+ * {@code baggage} headers that was used before with extracting them with the W3C
+ * propagation. The extraction additionally creates the baggage fields of the entries.
+ * Run with {@code -prof gc} to compare the allocations.
+ */
+@Measurement(iterations = 5, time = 1)
+@Warmup(iterations = 5, time = 1)
+@Fork(2)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Microbenchmark
+public class W3CPropagationBenchmarkTests {
+
+	@Benchmark
+	public TraceContext traceparentWithSubstrings(BenchmarkContext context) {
+		return parseWithSubstrings(context.traceparent);
+	}
+
+	@Benchmark
+	public TraceContext traceparent(BenchmarkContext context) {
+		return context.extractor.extract(context.traceparentCarrier).context();
+	}
+
+	@Benchmark
+	public Map<String, String> traceparentAndBaggageWithSubstringsAndSplit(BenchmarkContext context) {
+		Map<String, String> baggage = new HashMap<>();
+		if (parseWithSubstrings(context.traceparent) == null) {
+			return baggage;
+		}
+		for (String entry : context.baggage.split(",")) {
+			int beginningOfMetadata = entry.indexOf(";");
+			if (beginningOfMetadata > 0) {
+				entry = entry.substring(0, beginningOfMetadata);
+			}
+			String[] keyAndValue = entry.split("=");
+			for (int i = 0; i + 1 < keyAndValue.length; i += 2) {
+				baggage.put(keyAndValue[i].trim(), keyAndValue[i + 1].trim());
+			}
+		}
+		return baggage;
+	}
+
+	@Benchmark
+	public TraceContext traceparentAndBaggage(BenchmarkContext context) {
+		return context.extractor.extract(context.baggageCarrier).context();
+	}
+
+	private static TraceContext parseWithSubstrings(String traceparent) {
+		String version = traceparent.substring(0, 2);
+		if ("ff".equals(version) || !EncodingUtils.isValidBase16String(version)) {
+			return null;
+		}
+		String traceId = traceparent.substring(3, 35);
+		String spanId = traceparent.substring(36, 52);
+		if (!EncodingUtils.isValidBase16String(traceId) || !EncodingUtils.isValidBase16String(spanId)) {
+			return null;
+		}
+		return TraceContext.newBuilder().shared(true)
+				.traceIdHigh(EncodingUtils.longFromBase16String(traceId.substring(0, 16)))
+				.traceId(EncodingUtils.longFromBase16String(traceId.substring(16)))
+				.spanId(EncodingUtils.longFromBase16String(spanId))
+				.sampled(EncodingUtils.byteFromBase16String(traceparent, 53) == 1).build();
+	}
+
+	@State(Scope.Benchmark)
+	public static class BenchmarkContext {
+
+		static final Propagation.Getter<Map<String, String>, String> GETTER = Map::get;
+
+		@Param({ "00-0af7651916cd43dd8448eb211c80319c-b7ad6b7169203331-01" })
+		String traceparent;
+
+		@Param({ "userId=alice", "userId=alice,serverNode=DF%2028,isProduction=false;metadata,country=FR" })
+		String baggage;
+
+		volatile TraceContext.Extractor<Map<String, String>> extractor;
+
+		volatile Map<String, String> traceparentCarrier;
+
+		volatile Map<String, String> baggageCarrier;
+
+		@Setup
+		public void setup() {
+			Propagation<String> propagation = new CompositePropagationFactorySupplier(new StaticListableBeanFactory(),
+					Collections.emptyList(), Collections.singletonList(PropagationType.W3C)).get().get();
+			this.extractor = propagation.extractor(GETTER);
+			this.traceparentCarrier = new HashMap<>();
+			this.traceparentCarrier.put("traceparent", this.traceparent);
+			this.baggageCarrier = new HashMap<>(this.traceparentCarrier);
+			this.baggageCarrier.put("baggage", this.baggage);
+		}
+
+	}
+
+}
@@ -0,0 +1,143 @@
+/*
+ * Copyright 2013-2023 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.cloud.sleuth.benchmarks.jmh.r2dbc;
+
+import java.util.concurrent.TimeUnit;
+
+import io.r2dbc.spi.Connection;
+import io.r2dbc.spi.ConnectionFactory;
+import jmh.mbr.junit5.Microbenchmark;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import reactor.core.publisher.Flux;
+
+import org.springframework.boot.SpringApplication;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.autoconfigure.ImportAutoConfiguration;
+import org.springframework.boot.autoconfigure.r2dbc.R2dbcAutoConfiguration;
+import org.springframework.cloud.sleuth.Span;
+import org.springframework.cloud.sleuth.Tracer;
+import org.springframework.cloud.sleuth.autoconfig.brave.BraveAutoConfiguration;
+import org.springframework.cloud.sleuth.autoconfig.instrument.r2dbc.TraceR2dbcAutoConfiguration;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.context.annotation.Configuration;
+
+import static org.assertj.core.api.BDDAssertions.then;
+
+/**
+ * Benchmarks of the R2DBC instrumentation against an in-memory H2 database. Run with the
+ * GC profiler (e.g. {@code -prof gc}) to see the allocation rate of the query spans.
+ */
+@Measurement(iterations = 5, time = 1)
+@Warmup(iterations = 5, time = 1)
+@Fork(2)
+@BenchmarkMode(Mode.SampleTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Microbenchmark
+public class R2dbcBenchmarkTests {
+
+	@Benchmark
+	public void should_execute_a_query(BenchmarkContext context) throws Exception {
+		Long count = query(context, "SELECT COUNT(*) FROM benchmark");
+
+		then(count).isNotNull();
+	}
+
+	@Benchmark
+	public void should_execute_a_long_query(BenchmarkContext context) throws Exception {
+		Long count = query(context, BenchmarkContext.LONG_QUERY);
+
+		then(count).isNotNull();
+	}
+
+	private Long query(BenchmarkContext context, String sql) {
+		try (Tracer.SpanInScope ws = context.tracer.withSpan(context.parent)) {
+			return Flux
+					.usingWhen(context.connectionFactory.create(),
+							connection -> Flux.from(connection.createStatement(sql).execute())
+									.flatMap(result -> result.map((row, metadata) -> row.get(0, Long.class))),
+							Connection::close)
+					.blockLast();
+		}
+	}
+
+	@State(Scope.Benchmark)
+	public static class BenchmarkContext {
+
+		static final String LONG_QUERY = "SELECT COUNT(*) FROM benchmark WHERE id IN ("
+				+ "1, 2, 3, 4, 5, 6, 7, 8, 9, 10, 11, 12, 13, 14, 15, 16, 17, 18, 19, 20, "
+				+ "21, 22, 23, 24, 25, 26, 27, 28, 29, 30, 31, 32, 33, 34, 35, 36, 37, 38, 39, 40)";
+
+		volatile ConfigurableApplicationContext withSleuth;
+
+		volatile ConnectionFactory connectionFactory;
+
+		volatile Tracer tracer;
+
+		volatile Span parent;
+
+		@Param({ "false", "true" })
+		private boolean instrumented;
+
+		@Param({ "-1", "32" })
+		private int queryMaxLength;
+
+		@Setup
+		public void setup() {
+			SpringApplication application = new SpringApplication(TestConfiguration.class);
+			application.setWebApplicationType(WebApplicationType.NONE);
+			this.withSleuth = application.run("--spring.jmx.enabled=false",
+					"--spring.application.name=r2dbc_" + this.instrumented + "_" + this.queryMaxLength,
+					"--spring.r2dbc.url=r2dbc:h2:mem:///benchmark?options=DB_CLOSE_DELAY=-1",
+					"--spring.sleuth.r2dbc.enabled=" + this.instrumented,
+					"--spring.sleuth.r2dbc.query-max-length=" + this.queryMaxLength);
+			this.connectionFactory = this.withSleuth.getBean(ConnectionFactory.class);
+			this.tracer = this.withSleuth.getBean(Tracer.class);
+			this.parent = this.tracer.nextSpan().name("name").start();
+			Flux.usingWhen(this.connectionFactory.create(),
+					connection -> Flux.from(connection
+							.createStatement("CREATE TABLE IF NOT EXISTS benchmark (id INT PRIMARY KEY)").execute())
+							.flatMap(result -> result.getRowsUpdated()),
+					Connection::close).blockLast();
+		}
+
+		@TearDown
+		public void clean() {
+			this.parent.end();
+			this.withSleuth.close();
+		}
+
+		@Configuration(proxyBeanMethods = false)
+		@ImportAutoConfiguration({ BraveAutoConfiguration.class, R2dbcAutoConfiguration.class,
+				TraceR2dbcAutoConfiguration.class })
+		static class TestConfiguration {
+
+		}
+
+	}
+
+}
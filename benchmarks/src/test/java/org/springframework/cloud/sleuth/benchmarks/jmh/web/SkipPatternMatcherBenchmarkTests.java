@@ -0,0 +1,82 @@
+/*
+ * Copyright 2013-2021 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.cloud.sleuth.benchmarks.jmh.web;
+
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Pattern;
+
+import jmh.mbr.junit5.Microbenchmark;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import org.springframework.cloud.sleuth.internal.SkipPatternMatcher;
+
+/**
+ * Compares matching a path against the consolidated skip pattern (defaults, actuator
+ * endpoints and management context) with the regex and with {@link SkipPatternMatcher}.
+ */
+@Measurement(iterations = 5, time = 1)
+@Warmup(iterations = 5, time = 1)
+@Fork(2)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Microbenchmark
+public class SkipPatternMatcherBenchmarkTests {
+
+	@Benchmark
+	public boolean regex(BenchmarkContext context) {
+		return context.pattern.matcher(context.path).matches();
+	}
+
+	@Benchmark
+	public boolean matcher(BenchmarkContext context) {
+		return context.matcher.matches(context.path);
+	}
+
+	@State(Scope.Benchmark)
+	public static class BenchmarkContext {
+
+		static final String SKIP_PATTERN = "/api-docs.*|/swagger.*|.*\\.png|.*\\.css|.*\\.js|.*\\.html"
+				+ "|/favicon.ico|/hystrix.stream|/actuator(/|/(health|health/.*|info|info/.*|metrics|metrics/.*"
+				+ "|prometheus|prometheus/.*|env|env/.*|loggers|loggers/.*))?|/management.*";
+
+		@Param({ "/api/v1/customers/12345/orders", "/actuator/health/liveness", "/static/js/app.min.js",
+				"/swagger-ui/index.html" })
+		String path;
+
+		Pattern pattern;
+
+		SkipPatternMatcher matcher;
+
+		@Setup
+		public void setup() {
+			this.pattern = Pattern.compile(SKIP_PATTERN);
+			this.matcher = SkipPatternMatcher.of(this.pattern);
+		}
+
+	}
+
+}
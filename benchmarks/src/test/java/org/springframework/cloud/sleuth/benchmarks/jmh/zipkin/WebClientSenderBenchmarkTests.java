@@ -0,0 +1,143 @@
+/*
+ * Copyright 2013-2021 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.cloud.sleuth.benchmarks.jmh.zipkin;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.zip.Deflater;
+
+import jmh.mbr.junit5.Microbenchmark;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import reactor.core.publisher.Mono;
+import reactor.netty.DisposableServer;
+import reactor.netty.http.server.HttpServer;
+import zipkin2.Endpoint;
+import zipkin2.Callback;
+import zipkin2.Span;
+import zipkin2.codec.SpanBytesEncoder;
+import zipkin2.reporter.ReporterMetrics;
+
+import org.springframework.cloud.sleuth.zipkin2.WebClientSender;
+import org.springframework.http.client.reactive.ReactorClientHttpConnector;
+import org.springframework.web.reactive.function.client.WebClient;
+
+/**
+ * Compares the number of spans per second that can be flushed to a collector with a
+ * given latency when the {@link WebClientSender} blocks on each batch and when it
+ * pipelines batches. The score is expressed in spans per second. As the pipelining sender
+ * drops the batches that exceed the in-flight limit, the benchmark only sends the next
+ * batch once a slot got freed.
+ */
+@Measurement(iterations = 5, time = 1)
+@Warmup(iterations = 3, time = 1)
+@Fork(2)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Microbenchmark
+public class WebClientSenderBenchmarkTests {
+
+	static final int BATCH_SIZE = 100;
+
+	@Benchmark
+	@OperationsPerInvocation(BATCH_SIZE)
+	public void should_send_batch_of_spans(BenchmarkContext context) throws Exception {
+		if (context.freeSlots == null) {
+			context.sender.sendSpans(context.batch).execute();
+			return;
+		}
+		context.freeSlots.acquire();
+		context.sender.sendSpans(context.batch).enqueue(context.releaseSlot);
+	}
+
+	@State(Scope.Benchmark)
+	public static class BenchmarkContext {
+
+		@Param({ "0", "4", "16" })
+		int maxInFlightRequests;
+
+		@Param({ "1", "20" })
+		long collectorLatencyMillis;
+
+		volatile DisposableServer collector;
+
+		volatile WebClientSender sender;
+
+		volatile List<byte[]> batch;
+
+		volatile Semaphore freeSlots;
+
+		final Callback<Void> releaseSlot = new Callback<Void>() {
+			@Override
+			public void onSuccess(Void value) {
+				freeSlots.release();
+			}
+
+			@Override
+			public void onError(Throwable t) {
+				freeSlots.release();
+			}
+		};
+
+		@Setup
+		public void setup() {
+			this.collector = HttpServer.create().host("localhost").port(0)
+					.handle((request, response) -> request.receive().then()
+							.then(Mono.delay(Duration.ofMillis(this.collectorLatencyMillis)))
+							.then(Mono.defer(() -> response.status(202).send().then())))
+					.bindNow();
+			WebClient webClient = WebClient.builder().clientConnector(new ReactorClientHttpConnector()).build();
+			this.sender = new WebClientSender(null, webClient, "http://localhost:" + this.collector.port(), null,
+					SpanBytesEncoder.JSON_V2, 5_000L, this.maxInFlightRequests, false, Deflater.DEFAULT_COMPRESSION,
+					ReporterMetrics.NOOP_METRICS);
+			this.freeSlots = this.maxInFlightRequests > 0 ? new Semaphore(this.maxInFlightRequests) : null;
+			Span span = Span.newBuilder().traceId("7180c278b62e8f6a216a2aea45d08fc9").parentId("6b221d5bc9e6496c")
+					.id("5b4185666d50f68b").name("get /backend").kind(Span.Kind.SERVER)
+					.localEndpoint(Endpoint.newBuilder().serviceName("backend").ip("192.168.99.101").port(9000).build())
+					.timestamp(1472470996250000L).duration(100000L).putTag("http.method", "GET")
+					.putTag("http.path", "/backend").build();
+			byte[] encodedSpan = SpanBytesEncoder.JSON_V2.encode(span);
+			List<byte[]> batch = new ArrayList<>(BATCH_SIZE);
+			for (int i = 0; i < BATCH_SIZE; i++) {
+				batch.add(encodedSpan);
+			}
+			this.batch = batch;
+		}
+
+		@TearDown
+		public void clean() {
+			this.sender.close();
+			this.collector.disposeNow();
+		}
+
+	}
+
+}
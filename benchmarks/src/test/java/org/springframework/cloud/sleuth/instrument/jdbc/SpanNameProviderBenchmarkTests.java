@@ -0,0 +1,75 @@
+/*
+ * Copyright 2013-2023 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.cloud.sleuth.instrument.jdbc;
+
+import java.util.Locale;
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import jmh.mbr.junit5.Microbenchmark;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Compares resolving the JDBC span name from representative statements with the regex
+ * that was used before and with {@link SpanNameProvider}. Placed in the package of the
+ * provider as it's not public. Run with {@code -prof gc} to compare the allocations.
+ */
+@Measurement(iterations = 5, time = 1)
+@Warmup(iterations = 5, time = 1)
+@Fork(2)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Microbenchmark
+public class SpanNameProviderBenchmarkTests {
+
+	@Benchmark
+	public String regex(BenchmarkContext context) {
+		Matcher matcher = BenchmarkContext.PATTERN_MATCHING_FIRST_WORD_OF_SQL.matcher(context.sql);
+		return matcher.matches() ? matcher.group(1).toLowerCase(Locale.ROOT) : "query";
+	}
+
+	@Benchmark
+	public String provider(BenchmarkContext context) {
+		return context.provider.getSpanNameFor(context.sql);
+	}
+
+	@State(Scope.Benchmark)
+	public static class BenchmarkContext {
+
+		static final Pattern PATTERN_MATCHING_FIRST_WORD_OF_SQL = Pattern.compile("^([a-zA-Z]+)[^a-zA-Z]?.*$");
+
+		@Param({ "SELECT c.id, c.name, c.email FROM customers c WHERE c.id = ?",
+				"INSERT INTO orders (customer_id, total, created_at) VALUES (?, ?, ?)",
+				"UPDATE orders SET status = ? WHERE id = ? AND version = ?",
+				"DELETE FROM sessions WHERE expires_at < ?", "VACUUM ANALYZE orders" })
+		String sql;
+
+		final SpanNameProvider provider = new SpanNameProvider();
+
+	}
+
+}
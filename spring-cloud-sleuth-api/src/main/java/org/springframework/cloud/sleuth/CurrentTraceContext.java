@@ -42,6 +42,20 @@ public interface CurrentTraceContext {
 	@Nullable
 	TraceContext context();
 
+	/**
+	 * Checks whether the given context is the current one without exposing the current
+	 * context. Implementations should override it to avoid allocating a
+	 * {@link TraceContext} on each call.
+	 * @param context context to compare with or {@code null} to check that no context is
+	 * set
+	 * @return {@code true} if the given context is the current one
+	 * @since 3.1.11
+	 */
+	default boolean isCurrent(@Nullable TraceContext context) {
+		TraceContext current = context();
+		return context == null ? current == null : context.equals(current);
+	}
+
 	/**
 	 * Sets the current span in scope until the returned object is closed. It is a
 	 * programming error to drop or never close the result. Using try-with-resources is
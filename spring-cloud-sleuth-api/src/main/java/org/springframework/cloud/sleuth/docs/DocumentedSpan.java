@@ -113,4 +113,40 @@ public interface DocumentedSpan {
 		return AssertingSpanBuilder.of(this, span);
 	}
 
+	/**
+	 * Asserts on tags, names and allowed events only when the assertions are turned on
+	 * (see {@link DocumentedSpanAssertions}). Otherwise returns the passed span so that no
+	 * wrapper gets created.
+	 * @param span to wrap
+	 * @return wrapped span or the passed span when assertions are turned off
+	 * @since 3.1.11
+	 */
+	default Span wrapIfAssertionsEnabled(Span span) {
+		return DocumentedSpanAssertions.SLEUTH_SPAN_ASSERTIONS_ON ? wrap(span) : span;
+	}
+
+	/**
+	 * Asserts on tags, names and allowed events only when the assertions are turned on
+	 * (see {@link DocumentedSpanAssertions}). Otherwise returns the passed customizer so
+	 * that no wrapper gets created.
+	 * @param span customizer to wrap
+	 * @return wrapped customizer or the passed customizer when assertions are turned off
+	 * @since 3.1.11
+	 */
+	default SpanCustomizer wrapIfAssertionsEnabled(SpanCustomizer span) {
+		return DocumentedSpanAssertions.SLEUTH_SPAN_ASSERTIONS_ON ? wrap(span) : span;
+	}
+
+	/**
+	 * Asserts on tags, names and allowed events only when the assertions are turned on
+	 * (see {@link DocumentedSpanAssertions}). Otherwise returns the passed builder so
+	 * that no wrapper gets created.
+	 * @param span builder to wrap
+	 * @return wrapped builder or the passed builder when assertions are turned off
+	 * @since 3.1.11
+	 */
+	default Span.Builder wrapIfAssertionsEnabled(Span.Builder span) {
+		return DocumentedSpanAssertions.SLEUTH_SPAN_ASSERTIONS_ON ? wrap(span) : span;
+	}
+
 }
@@ -21,7 +21,9 @@ import org.junit.jupiter.api.Test;
 import org.mockito.BDDMockito;
 
 import org.springframework.cloud.sleuth.Span;
+import org.springframework.cloud.sleuth.SpanCustomizer;
 
+import static org.assertj.core.api.BDDAssertions.then;
 import static org.assertj.core.api.BDDAssertions.thenThrownBy;
 import static org.springframework.cloud.sleuth.docs.DocumentedSpanAssertions.assertThatEventIsValid;
 import static org.springframework.cloud.sleuth.docs.DocumentedSpanAssertions.assertThatKeyIsValid;
@@ -144,6 +146,31 @@ class DocumentedSpanAssertionsTests {
 						.hasMessageContaining("The span was not started");
 	}
 
+	@Test
+	void should_not_wrap_spans_when_system_property_not_turned_on() {
+		DocumentedSpanAssertions.SLEUTH_SPAN_ASSERTIONS_ON = false;
+		Span span = BDDMockito.mock(Span.class);
+		Span.Builder builder = BDDMockito.mock(Span.Builder.class);
+		SpanCustomizer customizer = BDDMockito.mock(SpanCustomizer.class);
+
+		then(SPAN_WITH_PREFIX.wrapIfAssertionsEnabled(span)).isSameAs(span);
+		then(SPAN_WITH_PREFIX.wrapIfAssertionsEnabled(builder)).isSameAs(builder);
+		then(SPAN_WITH_PREFIX.wrapIfAssertionsEnabled(customizer)).isSameAs(customizer);
+	}
+
+	@Test
+	void should_wrap_spans_when_system_property_turned_on() {
+		Span span = BDDMockito.mock(Span.class);
+		Span.Builder builder = BDDMockito.mock(Span.Builder.class);
+		SpanCustomizer customizer = BDDMockito.mock(SpanCustomizer.class);
+
+		then(SPAN_WITH_PREFIX.wrapIfAssertionsEnabled(span)).isInstanceOf(AssertingSpan.class);
+		then(SPAN_WITH_PREFIX.wrapIfAssertionsEnabled(builder)).isInstanceOf(AssertingSpanBuilder.class);
+		then(SPAN_WITH_PREFIX.wrapIfAssertionsEnabled(customizer)).isInstanceOf(AssertingSpanCustomizer.class);
+		thenThrownBy(() -> SPAN_WITH_NOT_MATCHING_PREFIX.wrapIfAssertionsEnabled(span).tag("unknown_key", "value"))
+				.hasMessageContaining("The key [unknown_key] is invalid");
+	}
+
 	enum MySpan implements DocumentedSpan {
 
 		SPAN_WITH_PREFIX {
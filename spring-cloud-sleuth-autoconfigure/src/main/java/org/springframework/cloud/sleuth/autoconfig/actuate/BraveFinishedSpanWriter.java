@@ -17,30 +17,103 @@
 package org.springframework.cloud.sleuth.autoconfig.actuate;
 
 import java.util.List;
-import java.util.stream.Collectors;
 
+import brave.Span;
 import brave.Tags;
+import brave.handler.MutableSpan;
 import brave.handler.MutableSpanBytesEncoder;
+import zipkin2.Endpoint;
+import zipkin2.codec.SpanBytesEncoder;
 
 import org.springframework.cloud.sleuth.brave.bridge.BraveFinishedSpan;
 import org.springframework.cloud.sleuth.exporter.FinishedSpan;
-import org.springframework.cloud.sleuth.exporter.SpanReporter;
+import org.springframework.core.io.InputStreamResource;
+import org.springframework.core.io.Resource;
+import org.springframework.util.ClassUtils;
 
 /**
- * A {@link SpanReporter} that buffers finished spans.
+ * A {@link FinishedSpanWriter} for Brave spans.
+ * <p>
+ * The spans are encoded one by one while the returned {@link Resource} is being read, so
+ * that they can be streamed to the response.
  *
  * @author Marcin Grzejszczak
  * @since 3.1.0
  */
-class BraveFinishedSpanWriter implements FinishedSpanWriter<String> {
+class BraveFinishedSpanWriter implements FinishedSpanWriter<Resource> {
+
+	private static final boolean ZIPKIN_PRESENT = ClassUtils.isPresent("zipkin2.codec.SpanBytesEncoder",
+			BraveFinishedSpanWriter.class.getClassLoader());
+
+	private static final MutableSpanBytesEncoder JSON_ENCODER = MutableSpanBytesEncoder.zipkinJsonV2(Tags.ERROR);
 
 	@Override
-	public String write(TextOutputFormat format, List<FinishedSpan> spans) {
+	public Resource write(TextOutputFormat format, List<FinishedSpan> spans) {
 		if (format == TextOutputFormat.CONTENT_TYPE_OPENZIPKIN_JSON_V2) {
-			return new String(MutableSpanBytesEncoder.zipkinJsonV2(Tags.ERROR)
-					.encodeList(spans.stream().map(BraveFinishedSpan::toBrave).collect(Collectors.toList())));
+			return new InputStreamResource(EncodedSpansInputStream.jsonList(spans,
+					span -> JSON_ENCODER.encode(BraveFinishedSpan.toBrave(span))));
+		}
+		else if (format == TextOutputFormat.CONTENT_TYPE_OPENZIPKIN_PROTO3 && ZIPKIN_PRESENT) {
+			return new InputStreamResource(EncodedSpansInputStream.concatenated(spans,
+					span -> Proto3Encoder.encode(BraveFinishedSpan.toBrave(span))));
 		}
 		return null;
 	}
 
+	/**
+	 * Converts Brave spans to Zipkin ones, so that the Zipkin's PROTO3 encoder can be
+	 * used. In a separate class so that Zipkin is not required on the classpath.
+	 */
+	static final class Proto3Encoder {
+
+		private Proto3Encoder() {
+		}
+
+		/**
+		 * PROTO3 encoding of a single span is a list of one span, so the encoded spans can
+		 * simply be concatenated.
+		 */
+		static byte[] encode(MutableSpan span) {
+			return SpanBytesEncoder.PROTO3.encode(toZipkin(span));
+		}
+
+		static zipkin2.Span toZipkin(MutableSpan span) {
+			zipkin2.Span.Builder result = zipkin2.Span.newBuilder().traceId(span.traceId()).parentId(span.parentId())
+					.id(span.id()).name(span.name());
+			long start = span.startTimestamp();
+			long finish = span.finishTimestamp();
+			result.timestamp(start);
+			if (start != 0L && finish != 0L) {
+				result.duration(Math.max(finish - start, 1));
+			}
+			Span.Kind kind = span.kind();
+			if (kind != null) {
+				result.kind(zipkin2.Span.Kind.valueOf(kind.name()));
+			}
+			if (span.localServiceName() != null || span.localIp() != null) {
+				result.localEndpoint(Endpoint.newBuilder().serviceName(span.localServiceName()).ip(span.localIp())
+						.port(span.localPort()).build());
+			}
+			if (span.remoteServiceName() != null || span.remoteIp() != null) {
+				result.remoteEndpoint(Endpoint.newBuilder().serviceName(span.remoteServiceName())
+						.ip(span.remoteIp()).port(span.remotePort()).build());
+			}
+			span.forEachTag(zipkin2.Span.Builder::putTag, result);
+			span.forEachAnnotation(zipkin2.Span.Builder::addAnnotation, result);
+			Throwable error = span.error();
+			if (error != null && span.tag(Tags.ERROR.key()) == null) {
+				String message = error.getMessage();
+				result.putTag(Tags.ERROR.key(), message != null ? message : error.getClass().getSimpleName());
+			}
+			if (span.shared()) {
+				result.shared(true);
+			}
+			if (span.debug()) {
+				result.debug(true);
+			}
+			return result.build();
+		}
+
+	}
+
 }
@@ -17,10 +17,10 @@
 package org.springframework.cloud.sleuth.autoconfig.actuate;
 
 import java.util.ArrayList;
-import java.util.Iterator;
 import java.util.List;
-import java.util.concurrent.ConcurrentLinkedQueue;
-import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.atomic.LongAdder;
 
 import org.springframework.boot.context.metrics.buffering.StartupTimeline;
 import org.springframework.cloud.sleuth.exporter.FinishedSpan;
@@ -28,6 +28,9 @@ import org.springframework.cloud.sleuth.exporter.SpanReporter;
 
 /**
  * A {@link SpanReporter} that buffers finished spans.
+ * <p>
+ * Spans are stored in a fixed-capacity, lock-free ring buffer. When the buffer is full
+ * the oldest span gets overwritten by the newest one and is counted as dropped.
  *
  * @author Marcin Grzejszczak
  * @since 3.1.0
@@ -36,12 +39,15 @@ public class BufferingSpanReporter implements SpanReporter {
 
 	private final int capacity;
 
-	private final AtomicInteger estimatedSize = new AtomicInteger();
+	private final AtomicLong sequence = new AtomicLong();
 
-	final ConcurrentLinkedQueue<FinishedSpan> spans = new ConcurrentLinkedQueue<>();
+	private final LongAdder droppedSpans = new LongAdder();
+
+	final AtomicReferenceArray<FinishedSpan> spans;
 
 	public BufferingSpanReporter(int capacity) {
-		this.capacity = capacity;
+		this.capacity = Math.max(capacity, 0);
+		this.spans = new AtomicReferenceArray<>(this.capacity);
 	}
 
 	/**
@@ -52,7 +58,19 @@ public class BufferingSpanReporter implements SpanReporter {
 	 * @return a snapshot of currently buffered spans.
 	 */
 	public List<FinishedSpan> getFinishedSpans() {
-		return new ArrayList<>(this.spans);
+		return collect(false, 0, Integer.MAX_VALUE);
+	}
+
+	/**
+	 * Return a snapshot of a range of the currently buffered spans, without copying the
+	 * others.
+	 * @param offset number of the oldest spans to skip
+	 * @param limit maximum number of spans to return
+	 * @return a snapshot of the buffered spans in the given range
+	 * @since 3.1.11
+	 */
+	public List<FinishedSpan> getFinishedSpans(int offset, int limit) {
+		return collect(false, offset, limit);
 	}
 
 	/**
@@ -63,27 +81,69 @@ public class BufferingSpanReporter implements SpanReporter {
 	 * @return buffered steps drained from the buffer.
 	 */
 	public List<FinishedSpan> drainFinishedSpans() {
-		List<FinishedSpan> events = new ArrayList<>();
-		Iterator<FinishedSpan> iterator = this.spans.iterator();
-		while (iterator.hasNext()) {
-			events.add(iterator.next());
-			iterator.remove();
-		}
-		this.estimatedSize.set(0);
-		return events;
+		return collect(true, 0, Integer.MAX_VALUE);
+	}
+
+	/**
+	 * Pulls at most {@code limit} of the oldest spans from the buffer.
+	 * @param limit maximum number of spans to drain
+	 * @return buffered spans drained from the buffer
+	 * @since 3.1.11
+	 */
+	public List<FinishedSpan> drainFinishedSpans(int limit) {
+		return collect(true, 0, limit);
+	}
+
+	/**
+	 * Return the number of spans that were dropped because the buffer was full.
+	 * @return number of dropped spans
+	 * @since 3.1.11
+	 */
+	public long getDroppedSpans() {
+		return this.droppedSpans.sum();
 	}
 
 	@Override
 	public void report(FinishedSpan span) {
-		if (this.estimatedSize.get() < this.capacity) {
-			this.estimatedSize.incrementAndGet();
-			this.spans.add(span);
+		if (this.capacity == 0) {
+			this.droppedSpans.increment();
+			return;
 		}
-		else {
-			this.spans.poll();
-			this.estimatedSize.decrementAndGet();
-			report(span);
+		if (this.spans.getAndSet(index(this.sequence.getAndIncrement()), span) != null) {
+			this.droppedSpans.increment();
 		}
 	}
 
+	/**
+	 * Goes once through the buffer, starting from the slot that is the next one to be
+	 * overwritten, so that the spans are returned from the oldest to the newest.
+	 */
+	private List<FinishedSpan> collect(boolean remove, int offset, int limit) {
+		List<FinishedSpan> result = new ArrayList<>();
+		if (this.capacity == 0) {
+			return result;
+		}
+		int index = index(this.sequence.get());
+		int skipped = 0;
+		for (int i = 0; i < this.capacity && result.size() < limit; i++) {
+			FinishedSpan span = remove ? this.spans.getAndSet(index, null) : this.spans.get(index);
+			if (span != null) {
+				if (skipped < offset) {
+					skipped++;
+				}
+				else {
+					result.add(span);
+				}
+			}
+			if (++index == this.capacity) {
+				index = 0;
+			}
+		}
+		return result;
+	}
+
+	private int index(long sequence) {
+		return (int) ((sequence & Long.MAX_VALUE) % this.capacity);
+	}
+
 }
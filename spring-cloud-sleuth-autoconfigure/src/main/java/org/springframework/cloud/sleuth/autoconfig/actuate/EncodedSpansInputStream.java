@@ -0,0 +1,135 @@
+/*
+ * Copyright 2013-2021 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.cloud.sleuth.autoconfig.actuate;
+
+import java.io.InputStream;
+import java.util.Iterator;
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * An {@link InputStream} that encodes spans one by one, as they are being read. That way
+ * the whole, encoded list of spans is never held in memory and can be streamed to the
+ * response.
+ *
+ * @param <T> type of span
+ * @since 3.1.11
+ */
+class EncodedSpansInputStream<T> extends InputStream {
+
+	private static final byte[] EMPTY = new byte[0];
+
+	private final Iterator<T> spans;
+
+	private final Function<T, byte[]> encoder;
+
+	private final byte[] separator;
+
+	private byte[] suffix;
+
+	private byte[] current;
+
+	private byte[] pending;
+
+	private int position;
+
+	private boolean first = true;
+
+	/**
+	 * @param spans spans to encode
+	 * @param encoder encodes a single span
+	 * @param prefix written before the first span
+	 * @param separator written between the spans
+	 * @param suffix written after the last span
+	 */
+	EncodedSpansInputStream(List<T> spans, Function<T, byte[]> encoder, byte[] prefix, byte[] separator,
+			byte[] suffix) {
+		this.spans = spans.iterator();
+		this.encoder = encoder;
+		this.separator = separator;
+		this.suffix = suffix;
+		this.current = prefix;
+	}
+
+	static <T> EncodedSpansInputStream<T> jsonList(List<T> spans, Function<T, byte[]> encoder) {
+		return new EncodedSpansInputStream<>(spans, encoder, new byte[] { '[' }, new byte[] { ',' },
+				new byte[] { ']' });
+	}
+
+	static <T> EncodedSpansInputStream<T> concatenated(List<T> spans, Function<T, byte[]> encoder) {
+		return new EncodedSpansInputStream<>(spans, encoder, EMPTY, EMPTY, EMPTY);
+	}
+
+	@Override
+	public int read() {
+		if (!ensureAvailable()) {
+			return -1;
+		}
+		return this.current[this.position++] & 0xff;
+	}
+
+	@Override
+	public int read(byte[] b, int off, int len) {
+		if (len == 0) {
+			return 0;
+		}
+		int read = 0;
+		while (read < len && ensureAvailable()) {
+			int count = Math.min(len - read, this.current.length - this.position);
+			System.arraycopy(this.current, this.position, b, off + read, count);
+			this.position += count;
+			read += count;
+		}
+		return read == 0 ? -1 : read;
+	}
+
+	@Override
+	public int available() {
+		return this.current == null ? 0 : this.current.length - this.position;
+	}
+
+	/**
+	 * @return {@code false} when everything was read
+	 */
+	private boolean ensureAvailable() {
+		while (this.current != null && this.position == this.current.length) {
+			this.position = 0;
+			this.current = next();
+		}
+		return this.current != null;
+	}
+
+	private byte[] next() {
+		if (this.pending != null) {
+			byte[] pending = this.pending;
+			this.pending = null;
+			return pending;
+		}
+		if (this.spans.hasNext()) {
+			byte[] encoded = this.encoder.apply(this.spans.next());
+			if (this.first) {
+				this.first = false;
+				return encoded;
+			}
+			this.pending = encoded;
+			return this.separator;
+		}
+		byte[] suffix = this.suffix;
+		this.suffix = null;
+		return suffix;
+	}
+
+}
@@ -29,11 +29,12 @@ import org.springframework.cloud.sleuth.exporter.FinishedSpan;
 public interface FinishedSpanWriter<T> {
 
 	/**
-	 * Writes the spans in a given format to String.
+	 * Writes the spans in a given format, e.g. to a String or to a
+	 * {@link org.springframework.core.io.Resource} that streams the encoded spans.
 	 * @param format format in which spans should be stored
 	 * @param spans spans to store
-	 * @return string representation of spans or {@code null} if {@link TextOutputFormat}
-	 * is not supported.
+	 * @return representation of spans or {@code null} if {@link TextOutputFormat} is not
+	 * supported.
 	 */
 	T write(TextOutputFormat format, List<FinishedSpan> spans);
 
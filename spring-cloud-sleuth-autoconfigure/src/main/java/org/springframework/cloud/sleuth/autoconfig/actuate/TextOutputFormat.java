@@ -36,7 +36,13 @@ public enum TextOutputFormat implements Producible<TextOutputFormat> {
 	/**
 	 * OpenZipkin text.
 	 */
-	CONTENT_TYPE_OPENZIPKIN_JSON_V2(MediaType.APPLICATION_JSON);
+	CONTENT_TYPE_OPENZIPKIN_JSON_V2(MediaType.APPLICATION_JSON),
+
+	/**
+	 * OpenZipkin protobuf (PROTO3 {@code ListOfSpans}). Uses a dedicated media type, since
+	 * {@code application/x-protobuf} is already taken by OTLP.
+	 */
+	CONTENT_TYPE_OPENZIPKIN_PROTO3(MediaType.parseMediaType("application/vnd.zipkin.proto3"));
 
 	private final MimeType mimeType;
 
@@ -17,6 +17,8 @@
 package org.springframework.cloud.sleuth.autoconfig.actuate;
 
 import brave.handler.SpanHandler;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.binder.MeterBinder;
 
 import org.springframework.boot.actuate.autoconfigure.endpoint.condition.ConditionalOnAvailableEndpoint;
 import org.springframework.boot.actuate.endpoint.Producible;
@@ -58,6 +60,21 @@ public class TraceSleuthActuatorAutoConfiguration {
 		return new TracesScrapeEndpoint(bufferingSpanReporter, finishedSpanWriter);
 	}
 
+	@Configuration(proxyBeanMethods = false)
+	@ConditionalOnClass(MeterBinder.class)
+	static class BufferingSpanReporterMetricsConfiguration {
+
+		@Bean
+		MeterBinder sleuthBufferingSpanReporterMeterBinder(BufferingSpanReporter bufferingSpanReporter) {
+			return registry -> FunctionCounter
+					.builder("sleuth.traces.endpoint.spans.dropped", bufferingSpanReporter,
+							BufferingSpanReporter::getDroppedSpans)
+					.description("Number of buffered spans that were overwritten by newer ones before being scraped")
+					.register(registry);
+		}
+
+	}
+
 	@Configuration(proxyBeanMethods = false)
 	@ConditionalOnClass(brave.Tracer.class)
 	@ConditionalOnBraveEnabled
@@ -26,6 +26,7 @@ import org.springframework.boot.actuate.endpoint.web.annotation.WebEndpoint;
 import org.springframework.cloud.sleuth.exporter.FinishedSpan;
 import org.springframework.http.HttpStatus;
 import org.springframework.lang.NonNull;
+import org.springframework.lang.Nullable;
 
 /**
  * {@link Endpoint @Endpoint} that outputs spans in a format that can be scraped by a
@@ -46,9 +47,23 @@ public class TracesScrapeEndpoint {
 		this.finishedSpanWriter = finishedSpanWriter;
 	}
 
-	@ReadOperation(producesFrom = TextOutputFormat.class)
 	public WebEndpointResponse<Object> spansSnapshot(TextOutputFormat format) {
-		List<FinishedSpan> finishedSpans = this.bufferingSpanReporter.getFinishedSpans();
+		return spansSnapshot(format, null, null);
+	}
+
+	/**
+	 * Returns the buffered spans without removing them from the buffer.
+	 * @param format output format
+	 * @param offset number of the oldest spans to skip
+	 * @param limit maximum number of spans to return
+	 * @return response with the spans
+	 * @since 3.1.11
+	 */
+	@ReadOperation(producesFrom = TextOutputFormat.class)
+	public WebEndpointResponse<Object> spansSnapshot(TextOutputFormat format, @Nullable Integer offset,
+			@Nullable Integer limit) {
+		List<FinishedSpan> finishedSpans = this.bufferingSpanReporter.getFinishedSpans(
+				offset != null ? Math.max(offset, 0) : 0, limit != null ? Math.max(limit, 0) : Integer.MAX_VALUE);
 		return response(format, finishedSpans);
 	}
 
@@ -62,9 +77,22 @@ public class TracesScrapeEndpoint {
 		return new WebEndpointResponse<>(spans, format);
 	}
 
-	@WriteOperation(producesFrom = TextOutputFormat.class)
 	public WebEndpointResponse<Object> spans(TextOutputFormat format) {
-		List<FinishedSpan> finishedSpans = this.bufferingSpanReporter.drainFinishedSpans();
+		return spans(format, null);
+	}
+
+	/**
+	 * Returns the buffered spans, removing them from the buffer.
+	 * @param format output format
+	 * @param limit maximum number of the oldest spans to drain
+	 * @return response with the spans
+	 * @since 3.1.11
+	 */
+	@WriteOperation(producesFrom = TextOutputFormat.class)
+	public WebEndpointResponse<Object> spans(TextOutputFormat format, @Nullable Integer limit) {
+		List<FinishedSpan> finishedSpans = limit != null
+				? this.bufferingSpanReporter.drainFinishedSpans(Math.max(limit, 0))
+				: this.bufferingSpanReporter.drainFinishedSpans();
 		return response(format, finishedSpans);
 	}
 
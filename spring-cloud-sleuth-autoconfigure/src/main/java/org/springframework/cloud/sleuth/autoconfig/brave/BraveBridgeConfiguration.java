@@ -24,17 +24,21 @@ import java.util.function.Function;
 
 import brave.Tracing;
 import brave.handler.SpanHandler;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.binder.MeterBinder;
 import org.apache.commons.logging.Log;
 import org.apache.commons.logging.LogFactory;
 
 import org.springframework.beans.BeansException;
 import org.springframework.beans.factory.BeanFactory;
 import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.beans.factory.config.ConfigurableListableBeanFactory;
 import org.springframework.beans.factory.support.BeanDefinitionRegistry;
 import org.springframework.beans.factory.support.BeanDefinitionRegistryPostProcessor;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnClass;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.boot.context.properties.EnableConfigurationProperties;
 import org.springframework.cloud.sleuth.SpanCustomizer;
 import org.springframework.cloud.sleuth.autoconfig.SleuthBaggageProperties;
@@ -47,6 +51,7 @@ import org.springframework.cloud.sleuth.brave.bridge.BraveTracer;
 import org.springframework.cloud.sleuth.brave.bridge.CompositePropagationFactorySupplier;
 import org.springframework.cloud.sleuth.brave.bridge.CompositeSpanHandler;
 import org.springframework.cloud.sleuth.brave.propagation.PropagationFactorySupplier;
+import org.springframework.cloud.sleuth.brave.propagation.PropagationType;
 import org.springframework.cloud.sleuth.exporter.SpanFilter;
 import org.springframework.cloud.sleuth.exporter.SpanReporter;
 import org.springframework.cloud.sleuth.instrument.reactor.ReactorSleuth;
@@ -85,15 +90,18 @@ class BraveBridgeConfiguration {
 	PropagationFactorySupplier compositePropagationFactorySupplier(BeanFactory beanFactory,
 			SleuthBaggageProperties baggageProperties, SleuthPropagationProperties properties) {
 		return new CompositePropagationFactorySupplier(beanFactory, baggageProperties.getLocalFields(),
-				properties.getType());
+				properties.getType(), properties.isAdaptiveExtractionOrder());
 	}
 
 	// Name is important for sampling conditions
 	@Bean(name = "traceCompositeSpanHandler")
 	SpanHandler compositeSpanHandler(ObjectProvider<List<SpanFilter>> exporters,
-			ObjectProvider<List<SpanReporter>> reporters) {
+			ObjectProvider<List<SpanReporter>> reporters, ObjectProvider<SleuthProperties> sleuthProperties) {
+		SleuthProperties.AsyncSpanReporting asyncSpanReporting = sleuthProperties.getIfAvailable(SleuthProperties::new)
+				.getSpanReporter();
 		return new CompositeSpanHandler(exporters.getIfAvailable(ArrayList::new),
-				reporters.getIfAvailable(ArrayList::new));
+				reporters.getIfAvailable(ArrayList::new),
+				asyncSpanReporting.isAsync() ? asyncSpanReporting.getQueueCapacity() : 0);
 	}
 
 	@Bean
@@ -102,6 +110,60 @@ class BraveBridgeConfiguration {
 		return new BraveReactorContextBeanDefinitionRegistryPostProcessor();
 	}
 
+	@Configuration(proxyBeanMethods = false)
+	@ConditionalOnClass(MeterBinder.class)
+	@ConditionalOnProperty(value = "spring.sleuth.span-reporter.async", havingValue = "true")
+	static class SpanReporterMetricsConfiguration {
+
+		@Bean
+		MeterBinder sleuthSpanReporterMeterBinder(
+				@Qualifier("traceCompositeSpanHandler") ObjectProvider<SpanHandler> spanHandlerProvider) {
+			return registry -> {
+				SpanHandler spanHandler = spanHandlerProvider.getIfAvailable();
+				if (!(spanHandler instanceof CompositeSpanHandler)) {
+					return;
+				}
+				FunctionCounter
+						.builder("sleuth.span.reporter.spans.dropped", (CompositeSpanHandler) spanHandler,
+								CompositeSpanHandler::getDroppedSpans)
+						.description("Number of finished spans dropped because the async reporting queue was full")
+						.register(registry);
+			};
+		}
+
+	}
+
+	@Configuration(proxyBeanMethods = false)
+	@ConditionalOnClass(MeterBinder.class)
+	static class PropagationMetricsConfiguration {
+
+		@Bean
+		MeterBinder sleuthPropagationExtractionsMeterBinder(ObjectProvider<PropagationFactorySupplier> supplier) {
+			return registry -> {
+				PropagationFactorySupplier factorySupplier = supplier.getIfAvailable();
+				if (!(factorySupplier instanceof CompositePropagationFactorySupplier)) {
+					return;
+				}
+				CompositePropagationFactorySupplier composite = (CompositePropagationFactorySupplier) factorySupplier;
+				if (composite.getTypes().size() < 2) {
+					// a single type extracts without counting
+					return;
+				}
+				for (PropagationType type : composite.getTypes()) {
+					FunctionCounter.builder("sleuth.propagation.extractions", composite, c -> c.getExtractionCount(type))
+							.description("Number of trace contexts extracted per propagation type")
+							.tag("type", type.name()).register(registry);
+				}
+				FunctionCounter
+						.builder("sleuth.propagation.extractions", composite,
+								CompositePropagationFactorySupplier::getEmptyExtractionCount)
+						.description("Number of extractions that found no trace context").tag("type", "NONE")
+						.register(registry);
+			};
+		}
+
+	}
+
 	static class BraveReactorContextBeanDefinitionRegistryPostProcessor
 			implements BeanDefinitionRegistryPostProcessor, Closeable {
 
@@ -36,6 +36,13 @@ public class SleuthPropagationProperties {
 	 */
 	private List<PropagationType> type = Collections.singletonList(PropagationType.B3);
 
+	/**
+	 * Whether to try the propagation types in the order of how often they were extracted
+	 * instead of the configured one. When a request carries several formats, the most
+	 * often extracted one wins.
+	 */
+	private boolean adaptiveExtractionOrder;
+
 	public List<PropagationType> getType() {
 		return this.type;
 	}
@@ -44,4 +51,12 @@ public class SleuthPropagationProperties {
 		this.type = type;
 	}
 
+	public boolean isAdaptiveExtractionOrder() {
+		return this.adaptiveExtractionOrder;
+	}
+
+	public void setAdaptiveExtractionOrder(boolean adaptiveExtractionOrder) {
+		this.adaptiveExtractionOrder = adaptiveExtractionOrder;
+	}
+
 }
@@ -38,6 +38,8 @@ public class SleuthProperties {
 	 */
 	private boolean supportsJoin = true;
 
+	private final AsyncSpanReporting spanReporter = new AsyncSpanReporting();
+
 	public boolean isEnabled() {
 		return this.enabled;
 	}
@@ -62,4 +64,44 @@ public class SleuthProperties {
 		this.supportsJoin = supportsJoin;
 	}
 
+	public AsyncSpanReporting getSpanReporter() {
+		return this.spanReporter;
+	}
+
+	/**
+	 * Settings of passing finished spans to the custom span reporters.
+	 */
+	public static class AsyncSpanReporting {
+
+		/**
+		 * When true, finished spans are passed to the span reporters by a separate thread,
+		 * instead of the thread that finished the span.
+		 */
+		private boolean async = false;
+
+		/**
+		 * Max number of spans waiting to be reported asynchronously. When the queue is
+		 * full, spans are dropped and counted in the sleuth.span.reporter.spans.dropped
+		 * metric.
+		 */
+		private int queueCapacity = 1000;
+
+		public boolean isAsync() {
+			return this.async;
+		}
+
+		public void setAsync(boolean async) {
+			this.async = async;
+		}
+
+		public int getQueueCapacity() {
+			return this.queueCapacity;
+		}
+
+		public void setQueueCapacity(int queueCapacity) {
+			this.queueCapacity = queueCapacity;
+		}
+
+	}
+
 }
@@ -17,9 +17,12 @@
 package org.springframework.cloud.sleuth.autoconfig.instrument.async;
 
 import java.util.Collections;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 
 import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.cloud.sleuth.instrument.async.ExecutorTracingMode;
 
 /**
  * Settings for disable instrumentation of ThreadPoolTaskExecutors.
@@ -57,4 +60,18 @@ public class SleuthAsyncProperties {
 		this.ignoredBeans = ignoredBeans;
 	}
 
+	/**
+	 * Tracing modes of {@link java.util.concurrent.Executor} beans keyed by bean name.
+	 * Executors not listed here trace each task in its own span.
+	 */
+	private Map<String, ExecutorTracingMode> tracingModes = new HashMap<>();
+
+	public Map<String, ExecutorTracingMode> getTracingModes() {
+		return this.tracingModes;
+	}
+
+	public void setTracingModes(Map<String, ExecutorTracingMode> tracingModes) {
+		this.tracingModes = tracingModes;
+	}
+
 }
@@ -36,6 +36,8 @@ import org.springframework.boot.context.properties.EnableConfigurationProperties
 import org.springframework.cloud.sleuth.SpanNamer;
 import org.springframework.cloud.sleuth.Tracer;
 import org.springframework.cloud.sleuth.autoconfig.brave.BraveAutoConfiguration;
+import org.springframework.cloud.sleuth.instrument.async.ExecutorTracingMode;
+import org.springframework.cloud.sleuth.instrument.async.ExecutorTracingModeResolver;
 import org.springframework.cloud.sleuth.instrument.async.LazyTraceExecutor;
 import org.springframework.cloud.sleuth.instrument.async.TraceAsyncAspect;
 import org.springframework.context.annotation.Bean;
@@ -69,6 +71,13 @@ public class TraceAsyncDefaultAutoConfiguration {
 		return new ExecutorBeanPostProcessor(beanFactory);
 	}
 
+	@Bean
+	@ConditionalOnMissingBean
+	ExecutorTracingModeResolver executorTracingModeResolver(SleuthAsyncProperties sleuthAsyncProperties) {
+		return beanName -> beanName == null ? ExecutorTracingMode.SPAN
+				: sleuthAsyncProperties.getTracingModes().getOrDefault(beanName, ExecutorTracingMode.SPAN);
+	}
+
 	@Bean
 	TraceAsyncAspect traceAsyncAspect(Tracer tracer, SpanNamer spanNamer) {
 		return new TraceAsyncAspect(tracer, spanNamer);
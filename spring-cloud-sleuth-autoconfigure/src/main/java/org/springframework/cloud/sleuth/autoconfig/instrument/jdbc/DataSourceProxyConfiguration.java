@@ -104,7 +104,7 @@ class DataSourceProxyConfiguration {
 			TraceJdbcProperties dataSourceDecoratorProperties,
 			ObjectProvider<List<TraceListenerStrategySpanCustomizer<? super CommonDataSource>>> customizers) {
 		return new TraceQueryExecutionListener(beanFactory, dataSourceDecoratorProperties.getIncludes(),
-				customizers.getIfAvailable(ArrayList::new));
+				dataSourceDecoratorProperties.isAggregateFetches(), customizers.getIfAvailable(ArrayList::new));
 	}
 
 	@Bean
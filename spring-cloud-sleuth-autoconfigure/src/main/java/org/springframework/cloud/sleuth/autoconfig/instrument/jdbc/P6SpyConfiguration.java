@@ -74,7 +74,7 @@ class P6SpyConfiguration {
 			ObjectProvider<List<TraceListenerStrategySpanCustomizer<? super CommonDataSource>>> customizers) {
 		return new TraceJdbcEventListener(beanFactory, dataSourceNameResolver, traceJdbcProperties.getIncludes(),
 				traceJdbcProperties.getP6spy().getTracing().isIncludeParameterValues(),
-				customizers.getIfAvailable(ArrayList::new));
+				traceJdbcProperties.isAggregateFetches(), customizers.getIfAvailable(ArrayList::new));
 	}
 
 }
@@ -51,6 +51,14 @@ public class TraceJdbcProperties {
 	 */
 	private List<TraceType> includes = Arrays.asList(TraceType.CONNECTION, TraceType.QUERY, TraceType.FETCH);
 
+	/**
+	 * Whether fetches of ResultSets should be recorded as tags (fetch count, rows and
+	 * duration) on the query span instead of creating a span per ResultSet. The query
+	 * span then ends when its ResultSet gets closed. Spans of updates and batches end
+	 * right after their execution.
+	 */
+	private boolean aggregateFetches = false;
+
 	private DataSourceProxyProperties datasourceProxy = new DataSourceProxyProperties();
 
 	private P6SpyProperties p6spy = new P6SpyProperties();
@@ -71,6 +79,14 @@ public class TraceJdbcProperties {
 		this.includes = includes;
 	}
 
+	public boolean isAggregateFetches() {
+		return this.aggregateFetches;
+	}
+
+	public void setAggregateFetches(boolean aggregateFetches) {
+		this.aggregateFetches = aggregateFetches;
+	}
+
 	public DataSourceProxyProperties getDatasourceProxy() {
 		return datasourceProxy;
 	}
@@ -0,0 +1,71 @@
+/*
+ * Copyright 2013-2021 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.cloud.sleuth.autoconfig.instrument.kafka;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * Sleuth Kafka settings.
+ *
+ * @since 3.1.11
+ */
+@ConfigurationProperties("spring.sleuth.kafka")
+public class SleuthKafkaProperties {
+
+	private Consumer consumer = new Consumer();
+
+	public Consumer getConsumer() {
+		return this.consumer;
+	}
+
+	public void setConsumer(Consumer consumer) {
+		this.consumer = consumer;
+	}
+
+	public static class Consumer {
+
+		/**
+		 * When true creates a single span per batch of polled records instead of a span
+		 * per record.
+		 */
+		private boolean batchMode;
+
+		/**
+		 * Maximum number of records, per polled batch, from which the upstream trace ids
+		 * get extracted and tagged on the batch span.
+		 */
+		private int maxUpstreamTraceIds = 10;
+
+		public boolean isBatchMode() {
+			return this.batchMode;
+		}
+
+		public void setBatchMode(boolean batchMode) {
+			this.batchMode = batchMode;
+		}
+
+		public int getMaxUpstreamTraceIds() {
+			return this.maxUpstreamTraceIds;
+		}
+
+		public void setMaxUpstreamTraceIds(int maxUpstreamTraceIds) {
+			this.maxUpstreamTraceIds = maxUpstreamTraceIds;
+		}
+
+	}
+
+}
@@ -34,6 +34,8 @@ public class TracingKafkaConsumerBeanPostProcessor implements BeanPostProcessor
 
 	private final BeanFactory beanFactory;
 
+	private SleuthKafkaProperties sleuthKafkaProperties;
+
 	public TracingKafkaConsumerBeanPostProcessor(BeanFactory beanFactory) {
 		this.beanFactory = beanFactory;
 	}
@@ -41,9 +43,19 @@ public class TracingKafkaConsumerBeanPostProcessor implements BeanPostProcessor
 	@Override
 	public Object postProcessAfterInitialization(Object bean, String beanName) throws BeansException {
 		if (bean instanceof Consumer && !(bean instanceof TracingKafkaConsumer)) {
-			return new TracingKafkaConsumer<>((Consumer) bean, beanFactory);
+			SleuthKafkaProperties.Consumer properties = sleuthKafkaProperties().getConsumer();
+			return new TracingKafkaConsumer<>((Consumer) bean, this.beanFactory, properties.isBatchMode(),
+					properties.getMaxUpstreamTraceIds());
 		}
 		return bean;
 	}
 
+	private SleuthKafkaProperties sleuthKafkaProperties() {
+		if (this.sleuthKafkaProperties == null) {
+			this.sleuthKafkaProperties = this.beanFactory.getBeanProvider(SleuthKafkaProperties.class)
+					.getIfAvailable(SleuthKafkaProperties::new);
+		}
+		return this.sleuthKafkaProperties;
+	}
+
 }
@@ -45,8 +45,10 @@ public class TraceConnectionFactoryBeanPostProcessor implements BeanPostProcesso
 	}
 
 	ConnectionFactory wrapConnectionFactory(ConnectionFactory bean) {
+		TraceR2dbcProperties properties = this.beanFactory.getBeanProvider(TraceR2dbcProperties.class)
+				.getIfAvailable(TraceR2dbcProperties::new);
 		TraceProxyConnectionFactoryWrapper proxyPostProcessor = new TraceProxyConnectionFactoryWrapper(
-				this.beanFactory);
+				this.beanFactory, properties.getQueryMaxLength());
 		return proxyPostProcessor.apply(bean);
 	}
 
@@ -30,17 +30,24 @@ class TraceProxyConnectionFactoryWrapper implements Function<ConnectionFactory,
 
 	private final BeanFactory beanFactory;
 
+	private final int queryMaxLength;
+
 	private ObjectProvider<ProxyConfig> proxyConfig;
 
 	TraceProxyConnectionFactoryWrapper(BeanFactory beanFactory) {
+		this(beanFactory, -1);
+	}
+
+	TraceProxyConnectionFactoryWrapper(BeanFactory beanFactory, int queryMaxLength) {
 		this.beanFactory = beanFactory;
+		this.queryMaxLength = queryMaxLength;
 	}
 
 	@Override
 	public ConnectionFactory apply(ConnectionFactory connectionFactory) {
 		ProxyConnectionFactory.Builder builder = ProxyConnectionFactory.builder(connectionFactory);
 		proxyConfig().ifAvailable(builder::proxyConfig);
-		builder.listener(new TraceProxyExecutionListener(this.beanFactory, connectionFactory));
+		builder.listener(new TraceProxyExecutionListener(this.beanFactory, connectionFactory, this.queryMaxLength));
 		return builder.build();
 	}
 
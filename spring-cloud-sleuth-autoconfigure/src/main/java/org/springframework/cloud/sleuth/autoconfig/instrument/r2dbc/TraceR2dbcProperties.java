@@ -0,0 +1,43 @@
+/*
+ * Copyright 2013-2023 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.cloud.sleuth.autoconfig.instrument.r2dbc;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * Properties for R2DBC instrumentation.
+ *
+ * @since 3.1.11
+ */
+@ConfigurationProperties("spring.sleuth.r2dbc")
+public class TraceR2dbcProperties {
+
+	/**
+	 * Maximum length of the query tag values. Longer queries get truncated and suffixed
+	 * with their hash. A negative value means no limit.
+	 */
+	private int queryMaxLength = -1;
+
+	public int getQueryMaxLength() {
+		return this.queryMaxLength;
+	}
+
+	public void setQueryMaxLength(int queryMaxLength) {
+		this.queryMaxLength = queryMaxLength;
+	}
+
+}
@@ -16,8 +16,10 @@
 
 package org.springframework.cloud.sleuth.autoconfig.zipkin2;
 
+import zipkin2.reporter.ReporterMetrics;
 import zipkin2.reporter.Sender;
 
+import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.autoconfigure.condition.AnyNestedCondition;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnClass;
@@ -30,6 +32,7 @@ import org.springframework.boot.context.properties.EnableConfigurationProperties
 import org.springframework.cloud.client.loadbalancer.LoadBalancerClient;
 import org.springframework.cloud.client.loadbalancer.reactive.LoadBalancedExchangeFilterFunction;
 import org.springframework.cloud.sleuth.zipkin2.CachingZipkinUrlExtractor;
+import org.springframework.cloud.sleuth.zipkin2.DefaultZipkinRestTemplateCustomizer;
 import org.springframework.cloud.sleuth.zipkin2.LoadBalancerClientZipkinLoadBalancer;
 import org.springframework.cloud.sleuth.zipkin2.RestTemplateSender;
 import org.springframework.cloud.sleuth.zipkin2.StaticInstanceZipkinLoadBalancer;
@@ -63,7 +66,11 @@ class ZipkinHttpSenderConfiguration {
 				ZipkinRestTemplateProvider zipkinRestTemplateProvider) {
 			RestTemplate restTemplate = zipkinRestTemplateProvider.zipkinRestTemplate();
 			restTemplate = zipkinRestTemplateCustomizer.customizeTemplate(restTemplate);
-			return new RestTemplateSender(restTemplate, zipkin.getBaseUrl(), zipkin.getApiPath(), zipkin.getEncoder());
+			// Custom customizers are expected to gzip on their own
+			boolean compressInSender = zipkin.getCompression().isEnabled()
+					&& zipkinRestTemplateCustomizer instanceof DefaultZipkinRestTemplateCustomizer;
+			return new RestTemplateSender(restTemplate, zipkin.getBaseUrl(), zipkin.getApiPath(), zipkin.getEncoder(),
+					compressInSender, zipkin.getCompression().getLevel());
 		}
 
 		@Bean
@@ -84,10 +91,14 @@ class ZipkinHttpSenderConfiguration {
 	static class ZipkinReactiveConfiguration {
 
 		@Bean(ZipkinAutoConfiguration.SENDER_BEAN_NAME)
-		Sender webClientSender(ZipkinProperties zipkin, ZipkinWebClientBuilderProvider zipkinWebClientBuilderProvider) {
+		Sender webClientSender(ZipkinProperties zipkin, ZipkinWebClientBuilderProvider zipkinWebClientBuilderProvider,
+				ObjectProvider<ReporterMetrics> reporterMetrics) {
 			WebClient.Builder webClientBuilder = zipkinWebClientBuilderProvider.zipkinWebClientBuilder();
-			return new WebClientSender(webClientBuilder.build(), zipkin.getBaseUrl(), zipkin.getApiPath(),
-					zipkin.getEncoder(), zipkin.getCheckTimeout());
+			int maxInFlightRequests = zipkin.getAsync().isEnabled() ? zipkin.getAsync().getMaxInFlightRequests() : 0;
+			return new WebClientSender(null, webClientBuilder.build(), zipkin.getBaseUrl(), zipkin.getApiPath(),
+					zipkin.getEncoder(), zipkin.getCheckTimeout(), maxInFlightRequests,
+					zipkin.getCompression().isEnabled(), zipkin.getCompression().getLevel(),
+					reporterMetrics.getIfAvailable(() -> ReporterMetrics.NOOP_METRICS));
 		}
 
 		@Bean
@@ -16,28 +16,40 @@
 
 package org.springframework.cloud.sleuth.autoconfig.actuate;
 
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Arrays;
 import java.util.Collections;
+import java.util.List;
 
+import brave.Tags;
 import brave.handler.MutableSpan;
+import brave.handler.MutableSpanBytesEncoder;
 import brave.propagation.TraceContext;
 import org.junit.jupiter.api.Test;
+import zipkin2.Span;
+import zipkin2.codec.SpanBytesDecoder;
 
 import org.springframework.cloud.sleuth.brave.bridge.BraveFinishedSpan;
 import org.springframework.cloud.sleuth.exporter.FinishedSpan;
+import org.springframework.core.io.Resource;
+import org.springframework.util.StreamUtils;
 
 import static org.assertj.core.api.BDDAssertions.then;
 
 class BraveFinishedSpanWriterTests {
 
+	BraveFinishedSpanWriter writer = new BraveFinishedSpanWriter();
+
 	@Test
-	void should_convert_finished_spans_to_zipkin_json() {
+	void should_convert_finished_spans_to_zipkin_json() throws IOException {
 		FinishedSpan finishedSpan = new BraveFinishedSpan(
 				new MutableSpan(TraceContext.newBuilder().spanId(1L).traceId(2L).build(), null));
 
-		String json = new BraveFinishedSpanWriter().write(TextOutputFormat.CONTENT_TYPE_OPENZIPKIN_JSON_V2,
+		Resource json = new BraveFinishedSpanWriter().write(TextOutputFormat.CONTENT_TYPE_OPENZIPKIN_JSON_V2,
 				Collections.singletonList(finishedSpan));
 
-		then(json).isEqualTo("[{\"traceId\":\"0000000000000002\",\"id\":\"0000000000000001\"}]");
+		then(new String(read(json))).isEqualTo("[{\"traceId\":\"0000000000000002\",\"id\":\"0000000000000001\"}]");
 	}
 
 	@Test
@@ -45,7 +57,7 @@ class BraveFinishedSpanWriterTests {
 		FinishedSpan finishedSpan = new BraveFinishedSpan(
 				new MutableSpan(TraceContext.newBuilder().spanId(1L).traceId(2L).build(), null));
 
-		String json = new BraveFinishedSpanWriter().write(TextOutputFormat.CONTENT_TYPE_OTLP_PROTOBUF,
+		Resource json = new BraveFinishedSpanWriter().write(TextOutputFormat.CONTENT_TYPE_OTLP_PROTOBUF,
 				Collections.singletonList(finishedSpan));
 
 		then(json).isNull();
@@ -56,4 +68,64 @@ class BraveFinishedSpanWriterTests {
 		then(new BraveFinishedSpanWriter().write(null, Collections.emptyList())).isNull();
 	}
 
+	@Test
+	void should_stream_spans_as_zipkin_json_list() throws IOException {
+		List<MutableSpan> spans = Arrays.asList(span("first", "1"), span("second", "2"));
+
+		Resource resource = this.writer.write(TextOutputFormat.CONTENT_TYPE_OPENZIPKIN_JSON_V2, finishedSpans(spans));
+
+		then(read(resource)).isEqualTo(MutableSpanBytesEncoder.zipkinJsonV2(Tags.ERROR).encodeList(spans));
+	}
+
+	@Test
+	void should_stream_empty_zipkin_json_list() throws IOException {
+		Resource resource = this.writer.write(TextOutputFormat.CONTENT_TYPE_OPENZIPKIN_JSON_V2, finishedSpans());
+
+		then(new String(read(resource))).isEqualTo("[]");
+	}
+
+	@Test
+	void should_stream_spans_as_zipkin_proto3() throws IOException {
+		MutableSpan first = span("first", "1");
+		first.tag("foo", "bar");
+		first.annotate(2L, "event");
+		MutableSpan second = span("second", "2");
+		second.error(new IllegalStateException("boom"));
+
+		Resource resource = this.writer.write(TextOutputFormat.CONTENT_TYPE_OPENZIPKIN_PROTO3,
+				finishedSpans(first, second));
+
+		List<Span> decoded = SpanBytesDecoder.PROTO3.decodeList(read(resource));
+		then(decoded).extracting(Span::name).containsExactly("first", "second");
+		then(decoded.get(0).tags()).containsEntry("foo", "bar");
+		then(decoded.get(0).annotations()).extracting(a -> a.value()).containsExactly("event");
+		then(decoded.get(0).duration()).isEqualTo(9L);
+		then(decoded.get(1).tags()).containsEntry("error", "boom");
+	}
+
+	private MutableSpan span(String name, String id) {
+		MutableSpan span = new MutableSpan();
+		span.traceId("0000000000000001");
+		span.id("000000000000000" + id);
+		span.name(name);
+		span.startTimestamp(1L);
+		span.finishTimestamp(10L);
+		span.localServiceName("service");
+		return span;
+	}
+
+	private List<FinishedSpan> finishedSpans(MutableSpan... spans) {
+		return finishedSpans(Arrays.asList(spans));
+	}
+
+	private List<FinishedSpan> finishedSpans(List<MutableSpan> spans) {
+		return Arrays.asList(spans.stream().map(BraveFinishedSpan::fromBrave).toArray(FinishedSpan[]::new));
+	}
+
+	private byte[] read(Resource resource) throws IOException {
+		try (InputStream inputStream = resource.getInputStream()) {
+			return StreamUtils.copyToByteArray(inputStream);
+		}
+	}
+
 }
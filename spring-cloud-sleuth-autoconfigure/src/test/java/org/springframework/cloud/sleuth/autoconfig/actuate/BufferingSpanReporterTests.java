@@ -16,6 +16,13 @@
 
 package org.springframework.cloud.sleuth.autoconfig.actuate;
 
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
 import org.assertj.core.api.BDDAssertions;
 import org.junit.jupiter.api.Test;
 
@@ -36,7 +43,77 @@ class BufferingSpanReporterTests {
 		reporter.report(second);
 		reporter.report(youngest);
 
-		BDDAssertions.then(reporter.spans).containsExactly(second, youngest);
+		BDDAssertions.then(reporter.getFinishedSpans()).containsExactly(second, youngest);
+		BDDAssertions.then(reporter.getDroppedSpans()).isEqualTo(1);
+	}
+
+	@Test
+	void should_drain_spans_from_the_oldest_to_the_newest() {
+		BufferingSpanReporter reporter = new BufferingSpanReporter(3);
+		FinishedSpan first = mock(FinishedSpan.class, "first");
+		FinishedSpan second = mock(FinishedSpan.class, "second");
+
+		reporter.report(first);
+		reporter.report(second);
+
+		BDDAssertions.then(reporter.drainFinishedSpans()).containsExactly(first, second);
+		BDDAssertions.then(reporter.getFinishedSpans()).isEmpty();
+		BDDAssertions.then(reporter.getDroppedSpans()).isZero();
+	}
+
+	@Test
+	void should_return_a_range_of_spans_without_removing_them() {
+		BufferingSpanReporter reporter = new BufferingSpanReporter(3);
+		FinishedSpan first = mock(FinishedSpan.class, "first");
+		FinishedSpan second = mock(FinishedSpan.class, "second");
+		FinishedSpan third = mock(FinishedSpan.class, "third");
+		FinishedSpan fourth = mock(FinishedSpan.class, "fourth");
+
+		reporter.report(first);
+		reporter.report(second);
+		reporter.report(third);
+		reporter.report(fourth);
+
+		BDDAssertions.then(reporter.getFinishedSpans(1, 1)).containsExactly(third);
+		BDDAssertions.then(reporter.getFinishedSpans(1, 5)).containsExactly(third, fourth);
+		BDDAssertions.then(reporter.getFinishedSpans(3, 5)).isEmpty();
+		BDDAssertions.then(reporter.getFinishedSpans()).containsExactly(second, third, fourth);
+	}
+
+	@Test
+	void should_never_exceed_capacity_when_reporting_concurrently() throws Exception {
+		BufferingSpanReporter reporter = new BufferingSpanReporter(10);
+		FinishedSpan span = mock(FinishedSpan.class);
+		ExecutorService executorService = Executors.newFixedThreadPool(4);
+		try {
+			List<Future<?>> futures = new ArrayList<>();
+			for (int i = 0; i < 4; i++) {
+				futures.add(executorService.submit(() -> {
+					for (int j = 0; j < 1000; j++) {
+						reporter.report(span);
+					}
+				}));
+			}
+			for (Future<?> future : futures) {
+				future.get(10, TimeUnit.SECONDS);
+			}
+		}
+		finally {
+			executorService.shutdown();
+		}
+
+		BDDAssertions.then(reporter.drainFinishedSpans()).hasSize(10);
+		BDDAssertions.then(reporter.getDroppedSpans()).isEqualTo(3990);
+	}
+
+	@Test
+	void should_drop_all_spans_when_capacity_is_zero() {
+		BufferingSpanReporter reporter = new BufferingSpanReporter(0);
+
+		reporter.report(mock(FinishedSpan.class));
+
+		BDDAssertions.then(reporter.getFinishedSpans()).isEmpty();
+		BDDAssertions.then(reporter.getDroppedSpans()).isEqualTo(1);
 	}
 
 }
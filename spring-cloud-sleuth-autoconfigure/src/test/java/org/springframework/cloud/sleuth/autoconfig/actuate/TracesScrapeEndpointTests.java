@@ -27,6 +27,7 @@ import org.springframework.http.HttpStatus;
 import org.springframework.lang.NonNull;
 
 import static org.assertj.core.api.BDDAssertions.then;
+import static org.mockito.Mockito.mock;
 
 class TracesScrapeEndpointTests {
 
@@ -41,6 +42,39 @@ class TracesScrapeEndpointTests {
 		then(response.getStatus()).isEqualTo(HttpStatus.NOT_ACCEPTABLE.value());
 	}
 
+	@Test
+	void should_page_through_the_snapshot_of_spans() {
+		BufferingSpanReporter reporter = new BufferingSpanReporter(5);
+		FinishedSpan first = mock(FinishedSpan.class, "first");
+		FinishedSpan second = mock(FinishedSpan.class, "second");
+		FinishedSpan third = mock(FinishedSpan.class, "third");
+		reporter.report(first);
+		reporter.report(second);
+		reporter.report(third);
+		TracesScrapeEndpoint tracesScrapeEndpoint = new TracesScrapeEndpoint(reporter, (format, spans) -> spans);
+
+		then(tracesScrapeEndpoint.spansSnapshot(TextOutputFormat.CONTENT_TYPE_OPENZIPKIN_JSON_V2, 1, 1).getBody())
+				.isEqualTo(Collections.singletonList(second));
+		then(tracesScrapeEndpoint.spansSnapshot(TextOutputFormat.CONTENT_TYPE_OPENZIPKIN_JSON_V2, 2, 10).getBody())
+				.isEqualTo(Collections.singletonList(third));
+		then(tracesScrapeEndpoint.spansSnapshot(TextOutputFormat.CONTENT_TYPE_OPENZIPKIN_JSON_V2, 10, null).getBody())
+				.isEqualTo(Collections.emptyList());
+	}
+
+	@Test
+	void should_drain_at_most_limit_of_the_oldest_spans() {
+		BufferingSpanReporter reporter = new BufferingSpanReporter(5);
+		FinishedSpan first = mock(FinishedSpan.class, "first");
+		FinishedSpan second = mock(FinishedSpan.class, "second");
+		reporter.report(first);
+		reporter.report(second);
+		TracesScrapeEndpoint tracesScrapeEndpoint = new TracesScrapeEndpoint(reporter, (format, spans) -> spans);
+
+		then(tracesScrapeEndpoint.spans(TextOutputFormat.CONTENT_TYPE_OPENZIPKIN_JSON_V2, 1).getBody())
+				.isEqualTo(Collections.singletonList(first));
+		then(reporter.getFinishedSpans()).containsExactly(second);
+	}
+
 	@NonNull
 	private BufferingSpanReporter bufferingSpanReporter() {
 		return new BufferingSpanReporter(1) {
@@ -0,0 +1,91 @@
+/*
+ * Copyright 2013-2023 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.cloud.sleuth.autoconfig.instrument.async;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import org.junit.jupiter.api.Test;
+
+import org.springframework.boot.autoconfigure.AutoConfigurations;
+import org.springframework.boot.test.context.runner.ApplicationContextRunner;
+import org.springframework.cloud.sleuth.Span;
+import org.springframework.cloud.sleuth.Tracer;
+import org.springframework.cloud.sleuth.autoconfig.brave.BraveAutoConfiguration;
+import org.springframework.cloud.sleuth.instrument.async.ExecutorTracingMode;
+import org.springframework.cloud.sleuth.instrument.async.ExecutorTracingModeResolver;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import static org.assertj.core.api.BDDAssertions.then;
+
+class TraceAsyncTracingModesTests {
+
+	private final ApplicationContextRunner contextRunner = new ApplicationContextRunner()
+			.withConfiguration(
+					AutoConfigurations.of(BraveAutoConfiguration.class, TraceAsyncDefaultAutoConfiguration.class))
+			.withUserConfiguration(Config.class)
+			.withPropertyValues("spring.sleuth.async.tracing-modes.contextOnlyExecutor=context-only");
+
+	@Test
+	void should_bind_tracing_modes_per_executor_bean_name() {
+		this.contextRunner.run(context -> {
+			ExecutorTracingModeResolver resolver = context.getBean(ExecutorTracingModeResolver.class);
+
+			then(resolver.resolve("contextOnlyExecutor")).isEqualTo(ExecutorTracingMode.CONTEXT_ONLY);
+			then(resolver.resolve("spanExecutor")).isEqualTo(ExecutorTracingMode.SPAN);
+			then(resolver.resolve(null)).isEqualTo(ExecutorTracingMode.SPAN);
+		});
+	}
+
+	@Test
+	void should_apply_tracing_mode_to_tasks_of_the_executor_bean() {
+		this.contextRunner.run(context -> {
+			Tracer tracer = context.getBean(Tracer.class);
+			ExecutorService contextOnlyExecutor = context.getBean("contextOnlyExecutor", ExecutorService.class);
+			ExecutorService spanExecutor = context.getBean("spanExecutor", ExecutorService.class);
+			Span parent = tracer.nextSpan().name("parent").start();
+			try (Tracer.SpanInScope ws = tracer.withSpan(parent)) {
+				String parentSpanId = parent.context().spanId();
+
+				then(contextOnlyExecutor.submit(() -> tracer.currentSpan().context().spanId()).get())
+						.isEqualTo(parentSpanId);
+				then(spanExecutor.submit(() -> tracer.currentSpan().context().spanId()).get())
+						.isNotEqualTo(parentSpanId);
+			}
+			finally {
+				parent.end();
+			}
+		});
+	}
+
+	@Configuration(proxyBeanMethods = false)
+	static class Config {
+
+		@Bean
+		ExecutorService contextOnlyExecutor() {
+			return Executors.newSingleThreadExecutor();
+		}
+
+		@Bean
+		ExecutorService spanExecutor() {
+			return Executors.newSingleThreadExecutor();
+		}
+
+	}
+
+}
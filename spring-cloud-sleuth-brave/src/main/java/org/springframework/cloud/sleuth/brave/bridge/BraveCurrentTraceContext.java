@@ -41,6 +41,12 @@ public class BraveCurrentTraceContext implements CurrentTraceContext {
 		return context == null ? null : new BraveTraceContext(context);
 	}
 
+	@Override
+	public boolean isCurrent(TraceContext context) {
+		brave.propagation.TraceContext current = this.delegate.get();
+		return context == null ? current == null : BraveTraceContext.toBrave(context).equals(current);
+	}
+
 	@Override
 	public CurrentTraceContext.Scope newScope(TraceContext context) {
 		if (context == null) {
@@ -32,6 +32,8 @@ public class BraveSpan implements Span {
 
 	final brave.Span delegate;
 
+	private BraveTraceContext context;
+
 	public BraveSpan(brave.Span delegate) {
 		this.delegate = delegate;
 	}
@@ -46,7 +48,12 @@ public class BraveSpan implements Span {
 		if (this.delegate == null) {
 			return null;
 		}
-		return new BraveTraceContext(this.delegate.context());
+		BraveTraceContext context = this.context;
+		if (context == null) {
+			context = new BraveTraceContext(this.delegate.context());
+			this.context = context;
+		}
+		return context;
 	}
 
 	@Override
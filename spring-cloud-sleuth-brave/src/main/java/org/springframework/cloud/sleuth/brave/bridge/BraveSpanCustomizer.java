@@ -35,17 +35,20 @@ public class BraveSpanCustomizer implements SpanCustomizer {
 
 	@Override
 	public SpanCustomizer name(String name) {
-		return new BraveSpanCustomizer(this.spanCustomizer.name(name));
+		this.spanCustomizer.name(name);
+		return this;
 	}
 
 	@Override
 	public SpanCustomizer tag(String key, String value) {
-		return new BraveSpanCustomizer(this.spanCustomizer.tag(key, value));
+		this.spanCustomizer.tag(key, value);
+		return this;
 	}
 
 	@Override
 	public SpanCustomizer event(String value) {
-		return new BraveSpanCustomizer(this.spanCustomizer.annotate(value));
+		this.spanCustomizer.annotate(value);
+		return this;
 	}
 
 	static brave.SpanCustomizer toBrave(SpanCustomizer spanCustomizer) {
@@ -18,6 +18,7 @@ package org.springframework.cloud.sleuth.brave.bridge;
 
 import java.io.Closeable;
 import java.io.IOException;
+import java.lang.ref.WeakReference;
 import java.util.Map;
 
 import brave.propagation.TraceContextOrSamplingFlags;
@@ -44,6 +45,12 @@ public class BraveTracer implements Tracer {
 
 	private final CurrentTraceContext currentTraceContext;
 
+	/**
+	 * Held weakly so that the cache doesn't keep finished spans reachable from threads
+	 * that don't trace anymore.
+	 */
+	private final ThreadLocal<WeakReference<CurrentSpan>> currentSpans = new ThreadLocal<>();
+
 	@Deprecated
 	public BraveTracer(brave.Tracer tracer, BraveBaggageManager braveBaggageManager) {
 		this.tracer = tracer;
@@ -75,21 +82,74 @@ public class BraveTracer implements Tracer {
 			currentTraceContext.maybeScope(null);
 			return SpanInScope.NOOP;
 		}
-		return new BraveSpanInScope(currentTraceContext.maybeScope(span.context()));
+		TraceContext context = span.context();
+		brave.propagation.TraceContext braveContext = context != null ? BraveTraceContext.toBrave(context) : null;
+		if (braveContext != null && braveContext.equals(currentBraveContext())) {
+			// same as Brave's maybeScope, which would return a no-op scope
+			return SpanInScope.NOOP;
+		}
+		return new BraveSpanInScope(currentTraceContext.maybeScope(context));
 	}
 
 	@Override
 	public SpanCustomizer currentSpanCustomizer() {
-		return new BraveSpanCustomizer(this.tracer.currentSpanCustomizer());
+		CurrentSpan currentSpan = cachedCurrentSpan();
+		if (currentSpan == null) {
+			return new BraveSpanCustomizer(this.tracer.currentSpanCustomizer());
+		}
+		return currentSpan.customizer();
 	}
 
 	@Override
 	public Span currentSpan() {
-		brave.Span currentSpan = this.tracer.currentSpan();
-		if (currentSpan == null) {
+		CurrentSpan currentSpan = cachedCurrentSpan();
+		if (currentSpan != null) {
+			return currentSpan.span;
+		}
+		brave.Span braveSpan = this.tracer.currentSpan();
+		if (braveSpan == null) {
+			return null;
+		}
+		return new BraveSpan(braveSpan);
+	}
+
+	/**
+	 * Returns the wrapper of the current span, reusing the one created for the previous
+	 * call on this thread as long as the current trace context didn't change. The cache
+	 * is cleared once there is no current trace context.
+	 * @return current span wrapper or {@code null} when there is no current span or the
+	 * current trace context can't be read without the {@link brave.Tracer}
+	 */
+	private CurrentSpan cachedCurrentSpan() {
+		if (!(this.currentTraceContext instanceof BraveCurrentTraceContext)) {
+			return null;
+		}
+		brave.propagation.TraceContext context = currentBraveContext();
+		WeakReference<CurrentSpan> reference = this.currentSpans.get();
+		if (context == null) {
+			if (reference != null) {
+				this.currentSpans.remove();
+			}
 			return null;
 		}
-		return new BraveSpan(currentSpan);
+		CurrentSpan currentSpan = reference != null ? reference.get() : null;
+		if (currentSpan != null && currentSpan.context == context) {
+			return currentSpan;
+		}
+		brave.Span braveSpan = this.tracer.currentSpan();
+		if (braveSpan == null) {
+			return null;
+		}
+		currentSpan = new CurrentSpan(context, new BraveSpan(braveSpan));
+		this.currentSpans.set(new WeakReference<>(currentSpan));
+		return currentSpan;
+	}
+
+	private brave.propagation.TraceContext currentBraveContext() {
+		if (this.currentTraceContext instanceof BraveCurrentTraceContext) {
+			return BraveCurrentTraceContext.toBrave(this.currentTraceContext).get();
+		}
+		return null;
 	}
 
 	@Override
@@ -144,6 +204,31 @@ public class BraveTracer implements Tracer {
 
 }
 
+/**
+ * Wrappers of the span that was current the last time it was looked up on a thread.
+ */
+final class CurrentSpan {
+
+	final brave.propagation.TraceContext context;
+
+	final BraveSpan span;
+
+	private BraveSpanCustomizer customizer;
+
+	CurrentSpan(brave.propagation.TraceContext context, BraveSpan span) {
+		this.context = context;
+		this.span = span;
+	}
+
+	BraveSpanCustomizer customizer() {
+		if (this.customizer == null) {
+			this.customizer = new BraveSpanCustomizer(this.span.delegate.customizer());
+		}
+		return this.customizer;
+	}
+
+}
+
 class BraveSpanInScope implements Tracer.SpanInScope {
 
 	final Closeable delegate;
@@ -17,11 +17,14 @@
 package org.springframework.cloud.sleuth.brave.bridge;
 
 import java.util.AbstractMap;
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
-import java.util.stream.Collectors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.LongAdder;
 
 import brave.propagation.B3Propagation;
 import brave.propagation.Propagation;
@@ -48,31 +51,120 @@ public class CompositePropagationFactorySupplier implements PropagationFactorySu
 
 	private final List<PropagationType> types;
 
+	private final boolean adaptiveExtractionOrder;
+
+	private volatile CompositePropagationFactory factory;
+
 	public CompositePropagationFactorySupplier(BeanFactory beanFactory, List<String> localFields,
 			List<PropagationType> types) {
+		this(beanFactory, localFields, types, false);
+	}
+
+	/**
+	 * @param beanFactory bean factory
+	 * @param localFields baggage fields that are not propagated
+	 * @param types propagation types
+	 * @param adaptiveExtractionOrder whether to try the propagation types in the order
+	 * of how often they were extracted instead of the configured one
+	 * @since 3.1.11
+	 */
+	public CompositePropagationFactorySupplier(BeanFactory beanFactory, List<String> localFields,
+			List<PropagationType> types, boolean adaptiveExtractionOrder) {
 		this.beanFactory = beanFactory;
 		this.localFields = localFields;
 		this.types = types;
+		this.adaptiveExtractionOrder = adaptiveExtractionOrder;
 	}
 
 	@Override
 	public Propagation.Factory get() {
-		return new CompositePropagationFactory(this.beanFactory,
+		CompositePropagationFactory factory = new CompositePropagationFactory(this.beanFactory,
 				this.beanFactory.getBeanProvider(BraveBaggageManager.class).getIfAvailable(BraveBaggageManager::new),
-				this.localFields, this.types);
+				this.localFields, this.types, this.adaptiveExtractionOrder);
+		this.factory = factory;
+		return factory;
+	}
+
+	/**
+	 * @return configured propagation types
+	 * @since 3.1.11
+	 */
+	public List<PropagationType> getTypes() {
+		return this.types;
+	}
+
+	/**
+	 * Extractions are counted only when there are several propagation types.
+	 * @param type propagation type
+	 * @return number of trace contexts extracted with the given propagation type
+	 * @since 3.1.11
+	 */
+	public long getExtractionCount(PropagationType type) {
+		CompositePropagationFactory factory = this.factory;
+		return factory != null ? factory.extractionCount(type) : 0L;
+	}
+
+	/**
+	 * @return number of extractions for which none of the propagation types found a
+	 * trace context
+	 * @since 3.1.11
+	 */
+	public long getEmptyExtractionCount() {
+		CompositePropagationFactory factory = this.factory;
+		return factory != null ? factory.emptyExtractionCount() : 0L;
 	}
 
 }
 
 class CompositePropagationFactory extends Propagation.Factory implements Propagation<String> {
 
+	/**
+	 * On average once per this many extractions, the adaptive extraction order gets
+	 * recomputed.
+	 */
+	private static final int REORDER_INTERVAL = 1024;
+
 	private final Map<PropagationType, Map.Entry<Propagation.Factory, Propagation<String>>> mapping = new HashMap<>();
 
 	private final List<PropagationType> types;
 
+	/**
+	 * Propagations of the {@link #types} in order.
+	 */
+	private final Propagation<String>[] propagations;
+
+	/**
+	 * Type of each of the {@link #propagations}.
+	 */
+	private final PropagationType[] propagationTypes;
+
+	/**
+	 * Number of contexts extracted by each of the {@link #propagations}.
+	 */
+	private final LongAdder[] extractions;
+
+	private final LongAdder emptyExtractions = new LongAdder();
+
+	private final boolean adaptiveExtractionOrder;
+
+	/**
+	 * Indexes of the {@link #propagations} in the order in which they are tried on
+	 * extraction.
+	 */
+	private volatile int[] extractionOrder;
+
+	private volatile List<String> keys;
+
 	CompositePropagationFactory(BeanFactory beanFactory, BraveBaggageManager braveBaggageManager,
 			List<String> localFields, List<PropagationType> types) {
+		this(beanFactory, braveBaggageManager, localFields, types, false);
+	}
+
+	@SuppressWarnings("unchecked")
+	CompositePropagationFactory(BeanFactory beanFactory, BraveBaggageManager braveBaggageManager,
+			List<String> localFields, List<PropagationType> types, boolean adaptiveExtractionOrder) {
 		this.types = types;
+		this.adaptiveExtractionOrder = adaptiveExtractionOrder;
 		this.mapping.put(PropagationType.AWS,
 				new AbstractMap.SimpleEntry<>(AWSPropagation.FACTORY, AWSPropagation.FACTORY.get()));
 		// Note: Versions <2.2.3 use injectFormat(MULTI) for non-remote (ex
@@ -86,6 +178,37 @@ class CompositePropagationFactory extends Propagation.Factory implements Propaga
 				beanFactory.getBeanProvider(PropagationFactorySupplier.class));
 		this.mapping.put(PropagationType.CUSTOM,
 				new AbstractMap.SimpleEntry<>(lazyPropagationFactory, lazyPropagationFactory.get()));
+		List<Propagation<String>> propagations = new ArrayList<>(types.size());
+		List<PropagationType> propagationTypes = new ArrayList<>(types.size());
+		for (PropagationType type : types) {
+			Map.Entry<Factory, Propagation<String>> entry = this.mapping.get(type);
+			if (entry != null && entry.getValue() != null) {
+				propagations.add(entry.getValue());
+				propagationTypes.add(type);
+			}
+		}
+		this.propagations = propagations.toArray(new Propagation[0]);
+		this.propagationTypes = propagationTypes.toArray(new PropagationType[0]);
+		this.extractions = new LongAdder[this.propagations.length];
+		this.extractionOrder = new int[this.propagations.length];
+		for (int i = 0; i < this.propagations.length; i++) {
+			this.extractions[i] = new LongAdder();
+			this.extractionOrder[i] = i;
+		}
+	}
+
+	long extractionCount(PropagationType type) {
+		long count = 0L;
+		for (int i = 0; i < this.propagationTypes.length; i++) {
+			if (this.propagationTypes[i] == type) {
+				count += this.extractions[i].sum();
+			}
+		}
+		return count;
+	}
+
+	long emptyExtractionCount() {
+		return this.emptyExtractions.sum();
 	}
 
 	private Factory b3Factory() {
@@ -94,39 +217,85 @@ class CompositePropagationFactory extends Propagation.Factory implements Propaga
 
 	@Override
 	public List<String> keys() {
-		return this.types.stream().map(this.mapping::get).flatMap(p -> p.getValue().keys().stream())
-				.collect(Collectors.toList());
+		// resolved lazily, the custom propagation is looked up on first use
+		List<String> keys = this.keys;
+		if (keys == null) {
+			keys = new ArrayList<>();
+			for (Propagation<String> propagation : this.propagations) {
+				keys.addAll(propagation.keys());
+			}
+			keys = Collections.unmodifiableList(keys);
+			this.keys = keys;
+		}
+		return keys;
 	}
 
 	@Override
+	@SuppressWarnings("unchecked")
 	public <R> TraceContext.Injector<R> injector(Setter<R, String> setter) {
+		TraceContext.Injector<R>[] injectors = new TraceContext.Injector[this.propagations.length];
+		for (int i = 0; i < injectors.length; i++) {
+			injectors[i] = this.propagations[i].injector(setter);
+		}
+		if (injectors.length == 1) {
+			return injectors[0];
+		}
 		return (traceContext, request) -> {
-			this.types.stream().map(this.mapping::get)
-					.forEach(p -> p.getValue().injector(setter).inject(traceContext, request));
+			for (TraceContext.Injector<R> injector : injectors) {
+				injector.inject(traceContext, request);
+			}
 		};
 	}
 
 	@Override
+	@SuppressWarnings("unchecked")
 	public <R> TraceContext.Extractor<R> extractor(Getter<R, String> getter) {
+		TraceContext.Extractor<R>[] extractors = new TraceContext.Extractor[this.propagations.length];
+		for (int i = 0; i < extractors.length; i++) {
+			extractors[i] = this.propagations[i].extractor(getter);
+		}
+		if (extractors.length == 1) {
+			// nothing to reorder or to compare the extractions with
+			return extractors[0];
+		}
 		return request -> {
-			for (PropagationType type : this.types) {
-				Map.Entry<Factory, Propagation<String>> entry = this.mapping.get(type);
-				if (entry == null) {
-					continue;
-				}
-				Propagation<String> propagator = entry.getValue();
-				if (propagator == null || propagator == NoOpPropagation.INSTANCE) {
-					continue;
-				}
-				TraceContextOrSamplingFlags extract = propagator.extractor(getter).extract(request);
+			for (int index : this.extractionOrder) {
+				TraceContextOrSamplingFlags extract = extractors[index].extract(request);
 				if (extract != TraceContextOrSamplingFlags.EMPTY) {
+					this.extractions[index].increment();
+					if (this.adaptiveExtractionOrder
+							&& ThreadLocalRandom.current().nextInt(REORDER_INTERVAL) == 0) {
+						reorderExtractions();
+					}
 					return extract;
 				}
 			}
+			this.emptyExtractions.increment();
 			return TraceContextOrSamplingFlags.EMPTY;
 		};
 	}
 
+	/**
+	 * Tries the most often extracted propagation types first, so that callers using a
+	 * single format don't pay for the failed lookups of the other ones. Ties keep the
+	 * configured order.
+	 */
+	void reorderExtractions() {
+		int length = this.extractions.length;
+		long[] counts = new long[length];
+		Integer[] order = new Integer[length];
+		for (int i = 0; i < length; i++) {
+			counts[i] = this.extractions[i].sum();
+			order[i] = i;
+		}
+		Arrays.sort(order, (first, second) -> Long.compare(counts[second], counts[first]));
+		int[] extractionOrder = new int[length];
+		for (int i = 0; i < length; i++) {
+			extractionOrder[i] = order[i];
+		}
+		this.extractionOrder = extractionOrder;
+	}
+
 	@Override
 	public Propagation<String> get() {
 		return this;
@@ -222,12 +391,38 @@ class CompositePropagationFactory extends Propagation.Factory implements Propaga
 
 		@Override
 		public <R> TraceContext.Injector<R> injector(Setter<R, String> setter) {
-			return propagation().injector(setter);
+			return new TraceContext.Injector<R>() {
+
+				private volatile TraceContext.Injector<R> injector;
+
+				@Override
+				public void inject(TraceContext traceContext, R request) {
+					TraceContext.Injector<R> injector = this.injector;
+					if (injector == null) {
+						injector = propagation().injector(setter);
+						this.injector = injector;
+					}
+					injector.inject(traceContext, request);
+				}
+			};
 		}
 
 		@Override
 		public <R> TraceContext.Extractor<R> extractor(Getter<R, String> getter) {
-			return propagation().extractor(getter);
+			return new TraceContext.Extractor<R>() {
+
+				private volatile TraceContext.Extractor<R> extractor;
+
+				@Override
+				public TraceContextOrSamplingFlags extract(R request) {
+					TraceContext.Extractor<R> extractor = this.extractor;
+					if (extractor == null) {
+						extractor = propagation().extractor(getter);
+						this.extractor = extractor;
+					}
+					return extractor.extract(request);
+				}
+			};
 		}
 
 	}
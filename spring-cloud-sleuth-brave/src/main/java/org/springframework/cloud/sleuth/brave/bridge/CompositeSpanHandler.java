@@ -16,31 +16,62 @@
 
 package org.springframework.cloud.sleuth.brave.bridge;
 
+import java.io.Closeable;
+import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.atomic.LongAdder;
 
 import brave.handler.MutableSpan;
 import brave.handler.SpanHandler;
 import brave.propagation.TraceContext;
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
 
+import org.springframework.cloud.sleuth.exporter.FinishedSpan;
 import org.springframework.cloud.sleuth.exporter.SpanFilter;
 import org.springframework.cloud.sleuth.exporter.SpanReporter;
+import org.springframework.lang.Nullable;
 
 /**
  * Merges {@link SpanFilter}s and {@link SpanReporter}s into a {@link SpanHandler}.
+ * <p>
+ * Optionally, the spans can be passed to the {@link SpanReporter}s asynchronously, by a
+ * separate thread, so that slow reporters don't block the thread that ends the span.
  *
  * @author Marcin Grzejszczak
  * @since 3.0.0
  */
-public class CompositeSpanHandler extends SpanHandler {
+public class CompositeSpanHandler extends SpanHandler implements Closeable {
+
+	private static final Log log = LogFactory.getLog(CompositeSpanHandler.class);
 
 	private final List<SpanFilter> filters;
 
 	private final List<SpanReporter> reporters;
 
+	@Nullable
+	private final AsyncReporterDispatcher asyncReporterDispatcher;
+
 	public CompositeSpanHandler(List<SpanFilter> filters, List<SpanReporter> reporters) {
+		this(filters, reporters, 0);
+	}
+
+	/**
+	 * @param filters span filters
+	 * @param reporters span reporters
+	 * @param asyncQueueCapacity when positive the spans are passed to the reporters by a
+	 * separate thread, via a queue of this capacity. Spans that don't fit in the queue are
+	 * dropped
+	 * @since 3.1.11
+	 */
+	public CompositeSpanHandler(List<SpanFilter> filters, List<SpanReporter> reporters, int asyncQueueCapacity) {
 		this.filters = filters == null ? Collections.emptyList() : filters;
 		this.reporters = reporters == null ? Collections.emptyList() : reporters;
+		this.asyncReporterDispatcher = asyncQueueCapacity > 0 && !this.reporters.isEmpty()
+				? new AsyncReporterDispatcher(this.reporters, asyncQueueCapacity) : null;
 	}
 
 	@Override
@@ -48,7 +79,9 @@ public class CompositeSpanHandler extends SpanHandler {
 		if (cause != Cause.FINISHED) {
 			return true;
 		}
-		boolean shouldProcess = shouldProcess(span);
+		// a single view of the span is shared by all filters and reporters
+		FinishedSpan finishedSpan = BraveFinishedSpan.fromBrave(span);
+		boolean shouldProcess = shouldProcess(finishedSpan);
 		if (!shouldProcess) {
 			return false;
 		}
@@ -56,17 +89,153 @@ public class CompositeSpanHandler extends SpanHandler {
 		if (!shouldProcess) {
 			return false;
 		}
-		this.reporters.forEach(r -> r.report(BraveFinishedSpan.fromBrave(span)));
+		if (this.asyncReporterDispatcher != null) {
+			// other handlers might still modify the span after this one
+			this.asyncReporterDispatcher.dispatch(BraveFinishedSpan.fromBrave(new MutableSpan(span)));
+		}
+		else {
+			for (SpanReporter reporter : this.reporters) {
+				reporter.report(finishedSpan);
+			}
+		}
 		return true;
 	}
 
-	private boolean shouldProcess(MutableSpan span) {
+	private boolean shouldProcess(FinishedSpan span) {
 		for (SpanFilter exporter : this.filters) {
-			if (!exporter.isExportable(BraveFinishedSpan.fromBrave(span))) {
+			if (!exporter.isExportable(span)) {
 				return false;
 			}
 		}
 		return true;
 	}
 
+	/**
+	 * @return number of spans that were not reported because the asynchronous reporting
+	 * queue was full
+	 * @since 3.1.11
+	 */
+	public long getDroppedSpans() {
+		return this.asyncReporterDispatcher != null ? this.asyncReporterDispatcher.droppedSpans.sum() : 0L;
+	}
+
+	/**
+	 * Reports the spans that are still queued and stops the asynchronous reporting thread
+	 * if there is one.
+	 */
+	@Override
+	public void close() {
+		if (this.asyncReporterDispatcher != null) {
+			this.asyncReporterDispatcher.close();
+		}
+	}
+
+	/**
+	 * Passes spans to the reporters from a bounded queue, on a single worker thread. The
+	 * thread is started with the first span and blocks on the queue until the next one.
+	 */
+	static final class AsyncReporterDispatcher implements Runnable {
+
+		private static final long CLOSE_TIMEOUT_MILLIS = 1000L;
+
+		/**
+		 * Wakes the worker up when closing.
+		 */
+		private static final FinishedSpan STOP = BraveFinishedSpan.fromBrave(new MutableSpan());
+
+		private final List<SpanReporter> reporters;
+
+		private final BlockingQueue<FinishedSpan> queue;
+
+		final LongAdder droppedSpans = new LongAdder();
+
+		@Nullable
+		private volatile Thread worker;
+
+		private volatile boolean closed;
+
+		AsyncReporterDispatcher(List<SpanReporter> reporters, int queueCapacity) {
+			this.reporters = reporters;
+			this.queue = new ArrayBlockingQueue<>(queueCapacity);
+		}
+
+		void dispatch(FinishedSpan span) {
+			if (this.worker == null) {
+				startWorker();
+			}
+			if (!this.queue.offer(span)) {
+				this.droppedSpans.increment();
+				if (log.isDebugEnabled()) {
+					log.debug("Span reporting queue is full, dropping span " + span);
+				}
+			}
+		}
+
+		private synchronized void startWorker() {
+			if (this.worker != null || this.closed) {
+				return;
+			}
+			Thread worker = new Thread(this, "sleuth-span-reporter");
+			worker.setDaemon(true);
+			worker.start();
+			this.worker = worker;
+		}
+
+		@Override
+		public void run() {
+			List<FinishedSpan> batch = new ArrayList<>();
+			while (true) {
+				try {
+					report(this.queue.take());
+					this.queue.drainTo(batch);
+					for (FinishedSpan finishedSpan : batch) {
+						report(finishedSpan);
+					}
+					batch.clear();
+				}
+				catch (InterruptedException ex) {
+					Thread.currentThread().interrupt();
+					return;
+				}
+				if (this.closed && this.queue.isEmpty()) {
+					return;
+				}
+			}
+		}
+
+		private void report(FinishedSpan span) {
+			if (span == STOP) {
+				return;
+			}
+			for (SpanReporter reporter : this.reporters) {
+				try {
+					reporter.report(span);
+				}
+				catch (RuntimeException ex) {
+					log.warn("Exception occurred while trying to report span " + span, ex);
+				}
+			}
+		}
+
+		void close() {
+			Thread worker;
+			synchronized (this) {
+				this.closed = true;
+				worker = this.worker;
+			}
+			if (worker == null) {
+				return;
+			}
+			// when the queue is full the worker is busy and notices the flag on its own
+			this.queue.offer(STOP);
+			try {
+				worker.join(CLOSE_TIMEOUT_MILLIS);
+			}
+			catch (InterruptedException ex) {
+				Thread.currentThread().interrupt();
+			}
+		}
+
+	}
+
 }
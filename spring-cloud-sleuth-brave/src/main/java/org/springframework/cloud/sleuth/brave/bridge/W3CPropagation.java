@@ -16,7 +16,6 @@
 
 package org.springframework.cloud.sleuth.brave.bridge;
 
-import java.util.AbstractMap;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
@@ -25,7 +24,7 @@ import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Set;
-import java.util.stream.Collectors;
+import java.util.function.BiConsumer;
 
 import brave.baggage.BaggageField;
 import brave.baggage.BaggagePropagation;
@@ -95,29 +94,8 @@ class W3CPropagation extends Propagation.Factory implements Propagation<String>
 
 	private static final int TRACEPARENT_HEADER_SIZE = TRACE_OPTION_OFFSET + TRACE_OPTION_HEX_SIZE;
 
-	private static final String INVALID_TRACE_ID = "00000000000000000000000000000000";
-
-	private static final String INVALID_SPAN_ID = "0000000000000000";
-
 	// private static final char TRACESTATE_ENTRY_DELIMITER = ',';
 
-	private static final Set<String> VALID_VERSIONS;
-
-	private static final String VERSION_00 = "00";
-
-	static {
-		// A valid version is 1 byte representing an 8-bit unsigned integer, version ff is
-		// invalid.
-		VALID_VERSIONS = new HashSet<>();
-		for (int i = 0; i < 255; i++) {
-			String version = Long.toHexString(i);
-			if (version.length() < 2) {
-				version = '0' + version;
-			}
-			VALID_VERSIONS.add(version);
-		}
-	}
-
 	private final W3CBaggagePropagator baggagePropagator;
 
 	private final BraveBaggageManager braveBaggageManager;
@@ -139,9 +117,10 @@ class W3CPropagation extends Propagation.Factory implements Propagation<String>
 
 	@Override
 	public <R> TraceContext.Injector<R> injector(Setter<R, String> setter) {
+		Objects.requireNonNull(setter, "setter");
+		TraceContext.Injector<R> baggageInjector = this.baggagePropagator.injector(setter);
 		return (context, carrier) -> {
 			Objects.requireNonNull(context, "context");
-			Objects.requireNonNull(setter, "setter");
 			char[] chars = TemporaryBuffers.chars(TRACEPARENT_HEADER_SIZE);
 			chars[0] = VERSION.charAt(0);
 			chars[1] = VERSION.charAt(1);
@@ -159,7 +138,7 @@ class W3CPropagation extends Propagation.Factory implements Propagation<String>
 			copyTraceFlagsHexTo(chars, TRACE_OPTION_OFFSET, context);
 			setter.put(carrier, TRACE_PARENT, new String(chars, 0, TRACEPARENT_HEADER_SIZE));
 			addTraceState(setter, context, carrier);
-			this.baggagePropagator.injector(setter).inject(context, carrier);
+			baggageInjector.inject(context, carrier);
 		};
 	}
 
@@ -238,16 +217,6 @@ class W3CPropagation extends Propagation.Factory implements Propagation<String>
 		}
 	}
 
-	private static boolean isTraceIdValid(CharSequence traceId) {
-		return (traceId.length() == TRACE_ID_HEX_SIZE) && !INVALID_TRACE_ID.contentEquals(traceId)
-				&& EncodingUtils.isValidBase16String(traceId);
-	}
-
-	private static boolean isSpanIdValid(String spanId) {
-		return (spanId.length() == SPAN_ID_HEX_SIZE) && !INVALID_SPAN_ID.equals(spanId)
-				&& EncodingUtils.isValidBase16String(spanId);
-	}
-
 	private static TraceContext extractContextFromTraceParent(String traceparent) {
 		// TODO(bdrutu): Do we need to verify that version is hex and that
 		// for the version the length is the expected one?
@@ -263,27 +232,30 @@ class W3CPropagation extends Propagation.Factory implements Propagation<String>
 		}
 
 		try {
-			String version = traceparent.substring(0, 2);
-			if (!VALID_VERSIONS.contains(version)) {
+			// a valid version is 1 byte representing an 8-bit unsigned integer, version ff
+			// is invalid
+			char versionHigh = traceparent.charAt(0);
+			char versionLow = traceparent.charAt(1);
+			if (!EncodingUtils.isValidBase16String(traceparent, 0, VERSION_SIZE)
+					|| (versionHigh == 'f' && versionLow == 'f')) {
 				return null;
 			}
-			if (version.equals(VERSION_00) && traceparent.length() > TRACEPARENT_HEADER_SIZE) {
+			if (versionHigh == '0' && versionLow == '0' && traceparent.length() > TRACEPARENT_HEADER_SIZE) {
 				return null;
 			}
-
-			String traceId = traceparent.substring(TRACE_ID_OFFSET, TRACE_ID_OFFSET + TRACE_ID_HEX_SIZE);
-			String spanId = traceparent.substring(SPAN_ID_OFFSET, SPAN_ID_OFFSET + SPAN_ID_HEX_SIZE);
-			if (isTraceIdValid(traceId) && isSpanIdValid(spanId)) {
-				String traceIdHigh = traceId.substring(0, traceId.length() / 2);
-				String traceIdLow = traceId.substring(traceId.length() / 2);
-				byte isSampled = TraceFlags.byteFromHex(traceparent, TRACE_OPTION_OFFSET);
-				return TraceContext.newBuilder().shared(true)
-						.traceIdHigh(EncodingUtils.longFromBase16String(traceIdHigh))
-						.traceId(EncodingUtils.longFromBase16String(traceIdLow))
-						.spanId(EncodingUtils.longFromBase16String(spanId)).sampled(isSampled == TraceFlags.IS_SAMPLED)
-						.build();
+			if (!EncodingUtils.isValidBase16String(traceparent, TRACE_ID_OFFSET, TRACE_ID_HEX_SIZE)
+					|| !EncodingUtils.isValidBase16String(traceparent, SPAN_ID_OFFSET, SPAN_ID_HEX_SIZE)) {
+				return null;
 			}
-			return null;
+			long traceIdHigh = EncodingUtils.longFromBase16String(traceparent, TRACE_ID_OFFSET);
+			long traceIdLow = EncodingUtils.longFromBase16String(traceparent, TRACE_ID_OFFSET + LONG_BASE16);
+			long spanId = EncodingUtils.longFromBase16String(traceparent, SPAN_ID_OFFSET);
+			if ((traceIdHigh == 0L && traceIdLow == 0L) || spanId == 0L) {
+				return null;
+			}
+			byte isSampled = TraceFlags.byteFromHex(traceparent, TRACE_OPTION_OFFSET);
+			return TraceContext.newBuilder().shared(true).traceIdHigh(traceIdHigh).traceId(traceIdLow).spanId(spanId)
+					.sampled(isSampled == TraceFlags.IS_SAMPLED).build();
 		}
 		catch (IllegalArgumentException e) {
 			logger.info("Unparseable traceparent header. Returning INVALID span context.");
@@ -369,50 +341,106 @@ class W3CBaggagePropagator {
 					.add(BaggagePropagationConfig.SingleBaggageField.remote(TRACE_STATE_BAGGAGE));
 		}
 		String baggageHeader = getter.get(carrier, FIELD);
-		List<AbstractMap.SimpleEntry<BaggageInScope, String>> pairs = baggageHeader == null || baggageHeader.isEmpty()
-				? Collections.emptyList() : addBaggageToContext(baggageHeader);
-		Set<String> names = pairs.stream().map(e -> e.getKey().name()).collect(Collectors.toSet());
-		for (String name : names) {
-			factoryBuilder = factoryBuilder.add(BaggagePropagationConfig.SingleBaggageField
-					.remote(((BraveBaggageInScope) this.braveBaggageManager.createBaggage(name)).unwrap()));
+		// fields and values of the baggage entries, in the order of the header
+		List<BaggageField> fields = new ArrayList<>();
+		List<String> values = new ArrayList<>();
+		if (baggageHeader != null && !baggageHeader.isEmpty()) {
+			Set<String> names = new HashSet<>();
+			if (hasTraceState) {
+				names.add(TRACE_STATE);
+			}
+			BaggagePropagation.FactoryBuilder builder = factoryBuilder;
+			forEachEntry(baggageHeader, (key, value) -> {
+				BaggageField field = baggageField(key);
+				if (field == null) {
+					return;
+				}
+				fields.add(field);
+				values.add(value);
+				if (names.add(field.name())) {
+					builder.add(BaggagePropagationConfig.SingleBaggageField.remote(field));
+				}
+			});
 		}
 		TraceContext decoratedContext = factoryBuilder.build().decorate(flags.context());
 		if (hasTraceState) {
 			BaggageInScope baggageInScope = this.braveBaggageManager.createBaggage(TRACE_STATE);
 			baggageInScope.set(new BraveTraceContext(decoratedContext), traceState);
 		}
-		pairs.forEach(e -> {
-			BaggageField baggage = ((BraveBaggageInScope) e.getKey()).unwrap();
-			baggage.updateValue(decoratedContext, e.getValue());
-		});
+		for (int i = 0; i < fields.size(); i++) {
+			fields.get(i).updateValue(decoratedContext, values.get(i));
+		}
 		return TraceContextOrSamplingFlags.create(decoratedContext);
 	}
 
-	List<AbstractMap.SimpleEntry<BaggageInScope, String>> addBaggageToContext(String baggageHeader) {
-		List<AbstractMap.SimpleEntry<BaggageInScope, String>> pairs = new ArrayList<>();
-		String[] entries = baggageHeader.split(",");
-		for (String entry : entries) {
-			int beginningOfMetadata = entry.indexOf(";");
-			if (beginningOfMetadata > 0) {
-				entry = entry.substring(0, beginningOfMetadata);
+	private BaggageField baggageField(String key) {
+		try {
+			return ((BraveBaggageInScope) this.braveBaggageManager.createBaggage(key)).unwrap();
+		}
+		catch (Exception e) {
+			if (log.isDebugEnabled()) {
+				log.debug("Exception occurred while trying to create baggage with key [" + key
+						+ "]. Will ignore that entry.", e);
 			}
-			String[] keyAndValue = entry.split("=");
-			for (int i = 0; i < keyAndValue.length; i += 2) {
-				try {
-					String key = keyAndValue[i].trim();
-					String value = keyAndValue[i + 1].trim();
-					BaggageInScope baggage = this.braveBaggageManager.createBaggage(key);
-					pairs.add(new AbstractMap.SimpleEntry<>(baggage, value));
-				}
-				catch (Exception e) {
-					if (log.isDebugEnabled()) {
-						log.debug("Exception occurred while trying to parse baggage with key value ["
-								+ Arrays.toString(keyAndValue) + "]. Will ignore that entry.", e);
-					}
+			return null;
+		}
+	}
+
+	/**
+	 * Walks the entries of the baggage header without splitting it. Metadata and
+	 * whitespace around keys and values are skipped, entries without a key or a value
+	 * are ignored.
+	 * @param baggageHeader value of the baggage header
+	 * @param consumer consumer of the keys and values
+	 */
+	static void forEachEntry(String baggageHeader, BiConsumer<String, String> consumer) {
+		int length = baggageHeader.length();
+		int entryStart = 0;
+		while (entryStart < length) {
+			int entryEnd = baggageHeader.indexOf(',', entryStart);
+			if (entryEnd == -1) {
+				entryEnd = length;
+			}
+			int metadataStart = indexOf(baggageHeader, ';', entryStart, entryEnd);
+			int valueEnd = metadataStart == -1 ? entryEnd : metadataStart;
+			int separator = indexOf(baggageHeader, '=', entryStart, valueEnd);
+			if (separator != -1) {
+				int keyStart = skipWhitespace(baggageHeader, entryStart, separator);
+				int keyEnd = trimWhitespace(baggageHeader, keyStart, separator);
+				int valueStart = skipWhitespace(baggageHeader, separator + 1, valueEnd);
+				int trimmedValueEnd = trimWhitespace(baggageHeader, valueStart, valueEnd);
+				if (keyStart < keyEnd && valueStart < trimmedValueEnd) {
+					consumer.accept(baggageHeader.substring(keyStart, keyEnd),
+							baggageHeader.substring(valueStart, trimmedValueEnd));
 				}
 			}
+			entryStart = entryEnd + 1;
+		}
+	}
+
+	private static int indexOf(String string, char character, int start, int end) {
+		for (int i = start; i < end; i++) {
+			if (string.charAt(i) == character) {
+				return i;
+			}
+		}
+		return -1;
+	}
+
+	private static int skipWhitespace(String string, int start, int end) {
+		int index = start;
+		while (index < end && string.charAt(index) <= ' ') {
+			index++;
+		}
+		return index;
+	}
+
+	private static int trimWhitespace(String string, int start, int end) {
+		int index = end;
+		while (index > start && string.charAt(index - 1) <= ' ') {
+			index--;
 		}
-		return pairs;
+		return index;
 	}
 
 }
@@ -21,6 +21,8 @@ import java.util.regex.Pattern;
 import brave.http.HttpRequest;
 import brave.sampler.SamplerFunction;
 
+import org.springframework.cloud.sleuth.internal.SkipPatternMatcher;
+
 /**
  * Doesn't sample a span if skip pattern is matched.
  *
@@ -29,7 +31,7 @@ import brave.sampler.SamplerFunction;
  */
 abstract class SkipPatternSampler implements SamplerFunction<HttpRequest> {
 
-	private Pattern pattern;
+	private SkipPatternMatcher matcher;
 
 	@Override
 	public final Boolean trySample(HttpRequest request) {
@@ -38,7 +40,7 @@ abstract class SkipPatternSampler implements SamplerFunction<HttpRequest> {
 			return null;
 		}
 
-		boolean shouldSkip = pattern().matcher(url).matches();
+		boolean shouldSkip = matcher().matches(url);
 		if (shouldSkip) {
 			return false;
 		}
@@ -47,11 +49,11 @@ abstract class SkipPatternSampler implements SamplerFunction<HttpRequest> {
 
 	abstract Pattern getPattern();
 
-	private Pattern pattern() {
-		if (this.pattern == null) {
-			this.pattern = getPattern();
+	private SkipPatternMatcher matcher() {
+		if (this.matcher == null) {
+			this.matcher = SkipPatternMatcher.of(getPattern());
 		}
-		return this.pattern;
+		return this.matcher;
 	}
 
 }
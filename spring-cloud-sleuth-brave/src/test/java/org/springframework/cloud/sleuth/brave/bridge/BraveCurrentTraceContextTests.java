@@ -142,6 +142,23 @@ class BraveCurrentTraceContextTests {
 		thenThreadLocalsGotCleared(braveCurrentTraceContext, scope);
 	}
 
+	@Test
+	void should_check_whether_the_context_is_current() {
+		BraveCurrentTraceContext braveCurrentTraceContext = new BraveCurrentTraceContext(currentTraceContext);
+		org.springframework.cloud.sleuth.TraceContext context = BraveTraceContext
+				.fromBrave(TraceContext.newBuilder().traceId(12345678).spanId(12345670).build());
+		org.springframework.cloud.sleuth.TraceContext other = BraveTraceContext
+				.fromBrave(TraceContext.newBuilder().traceId(12345678).spanId(12345671).build());
+
+		then(braveCurrentTraceContext.isCurrent(null)).isTrue();
+		then(braveCurrentTraceContext.isCurrent(context)).isFalse();
+		try (CurrentTraceContext.Scope scope = braveCurrentTraceContext.newScope(context)) {
+			then(braveCurrentTraceContext.isCurrent(context)).isTrue();
+			then(braveCurrentTraceContext.isCurrent(other)).isFalse();
+			then(braveCurrentTraceContext.isCurrent(null)).isFalse();
+		}
+	}
+
 	private void thenThreadLocalsGotCleared(BraveCurrentTraceContext braveCurrentTraceContext,
 			CurrentTraceContext.Scope scope) {
 		then(scope).isSameAs(CurrentTraceContext.Scope.NOOP);
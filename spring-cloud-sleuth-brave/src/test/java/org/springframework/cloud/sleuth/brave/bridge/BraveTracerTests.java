@@ -16,9 +16,12 @@
 
 package org.springframework.cloud.sleuth.brave.bridge;
 
+import brave.NoopSpanCustomizer;
 import brave.Tracing;
 import brave.context.slf4j.MDCScopeDecorator;
 import brave.propagation.ThreadLocalCurrentTraceContext;
+import brave.propagation.TraceContextOrSamplingFlags;
+import brave.test.TestSpanHandler;
 import org.junit.jupiter.api.Test;
 import org.slf4j.MDC;
 
@@ -32,7 +35,9 @@ class BraveTracerTests {
 	ThreadLocalCurrentTraceContext currentTraceContext = ThreadLocalCurrentTraceContext.newBuilder()
 			.addScopeDecorator(MDCScopeDecorator.newBuilder().build()).build();
 
-	Tracing tracing = Tracing.newBuilder().currentTraceContext(currentTraceContext).build();
+	TestSpanHandler spans = new TestSpanHandler();
+
+	Tracing tracing = Tracing.newBuilder().currentTraceContext(currentTraceContext).addSpanHandler(spans).build();
 
 	BraveCurrentTraceContext braveCurrentTraceContext = new BraveCurrentTraceContext(currentTraceContext);
 
@@ -93,6 +98,71 @@ class BraveTracerTests {
 		then(MDC.getCopyOfContextMap()).isEmpty();
 	}
 
+	@Test
+	void should_reuse_current_span_wrapper_while_the_context_does_not_change() {
+		Span span = braveTracer.nextSpan().start();
+		try (Tracer.SpanInScope ws = braveTracer.withSpan(span)) {
+			Span currentSpan = braveTracer.currentSpan();
+
+			then(braveTracer.currentSpan()).isSameAs(currentSpan).isEqualTo(span);
+			then(braveTracer.currentSpanCustomizer()).isSameAs(braveTracer.currentSpanCustomizer());
+			then(currentSpan.context()).isSameAs(currentSpan.context());
+
+			Span child = braveTracer.nextSpan().start();
+			try (Tracer.SpanInScope childScope = braveTracer.withSpan(child)) {
+				then(braveTracer.currentSpan()).isNotSameAs(currentSpan).isEqualTo(child);
+			}
+			child.end();
+			then(braveTracer.currentSpan()).isEqualTo(span);
+		}
+		finally {
+			span.end();
+		}
+		then(braveTracer.currentSpan()).isNull();
+	}
+
+	@Test
+	void should_return_noop_span_and_customizer_for_unsampled_context_after_the_cache_was_warmed() {
+		Span span = braveTracer.nextSpan().start();
+		try (Tracer.SpanInScope ws = braveTracer.withSpan(span)) {
+			then(braveTracer.currentSpan().isNoop()).isFalse();
+			braveTracer.currentSpanCustomizer().tag("sampled", "true");
+
+			Span unsampled = new BraveSpan(tracing.tracer().nextSpan(TraceContextOrSamplingFlags.NOT_SAMPLED));
+			try (Tracer.SpanInScope unsampledScope = braveTracer.withSpan(unsampled)) {
+				then(braveTracer.currentSpan().isNoop()).isTrue();
+				then(BraveSpanCustomizer.toBrave(braveTracer.currentSpanCustomizer()))
+						.isSameAs(NoopSpanCustomizer.INSTANCE);
+				braveTracer.currentSpanCustomizer().tag("unsampled", "true");
+			}
+
+			then(braveTracer.currentSpan().isNoop()).isFalse();
+			braveTracer.currentSpanCustomizer().tag("sampledAgain", "true");
+		}
+		finally {
+			span.end();
+		}
+
+		then(spans).hasSize(1);
+		then(spans.get(0).tags()).containsOnlyKeys("sampled", "sampledAgain");
+	}
+
+	@Test
+	void should_return_noop_scope_when_span_is_already_in_scope() {
+		Span span = braveTracer.nextSpan().start();
+		try (Tracer.SpanInScope ws = braveTracer.withSpan(span)) {
+			Tracer.SpanInScope sameScope = braveTracer.withSpan(braveTracer.currentSpan());
+
+			then(sameScope).isSameAs(Tracer.SpanInScope.NOOP);
+			sameScope.close();
+			then(braveTracer.currentSpan()).isEqualTo(span);
+		}
+		finally {
+			span.end();
+		}
+		then(braveTracer.currentSpan()).isNull();
+	}
+
 	private static void thenMdcEntriesArePresent(org.springframework.cloud.sleuth.TraceContext traceContext) {
 		then(MDC.get("traceId")).isEqualTo(traceContext.traceId());
 		then(MDC.get("spanId")).isEqualTo(traceContext.spanId());
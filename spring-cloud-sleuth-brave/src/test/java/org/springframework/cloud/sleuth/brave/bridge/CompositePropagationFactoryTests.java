@@ -0,0 +1,127 @@
+/*
+ * Copyright 2013-2023 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.cloud.sleuth.brave.bridge;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+
+import brave.propagation.Propagation;
+import brave.propagation.TraceContext;
+import brave.propagation.TraceContextOrSamplingFlags;
+import org.junit.jupiter.api.Test;
+
+import org.springframework.beans.factory.support.StaticListableBeanFactory;
+import org.springframework.cloud.sleuth.brave.propagation.PropagationType;
+
+import static org.assertj.core.api.BDDAssertions.then;
+
+class CompositePropagationFactoryTests {
+
+	TraceContext context = TraceContext.newBuilder().traceIdHigh(1L).traceId(2L).spanId(3L).sampled(true).build();
+
+	CompositePropagationFactory factory = new CompositePropagationFactory(new StaticListableBeanFactory(),
+			new BraveBaggageManager(), Collections.emptyList(),
+			Arrays.asList(PropagationType.B3, PropagationType.W3C, PropagationType.CUSTOM));
+
+	@Test
+	void should_return_keys_of_all_propagation_types_in_order() {
+		then(this.factory.keys()).startsWith("b3").endsWith("traceparent", "tracestate");
+		then(this.factory.keys()).isSameAs(this.factory.keys());
+	}
+
+	@Test
+	void should_inject_with_every_propagation_type_using_a_reused_injector() {
+		Propagation.Setter<Map<String, String>, String> setter = Map::put;
+		TraceContext.Injector<Map<String, String>> injector = this.factory.injector(setter);
+		Map<String, String> first = new HashMap<>();
+		Map<String, String> second = new HashMap<>();
+
+		injector.inject(this.context, first);
+		injector.inject(this.context, second);
+
+		then(first).containsKeys("b3", "traceparent").isEqualTo(second);
+	}
+
+	@Test
+	void should_extract_with_the_first_matching_propagation_type() {
+		Propagation.Getter<Map<String, String>, String> getter = Map::get;
+		TraceContext.Extractor<Map<String, String>> extractor = this.factory.extractor(getter);
+		Map<String, String> w3c = new HashMap<>();
+		w3c.put("traceparent", "00-00000000000000010000000000000002-0000000000000003-01");
+
+		TraceContextOrSamplingFlags extracted = extractor.extract(w3c);
+
+		then(extracted.context().traceId()).isEqualTo(2L);
+		then(extracted.context().spanId()).isEqualTo(3L);
+		then(extractor.extract(new HashMap<>())).isSameAs(TraceContextOrSamplingFlags.EMPTY);
+	}
+
+	@Test
+	void should_count_extractions_per_propagation_type() {
+		Propagation.Getter<Map<String, String>, String> getter = Map::get;
+		TraceContext.Extractor<Map<String, String>> extractor = this.factory.extractor(getter);
+		Map<String, String> w3c = new HashMap<>();
+		w3c.put("traceparent", "00-00000000000000010000000000000002-0000000000000003-01");
+
+		extractor.extract(w3c);
+		extractor.extract(w3c);
+		extractor.extract(new HashMap<>());
+
+		then(this.factory.extractionCount(PropagationType.W3C)).isEqualTo(2L);
+		then(this.factory.extractionCount(PropagationType.B3)).isZero();
+		then(this.factory.emptyExtractionCount()).isEqualTo(1L);
+	}
+
+	@Test
+	void should_return_the_extractor_of_a_single_propagation_type() {
+		CompositePropagationFactory factory = new CompositePropagationFactory(new StaticListableBeanFactory(),
+				new BraveBaggageManager(), Collections.emptyList(), Collections.singletonList(PropagationType.W3C),
+				true);
+		Propagation.Getter<Map<String, String>, String> getter = Map::get;
+		TraceContext.Extractor<Map<String, String>> extractor = factory.extractor(getter);
+		Map<String, String> w3c = new HashMap<>();
+		w3c.put("traceparent", "00-00000000000000010000000000000002-0000000000000003-01");
+
+		then(extractor.getClass()).isSameAs(
+				new W3CPropagation(new BraveBaggageManager(), Collections.emptyList()).extractor(getter).getClass());
+		then(extractor.extract(w3c).context().spanId()).isEqualTo(3L);
+		then(factory.extractionCount(PropagationType.W3C)).isZero();
+	}
+
+	@Test
+	void should_try_the_most_often_extracted_propagation_type_first_when_adaptive() {
+		CompositePropagationFactory factory = new CompositePropagationFactory(new StaticListableBeanFactory(),
+				new BraveBaggageManager(), Collections.emptyList(),
+				Arrays.asList(PropagationType.B3, PropagationType.W3C), true);
+		Propagation.Getter<Map<String, String>, String> getter = Map::get;
+		TraceContext.Extractor<Map<String, String>> extractor = factory.extractor(getter);
+		Map<String, String> w3c = new HashMap<>();
+		w3c.put("traceparent", "00-00000000000000010000000000000002-0000000000000003-01");
+		Map<String, String> both = new HashMap<>(w3c);
+		both.put("b3", "0000000000000004-0000000000000005-1");
+
+		then(extractor.extract(both).context().spanId()).isEqualTo(5L);
+		extractor.extract(w3c);
+		extractor.extract(w3c);
+		factory.reorderExtractions();
+
+		then(extractor.extract(both).context().spanId()).isEqualTo(3L);
+	}
+
+}
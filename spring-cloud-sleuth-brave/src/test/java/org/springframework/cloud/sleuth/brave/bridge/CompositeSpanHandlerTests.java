@@ -0,0 +1,126 @@
+/*
+ * Copyright 2013-2023 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.cloud.sleuth.brave.bridge;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import brave.handler.MutableSpan;
+import brave.handler.SpanHandler;
+import brave.propagation.TraceContext;
+import org.junit.jupiter.api.Test;
+
+import org.springframework.cloud.sleuth.exporter.FinishedSpan;
+import org.springframework.cloud.sleuth.exporter.SpanFilter;
+
+import static org.assertj.core.api.BDDAssertions.then;
+import static org.awaitility.Awaitility.await;
+
+class CompositeSpanHandlerTests {
+
+	TraceContext context = TraceContext.newBuilder().traceId(1L).spanId(2L).sampled(true).build();
+
+	@Test
+	void should_pass_the_same_finished_span_to_all_filters_and_reporters() {
+		List<FinishedSpan> seen = new ArrayList<>();
+		SpanFilter filter = span -> seen.add(span);
+		CompositeSpanHandler handler = new CompositeSpanHandler(Arrays.asList(filter, filter),
+				Arrays.asList(seen::add, seen::add));
+
+		boolean result = handler.end(this.context, span("foo"), SpanHandler.Cause.FINISHED);
+
+		then(result).isTrue();
+		then(seen).hasSize(4);
+		then(seen).allSatisfy(span -> then(span).isSameAs(seen.get(0)));
+	}
+
+	@Test
+	void should_not_report_spans_rejected_by_a_filter() {
+		List<FinishedSpan> reported = new ArrayList<>();
+		CompositeSpanHandler handler = new CompositeSpanHandler(
+				Collections.singletonList(span -> !"foo".equals(span.getName())),
+				Collections.singletonList(reported::add));
+
+		then(handler.end(this.context, span("foo"), SpanHandler.Cause.FINISHED)).isFalse();
+		then(handler.end(this.context, span("bar"), SpanHandler.Cause.FINISHED)).isTrue();
+
+		then(reported).extracting(FinishedSpan::getName).containsExactly("bar");
+	}
+
+	@Test
+	void should_report_spans_on_a_separate_thread_when_async() {
+		List<String> threads = new CopyOnWriteArrayList<>();
+		List<String> names = new CopyOnWriteArrayList<>();
+		CompositeSpanHandler handler = new CompositeSpanHandler(Collections.emptyList(),
+				Collections.singletonList(span -> {
+					threads.add(Thread.currentThread().getName());
+					names.add(span.getName());
+				}), 10);
+
+		try {
+			MutableSpan span = span("foo");
+			handler.end(this.context, span, SpanHandler.Cause.FINISHED);
+			span.name("changed by another handler");
+
+			await().untilAsserted(() -> then(names).containsExactly("foo"));
+			then(threads).doesNotContain(Thread.currentThread().getName());
+		}
+		finally {
+			handler.close();
+		}
+	}
+
+	@Test
+	void should_drop_spans_when_async_queue_is_full_and_report_remaining_spans_on_close() throws Exception {
+		CountDownLatch reporting = new CountDownLatch(1);
+		CountDownLatch release = new CountDownLatch(1);
+		List<String> names = new CopyOnWriteArrayList<>();
+		CompositeSpanHandler handler = new CompositeSpanHandler(Collections.emptyList(),
+				Collections.singletonList(span -> {
+					reporting.countDown();
+					try {
+						release.await();
+					}
+					catch (InterruptedException ex) {
+						Thread.currentThread().interrupt();
+					}
+					names.add(span.getName());
+				}), 1);
+
+		handler.end(this.context, span("first"), SpanHandler.Cause.FINISHED);
+		then(reporting.await(1, TimeUnit.SECONDS)).isTrue();
+		handler.end(this.context, span("second"), SpanHandler.Cause.FINISHED);
+		handler.end(this.context, span("third"), SpanHandler.Cause.FINISHED);
+		release.countDown();
+		handler.close();
+
+		then(names).containsExactly("first", "second");
+		then(handler.getDroppedSpans()).isEqualTo(1L);
+	}
+
+	private MutableSpan span(String name) {
+		MutableSpan span = new MutableSpan(this.context, null);
+		span.name(name);
+		return span;
+	}
+
+}
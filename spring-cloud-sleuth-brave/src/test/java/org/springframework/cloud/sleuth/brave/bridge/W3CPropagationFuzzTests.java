@@ -0,0 +1,184 @@
+/*
+ * Copyright 2013-2023 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.cloud.sleuth.brave.bridge;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import brave.baggage.BaggageField;
+import brave.propagation.Propagation;
+import brave.propagation.TraceContext;
+import brave.propagation.TraceContextOrSamplingFlags;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.BDDAssertions.then;
+
+/**
+ * Feeds random and mutated headers to the W3C parsers. The random generator is seeded so
+ * that failures are reproducible.
+ */
+class W3CPropagationFuzzTests {
+
+	private static final int ITERATIONS = 20_000;
+
+	private static final String VALID_TRACEPARENT = "00-0af7651916cd43dd8448eb211c80319c-b7ad6b7169203331-01";
+
+	private static final Pattern TRACEPARENT = Pattern
+			.compile("([0-9a-f]{2})-([0-9a-f]{16})([0-9a-f]{16})-([0-9a-f]{16})-([0-9a-f]{2})(-.*)?");
+
+	private static final Propagation.Getter<Map<String, String>, String> getter = Map::get;
+
+	private final Random random = new Random(0x5EEDL);
+
+	private final W3CPropagation propagation = new W3CPropagation(new BraveBaggageManager(),
+			Collections.emptyList());
+
+	@Test
+	void should_parse_mutated_traceparent_headers_like_the_specification() {
+		TraceContext.Extractor<Map<String, String>> extractor = this.propagation.extractor(getter);
+		for (int i = 0; i < ITERATIONS; i++) {
+			String traceparent = i % 2 == 0 ? mutate(VALID_TRACEPARENT) : randomString("0123456789abcdefABF-x ", 60);
+
+			TraceContext context = extractor.extract(carrier("traceparent", traceparent)).context();
+
+			TraceContext expected = expectedContext(traceparent);
+			if (expected == null) {
+				then(context).as(traceparent).isNull();
+			}
+			else {
+				then(context).as(traceparent).isNotNull();
+				then(context.traceIdHigh()).as(traceparent).isEqualTo(expected.traceIdHigh());
+				then(context.traceId()).as(traceparent).isEqualTo(expected.traceId());
+				then(context.spanId()).as(traceparent).isEqualTo(expected.spanId());
+				then(context.sampled()).as(traceparent).isEqualTo(expected.sampled());
+			}
+		}
+	}
+
+	@Test
+	void should_walk_random_baggage_headers_without_failing() {
+		for (int i = 0; i < ITERATIONS; i++) {
+			String baggage = randomString("ab=,; \t", 40);
+			List<String> keysAndValues = new ArrayList<>();
+
+			W3CBaggagePropagator.forEachEntry(baggage, (key, value) -> {
+				keysAndValues.add(key);
+				keysAndValues.add(value);
+			});
+
+			for (int j = 0; j < keysAndValues.size(); j++) {
+				String keyOrValue = keysAndValues.get(j);
+				then(keyOrValue).as(baggage).isNotEmpty().isEqualTo(keyOrValue.trim()).doesNotContain(",")
+						.doesNotContain(";");
+				if (j % 2 == 0) {
+					then(keyOrValue).as(baggage).doesNotContain("=");
+				}
+			}
+		}
+	}
+
+	@Test
+	void should_extract_random_baggage_headers_without_failing() {
+		TraceContext.Extractor<Map<String, String>> extractor = this.propagation.extractor(getter);
+		for (int i = 0; i < ITERATIONS / 10; i++) {
+			Map<String, String> carrier = carrier("traceparent", VALID_TRACEPARENT);
+			carrier.put("baggage", randomString("abc=,; \t", 40));
+
+			TraceContextOrSamplingFlags extracted = extractor.extract(carrier);
+
+			then(extracted.context()).as(carrier.get("baggage")).isNotNull();
+		}
+	}
+
+	@Test
+	void should_take_baggage_value_up_to_metadata() {
+		Map<String, String> entries = new HashMap<>();
+
+		W3CBaggagePropagator.forEachEntry(" a = b=c ;meta=data,,=x,y=, z ;q=1,k\t=\tv\t", entries::put);
+
+		then(entries).containsOnlyKeys("a", "k").containsEntry("a", "b=c").containsEntry("k", "v");
+	}
+
+	@Test
+	void should_extract_each_baggage_entry_with_the_last_value_of_repeated_keys() {
+		Map<String, String> carrier = carrier("traceparent", VALID_TRACEPARENT);
+		carrier.put("baggage", "a=1,b=2;meta=data,a=3");
+
+		TraceContext context = this.propagation.extractor(getter).extract(carrier).context();
+
+		then(BaggageField.getByName(context, "a").getValue(context)).isEqualTo("3");
+		then(BaggageField.getByName(context, "b").getValue(context)).isEqualTo("2");
+	}
+
+	private TraceContext expectedContext(String traceparent) {
+		Matcher matcher = TRACEPARENT.matcher(traceparent);
+		if (!matcher.matches()) {
+			return null;
+		}
+		String version = matcher.group(1);
+		if ("ff".equals(version) || ("00".equals(version) && matcher.group(6) != null)) {
+			return null;
+		}
+		long traceIdHigh = Long.parseUnsignedLong(matcher.group(2), 16);
+		long traceId = Long.parseUnsignedLong(matcher.group(3), 16);
+		long spanId = Long.parseUnsignedLong(matcher.group(4), 16);
+		if ((traceIdHigh == 0L && traceId == 0L) || spanId == 0L) {
+			return null;
+		}
+		return TraceContext.newBuilder().traceIdHigh(traceIdHigh).traceId(traceId).spanId(spanId)
+				.sampled("01".equals(matcher.group(5))).build();
+	}
+
+	private String mutate(String value) {
+		char[] chars = value.toCharArray();
+		int mutations = 1 + this.random.nextInt(3);
+		for (int i = 0; i < mutations; i++) {
+			chars[this.random.nextInt(chars.length)] = "0f-Fx".charAt(this.random.nextInt(5));
+		}
+		String mutated = new String(chars);
+		switch (this.random.nextInt(4)) {
+		case 0:
+			return mutated.substring(0, this.random.nextInt(mutated.length()));
+		case 1:
+			return mutated + "-" + randomString("0123456789abcdef", 4);
+		default:
+			return mutated;
+		}
+	}
+
+	private String randomString(String alphabet, int maxLength) {
+		int length = this.random.nextInt(maxLength + 1);
+		StringBuilder builder = new StringBuilder(length);
+		for (int i = 0; i < length; i++) {
+			builder.append(alphabet.charAt(this.random.nextInt(alphabet.length())));
+		}
+		return builder.toString();
+	}
+
+	private Map<String, String> carrier(String key, String value) {
+		Map<String, String> carrier = new HashMap<>();
+		carrier.put(key, value);
+		return carrier;
+	}
+
+}
@@ -27,6 +27,7 @@ import org.springframework.cloud.sleuth.CurrentTraceContext;
 import org.springframework.cloud.sleuth.Span;
 import org.springframework.cloud.sleuth.Tracer;
 import org.springframework.cloud.sleuth.annotation.ContinueSpan;
+import org.springframework.cloud.sleuth.annotation.NewSpan;
 import org.springframework.cloud.sleuth.annotation.NewSpanParser;
 import org.springframework.cloud.sleuth.annotation.SleuthMethodInvocationProcessor;
 
@@ -49,37 +50,54 @@ abstract class AbstractSleuthMethodInvocationProcessor implements SleuthMethodIn
 
 	private SpanTagAnnotationHandler spanTagAnnotationHandler;
 
-	void before(MethodInvocation invocation, Span span, String log, boolean hasLog) {
-		if (hasLog) {
-			logEvent(span, log + ".before");
+	/**
+	 * Also used by the {@link SleuthInterceptor} so that the metadata is resolved only
+	 * once per method.
+	 */
+	final SleuthMethodMetadata.Cache methodMetadata = new SleuthMethodMetadata.Cache();
+
+	@Override
+	public Object process(MethodInvocation invocation, NewSpan newSpan, ContinueSpan continueSpan) throws Throwable {
+		return process(invocation, this.methodMetadata.get(invocation).withAnnotations(newSpan, continueSpan));
+	}
+
+	/**
+	 * Same as {@link #process(MethodInvocation, NewSpan, ContinueSpan)} but with the
+	 * already resolved, per method metadata.
+	 */
+	abstract Object process(MethodInvocation invocation, SleuthMethodMetadata metadata) throws Throwable;
+
+	void before(MethodInvocation invocation, Span span, SleuthMethodMetadata metadata) {
+		if (metadata.hasLog) {
+			logEvent(span, metadata.beforeEvent);
 		}
-		spanTagAnnotationHandler().addAnnotatedParameters(invocation);
-		addTags(invocation, span);
+		spanTagAnnotationHandler().addAnnotatedParameters(invocation, metadata);
+		addTags(metadata, span);
 	}
 
-	void after(Span span, boolean isNewSpan, String log, boolean hasLog) {
-		if (hasLog) {
-			logEvent(span, log + ".after");
+	void after(Span span, boolean isNewSpan, SleuthMethodMetadata metadata) {
+		if (metadata.hasLog) {
+			logEvent(span, metadata.afterEvent);
 		}
 		if (isNewSpan) {
 			span.end();
 		}
 	}
 
-	void onFailure(Span span, String log, boolean hasLog, Throwable e) {
+	void onFailure(Span span, SleuthMethodMetadata metadata, Throwable e) {
 		if (logger.isDebugEnabled()) {
 			logger.debug("Exception occurred while trying to continue the pointcut", e);
 		}
-		if (hasLog) {
-			logEvent(span, log + ".afterFailure");
+		if (metadata.hasLog) {
+			logEvent(span, metadata.afterFailureEvent);
 		}
 		span.error(e);
 	}
 
-	void addTags(MethodInvocation invocation, Span span) {
-		SleuthAnnotationSpan.ANNOTATION_NEW_OR_CONTINUE_SPAN.wrap(span)
-				.tag(SleuthAnnotationSpan.Tags.CLASS, invocation.getThis().getClass().getSimpleName())
-				.tag(SleuthAnnotationSpan.Tags.METHOD, invocation.getMethod().getName());
+	void addTags(SleuthMethodMetadata metadata, Span span) {
+		SleuthAnnotationSpan.ANNOTATION_NEW_OR_CONTINUE_SPAN.wrapIfAssertionsEnabled(span)
+				.tag(SleuthAnnotationSpan.Tags.CLASS.getKey(), metadata.className)
+				.tag(SleuthAnnotationSpan.Tags.METHOD.getKey(), metadata.methodName);
 	}
 
 	void logEvent(Span span, String name) {
@@ -89,14 +107,7 @@ abstract class AbstractSleuthMethodInvocationProcessor implements SleuthMethodIn
 					+ "the same class then the aspect will not be properly resolved");
 			return;
 		}
-		SleuthAnnotationSpan.ANNOTATION_NEW_OR_CONTINUE_SPAN.wrap(span).event(name);
-	}
-
-	String log(ContinueSpan continueSpan) {
-		if (continueSpan != null) {
-			return continueSpan.log();
-		}
-		return "";
+		SleuthAnnotationSpan.ANNOTATION_NEW_OR_CONTINUE_SPAN.wrapIfAssertionsEnabled(span).event(name);
 	}
 
 	Tracer tracer() {
@@ -16,6 +16,9 @@
 
 package org.springframework.cloud.sleuth.instrument.annotation;
 
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
 import org.aopalliance.intercept.MethodInvocation;
 import org.apache.commons.logging.Log;
 import org.apache.commons.logging.LogFactory;
@@ -36,11 +39,13 @@ public class DefaultSpanCreator implements NewSpanParser {
 
 	private static final Log log = LogFactory.getLog(DefaultSpanCreator.class);
 
+	private final Map<String, String> lowerHyphenNames = new ConcurrentHashMap<>();
+
 	@Override
 	public void parse(MethodInvocation pjp, NewSpan newSpan, Span span) {
 		String name = newSpan == null || StringUtils.isEmpty(newSpan.name()) ? pjp.getMethod().getName()
 				: newSpan.name();
-		String changedName = SpanNameUtil.toLowerHyphen(name);
+		String changedName = this.lowerHyphenNames.computeIfAbsent(name, SpanNameUtil::toLowerHyphen);
 		if (log.isDebugEnabled()) {
 			log.debug("For the class [" + pjp.getThis().getClass() + "] method " + "[" + pjp.getMethod().getName()
 					+ "] will name the span [" + changedName + "]");
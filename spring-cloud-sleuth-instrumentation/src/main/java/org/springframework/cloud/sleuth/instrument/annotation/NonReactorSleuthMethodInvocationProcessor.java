@@ -20,9 +20,7 @@ import org.aopalliance.intercept.MethodInvocation;
 
 import org.springframework.cloud.sleuth.Span;
 import org.springframework.cloud.sleuth.Tracer;
-import org.springframework.cloud.sleuth.annotation.ContinueSpan;
 import org.springframework.cloud.sleuth.annotation.NewSpan;
-import org.springframework.util.StringUtils;
 
 /**
  * Method Invocation processor for non reactor apps.
@@ -33,33 +31,32 @@ import org.springframework.util.StringUtils;
 public class NonReactorSleuthMethodInvocationProcessor extends AbstractSleuthMethodInvocationProcessor {
 
 	@Override
-	public Object process(MethodInvocation invocation, NewSpan newSpan, ContinueSpan continueSpan) throws Throwable {
-		return proceedUnderSynchronousSpan(invocation, newSpan, continueSpan);
+	Object process(MethodInvocation invocation, SleuthMethodMetadata metadata) throws Throwable {
+		return proceedUnderSynchronousSpan(invocation, metadata);
 	}
 
-	private Object proceedUnderSynchronousSpan(MethodInvocation invocation, NewSpan newSpan, ContinueSpan continueSpan)
+	private Object proceedUnderSynchronousSpan(MethodInvocation invocation, SleuthMethodMetadata metadata)
 			throws Throwable {
+		NewSpan newSpan = metadata.newSpan;
 		Span span = tracer().currentSpan();
 		// in case of @ContinueSpan and no span in tracer we start new span and should
 		// close it on completion
 		boolean startNewSpan = newSpan != null || span == null;
 		if (startNewSpan) {
-			span = SleuthAnnotationSpan.ANNOTATION_NEW_OR_CONTINUE_SPAN.wrap(tracer().nextSpan());
+			span = SleuthAnnotationSpan.ANNOTATION_NEW_OR_CONTINUE_SPAN.wrapIfAssertionsEnabled(tracer().nextSpan());
 			newSpanParser().parse(invocation, newSpan, span);
 			span.start();
 		}
-		String log = log(continueSpan);
-		boolean hasLog = StringUtils.hasText(log);
 		try (Tracer.SpanInScope scope = tracer().withSpan(span)) {
-			before(invocation, span, log, hasLog);
+			before(invocation, span, metadata);
 			return invocation.proceed();
 		}
 		catch (Exception ex) {
-			onFailure(span, log, hasLog, ex);
+			onFailure(span, metadata, ex);
 			throw ex;
 		}
 		finally {
-			after(span, startNewSpan, log, hasLog);
+			after(span, startNewSpan, metadata);
 		}
 	}
 
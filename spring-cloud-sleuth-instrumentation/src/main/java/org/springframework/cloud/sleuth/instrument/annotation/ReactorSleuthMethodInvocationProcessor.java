@@ -34,11 +34,9 @@ import org.springframework.cloud.sleuth.CurrentTraceContext;
 import org.springframework.cloud.sleuth.Span;
 import org.springframework.cloud.sleuth.TraceContext;
 import org.springframework.cloud.sleuth.Tracer;
-import org.springframework.cloud.sleuth.annotation.ContinueSpan;
 import org.springframework.cloud.sleuth.annotation.NewSpan;
 import org.springframework.cloud.sleuth.instrument.reactor.ReactorSleuth;
 import org.springframework.cloud.sleuth.instrument.reactor.TraceContextPropagator;
-import org.springframework.util.StringUtils;
 
 /**
  * Method Invocation Processor for Reactor.
@@ -51,19 +49,20 @@ public class ReactorSleuthMethodInvocationProcessor extends AbstractSleuthMethod
 	private NonReactorSleuthMethodInvocationProcessor nonReactorSleuthMethodInvocationProcessor;
 
 	@Override
-	public Object process(MethodInvocation invocation, NewSpan newSpan, ContinueSpan continueSpan) throws Throwable {
+	Object process(MethodInvocation invocation, SleuthMethodMetadata metadata) throws Throwable {
 		Method method = invocation.getMethod();
 		if (isReactorReturnType(method.getReturnType())) {
-			return proceedUnderReactorSpan(invocation, newSpan, continueSpan);
+			return proceedUnderReactorSpan(invocation, metadata);
 		}
 		else {
-			return nonReactorSleuthMethodInvocationProcessor().process(invocation, newSpan, continueSpan);
+			return nonReactorSleuthMethodInvocationProcessor().process(invocation, metadata);
 		}
 	}
 
 	@SuppressWarnings("unchecked")
-	private Object proceedUnderReactorSpan(MethodInvocation invocation, NewSpan newSpan, ContinueSpan continueSpan)
+	private Object proceedUnderReactorSpan(MethodInvocation invocation, SleuthMethodMetadata metadata)
 			throws Throwable {
+		NewSpan newSpan = metadata.newSpan;
 		Span spanPrevious = tracer().currentSpan();
 		// in case of @ContinueSpan and no span in tracer we start new span and should
 		// close it on completion
@@ -75,14 +74,13 @@ public class ReactorSleuthMethodInvocationProcessor extends AbstractSleuthMethod
 			span = spanPrevious;
 		}
 
-		String log = log(continueSpan);
 		Publisher<?> publisher = (Publisher) invocation.proceed();
 
 		if (publisher instanceof Mono) {
-			return new MonoSpan((Mono<Object>) publisher, this, newSpan, span, invocation, log);
+			return new MonoSpan((Mono<Object>) publisher, this, span, invocation, metadata);
 		}
 		else if (publisher instanceof Flux) {
-			return new FluxSpan((Flux<Object>) publisher, this, newSpan, span, invocation, log);
+			return new FluxSpan((Flux<Object>) publisher, this, span, invocation, metadata);
 		}
 		else {
 			throw new IllegalArgumentException("Unexpected type of publisher: " + publisher.getClass());
@@ -107,22 +105,16 @@ public class ReactorSleuthMethodInvocationProcessor extends AbstractSleuthMethod
 
 		final MethodInvocation invocation;
 
-		final String log;
-
-		final boolean hasLog;
+		final SleuthMethodMetadata metadata;
 
 		final ReactorSleuthMethodInvocationProcessor processor;
 
-		final NewSpan newSpan;
-
-		FluxSpan(Flux<Object> source, ReactorSleuthMethodInvocationProcessor processor, NewSpan newSpan,
-				@Nullable Span span, MethodInvocation invocation, String log) {
+		FluxSpan(Flux<Object> source, ReactorSleuthMethodInvocationProcessor processor, @Nullable Span span,
+				MethodInvocation invocation, SleuthMethodMetadata metadata) {
 			super(source);
 			this.span = span;
-			this.newSpan = newSpan;
 			this.invocation = invocation;
-			this.log = log;
-			this.hasLog = StringUtils.hasText(log);
+			this.metadata = metadata;
 			this.processor = processor;
 		}
 
@@ -133,8 +125,8 @@ public class ReactorSleuthMethodInvocationProcessor extends AbstractSleuthMethod
 			if (this.span == null) {
 				// If we aren't continuing a trace from this flow, use nextSpan so that it
 				// can consider the "current span" (typically, backed by a thread-local)
-				span = SleuthAnnotationSpan.ANNOTATION_NEW_OR_CONTINUE_SPAN.wrap(tracer.nextSpan());
-				this.processor.newSpanParser().parse(this.invocation, this.newSpan, span);
+				span = SleuthAnnotationSpan.ANNOTATION_NEW_OR_CONTINUE_SPAN.wrapIfAssertionsEnabled(tracer.nextSpan());
+				this.processor.newSpanParser().parse(this.invocation, this.metadata.newSpan, span);
 				span.start();
 			}
 			else {
@@ -142,7 +134,7 @@ public class ReactorSleuthMethodInvocationProcessor extends AbstractSleuthMethod
 			}
 			try (CurrentTraceContext.Scope ws = this.processor.currentTraceContext().maybeScope(span.context())) {
 				this.source.subscribe(new SpanSubscriber(actual, this.processor, this.invocation, this.span == null,
-						span, this.log, this.hasLog));
+						span, this.metadata));
 			}
 		}
 
@@ -154,23 +146,17 @@ public class ReactorSleuthMethodInvocationProcessor extends AbstractSleuthMethod
 
 		final MethodInvocation invocation;
 
-		final String log;
-
-		final boolean hasLog;
+		final SleuthMethodMetadata metadata;
 
 		final ReactorSleuthMethodInvocationProcessor processor;
 
-		final NewSpan newSpan;
-
-		MonoSpan(Mono<Object> source, ReactorSleuthMethodInvocationProcessor processor, NewSpan newSpan,
-				@Nullable Span span, MethodInvocation invocation, String log) {
+		MonoSpan(Mono<Object> source, ReactorSleuthMethodInvocationProcessor processor, @Nullable Span span,
+				MethodInvocation invocation, SleuthMethodMetadata metadata) {
 			super(source);
 			this.processor = processor;
-			this.newSpan = newSpan;
 			this.span = span;
 			this.invocation = invocation;
-			this.log = log;
-			this.hasLog = StringUtils.hasText(log);
+			this.metadata = metadata;
 		}
 
 		@Override
@@ -178,8 +164,8 @@ public class ReactorSleuthMethodInvocationProcessor extends AbstractSleuthMethod
 			Span span;
 			Tracer tracer = this.processor.tracer();
 			if (this.span == null) {
-				span = SleuthAnnotationSpan.ANNOTATION_NEW_OR_CONTINUE_SPAN.wrap(tracer.nextSpan());
-				this.processor.newSpanParser().parse(this.invocation, this.newSpan, span);
+				span = SleuthAnnotationSpan.ANNOTATION_NEW_OR_CONTINUE_SPAN.wrapIfAssertionsEnabled(tracer.nextSpan());
+				this.processor.newSpanParser().parse(this.invocation, this.metadata.newSpan, span);
 				span.start();
 			}
 			else {
@@ -187,7 +173,7 @@ public class ReactorSleuthMethodInvocationProcessor extends AbstractSleuthMethod
 			}
 			try (CurrentTraceContext.Scope ws = this.processor.currentTraceContext().maybeScope(span.context())) {
 				this.source.subscribe(new SpanSubscriber(actual, this.processor, this.invocation, this.span == null,
-						span, this.log, this.hasLog));
+						span, this.metadata));
 			}
 		}
 
@@ -209,9 +195,7 @@ public class ReactorSleuthMethodInvocationProcessor extends AbstractSleuthMethod
 
 		final Span span;
 
-		final String log;
-
-		final boolean hasLog;
+		final SleuthMethodMetadata metadata;
 
 		final Tracer tracer;
 
@@ -222,17 +206,16 @@ public class ReactorSleuthMethodInvocationProcessor extends AbstractSleuthMethod
 		Subscription parent;
 
 		SpanSubscriber(CoreSubscriber<? super Object> actual, ReactorSleuthMethodInvocationProcessor processor,
-				MethodInvocation invocation, boolean isNewSpan, Span span, String log, boolean hasLog) {
+				MethodInvocation invocation, boolean isNewSpan, Span span, SleuthMethodMetadata metadata) {
 			this.actual = actual;
 			this.isNewSpan = isNewSpan;
 			this.span = span;
-			this.log = log;
-			this.hasLog = hasLog;
+			this.metadata = metadata;
 			this.processor = processor;
 			this.context = ReactorSleuth
 					.wrapContext(actual.currentContext().put(Span.class, span).put(TraceContext.class, span.context()));
 			this.tracer = processor.tracer();
-			processor.before(invocation, this.span, this.log, this.hasLog);
+			processor.before(invocation, this.span, this.metadata);
 		}
 
 		@Override
@@ -248,7 +231,7 @@ public class ReactorSleuthMethodInvocationProcessor extends AbstractSleuthMethod
 				this.parent.cancel();
 			}
 			finally {
-				this.processor.after(this.span, this.isNewSpan, this.log, this.hasLog);
+				this.processor.after(this.span, this.isNewSpan, this.metadata);
 			}
 		}
 
@@ -275,11 +258,11 @@ public class ReactorSleuthMethodInvocationProcessor extends AbstractSleuthMethod
 		@Override
 		public void onError(Throwable error) {
 			try (Tracer.SpanInScope scope = this.tracer.withSpan(this.span)) {
-				this.processor.onFailure(this.span, this.log, this.hasLog, error);
+				this.processor.onFailure(this.span, this.metadata, error);
 				this.actual.onError(error);
 			}
 			finally {
-				this.processor.after(this.span, this.isNewSpan, this.log, this.hasLog);
+				this.processor.after(this.span, this.isNewSpan, this.metadata);
 			}
 		}
 
@@ -289,7 +272,7 @@ public class ReactorSleuthMethodInvocationProcessor extends AbstractSleuthMethod
 				this.actual.onComplete();
 			}
 			finally {
-				this.processor.after(this.span, this.isNewSpan, this.log, this.hasLog);
+				this.processor.after(this.span, this.isNewSpan, this.metadata);
 			}
 		}
 
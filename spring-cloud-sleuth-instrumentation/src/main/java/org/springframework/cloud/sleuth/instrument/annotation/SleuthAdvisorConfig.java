@@ -29,7 +29,6 @@ import org.springframework.aop.ClassFilter;
 import org.springframework.aop.IntroductionInterceptor;
 import org.springframework.aop.Pointcut;
 import org.springframework.aop.support.AbstractPointcutAdvisor;
-import org.springframework.aop.support.AopUtils;
 import org.springframework.aop.support.DynamicMethodMatcherPointcut;
 import org.springframework.aop.support.annotation.AnnotationClassFilter;
 import org.springframework.beans.BeansException;
@@ -173,7 +172,15 @@ class SleuthInterceptor implements IntroductionInterceptor, BeanFactoryAware {
 
 	private BeanFactory beanFactory;
 
-	private SleuthMethodInvocationProcessor methodInvocationProcessor;
+	private volatile SleuthMethodInvocationProcessor methodInvocationProcessor;
+
+	private SleuthMethodMetadata.Cache methodMetadata;
+
+	/**
+	 * Whether the processor is one of ours, not a subclass that might override
+	 * {@link SleuthMethodInvocationProcessor#process(MethodInvocation, NewSpan, ContinueSpan)}.
+	 */
+	private boolean builtInProcessor;
 
 	@Override
 	public Object invoke(MethodInvocation invocation) throws Throwable {
@@ -181,20 +188,30 @@ class SleuthInterceptor implements IntroductionInterceptor, BeanFactoryAware {
 		if (method == null) {
 			return invocation.proceed();
 		}
-		Method mostSpecificMethod = AopUtils.getMostSpecificMethod(method, invocation.getThis().getClass());
-		NewSpan newSpan = SleuthAnnotationUtils.findAnnotation(mostSpecificMethod, NewSpan.class);
-		ContinueSpan continueSpan = SleuthAnnotationUtils.findAnnotation(mostSpecificMethod, ContinueSpan.class);
-		if (newSpan == null && continueSpan == null) {
+		SleuthMethodInvocationProcessor processor = methodInvocationProcessor();
+		SleuthMethodMetadata metadata = this.methodMetadata.get(invocation);
+		if (!metadata.isAnnotated()) {
 			return invocation.proceed();
 		}
-		return methodInvocationProcessor().process(invocation, newSpan, continueSpan);
+		if (this.builtInProcessor) {
+			return ((AbstractSleuthMethodInvocationProcessor) processor).process(invocation, metadata);
+		}
+		return processor.process(invocation, metadata.newSpan, metadata.continueSpan);
 	}
 
 	private SleuthMethodInvocationProcessor methodInvocationProcessor() {
-		if (this.methodInvocationProcessor == null) {
-			this.methodInvocationProcessor = this.beanFactory.getBean(SleuthMethodInvocationProcessor.class);
+		SleuthMethodInvocationProcessor processor = this.methodInvocationProcessor;
+		if (processor == null) {
+			processor = this.beanFactory.getBean(SleuthMethodInvocationProcessor.class);
+			// reuse the cache of the processor, if there's one
+			this.methodMetadata = processor instanceof AbstractSleuthMethodInvocationProcessor
+					? ((AbstractSleuthMethodInvocationProcessor) processor).methodMetadata
+					: new SleuthMethodMetadata.Cache();
+			this.builtInProcessor = processor.getClass() == NonReactorSleuthMethodInvocationProcessor.class
+					|| processor.getClass() == ReactorSleuthMethodInvocationProcessor.class;
+			this.methodInvocationProcessor = processor;
 		}
-		return this.methodInvocationProcessor;
+		return processor;
 	}
 
 	@Override
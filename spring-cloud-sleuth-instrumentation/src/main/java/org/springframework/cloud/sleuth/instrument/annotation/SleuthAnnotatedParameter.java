@@ -17,10 +17,12 @@
 package org.springframework.cloud.sleuth.instrument.annotation;
 
 import org.springframework.cloud.sleuth.annotation.SpanTag;
+import org.springframework.util.StringUtils;
 
 /**
  * A container class that holds information about the parameter of the annotated method
- * argument.
+ * argument. It doesn't depend on the actual arguments so it can be computed once per
+ * method.
  *
  * @author Christian Schwerdtfeger
  * @since 1.2.0
@@ -31,12 +33,12 @@ class SleuthAnnotatedParameter {
 
 	final SpanTag annotation;
 
-	final Object argument;
+	final String tagKey;
 
-	SleuthAnnotatedParameter(int parameterIndex, SpanTag annotation, Object argument) {
+	SleuthAnnotatedParameter(int parameterIndex, SpanTag annotation) {
 		this.parameterIndex = parameterIndex;
 		this.annotation = annotation;
-		this.argument = argument;
+		this.tagKey = StringUtils.hasText(annotation.value()) ? annotation.value() : annotation.key();
 	}
 
 }
@@ -0,0 +1,124 @@
+/*
+ * Copyright 2013-2021 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.cloud.sleuth.instrument.annotation;
+
+import java.lang.reflect.Method;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.aopalliance.intercept.MethodInvocation;
+
+import org.springframework.aop.support.AopUtils;
+import org.springframework.cloud.sleuth.annotation.ContinueSpan;
+import org.springframework.cloud.sleuth.annotation.NewSpan;
+import org.springframework.core.MethodClassKey;
+import org.springframework.lang.Nullable;
+import org.springframework.util.StringUtils;
+
+/**
+ * Everything that the Sleuth annotation processing needs to know about a method invoked
+ * on a given target class. It doesn't depend on the method arguments so it's computed
+ * once and then cached.
+ *
+ * @since 3.1.11
+ */
+final class SleuthMethodMetadata {
+
+	@Nullable
+	final NewSpan newSpan;
+
+	@Nullable
+	final ContinueSpan continueSpan;
+
+	final String log;
+
+	final boolean hasLog;
+
+	final String beforeEvent;
+
+	final String afterEvent;
+
+	final String afterFailureEvent;
+
+	final String className;
+
+	final String methodName;
+
+	final SleuthAnnotatedParameter[] annotatedParameters;
+
+	private SleuthMethodMetadata(@Nullable NewSpan newSpan, @Nullable ContinueSpan continueSpan, String className,
+			String methodName, SleuthAnnotatedParameter[] annotatedParameters) {
+		this.newSpan = newSpan;
+		this.continueSpan = continueSpan;
+		this.log = continueSpan != null ? continueSpan.log() : "";
+		this.hasLog = StringUtils.hasText(this.log);
+		this.beforeEvent = this.log + ".before";
+		this.afterEvent = this.log + ".after";
+		this.afterFailureEvent = this.log + ".afterFailure";
+		this.className = className;
+		this.methodName = methodName;
+		this.annotatedParameters = annotatedParameters;
+	}
+
+	static SleuthMethodMetadata of(Method method, Class<?> targetClass) {
+		Method mostSpecificMethod = AopUtils.getMostSpecificMethod(method, targetClass);
+		NewSpan newSpan = SleuthAnnotationUtils.findAnnotation(mostSpecificMethod, NewSpan.class);
+		ContinueSpan continueSpan = SleuthAnnotationUtils.findAnnotation(mostSpecificMethod, ContinueSpan.class);
+		List<SleuthAnnotatedParameter> annotatedParameters = SpanTagAnnotationHandler
+				.findAnnotatedParameters(method, mostSpecificMethod, targetClass);
+		return new SleuthMethodMetadata(newSpan, continueSpan, targetClass.getSimpleName(), method.getName(),
+				annotatedParameters.toArray(new SleuthAnnotatedParameter[0]));
+	}
+
+	boolean isAnnotated() {
+		return this.newSpan != null || this.continueSpan != null;
+	}
+
+	/**
+	 * @return metadata with the given annotations, used when the annotations were
+	 * resolved by someone else
+	 */
+	SleuthMethodMetadata withAnnotations(@Nullable NewSpan newSpan, @Nullable ContinueSpan continueSpan) {
+		if (this.newSpan == newSpan && this.continueSpan == continueSpan) {
+			return this;
+		}
+		return new SleuthMethodMetadata(newSpan, continueSpan, this.className, this.methodName,
+				this.annotatedParameters);
+	}
+
+	/**
+	 * Cache of {@link SleuthMethodMetadata} per method and target class.
+	 */
+	static final class Cache {
+
+		private final Map<MethodClassKey, SleuthMethodMetadata> cache = new ConcurrentHashMap<>();
+
+		SleuthMethodMetadata get(MethodInvocation invocation) {
+			Method method = invocation.getMethod();
+			Class<?> targetClass = invocation.getThis().getClass();
+			MethodClassKey key = new MethodClassKey(method, targetClass);
+			SleuthMethodMetadata metadata = this.cache.get(key);
+			if (metadata == null) {
+				metadata = this.cache.computeIfAbsent(key, k -> of(method, targetClass));
+			}
+			return metadata;
+		}
+
+	}
+
+}
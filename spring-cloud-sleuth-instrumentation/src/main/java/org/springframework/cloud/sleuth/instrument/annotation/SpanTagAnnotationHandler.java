@@ -19,13 +19,15 @@ package org.springframework.cloud.sleuth.instrument.annotation;
 import java.lang.reflect.Method;
 import java.util.Arrays;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
 import org.aopalliance.intercept.MethodInvocation;
 import org.apache.commons.logging.Log;
 import org.apache.commons.logging.LogFactory;
 
-import org.springframework.aop.support.AopUtils;
 import org.springframework.beans.factory.BeanFactory;
+import org.springframework.beans.factory.ListableBeanFactory;
 import org.springframework.cloud.sleuth.SpanCustomizer;
 import org.springframework.cloud.sleuth.annotation.NoOpTagValueResolver;
 import org.springframework.cloud.sleuth.annotation.SpanTag;
@@ -51,36 +53,54 @@ class SpanTagAnnotationHandler {
 
 	private final BeanFactory beanFactory;
 
+	/**
+	 * Only singleton resolvers are cached, the others are looked up on each call.
+	 */
+	private final Map<Class<? extends TagValueResolver>, TagValueResolver> tagValueResolvers = new ConcurrentHashMap<>();
+
 	private SpanCustomizer spanCustomizer;
 
+	private TagValueExpressionResolver tagValueExpressionResolver;
+
 	SpanTagAnnotationHandler(BeanFactory beanFactory) {
 		this.beanFactory = beanFactory;
 	}
 
-	void addAnnotatedParameters(MethodInvocation pjp) {
+	void addAnnotatedParameters(MethodInvocation pjp, SleuthMethodMetadata metadata) {
+		SleuthAnnotatedParameter[] annotatedParameters = metadata.annotatedParameters;
+		if (annotatedParameters.length == 0) {
+			return;
+		}
+		Object[] arguments = pjp.getArguments();
+		for (SleuthAnnotatedParameter container : annotatedParameters) {
+			String tagValue = resolveTagValue(container.annotation, arguments[container.parameterIndex]);
+			span().tag(container.tagKey, tagValue);
+		}
+	}
+
+	static List<SleuthAnnotatedParameter> findAnnotatedParameters(Method method, Method mostSpecificMethod,
+			Class<?> targetClass) {
+		List<SleuthAnnotatedParameter> annotatedParameters = SleuthAnnotationUtils
+				.findAnnotatedParameters(mostSpecificMethod);
 		try {
-			Method method = pjp.getMethod();
-			Method mostSpecificMethod = AopUtils.getMostSpecificMethod(method, pjp.getThis().getClass());
-			List<SleuthAnnotatedParameter> annotatedParameters = SleuthAnnotationUtils
-					.findAnnotatedParameters(mostSpecificMethod, pjp.getArguments());
-			getAnnotationsFromInterfaces(pjp, mostSpecificMethod, annotatedParameters);
-			mergeAnnotatedMethodsIfNecessary(pjp, method, mostSpecificMethod, annotatedParameters);
-			addAnnotatedArguments(annotatedParameters);
+			getAnnotationsFromInterfaces(targetClass, mostSpecificMethod, annotatedParameters);
+			mergeAnnotatedMethodsIfNecessary(method, mostSpecificMethod, annotatedParameters);
 		}
 		catch (SecurityException ex) {
 			log.error("Exception occurred while trying to add annotated parameters", ex);
 		}
+		return annotatedParameters;
 	}
 
-	private void getAnnotationsFromInterfaces(MethodInvocation pjp, Method mostSpecificMethod,
+	private static void getAnnotationsFromInterfaces(Class<?> targetClass, Method mostSpecificMethod,
 			List<SleuthAnnotatedParameter> annotatedParameters) {
-		Class<?>[] implementedInterfaces = pjp.getThis().getClass().getInterfaces();
+		Class<?>[] implementedInterfaces = targetClass.getInterfaces();
 		if (implementedInterfaces.length > 0) {
 			for (Class<?> implementedInterface : implementedInterfaces) {
 				for (Method methodFromInterface : implementedInterface.getMethods()) {
 					if (methodsAreTheSame(mostSpecificMethod, methodFromInterface)) {
 						List<SleuthAnnotatedParameter> annotatedParametersForActualMethod = SleuthAnnotationUtils
-								.findAnnotatedParameters(methodFromInterface, pjp.getArguments());
+								.findAnnotatedParameters(methodFromInterface);
 						mergeAnnotatedParameters(annotatedParameters, annotatedParametersForActualMethod);
 					}
 				}
@@ -88,23 +108,23 @@ class SpanTagAnnotationHandler {
 		}
 	}
 
-	private boolean methodsAreTheSame(Method mostSpecificMethod, Method method1) {
+	private static boolean methodsAreTheSame(Method mostSpecificMethod, Method method1) {
 		return method1.getName().equals(mostSpecificMethod.getName())
 				&& Arrays.equals(method1.getParameterTypes(), mostSpecificMethod.getParameterTypes());
 	}
 
-	private void mergeAnnotatedMethodsIfNecessary(MethodInvocation pjp, Method method, Method mostSpecificMethod,
+	private static void mergeAnnotatedMethodsIfNecessary(Method method, Method mostSpecificMethod,
 			List<SleuthAnnotatedParameter> annotatedParameters) {
 		// that can happen if we have an abstraction and a concrete class that is
 		// annotated with @NewSpan annotation
 		if (!method.equals(mostSpecificMethod)) {
 			List<SleuthAnnotatedParameter> annotatedParametersForActualMethod = SleuthAnnotationUtils
-					.findAnnotatedParameters(method, pjp.getArguments());
+					.findAnnotatedParameters(method);
 			mergeAnnotatedParameters(annotatedParameters, annotatedParametersForActualMethod);
 		}
 	}
 
-	private void mergeAnnotatedParameters(List<SleuthAnnotatedParameter> annotatedParametersIndices,
+	private static void mergeAnnotatedParameters(List<SleuthAnnotatedParameter> annotatedParametersIndices,
 			List<SleuthAnnotatedParameter> annotatedParametersIndicesForActualMethod) {
 		for (SleuthAnnotatedParameter container : annotatedParametersIndicesForActualMethod) {
 			final int index = container.parameterIndex;
@@ -121,14 +141,6 @@ class SpanTagAnnotationHandler {
 		}
 	}
 
-	private void addAnnotatedArguments(List<SleuthAnnotatedParameter> toBeAdded) {
-		for (SleuthAnnotatedParameter container : toBeAdded) {
-			String tagValue = resolveTagValue(container.annotation, container.argument);
-			String tagKey = resolveTagKey(container);
-			span().tag(tagKey, tagValue);
-		}
-	}
-
 	private SpanCustomizer span() {
 		if (this.spanCustomizer == null) {
 			this.spanCustomizer = this.beanFactory.getBean(SpanCustomizer.class);
@@ -136,20 +148,20 @@ class SpanTagAnnotationHandler {
 		return this.spanCustomizer;
 	}
 
-	private String resolveTagKey(SleuthAnnotatedParameter container) {
-		return StringUtils.hasText(container.annotation.value()) ? container.annotation.value()
-				: container.annotation.key();
+	private TagValueExpressionResolver tagValueExpressionResolver() {
+		if (this.tagValueExpressionResolver == null) {
+			this.tagValueExpressionResolver = this.beanFactory.getBean(TagValueExpressionResolver.class);
+		}
+		return this.tagValueExpressionResolver;
 	}
 
 	String resolveTagValue(SpanTag annotation, Object argument) {
 		String value = null;
 		if (annotation.resolver() != NoOpTagValueResolver.class) {
-			TagValueResolver tagValueResolver = this.beanFactory.getBean(annotation.resolver());
-			value = tagValueResolver.resolve(argument);
+			value = tagValueResolver(annotation.resolver()).resolve(argument);
 		}
 		else if (StringUtils.hasText(annotation.expression())) {
-			value = this.beanFactory.getBean(TagValueExpressionResolver.class).resolve(annotation.expression(),
-					argument);
+			value = tagValueExpressionResolver().resolve(annotation.expression(), argument);
 		}
 		else if (argument != null) {
 			value = argument.toString();
@@ -157,4 +169,24 @@ class SpanTagAnnotationHandler {
 		return value == null ? "" : value;
 	}
 
+	private TagValueResolver tagValueResolver(Class<? extends TagValueResolver> type) {
+		TagValueResolver tagValueResolver = this.tagValueResolvers.get(type);
+		if (tagValueResolver != null) {
+			return tagValueResolver;
+		}
+		tagValueResolver = this.beanFactory.getBean(type);
+		if (isSingleton(type)) {
+			this.tagValueResolvers.put(type, tagValueResolver);
+		}
+		return tagValueResolver;
+	}
+
+	private boolean isSingleton(Class<? extends TagValueResolver> type) {
+		if (!(this.beanFactory instanceof ListableBeanFactory)) {
+			return false;
+		}
+		String[] names = ((ListableBeanFactory) this.beanFactory).getBeanNamesForType(type);
+		return names.length == 1 && this.beanFactory.isSingleton(names[0]);
+	}
+
 }
@@ -20,15 +20,22 @@ import org.apache.commons.logging.Log;
 import org.apache.commons.logging.LogFactory;
 
 import org.springframework.cloud.sleuth.annotation.TagValueExpressionResolver;
+import org.springframework.expression.EvaluationContext;
 import org.springframework.expression.Expression;
 import org.springframework.expression.ExpressionParser;
+import org.springframework.expression.spel.SpelCompilerMode;
+import org.springframework.expression.spel.SpelParserConfiguration;
 import org.springframework.expression.spel.standard.SpelExpressionParser;
 import org.springframework.expression.spel.support.SimpleEvaluationContext;
+import org.springframework.util.ConcurrentLruCache;
 
 /**
  * Uses SPEL to evaluate the expression. If an exception is thrown will return the
  * {@code toString()} of the parameter.
  *
+ * Parsed expressions are kept in a bounded cache keyed by the expression. They are
+ * compiled once they got evaluated (if they can be compiled at all).
+ *
  * @author Marcin Grzejszczak
  * @since 1.2.0
  */
@@ -36,13 +43,32 @@ public class SpelTagValueExpressionResolver implements TagValueExpressionResolve
 
 	private static final Log log = LogFactory.getLog(SpelTagValueExpressionResolver.class);
 
+	private static final int DEFAULT_CACHE_SIZE = 256;
+
+	private final EvaluationContext context = SimpleEvaluationContext.forReadOnlyDataBinding().build();
+
+	private final ConcurrentLruCache<String, Expression> expressions;
+
+	public SpelTagValueExpressionResolver() {
+		this(DEFAULT_CACHE_SIZE);
+	}
+
+	/**
+	 * @param cacheSize maximum number of parsed expressions to keep
+	 * @since 3.1.11
+	 */
+	public SpelTagValueExpressionResolver(int cacheSize) {
+		// MIXED falls back to interpretation when the types of the parameters change
+		ExpressionParser expressionParser = new SpelExpressionParser(
+				new SpelParserConfiguration(SpelCompilerMode.MIXED, getClass().getClassLoader()));
+		this.expressions = new ConcurrentLruCache<>(cacheSize, expressionParser::parseExpression);
+	}
+
 	@Override
 	public String resolve(String expression, Object parameter) {
 		try {
-			SimpleEvaluationContext context = SimpleEvaluationContext.forReadOnlyDataBinding().build();
-			ExpressionParser expressionParser = new SpelExpressionParser();
-			Expression expressionToEvaluate = expressionParser.parseExpression(expression);
-			return expressionToEvaluate.getValue(context, parameter, String.class);
+			Expression expressionToEvaluate = this.expressions.get(expression);
+			return expressionToEvaluate.getValue(this.context, parameter, String.class);
 		}
 		catch (Exception ex) {
 			log.error("Exception occurred while tying to evaluate the SPEL expression [" + expression + "]", ex);
@@ -0,0 +1,163 @@
+/*
+ * Copyright 2013-2023 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.cloud.sleuth.instrument.async;
+
+import java.lang.ref.Reference;
+import java.lang.ref.ReferenceQueue;
+import java.lang.ref.WeakReference;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.springframework.cloud.sleuth.Span;
+import org.springframework.cloud.sleuth.TraceContext;
+import org.springframework.cloud.sleuth.Tracer;
+
+/**
+ * Single span shared by the tasks submitted with the same parent span, used in the
+ * {@link ExecutorTracingMode#BATCHED_PER_BURST} mode. Tasks join the batch when they are
+ * submitted and leave it when they complete. The span ends when the last pending task
+ * leaves the batch, tasks submitted afterwards start a new batch.
+ *
+ * @since 3.1.11
+ */
+final class BatchedTaskSpan {
+
+	private static final int CLOSED = -1;
+
+	private final Batches batches;
+
+	private final TraceContext parentContext;
+
+	final Span span;
+
+	private final AtomicInteger pendingTasks = new AtomicInteger();
+
+	private final LongAdder taskCount = new LongAdder();
+
+	private final LongAdder totalDurationNanos = new LongAdder();
+
+	private final AtomicLong maxDurationNanos = new AtomicLong();
+
+	private BatchedTaskSpan(Batches batches, TraceContext parentContext, Span span) {
+		this.batches = batches;
+		this.parentContext = parentContext;
+		this.span = span;
+	}
+
+	private boolean enter() {
+		while (true) {
+			int pending = this.pendingTasks.get();
+			if (pending == CLOSED) {
+				return false;
+			}
+			if (this.pendingTasks.compareAndSet(pending, pending + 1)) {
+				return true;
+			}
+		}
+	}
+
+	/**
+	 * Records a completed task and ends the span if it was the last pending one.
+	 * @param durationNanos duration of the task
+	 */
+	void leave(long durationNanos) {
+		this.taskCount.increment();
+		this.totalDurationNanos.add(durationNanos);
+		this.maxDurationNanos.accumulateAndGet(durationNanos, Math::max);
+		if (this.pendingTasks.decrementAndGet() == 0 && this.pendingTasks.compareAndSet(0, CLOSED)) {
+			this.batches.remove(this);
+			end();
+		}
+	}
+
+	private void end() {
+		this.span.tag(SleuthAsyncSpan.BatchTags.TASK_COUNT.getKey(), String.valueOf(this.taskCount.sum()));
+		this.span.tag(SleuthAsyncSpan.BatchTags.TOTAL_DURATION.getKey(),
+				String.valueOf(TimeUnit.NANOSECONDS.toMicros(this.totalDurationNanos.sum())));
+		this.span.tag(SleuthAsyncSpan.BatchTags.MAX_DURATION.getKey(),
+				String.valueOf(TimeUnit.NANOSECONDS.toMicros(this.maxDurationNanos.get())));
+		this.span.end();
+	}
+
+	/**
+	 * Open batches of a single executor, per parent context. A batch is strongly
+	 * referenced only by its pending tasks, so batches whose tasks never ran (e.g. got
+	 * cancelled) get garbage collected and their entries are purged when the next batch
+	 * is joined.
+	 */
+	static final class Batches {
+
+		private final ConcurrentMap<TraceContext, BatchReference> batches = new ConcurrentHashMap<>();
+
+		private final ReferenceQueue<BatchedTaskSpan> collectedBatches = new ReferenceQueue<>();
+
+		/**
+		 * Joins the open batch of the parent span or starts a new one.
+		 * @param tracer tracer
+		 * @param parent parent span
+		 * @param name name of the batch span
+		 * @return batch the task has joined
+		 */
+		BatchedTaskSpan join(Tracer tracer, Span parent, String name) {
+			purgeCollectedBatches();
+			BatchedTaskSpan[] joined = new BatchedTaskSpan[1];
+			this.batches.compute(parent.context(), (parentContext, reference) -> {
+				BatchedTaskSpan batch = reference != null ? reference.get() : null;
+				if (batch != null && batch.enter()) {
+					joined[0] = batch;
+					return reference;
+				}
+				Span span = SleuthAsyncSpan.ASYNC_BATCH_SPAN.wrapIfAssertionsEnabled(tracer.nextSpan(parent))
+						.name(name).start();
+				batch = new BatchedTaskSpan(this, parentContext, span);
+				batch.enter();
+				joined[0] = batch;
+				return new BatchReference(parentContext, batch, this.collectedBatches);
+			});
+			return joined[0];
+		}
+
+		private void purgeCollectedBatches() {
+			Reference<? extends BatchedTaskSpan> collected;
+			while ((collected = this.collectedBatches.poll()) != null) {
+				this.batches.remove(((BatchReference) collected).parentContext, collected);
+			}
+		}
+
+		private void remove(BatchedTaskSpan batch) {
+			this.batches.computeIfPresent(batch.parentContext,
+					(parentContext, reference) -> reference.get() == batch ? null : reference);
+		}
+
+	}
+
+	private static final class BatchReference extends WeakReference<BatchedTaskSpan> {
+
+		private final TraceContext parentContext;
+
+		private BatchReference(TraceContext parentContext, BatchedTaskSpan batch,
+				ReferenceQueue<BatchedTaskSpan> queue) {
+			super(batch, queue);
+			this.parentContext = parentContext;
+		}
+
+	}
+
+}
@@ -0,0 +1,87 @@
+/*
+ * Copyright 2013-2023 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.cloud.sleuth.instrument.async;
+
+import org.springframework.beans.factory.BeanFactory;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.config.ConfigurableListableBeanFactory;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.lang.Nullable;
+
+/**
+ * Describes how tasks submitted to an instrumented executor are traced.
+ *
+ * @since 3.1.11
+ * @see ExecutorTracingModeResolver
+ */
+public enum ExecutorTracingMode {
+
+	/**
+	 * Each task runs in its own child span. This is the default.
+	 */
+	SPAN,
+
+	/**
+	 * Only the trace context of the submitting thread is propagated to the task, no span
+	 * is created. Spans created by the task become children of the submitter's span.
+	 */
+	CONTEXT_ONLY,
+
+	/**
+	 * Tasks submitted to the same executor with the same parent span share a single child
+	 * span, as long as earlier tasks of that parent are still pending. The span records
+	 * the number of tasks and their total and max durations and ends when the last
+	 * pending task completes, so it covers a burst of tasks rather than the whole parent
+	 * span: a task submitted after that starts a new span. Tasks that never run (e.g.
+	 * cancelled or rejected ones) keep the span open. Tasks submitted without a parent
+	 * span run in their own spans as with {@link #SPAN}.
+	 */
+	BATCHED_PER_BURST;
+
+	/**
+	 * Resolves the mode of the given executor bean.
+	 * @param beanFactory bean factory
+	 * @param beanName name of the executor bean
+	 * @return mode or {@code null} if there is no {@link ExecutorTracingModeResolver} and
+	 * bean definitions can still be registered
+	 */
+	@Nullable
+	static ExecutorTracingMode forBean(@Nullable BeanFactory beanFactory, @Nullable String beanName) {
+		if (beanFactory == null) {
+			return SPAN;
+		}
+		ObjectProvider<ExecutorTracingModeResolver> provider = beanFactory
+				.getBeanProvider(ExecutorTracingModeResolver.class);
+		ExecutorTracingModeResolver resolver = provider != null ? provider.getIfAvailable() : null;
+		if (resolver != null) {
+			return resolver.resolve(beanName);
+		}
+		// once no definitions can be added the default can be cached by the wrappers
+		return definitionsFrozen(beanFactory) ? SPAN : null;
+	}
+
+	private static boolean definitionsFrozen(BeanFactory beanFactory) {
+		if (beanFactory instanceof ConfigurableApplicationContext) {
+			ConfigurableApplicationContext context = (ConfigurableApplicationContext) beanFactory;
+			return context.isActive() && context.getBeanFactory().isConfigurationFrozen();
+		}
+		if (beanFactory instanceof ConfigurableListableBeanFactory) {
+			return ((ConfigurableListableBeanFactory) beanFactory).isConfigurationFrozen();
+		}
+		return true;
+	}
+
+}
@@ -0,0 +1,34 @@
+/*
+ * Copyright 2013-2023 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.cloud.sleuth.instrument.async;
+
+import org.springframework.lang.Nullable;
+
+/**
+ * Resolves the {@link ExecutorTracingMode} of an instrumented executor.
+ *
+ * @since 3.1.11
+ */
+@FunctionalInterface
+public interface ExecutorTracingModeResolver {
+
+	/**
+	 * @param beanName name of the executor bean or {@code null} if unknown
+	 * @return tracing mode of the executor
+	 */
+	ExecutorTracingMode resolve(@Nullable String beanName);
+
+}
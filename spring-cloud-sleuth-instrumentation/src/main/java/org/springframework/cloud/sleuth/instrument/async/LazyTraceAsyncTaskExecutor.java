@@ -57,6 +57,10 @@ public class LazyTraceAsyncTaskExecutor implements AsyncTaskExecutor {
 
 	private SpanNamer spanNamer;
 
+	private ExecutorTracingMode tracingMode;
+
+	private final BatchedTaskSpan.Batches batches = new BatchedTaskSpan.Batches();
+
 	public LazyTraceAsyncTaskExecutor(BeanFactory beanFactory, AsyncTaskExecutor delegate) {
 		this.beanFactory = beanFactory;
 		this.delegate = delegate;
@@ -95,7 +99,7 @@ public class LazyTraceAsyncTaskExecutor implements AsyncTaskExecutor {
 	public void execute(Runnable task) {
 		Runnable taskToRun = task;
 		if (!ContextUtil.isContextUnusable(this.beanFactory)) {
-			taskToRun = new TraceRunnable(tracing(), spanNamer(), task, this.beanName);
+			taskToRun = new TraceRunnable(tracing(), spanNamer(), task, this.beanName, tracingMode(), this.batches);
 		}
 		this.delegate.execute(taskToRun);
 	}
@@ -104,7 +108,7 @@ public class LazyTraceAsyncTaskExecutor implements AsyncTaskExecutor {
 	public void execute(Runnable task, long startTimeout) {
 		Runnable taskToRun = task;
 		if (!ContextUtil.isContextUnusable(this.beanFactory)) {
-			taskToRun = new TraceRunnable(tracing(), spanNamer(), task, this.beanName);
+			taskToRun = new TraceRunnable(tracing(), spanNamer(), task, this.beanName, tracingMode(), this.batches);
 		}
 		this.delegate.execute(taskToRun, startTimeout);
 	}
@@ -113,7 +117,7 @@ public class LazyTraceAsyncTaskExecutor implements AsyncTaskExecutor {
 	public Future<?> submit(Runnable task) {
 		Runnable taskToRun = task;
 		if (!ContextUtil.isContextUnusable(this.beanFactory)) {
-			taskToRun = new TraceRunnable(tracing(), spanNamer(), task, this.beanName);
+			taskToRun = new TraceRunnable(tracing(), spanNamer(), task, this.beanName, tracingMode(), this.batches);
 		}
 		return this.delegate.submit(taskToRun);
 	}
@@ -122,7 +126,7 @@ public class LazyTraceAsyncTaskExecutor implements AsyncTaskExecutor {
 	public <T> Future<T> submit(Callable<T> task) {
 		Callable<T> taskToRun = task;
 		if (!ContextUtil.isContextUnusable(this.beanFactory)) {
-			taskToRun = new TraceCallable<>(tracing(), spanNamer(), task, this.beanName);
+			taskToRun = new TraceCallable<>(tracing(), spanNamer(), task, this.beanName, tracingMode(), this.batches);
 		}
 		return this.delegate.submit(taskToRun);
 	}
@@ -153,4 +157,12 @@ public class LazyTraceAsyncTaskExecutor implements AsyncTaskExecutor {
 		return this.tracing;
 	}
 
+	// the resolver might not be ready yet, until then tasks are traced in their own spans
+	private ExecutorTracingMode tracingMode() {
+		if (this.tracingMode == null) {
+			this.tracingMode = ExecutorTracingMode.forBean(this.beanFactory, this.beanName);
+		}
+		return this.tracingMode;
+	}
+
 }
@@ -54,6 +54,10 @@ public class LazyTraceExecutor implements Executor {
 
 	private SpanNamer spanNamer;
 
+	private ExecutorTracingMode tracingMode;
+
+	private final BatchedTaskSpan.Batches batches = new BatchedTaskSpan.Batches();
+
 	public LazyTraceExecutor(BeanFactory beanFactory, Executor delegate) {
 		this.beanFactory = beanFactory;
 		this.delegate = delegate;
@@ -102,7 +106,8 @@ public class LazyTraceExecutor implements Executor {
 				return;
 			}
 		}
-		this.delegate.execute(new TraceRunnable(this.tracer, spanNamer(), command, this.beanName));
+		this.delegate.execute(
+				new TraceRunnable(this.tracer, spanNamer(), command, this.beanName, tracingMode(), this.batches));
 	}
 
 	// due to some race conditions trace keys might not be ready yet
@@ -119,4 +124,12 @@ public class LazyTraceExecutor implements Executor {
 		return this.spanNamer;
 	}
 
+	// the resolver might not be ready yet, until then tasks are traced in their own spans
+	private ExecutorTracingMode tracingMode() {
+		if (this.tracingMode == null) {
+			this.tracingMode = ExecutorTracingMode.forBean(this.beanFactory, this.beanName);
+		}
+		return this.tracingMode;
+	}
+
 }
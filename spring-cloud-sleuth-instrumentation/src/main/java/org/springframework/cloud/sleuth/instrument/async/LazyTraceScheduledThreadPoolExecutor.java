@@ -85,6 +85,10 @@ class LazyTraceScheduledThreadPoolExecutor extends ScheduledThreadPoolExecutor {
 
 	private SpanNamer spanNamer;
 
+	private ExecutorTracingMode tracingMode;
+
+	private final BatchedTaskSpan.Batches batches = new BatchedTaskSpan.Batches();
+
 	LazyTraceScheduledThreadPoolExecutor(int corePoolSize, BeanFactory beanFactory,
 			ScheduledThreadPoolExecutor delegate, String beanName) {
 		super(corePoolSize);
@@ -197,7 +201,7 @@ class LazyTraceScheduledThreadPoolExecutor extends ScheduledThreadPoolExecutor {
 		if (isContextUnusable()) {
 			return delegate;
 		}
-		return new TraceRunnable(tracing(), spanNamer(), delegate, this.beanName);
+		return new TraceRunnable(tracing(), spanNamer(), delegate, this.beanName, tracingMode(), this.batches);
 	}
 
 	boolean isContextUnusable() {
@@ -208,7 +212,7 @@ class LazyTraceScheduledThreadPoolExecutor extends ScheduledThreadPoolExecutor {
 		if (isContextUnusable()) {
 			return delegate;
 		}
-		return new TraceCallable<>(tracing(), spanNamer(), delegate, this.beanName);
+		return new TraceCallable<>(tracing(), spanNamer(), delegate, this.beanName, tracingMode(), this.batches);
 	}
 
 	@Override
@@ -549,4 +553,12 @@ class LazyTraceScheduledThreadPoolExecutor extends ScheduledThreadPoolExecutor {
 		return this.spanNamer;
 	}
 
+	// the resolver might not be ready yet, until then tasks are traced in their own spans
+	private ExecutorTracingMode tracingMode() {
+		if (this.tracingMode == null) {
+			this.tracingMode = ExecutorTracingMode.forBean(this.beanFactory, this.beanName);
+		}
+		return this.tracingMode;
+	}
+
 }
@@ -61,6 +61,10 @@ public class LazyTraceThreadPoolTaskExecutor extends ThreadPoolTaskExecutor {
 
 	private SpanNamer spanNamer;
 
+	private ExecutorTracingMode tracingMode;
+
+	private final BatchedTaskSpan.Batches batches = new BatchedTaskSpan.Batches();
+
 	public LazyTraceThreadPoolTaskExecutor(BeanFactory beanFactory, ThreadPoolTaskExecutor delegate) {
 		this.beanFactory = beanFactory;
 		this.delegate = delegate;
@@ -215,7 +219,7 @@ public class LazyTraceThreadPoolTaskExecutor extends ThreadPoolTaskExecutor {
 			return runnable;
 		}
 		return ContextUtil.isContextUnusable(this.beanFactory) ? runnable
-				: new TraceRunnable(tracer(), spanNamer(), runnable, this.beanName);
+				: new TraceRunnable(tracer(), spanNamer(), runnable, this.beanName, tracingMode(), this.batches);
 	}
 
 	private <V> Callable<V> wrap(Callable<V> callable) {
@@ -223,7 +227,7 @@ public class LazyTraceThreadPoolTaskExecutor extends ThreadPoolTaskExecutor {
 			return callable;
 		}
 		return ContextUtil.isContextUnusable(this.beanFactory) ? callable
-				: new TraceCallable<>(tracer(), spanNamer(), callable, this.beanName);
+				: new TraceCallable<>(tracer(), spanNamer(), callable, this.beanName, tracingMode(), this.batches);
 	}
 
 	@Override
@@ -341,4 +345,12 @@ public class LazyTraceThreadPoolTaskExecutor extends ThreadPoolTaskExecutor {
 		return this.spanNamer;
 	}
 
+	// the resolver might not be ready yet, until then tasks are traced in their own spans
+	private ExecutorTracingMode tracingMode() {
+		if (this.tracingMode == null) {
+			this.tracingMode = ExecutorTracingMode.forBean(this.beanFactory, this.beanName);
+		}
+		return this.tracingMode;
+	}
+
 }
@@ -84,6 +84,10 @@ class LazyTraceThreadPoolTaskScheduler extends ThreadPoolTaskScheduler {
 
 	private SpanNamer spanNamer;
 
+	private ExecutorTracingMode tracingMode;
+
+	private final BatchedTaskSpan.Batches batches = new BatchedTaskSpan.Batches();
+
 	LazyTraceThreadPoolTaskScheduler(BeanFactory beanFactory, ThreadPoolTaskScheduler delegate, String beanName) {
 		this.beanFactory = beanFactory;
 		this.delegate = delegate;
@@ -128,7 +132,7 @@ class LazyTraceThreadPoolTaskScheduler extends ThreadPoolTaskScheduler {
 		if (delegate instanceof TraceRunnable) {
 			return delegate;
 		}
-		return new TraceRunnable(tracing(), spanNamer(), delegate, this.beanName);
+		return new TraceRunnable(tracing(), spanNamer(), delegate, this.beanName, tracingMode(), this.batches);
 	}
 
 	private <V> Callable<V> traceCallableWhenContextReady(Callable<V> delegate) {
@@ -138,7 +142,7 @@ class LazyTraceThreadPoolTaskScheduler extends ThreadPoolTaskScheduler {
 		if (delegate instanceof TraceCallable) {
 			return delegate;
 		}
-		return new TraceCallable<>(tracing(), spanNamer(), delegate, this.beanName);
+		return new TraceCallable<>(tracing(), spanNamer(), delegate, this.beanName, tracingMode(), this.batches);
 	}
 
 	@Override
@@ -455,4 +459,12 @@ class LazyTraceThreadPoolTaskScheduler extends ThreadPoolTaskScheduler {
 		return this.spanNamer;
 	}
 
+	// the resolver might not be ready yet, until then tasks are traced in their own spans
+	private ExecutorTracingMode tracingMode() {
+		if (this.tracingMode == null) {
+			this.tracingMode = ExecutorTracingMode.forBean(this.beanFactory, this.beanName);
+		}
+		return this.tracingMode;
+	}
+
 }
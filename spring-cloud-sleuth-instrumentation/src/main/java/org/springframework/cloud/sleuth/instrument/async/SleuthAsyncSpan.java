@@ -58,6 +58,23 @@ enum SleuthAsyncSpan implements DocumentedSpan {
 			return "%s";
 		}
 
+	},
+
+	/**
+	 * Span shared by a burst of tasks submitted with the same parent span to an executor
+	 * that traces tasks in batches per burst.
+	 */
+	ASYNC_BATCH_SPAN {
+		@Override
+		public String getName() {
+			return "%s";
+		}
+
+		@Override
+		public TagKey[] getTagKeys() {
+			return BatchTags.values();
+		}
+
 	};
 
 	enum Tags implements TagKey {
@@ -84,4 +101,38 @@ enum SleuthAsyncSpan implements DocumentedSpan {
 
 	}
 
+	enum BatchTags implements TagKey {
+
+		/**
+		 * Number of tasks that completed within the batch.
+		 */
+		TASK_COUNT {
+			@Override
+			public String getKey() {
+				return "async.task-count";
+			}
+		},
+
+		/**
+		 * Sum of the durations of the tasks in microseconds.
+		 */
+		TOTAL_DURATION {
+			@Override
+			public String getKey() {
+				return "async.total-duration-micros";
+			}
+		},
+
+		/**
+		 * Duration of the longest task in microseconds.
+		 */
+		MAX_DURATION {
+			@Override
+			public String getKey() {
+				return "async.max-duration-micros";
+			}
+		}
+
+	}
+
 }
@@ -26,7 +26,6 @@ import org.aspectj.lang.reflect.MethodSignature;
 import org.springframework.cloud.sleuth.Span;
 import org.springframework.cloud.sleuth.SpanNamer;
 import org.springframework.cloud.sleuth.Tracer;
-import org.springframework.cloud.sleuth.docs.AssertingSpan;
 import org.springframework.cloud.sleuth.internal.SpanNameUtil;
 import org.springframework.util.ReflectionUtils;
 
@@ -57,14 +56,14 @@ public class TraceAsyncAspect {
 		if (span == null) {
 			span = this.tracer.nextSpan();
 		}
-		AssertingSpan assertingSpan = SleuthAsyncSpan.ASYNC_ANNOTATION_SPAN.wrap(span).name(spanName);
-		try (Tracer.SpanInScope ws = this.tracer.withSpan(assertingSpan.start())) {
-			assertingSpan.tag(SleuthAsyncSpan.Tags.CLASS, pjp.getTarget().getClass().getSimpleName())
-					.tag(SleuthAsyncSpan.Tags.METHOD, pjp.getSignature().getName());
+		Span asyncSpan = SleuthAsyncSpan.ASYNC_ANNOTATION_SPAN.wrapIfAssertionsEnabled(span).name(spanName);
+		try (Tracer.SpanInScope ws = this.tracer.withSpan(asyncSpan.start())) {
+			asyncSpan.tag(SleuthAsyncSpan.Tags.CLASS.getKey(), pjp.getTarget().getClass().getSimpleName())
+					.tag(SleuthAsyncSpan.Tags.METHOD.getKey(), pjp.getSignature().getName());
 			return pjp.proceed();
 		}
 		finally {
-			assertingSpan.end();
+			asyncSpan.end();
 		}
 	}
 
@@ -19,6 +19,7 @@ package org.springframework.cloud.sleuth.instrument.async;
 import org.springframework.cloud.sleuth.Span;
 import org.springframework.cloud.sleuth.SpanNamer;
 import org.springframework.cloud.sleuth.Tracer;
+import org.springframework.lang.Nullable;
 
 /**
  * Runnable that passes Span between threads. The Span name is taken either from the
@@ -43,23 +44,66 @@ public class TraceRunnable implements Runnable {
 
 	private final Span parent;
 
-	private final String spanName;
+	private final SpanNamer spanNamer;
+
+	private String spanName;
+
+	private final ExecutorTracingMode tracingMode;
+
+	private final BatchedTaskSpan.Batches batches;
+
+	private BatchedTaskSpan batch;
 
 	public TraceRunnable(Tracer tracer, SpanNamer spanNamer, Runnable delegate) {
 		this(tracer, spanNamer, delegate, null);
 	}
 
 	public TraceRunnable(Tracer tracer, SpanNamer spanNamer, Runnable delegate, String name) {
+		this(tracer, spanNamer, delegate, name, null, null);
+	}
+
+	/**
+	 * @param tracer tracer
+	 * @param spanNamer span namer
+	 * @param delegate task to wrap
+	 * @param name span name or {@code null} to resolve it with the {@link SpanNamer}
+	 * @param tracingMode how the task gets traced, {@code null} means
+	 * {@link ExecutorTracingMode#SPAN}
+	 * @param batches open batches of the executor, required in the
+	 * {@link ExecutorTracingMode#BATCHED_PER_BURST} mode
+	 */
+	TraceRunnable(Tracer tracer, SpanNamer spanNamer, Runnable delegate, String name,
+			@Nullable ExecutorTracingMode tracingMode, @Nullable BatchedTaskSpan.Batches batches) {
 		this.tracer = tracer;
 		this.delegate = delegate;
 		this.parent = tracer.currentSpan();
-		this.spanName = name != null ? name : spanNamer.name(delegate, DEFAULT_SPAN_NAME);
+		this.spanNamer = spanNamer;
+		this.spanName = name;
+		this.tracingMode = tracingMode != null ? tracingMode : ExecutorTracingMode.SPAN;
+		this.batches = batches;
+		if (this.tracingMode == ExecutorTracingMode.BATCHED_PER_BURST && this.parent != null) {
+			// joining on submission so that the batch stays open until all tasks are done
+			this.batch = batches.join(tracer, this.parent, spanName());
+		}
 	}
 
 	@Override
 	public void run() {
-		Span childSpan = SleuthAsyncSpan.ASYNC_RUNNABLE_SPAN.wrap(this.tracer.nextSpan(this.parent))
-				.name(this.spanName);
+		if (this.tracingMode == ExecutorTracingMode.CONTEXT_ONLY) {
+			try (Tracer.SpanInScope ws = this.tracer.withSpan(this.parent)) {
+				this.delegate.run();
+			}
+			return;
+		}
+		if (this.tracingMode == ExecutorTracingMode.BATCHED_PER_BURST && this.parent != null) {
+			runInBatch();
+			return;
+		}
+		Span childSpan = SleuthAsyncSpan.ASYNC_RUNNABLE_SPAN.wrapIfAssertionsEnabled(this.tracer.nextSpan(this.parent));
+		if (!childSpan.isNoop()) {
+			// no need to resolve the name of a span that won't be recorded
+			childSpan.name(spanName());
+		}
 		try (Tracer.SpanInScope ws = this.tracer.withSpan(childSpan.start())) {
 			this.delegate.run();
 		}
@@ -72,6 +116,26 @@ public class TraceRunnable implements Runnable {
 		}
 	}
 
+	private void runInBatch() {
+		BatchedTaskSpan batch = this.batch;
+		// a batch is left only once, re-runs of the same task (e.g. periodic ones) join anew
+		this.batch = null;
+		if (batch == null) {
+			batch = this.batches.join(this.tracer, this.parent, spanName());
+		}
+		long start = System.nanoTime();
+		try (Tracer.SpanInScope ws = this.tracer.withSpan(batch.span)) {
+			this.delegate.run();
+		}
+		catch (Exception | Error e) {
+			batch.span.error(e);
+			throw e;
+		}
+		finally {
+			batch.leave(System.nanoTime() - start);
+		}
+	}
+
 	/**
 	 * @return delegate {@link Runnable}
 	 */
@@ -79,4 +143,13 @@ public class TraceRunnable implements Runnable {
 		return delegate;
 	}
 
+	private String spanName() {
+		String spanName = this.spanName;
+		if (spanName == null) {
+			spanName = this.spanNamer.name(this.delegate, DEFAULT_SPAN_NAME);
+			this.spanName = spanName;
+		}
+		return spanName;
+	}
+
 }
@@ -52,6 +52,10 @@ public class TraceableExecutorService implements ExecutorService {
 
 	SpanNamer spanNamer;
 
+	ExecutorTracingMode tracingMode;
+
+	final BatchedTaskSpan.Batches batches = new BatchedTaskSpan.Batches();
+
 	BeanFactory beanFactory;
 
 	public TraceableExecutorService(BeanFactory beanFactory, final ExecutorService delegate) {
@@ -88,7 +92,7 @@ public class TraceableExecutorService implements ExecutorService {
 	@Override
 	public void execute(Runnable command) {
 		this.delegate.execute(ContextUtil.isContextUnusable(this.beanFactory) ? command
-				: new TraceRunnable(tracer(), spanNamer(), command, this.spanName));
+				: new TraceRunnable(tracer(), spanNamer(), command, this.spanName, tracingMode(), this.batches));
 	}
 
 	@Override
@@ -129,19 +133,19 @@ public class TraceableExecutorService implements ExecutorService {
 	@Override
 	public <T> Future<T> submit(Callable<T> task) {
 		return this.delegate.submit(ContextUtil.isContextUnusable(this.beanFactory) ? task
-				: new TraceCallable<>(tracer(), spanNamer(), task, this.spanName));
+				: new TraceCallable<>(tracer(), spanNamer(), task, this.spanName, tracingMode(), this.batches));
 	}
 
 	@Override
 	public <T> Future<T> submit(Runnable task, T result) {
 		return this.delegate.submit(ContextUtil.isContextUnusable(this.beanFactory) ? task
-				: new TraceRunnable(tracer(), spanNamer(), task, this.spanName), result);
+				: new TraceRunnable(tracer(), spanNamer(), task, this.spanName, tracingMode(), this.batches), result);
 	}
 
 	@Override
 	public Future<?> submit(Runnable task) {
 		return this.delegate.submit(ContextUtil.isContextUnusable(this.beanFactory) ? task
-				: new TraceRunnable(tracer(), spanNamer(), task, this.spanName));
+				: new TraceRunnable(tracer(), spanNamer(), task, this.spanName, tracingMode(), this.batches));
 	}
 
 	@Override
@@ -174,7 +178,7 @@ public class TraceableExecutorService implements ExecutorService {
 		List<Callable<T>> ts = new ArrayList<>();
 		for (Callable<T> task : tasks) {
 			if (!(task instanceof TraceCallable)) {
-				ts.add(new TraceCallable<>(tracer(), spanNamer(), task, this.spanName));
+				ts.add(new TraceCallable<>(tracer(), spanNamer(), task, this.spanName, tracingMode(), this.batches));
 			}
 		}
 		return ts;
@@ -194,4 +198,12 @@ public class TraceableExecutorService implements ExecutorService {
 		return this.spanNamer;
 	}
 
+	// the resolver might not be ready yet, until then tasks are traced in their own spans
+	ExecutorTracingMode tracingMode() {
+		if (this.tracingMode == null) {
+			this.tracingMode = ExecutorTracingMode.forBean(this.beanFactory, this.spanName);
+		}
+		return this.tracingMode;
+	}
+
 }
@@ -76,13 +76,15 @@ public class TraceableScheduledExecutorService extends TraceableExecutorService
 	@Override
 	public ScheduledFuture<?> schedule(Runnable command, long delay, TimeUnit unit) {
 		return getScheduledExecutorService().schedule(ContextUtil.isContextUnusable(this.beanFactory) ? command
-				: new TraceRunnable(tracer(), spanNamer(), command, this.spanName), delay, unit);
+				: new TraceRunnable(tracer(), spanNamer(), command, this.spanName, tracingMode(), this.batches),
+				delay, unit);
 	}
 
 	@Override
 	public <V> ScheduledFuture<V> schedule(Callable<V> callable, long delay, TimeUnit unit) {
 		return getScheduledExecutorService().schedule(ContextUtil.isContextUnusable(this.beanFactory) ? callable
-				: new TraceCallable<>(tracer(), spanNamer(), callable, this.spanName), delay, unit);
+				: new TraceCallable<>(tracer(), spanNamer(), callable, this.spanName, tracingMode(), this.batches),
+				delay, unit);
 	}
 
 	@Override
@@ -90,7 +92,8 @@ public class TraceableScheduledExecutorService extends TraceableExecutorService
 		return getScheduledExecutorService()
 				.scheduleAtFixedRate(
 						ContextUtil.isContextUnusable(this.beanFactory) ? command
-								: new TraceRunnable(tracer(), spanNamer(), command, this.spanName),
+								: new TraceRunnable(tracer(), spanNamer(), command, this.spanName, tracingMode(),
+										this.batches),
 						initialDelay, period, unit);
 	}
 
@@ -99,7 +102,8 @@ public class TraceableScheduledExecutorService extends TraceableExecutorService
 		return getScheduledExecutorService()
 				.scheduleWithFixedDelay(
 						ContextUtil.isContextUnusable(this.beanFactory) ? command
-								: new TraceRunnable(tracer(), spanNamer(), command, this.spanName),
+								: new TraceRunnable(tracer(), spanNamer(), command, this.spanName, tracingMode(),
+										this.batches),
 						initialDelay, delay, unit);
 	}
 
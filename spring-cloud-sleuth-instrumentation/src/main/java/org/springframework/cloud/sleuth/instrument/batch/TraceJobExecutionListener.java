@@ -26,7 +26,6 @@ import org.springframework.batch.core.JobExecutionListener;
 import org.springframework.cloud.sleuth.Span;
 import org.springframework.cloud.sleuth.SpanAndScope;
 import org.springframework.cloud.sleuth.Tracer;
-import org.springframework.cloud.sleuth.docs.AssertingSpan;
 
 class TraceJobExecutionListener implements JobExecutionListener {
 
@@ -40,7 +39,7 @@ class TraceJobExecutionListener implements JobExecutionListener {
 
 	@Override
 	public void beforeJob(JobExecution jobExecution) {
-		Span span = SleuthBatchSpan.BATCH_JOB_SPAN.wrap(this.tracer.nextSpan())
+		Span span = SleuthBatchSpan.BATCH_JOB_SPAN.wrapIfAssertionsEnabled(this.tracer.nextSpan())
 				.name(jobExecution.getJobInstance().getJobName());
 		Tracer.SpanInScope spanInScope = this.tracer.withSpan(span.start());
 		SPANS.put(jobExecution, new SpanAndScope(span, spanInScope));
@@ -51,11 +50,11 @@ class TraceJobExecutionListener implements JobExecutionListener {
 		SpanAndScope spanAndScope = SPANS.remove(jobExecution);
 		List<Throwable> throwables = jobExecution.getFailureExceptions();
 		// @formatter:off
-		AssertingSpan span = SleuthBatchSpan.BATCH_JOB_SPAN.wrap(spanAndScope.getSpan())
-		.tag(SleuthBatchSpan.JobTags.JOB_NAME, jobExecution.getJobInstance().getJobName())
-		.tag(SleuthBatchSpan.JobTags.JOB_INSTANCE_ID,
+		Span span = SleuthBatchSpan.BATCH_JOB_SPAN.wrapIfAssertionsEnabled(spanAndScope.getSpan())
+		.tag(SleuthBatchSpan.JobTags.JOB_NAME.getKey(), jobExecution.getJobInstance().getJobName())
+		.tag(SleuthBatchSpan.JobTags.JOB_INSTANCE_ID.getKey(),
 				String.valueOf(jobExecution.getJobInstance().getInstanceId()))
-		.tag(SleuthBatchSpan.JobTags.JOB_EXECUTION_ID, String.valueOf(jobExecution.getId()));
+		.tag(SleuthBatchSpan.JobTags.JOB_EXECUTION_ID.getKey(), String.valueOf(jobExecution.getId()));
 		// formatter:on
 		Tracer.SpanInScope scope = spanAndScope.getScope();
 		if (!throwables.isEmpty()) {
@@ -28,7 +28,6 @@ import org.springframework.batch.core.StepExecutionListener;
 import org.springframework.cloud.sleuth.Span;
 import org.springframework.cloud.sleuth.SpanAndScope;
 import org.springframework.cloud.sleuth.Tracer;
-import org.springframework.cloud.sleuth.docs.AssertingSpan;
 
 class TraceStepExecutionListener implements StepExecutionListener {
 
@@ -42,7 +41,8 @@ class TraceStepExecutionListener implements StepExecutionListener {
 
 	@Override
 	public void beforeStep(StepExecution stepExecution) {
-		Span span = SleuthBatchSpan.BATCH_STEP_SPAN.wrap(this.tracer.nextSpan()).name(stepExecution.getStepName());
+		Span span = SleuthBatchSpan.BATCH_STEP_SPAN.wrapIfAssertionsEnabled(this.tracer.nextSpan())
+				.name(stepExecution.getStepName());
 		Tracer.SpanInScope spanInScope = this.tracer.withSpan(span.start());
 		SPANS.put(stepExecution, new SpanAndScope(span, spanInScope));
 	}
@@ -52,11 +52,12 @@ class TraceStepExecutionListener implements StepExecutionListener {
 		SpanAndScope spanAndScope = SPANS.remove(stepExecution);
 		List<Throwable> throwables = stepExecution.getFailureExceptions();
 		// @formatter:off
-		AssertingSpan span = SleuthBatchSpan.BATCH_STEP_SPAN.wrap(spanAndScope.getSpan())
-		.tag(SleuthBatchSpan.StepTags.STEP_NAME, stepExecution.getStepName())
-		.tag(SleuthBatchSpan.StepTags.JOB_EXECUTION_ID, String.valueOf(stepExecution.getJobExecutionId()))
-		.tag(SleuthBatchSpan.StepTags.STEP_EXECUTION_ID, String.valueOf(stepExecution.getId()))
-		.tag(SleuthBatchSpan.StepTags.STEP_TYPE, stepExecution.getExecutionContext().getString(Step.STEP_TYPE_KEY));
+		Span span = SleuthBatchSpan.BATCH_STEP_SPAN.wrapIfAssertionsEnabled(spanAndScope.getSpan())
+		.tag(SleuthBatchSpan.StepTags.STEP_NAME.getKey(), stepExecution.getStepName())
+		.tag(SleuthBatchSpan.StepTags.JOB_EXECUTION_ID.getKey(), String.valueOf(stepExecution.getJobExecutionId()))
+		.tag(SleuthBatchSpan.StepTags.STEP_EXECUTION_ID.getKey(), String.valueOf(stepExecution.getId()))
+		.tag(SleuthBatchSpan.StepTags.STEP_TYPE.getKey(),
+				stepExecution.getExecutionContext().getString(Step.STEP_TYPE_KEY));
 		// @formatter:on
 		Tracer.SpanInScope scope = spanAndScope.getScope();
 		if (!throwables.isEmpty()) {
@@ -35,7 +35,6 @@ import org.springframework.beans.factory.BeanFactory;
 import org.springframework.cloud.sleuth.CurrentTraceContext;
 import org.springframework.cloud.sleuth.Span;
 import org.springframework.cloud.sleuth.Tracer;
-import org.springframework.cloud.sleuth.docs.AssertingSpanBuilder;
 import org.springframework.cloud.sleuth.internal.ContextUtil;
 import org.springframework.lang.NonNull;
 import org.springframework.lang.Nullable;
@@ -135,9 +134,10 @@ class TraceCqlSessionInterceptor implements MethodInterceptor {
 	}
 
 	static Span cassandraClientSpan(Span.Builder builder, String sessionName, Optional<CqlIdentifier> keyspace) {
-		return AssertingSpanBuilder.of(SleuthCassandraSpan.CASSANDRA_SPAN, builder).kind(Span.Kind.CLIENT)
+		return SleuthCassandraSpan.CASSANDRA_SPAN.wrapIfAssertionsEnabled(builder).kind(Span.Kind.CLIENT)
 				.remoteServiceName("cassandra-" + sessionName)
-				.tag(SleuthCassandraSpan.Tags.KEYSPACE_NAME, keyspace.map(CqlIdentifier::asInternal).orElse("unknown"))
+				.tag(SleuthCassandraSpan.Tags.KEYSPACE_NAME.getKey(),
+						keyspace.map(CqlIdentifier::asInternal).orElse("unknown"))
 				.start();
 	}
 
@@ -28,7 +28,6 @@ import org.apache.commons.logging.Log;
 import org.apache.commons.logging.LogFactory;
 
 import org.springframework.cloud.sleuth.Span;
-import org.springframework.cloud.sleuth.docs.AssertingSpan;
 import org.springframework.lang.NonNull;
 import org.springframework.lang.Nullable;
 
@@ -79,8 +78,8 @@ enum TraceRequestTracker implements RequestTracker {
 	public void onNodeError(@NonNull Request request, @NonNull Throwable error, long latencyNanos,
 			@NonNull DriverExecutionProfile executionProfile, @NonNull Node node, @NonNull String requestLogPrefix) {
 		if (request instanceof CassandraSpanSupplier) {
-			AssertingSpan span = AssertingSpan.of(CASSANDRA_SPAN, ((CassandraSpanSupplier) request).getSpan());
-			span.event(NODE_ERROR);
+			Span span = CASSANDRA_SPAN.wrapIfAssertionsEnabled(((CassandraSpanSupplier) request).getSpan());
+			span.event(NODE_ERROR.getValue());
 			span.tag(String.format(NODE_ERROR_TAG.getKey(), node.getEndPoint()), error.toString());
 			tryAddingRemoteIpAndPort(node, span);
 			if (log.isDebugEnabled()) {
@@ -93,8 +92,8 @@ enum TraceRequestTracker implements RequestTracker {
 	public void onNodeSuccess(@NonNull Request request, long latencyNanos,
 			@NonNull DriverExecutionProfile executionProfile, @NonNull Node node, @NonNull String requestLogPrefix) {
 		if (request instanceof CassandraSpanSupplier) {
-			AssertingSpan span = AssertingSpan.of(CASSANDRA_SPAN, ((CassandraSpanSupplier) request).getSpan());
-			span.event(NODE_SUCCESS);
+			Span span = CASSANDRA_SPAN.wrapIfAssertionsEnabled(((CassandraSpanSupplier) request).getSpan());
+			span.event(NODE_SUCCESS.getValue());
 			tryAddingRemoteIpAndPort(node, span);
 			if (log.isDebugEnabled()) {
 				log.debug("Marking node success for [" + span + "]");
@@ -30,7 +30,6 @@ import org.aopalliance.intercept.MethodInvocation;
 
 import org.springframework.aop.framework.ProxyFactory;
 import org.springframework.cloud.sleuth.Span;
-import org.springframework.cloud.sleuth.docs.AssertingSpan;
 import org.springframework.lang.Nullable;
 import org.springframework.util.ClassUtils;
 
@@ -132,9 +131,9 @@ final class TraceStatement implements MethodInterceptor {
 			return this.span;
 		}
 		if (invocation.getMethod().getName().equals("customizeSpan")) {
-			AssertingSpan.of(SleuthCassandraSpan.CASSANDRA_SPAN, this.span)
+			SleuthCassandraSpan.CASSANDRA_SPAN.wrapIfAssertionsEnabled(this.span)
 					.name(getSpanName((String) invocation.getArguments()[0]))
-					.tag(SleuthCassandraSpan.Tags.CQL_TAG, getCql());
+					.tag(SleuthCassandraSpan.Tags.CQL_TAG.getKey(), getCql());
 			return null;
 		}
 		Object result = invocation.proceed();
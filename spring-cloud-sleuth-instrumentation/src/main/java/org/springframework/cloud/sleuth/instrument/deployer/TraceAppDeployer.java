@@ -35,8 +35,6 @@ import org.springframework.cloud.deployer.spi.core.RuntimeEnvironmentInfo;
 import org.springframework.cloud.sleuth.CurrentTraceContext;
 import org.springframework.cloud.sleuth.Span;
 import org.springframework.cloud.sleuth.Tracer;
-import org.springframework.cloud.sleuth.docs.AssertingSpan;
-import org.springframework.cloud.sleuth.docs.AssertingSpanBuilder;
 import org.springframework.cloud.sleuth.docs.DocumentedSpan;
 import org.springframework.cloud.sleuth.instrument.reactor.ReactorSleuth;
 import org.springframework.core.env.Environment;
@@ -73,37 +71,37 @@ public class TraceAppDeployer implements AppDeployer {
 
 	@Override
 	public String deploy(AppDeploymentRequest request) {
-		AssertingSpanBuilder spanBuilder = clientSpan(SleuthDeployerSpan.DEPLOYER_DEPLOY_SPAN, request);
-		AssertingSpan span = spanBuilder.start();
+		Span.Builder spanBuilder = clientSpan(SleuthDeployerSpan.DEPLOYER_DEPLOY_SPAN, request);
+		Span span = spanBuilder.start();
 		try (Tracer.SpanInScope spanInScope = tracer().withSpan(span)) {
-			span.event(SleuthDeployerSpan.Events.DEPLOYER_START);
+			span.event(SleuthDeployerSpan.Events.DEPLOYER_START.getValue());
 			String id = this.delegate.deploy(request);
-			span.tag(SleuthDeployerSpan.Tags.APP_ID, id);
+			span.tag(SleuthDeployerSpan.Tags.APP_ID.getKey(), id);
 			registerListener(span, id);
 			return id;
 		}
 	}
 
-	private AssertingSpanBuilder clientSpan(DocumentedSpan documentedSpan) {
+	private Span.Builder clientSpan(DocumentedSpan documentedSpan) {
 		return clientSpan(documentedSpan, null, null);
 	}
 
-	private AssertingSpanBuilder clientSpan(DocumentedSpan documentedSpan, @Nullable AppDeploymentRequest request) {
+	private Span.Builder clientSpan(DocumentedSpan documentedSpan, @Nullable AppDeploymentRequest request) {
 		return clientSpan(documentedSpan, null, request);
 	}
 
-	private AssertingSpanBuilder clientSpanKind(String name, AssertingSpanBuilder spanBuilder) {
+	private Span.Builder clientSpanKind(String name, Span.Builder spanBuilder) {
 		return spanBuilder.kind(Span.Kind.CLIENT).name(name).remoteServiceName(remoteServiceName());
 	}
 
-	private AssertingSpanBuilder clientSpan(DocumentedSpan documentedSpan, Span parentSpan) {
+	private Span.Builder clientSpan(DocumentedSpan documentedSpan, Span parentSpan) {
 		return clientSpan(documentedSpan, parentSpan, null);
 	}
 
-	private AssertingSpanBuilder clientSpan(DocumentedSpan documentedSpan, @Nullable Span parentSpan,
+	private Span.Builder clientSpan(DocumentedSpan documentedSpan, @Nullable Span parentSpan,
 			@Nullable AppDeploymentRequest request) {
 		String name = documentedSpan.getName();
-		AssertingSpanBuilder spanBuilder = AssertingSpanBuilder.of(documentedSpan, tracer().spanBuilder());
+		Span.Builder spanBuilder = documentedSpan.wrapIfAssertionsEnabled(tracer().spanBuilder());
 		Span currentSpan = parentSpan != null ? parentSpan : tracer().currentSpan();
 		if (currentSpan != null) {
 			spanBuilder.setParent(currentSpan.context());
@@ -112,15 +110,15 @@ public class TraceAppDeployer implements AppDeployer {
 		if (request != null) {
 			String platformName = request.getDeploymentProperties().get("spring.cloud.deployer.platformName");
 			if (StringUtils.hasText(platformName)) {
-				spanBuilder.tag(SleuthDeployerSpan.Tags.PLATFORM_NAME, platformName);
+				spanBuilder.tag(SleuthDeployerSpan.Tags.PLATFORM_NAME.getKey(), platformName);
 			}
 			String appName = request.getDeploymentProperties().get("spring.cloud.deployer.appName");
 			if (StringUtils.hasText(appName)) {
-				spanBuilder.tag(SleuthDeployerSpan.Tags.APP_NAME, appName);
+				spanBuilder.tag(SleuthDeployerSpan.Tags.APP_NAME.getKey(), appName);
 			}
 			String group = request.getDeploymentProperties().get("spring.cloud.deployer.group");
 			if (StringUtils.hasText(group)) {
-				spanBuilder.tag(SleuthDeployerSpan.Tags.APP_GROUP, group);
+				spanBuilder.tag(SleuthDeployerSpan.Tags.APP_GROUP.getKey(), group);
 			}
 		}
 		addCfTags(spanBuilder, platformSpecificInfo);
@@ -128,24 +126,24 @@ public class TraceAppDeployer implements AppDeployer {
 		return clientSpanKind(name, spanBuilder);
 	}
 
-	private void addCfTags(AssertingSpanBuilder spanBuilder, Map<String, String> platformSpecificInfo) {
+	private void addCfTags(Span.Builder spanBuilder, Map<String, String> platformSpecificInfo) {
 		if (platformSpecificInfo.containsKey("API Endpoint")) {
-			spanBuilder.tag(SleuthDeployerSpan.Tags.CF_URL, platformSpecificInfo.get("API Endpoint"));
+			spanBuilder.tag(SleuthDeployerSpan.Tags.CF_URL.getKey(), platformSpecificInfo.get("API Endpoint"));
 		}
 		if (platformSpecificInfo.containsKey("Organization")) {
-			spanBuilder.tag(SleuthDeployerSpan.Tags.CF_ORG, platformSpecificInfo.get("Organization"));
+			spanBuilder.tag(SleuthDeployerSpan.Tags.CF_ORG.getKey(), platformSpecificInfo.get("Organization"));
 		}
 		if (platformSpecificInfo.containsKey("Space")) {
-			spanBuilder.tag(SleuthDeployerSpan.Tags.CF_SPACE, platformSpecificInfo.get("Space"));
+			spanBuilder.tag(SleuthDeployerSpan.Tags.CF_SPACE.getKey(), platformSpecificInfo.get("Space"));
 		}
 	}
 
-	private void addK8sTags(AssertingSpanBuilder spanBuilder, Map<String, String> platformSpecificInfo) {
+	private void addK8sTags(Span.Builder spanBuilder, Map<String, String> platformSpecificInfo) {
 		if (platformSpecificInfo.containsKey("master-url")) {
-			spanBuilder.tag(SleuthDeployerSpan.Tags.K8S_URL, platformSpecificInfo.get("master-url"));
+			spanBuilder.tag(SleuthDeployerSpan.Tags.K8S_URL.getKey(), platformSpecificInfo.get("master-url"));
 		}
 		if (platformSpecificInfo.containsKey("namespace")) {
-			spanBuilder.tag(SleuthDeployerSpan.Tags.K8S_NAMESPACE, platformSpecificInfo.get("namespace"));
+			spanBuilder.tag(SleuthDeployerSpan.Tags.K8S_NAMESPACE.getKey(), platformSpecificInfo.get("namespace"));
 		}
 	}
 
@@ -170,11 +168,11 @@ public class TraceAppDeployer implements AppDeployer {
 
 	@Override
 	public void undeploy(String id) {
-		AssertingSpanBuilder spanBuilder = clientSpan(SleuthDeployerSpan.DEPLOYER_UNDEPLOY_SPAN);
-		AssertingSpan span = spanBuilder.start();
-		span.tag(SleuthDeployerSpan.Tags.APP_ID, id);
+		Span.Builder spanBuilder = clientSpan(SleuthDeployerSpan.DEPLOYER_UNDEPLOY_SPAN);
+		Span span = spanBuilder.start();
+		span.tag(SleuthDeployerSpan.Tags.APP_ID.getKey(), id);
 		try (Tracer.SpanInScope spanInScope = tracer().withSpan(span)) {
-			span.event(SleuthDeployerSpan.Events.DEPLOYER_START);
+			span.event(SleuthDeployerSpan.Events.DEPLOYER_START.getValue());
 			this.delegate.undeploy(id);
 			registerListener(span, id);
 		}
@@ -185,9 +183,9 @@ public class TraceAppDeployer implements AppDeployer {
 
 	@Override
 	public AppStatus status(String id) {
-		AssertingSpanBuilder spanBuilder = clientSpan(SleuthDeployerSpan.DEPLOYER_STATUS_SPAN);
-		AssertingSpan span = spanBuilder.start();
-		span.tag(SleuthDeployerSpan.Tags.APP_ID, id);
+		Span.Builder spanBuilder = clientSpan(SleuthDeployerSpan.DEPLOYER_STATUS_SPAN);
+		Span span = spanBuilder.start();
+		span.tag(SleuthDeployerSpan.Tags.APP_ID.getKey(), id);
 		try (Tracer.SpanInScope spanInScope = tracer().withSpan(span.start())) {
 			return this.delegate.status(id);
 		}
@@ -219,9 +217,9 @@ public class TraceAppDeployer implements AppDeployer {
 
 	@Override
 	public String getLog(String id) {
-		AssertingSpanBuilder spanBuilder = clientSpan(SleuthDeployerSpan.DEPLOYER_GET_LOG_SPAN);
-		AssertingSpan span = spanBuilder.start();
-		span.tag(SleuthDeployerSpan.Tags.APP_ID, id);
+		Span.Builder spanBuilder = clientSpan(SleuthDeployerSpan.DEPLOYER_GET_LOG_SPAN);
+		Span span = spanBuilder.start();
+		span.tag(SleuthDeployerSpan.Tags.APP_ID.getKey(), id);
 		try (Tracer.SpanInScope spanInScope = tracer().withSpan(span)) {
 			return this.delegate.getLog(id);
 		}
@@ -232,10 +230,12 @@ public class TraceAppDeployer implements AppDeployer {
 
 	@Override
 	public void scale(AppScaleRequest appScaleRequest) {
-		AssertingSpanBuilder spanBuilder = clientSpan(SleuthDeployerSpan.DEPLOYER_SCALE_SPAN);
-		AssertingSpan span = spanBuilder.start();
-		span.tag(SleuthDeployerSpan.ScaleTags.DEPLOYER_SCALE_DEPLOYMENT_ID, appScaleRequest.getDeploymentId());
-		span.tag(SleuthDeployerSpan.ScaleTags.DEPLOYER_SCALE_COUNT, String.valueOf(appScaleRequest.getCount()));
+		Span.Builder spanBuilder = clientSpan(SleuthDeployerSpan.DEPLOYER_SCALE_SPAN);
+		Span span = spanBuilder.start();
+		span.tag(SleuthDeployerSpan.ScaleTags.DEPLOYER_SCALE_DEPLOYMENT_ID.getKey(),
+				appScaleRequest.getDeploymentId());
+		span.tag(SleuthDeployerSpan.ScaleTags.DEPLOYER_SCALE_COUNT.getKey(),
+				String.valueOf(appScaleRequest.getCount()));
 		try (Tracer.SpanInScope spanInScope = tracer().withSpan(span.start())) {
 			this.delegate.scale(appScaleRequest);
 		}
@@ -136,6 +136,37 @@ enum SleuthJdbcSpan implements DocumentedSpan {
 			public String getKey() {
 				return "jdbc.row-count";
 			}
+		},
+
+		/**
+		 * Number of fetched result sets, when fetches are recorded on the query span.
+		 */
+		FETCH_COUNT {
+			@Override
+			public String getKey() {
+				return "jdbc.fetch-count";
+			}
+		},
+
+		/**
+		 * Number of fetched rows, when fetches are recorded on the query span.
+		 */
+		FETCH_ROW_COUNT {
+			@Override
+			public String getKey() {
+				return "jdbc.fetch-row-count";
+			}
+		},
+
+		/**
+		 * Time spent fetching result sets in microseconds, when fetches are recorded on
+		 * the query span.
+		 */
+		FETCH_DURATION {
+			@Override
+			public String getKey() {
+				return "jdbc.fetch-duration-micros";
+			}
 		}
 
 	}
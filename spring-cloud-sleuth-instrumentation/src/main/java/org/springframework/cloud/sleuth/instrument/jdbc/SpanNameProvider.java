@@ -17,36 +17,48 @@
 package org.springframework.cloud.sleuth.instrument.jdbc;
 
 import java.util.Locale;
-import java.util.Objects;
-import java.util.regex.Matcher;
-import java.util.regex.Pattern;
 
-import static java.util.regex.Pattern.compile;
+import org.springframework.lang.Nullable;
 
+/**
+ * Names JDBC spans after the first word of the SQL statement. Only the leading letters
+ * of the statement are scanned.
+ */
 class SpanNameProvider {
 
-	private static final String DEFAULT_SPAN_NAME = "query";
+	static final String DEFAULT_SPAN_NAME = "query";
 
-	private static final Pattern PATTERN_MATCHING_FIRST_WORD_OF_SQL = compile("^([a-zA-Z]+)[^a-zA-Z]?.*$");
+	// names of the most common statements, resolved without allocating
+	private static final String[] KNOWN_SPAN_NAMES = { "select", "insert", "update", "delete", "merge", "upsert",
+			"call", "exec", "execute", "with", "begin", "commit", "rollback", "set", "show", "create", "alter", "drop",
+			"truncate" };
 
-	String getSpanNameFor(String sql) {
-		String spanName = DEFAULT_SPAN_NAME;
-		if (!Objects.isNull(sql)) {
-			spanName = getSpanNameForNonNull(sql);
+	String getSpanNameFor(@Nullable String sql) {
+		if (sql == null) {
+			return DEFAULT_SPAN_NAME;
 		}
-
-		return spanName;
+		int length = firstWordLength(sql);
+		if (length == 0) {
+			return DEFAULT_SPAN_NAME;
+		}
+		for (String knownSpanName : KNOWN_SPAN_NAMES) {
+			if (knownSpanName.length() == length && sql.regionMatches(true, 0, knownSpanName, 0, length)) {
+				return knownSpanName;
+			}
+		}
+		return sql.substring(0, length).toLowerCase(Locale.ROOT);
 	}
 
-	private String getSpanNameForNonNull(String sql) {
-		String spanName = DEFAULT_SPAN_NAME;
-		Matcher matcher = PATTERN_MATCHING_FIRST_WORD_OF_SQL.matcher(sql);
-
-		if (matcher.matches()) {
-			spanName = matcher.group(1).toLowerCase(Locale.ROOT);
+	private static int firstWordLength(String sql) {
+		int length = 0;
+		while (length < sql.length() && isLetter(sql.charAt(length))) {
+			length++;
 		}
+		return length;
+	}
 
-		return spanName;
+	private static boolean isLetter(char c) {
+		return (c >= 'a' && c <= 'z') || (c >= 'A' && c <= 'Z');
 	}
 
 }
@@ -21,7 +21,6 @@ import javax.sql.CommonDataSource;
 import com.zaxxer.hikari.HikariDataSource;
 
 import org.springframework.cloud.sleuth.Span;
-import org.springframework.cloud.sleuth.docs.AssertingSpanBuilder;
 import org.springframework.util.StringUtils;
 
 /**
@@ -35,14 +34,13 @@ public class TraceHikariListenerStrategySpanCustomizer
 
 	@Override
 	public void customizeConnectionSpan(HikariDataSource hikariDataSource, Span.Builder spanBuilder) {
-		AssertingSpanBuilder assertingSpanBuilder = AssertingSpanBuilder.of(SleuthJdbcSpan.JDBC_CONNECTION_SPAN,
-				spanBuilder);
+		Span.Builder builder = SleuthJdbcSpan.JDBC_CONNECTION_SPAN.wrapIfAssertionsEnabled(spanBuilder);
 		if (StringUtils.hasText(hikariDataSource.getDriverClassName())) {
-			assertingSpanBuilder.tag(SleuthJdbcSpan.ConnectionTags.DATASOURCE_DRIVER,
+			builder.tag(SleuthJdbcSpan.ConnectionTags.DATASOURCE_DRIVER.getKey(),
 					hikariDataSource.getDriverClassName());
 		}
 		if (StringUtils.hasText(hikariDataSource.getPoolName())) {
-			assertingSpanBuilder.tag(SleuthJdbcSpan.ConnectionTags.DATASOURCE_POOL, hikariDataSource.getPoolName());
+			builder.tag(SleuthJdbcSpan.ConnectionTags.DATASOURCE_POOL.getKey(), hikariDataSource.getPoolName());
 		}
 	}
 
@@ -56,15 +56,50 @@ public class TraceJdbcEventListener extends SimpleJdbcEventListener implements O
 			List<TraceListenerStrategySpanCustomizer<? super CommonDataSource>> customizers) {
 		this.dataSourceNameResolver = dataSourceNameResolver;
 		this.includeParameterValues = includeParameterValues;
-		this.strategy = new TraceListenerStrategy<>(tracer, traceTypes, customizers);
+		this.strategy = new TraceListenerStrategy<>(tracer, traceTypes, false, customizers);
 	}
 
 	public TraceJdbcEventListener(BeanFactory beanFactory, DataSourceNameResolver dataSourceNameResolver,
 			List<TraceType> traceTypes, boolean includeParameterValues,
 			List<TraceListenerStrategySpanCustomizer<? super CommonDataSource>> customizers) {
+		this(beanFactory, dataSourceNameResolver, traceTypes, includeParameterValues, false, customizers);
+	}
+
+	/**
+	 * @param beanFactory bean factory
+	 * @param dataSourceNameResolver data source name resolver
+	 * @param traceTypes types of tracing to include
+	 * @param includeParameterValues whether to report the sql with parameter values
+	 * @param aggregateFetches whether {@link TraceType#FETCH} should be recorded on the
+	 * statement span instead of creating a span per result set
+	 * @param customizers span customizers
+	 * @since 3.1.11
+	 */
+	public TraceJdbcEventListener(BeanFactory beanFactory, DataSourceNameResolver dataSourceNameResolver,
+			List<TraceType> traceTypes, boolean includeParameterValues, boolean aggregateFetches,
+			List<TraceListenerStrategySpanCustomizer<? super CommonDataSource>> customizers) {
 		this.dataSourceNameResolver = dataSourceNameResolver;
 		this.includeParameterValues = includeParameterValues;
-		this.strategy = new TraceListenerStrategy<>(beanFactory, traceTypes, customizers);
+		this.strategy = new TraceListenerStrategy<>(beanFactory, traceTypes, aggregateFetches, customizers);
+	}
+
+	/**
+	 * Removes the cached connection metadata (URL, remote service name) of the given data
+	 * source. Should be called when a data source starts routing to a different database
+	 * under the same name.
+	 * @param dataSourceName name of the data source
+	 * @since 3.1.11
+	 */
+	public void invalidateConnectionMetadata(String dataSourceName) {
+		this.strategy.invalidateConnectionMetadata(dataSourceName);
+	}
+
+	/**
+	 * Removes the cached connection metadata of all data sources.
+	 * @since 3.1.11
+	 */
+	public void invalidateConnectionMetadata() {
+		this.strategy.invalidateConnectionMetadata();
 	}
 
 	@Override
@@ -89,8 +124,9 @@ public class TraceJdbcEventListener extends SimpleJdbcEventListener implements O
 
 	@Override
 	public void onAfterAnyExecute(StatementInformation statementInformation, long timeElapsedNanos, SQLException e) {
+		// execute() may produce a result set as well, only updates and batches don't
 		this.strategy.afterQuery(statementInformation.getConnectionInformation(), statementInformation,
-				getSql(statementInformation), e);
+				getSql(statementInformation), e, true);
 	}
 
 	@Override
@@ -106,7 +142,8 @@ public class TraceJdbcEventListener extends SimpleJdbcEventListener implements O
 			this.strategy.addQueryRowCount(statementInformation.getConnectionInformation(), statementInformation,
 					rowCount);
 		}
-		super.onAfterExecuteUpdate(statementInformation, timeElapsedNanos, rowCount, e);
+		this.strategy.afterQuery(statementInformation.getConnectionInformation(), statementInformation,
+				getSql(statementInformation), e, false);
 	}
 
 	@Override
@@ -116,7 +153,15 @@ public class TraceJdbcEventListener extends SimpleJdbcEventListener implements O
 			this.strategy.addQueryRowCount(statementInformation.getConnectionInformation(), statementInformation,
 					rowCount);
 		}
-		super.onAfterExecuteUpdate(statementInformation, timeElapsedNanos, sql, rowCount, e);
+		this.strategy.afterQuery(statementInformation.getConnectionInformation(), statementInformation,
+				getSql(statementInformation), e, false);
+	}
+
+	@Override
+	public void onAfterExecuteBatch(StatementInformation statementInformation, long timeElapsedNanos,
+			int[] updateCounts, SQLException e) {
+		this.strategy.afterQuery(statementInformation.getConnectionInformation(), statementInformation,
+				getSql(statementInformation), e, false);
 	}
 
 	@Override
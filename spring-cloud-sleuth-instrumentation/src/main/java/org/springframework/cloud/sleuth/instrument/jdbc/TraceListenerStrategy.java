@@ -23,6 +23,7 @@ import java.sql.Statement;
 import java.util.List;
 import java.util.Map;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 
@@ -35,8 +36,6 @@ import org.springframework.beans.factory.BeanFactory;
 import org.springframework.cloud.sleuth.Span;
 import org.springframework.cloud.sleuth.SpanAndScope;
 import org.springframework.cloud.sleuth.Tracer;
-import org.springframework.cloud.sleuth.docs.AssertingSpan;
-import org.springframework.cloud.sleuth.docs.AssertingSpanBuilder;
 import org.springframework.lang.Nullable;
 import org.springframework.util.StringUtils;
 
@@ -75,29 +74,49 @@ class TraceListenerStrategy<CON, STMT, RS> {
 
 	private static final SpanNameProvider SPAN_NAME_PROVIDER = new SpanNameProvider();
 
+	private static final String QUERY_SPAN_NAME = String.format(SleuthJdbcSpan.JDBC_QUERY_SPAN.getName(),
+			SpanNameProvider.DEFAULT_SPAN_NAME);
+
+	// small row counts are the most common ones, no need to convert them each time
+	private static final String[] ROW_COUNTS = new String[16];
+
+	static {
+		for (int i = 0; i < ROW_COUNTS.length; i++) {
+			ROW_COUNTS[i] = String.valueOf(i);
+		}
+	}
+
 	private final Map<CON, ConnectionInfo> openConnections = new ConcurrentHashMap<>();
 
+	// parsing the metadata may require a round trip to the database, so it's done once
+	// per data source
+	private final Map<String, ConnectionMetadata> connectionMetadata = new ConcurrentHashMap<>();
+
 	private final ThreadLocal<ConnectionInfo> currentConnection = new ThreadLocal<>();
 
 	private final List<TraceType> traceTypes;
 
 	private final List<TraceListenerStrategySpanCustomizer<? super CommonDataSource>> customizers;
 
+	private final boolean aggregateFetches;
+
 	private BeanFactory beanFactory;
 
 	private Tracer tracer;
 
-	TraceListenerStrategy(Tracer tracer, List<TraceType> traceTypes,
+	TraceListenerStrategy(Tracer tracer, List<TraceType> traceTypes, boolean aggregateFetches,
 			List<TraceListenerStrategySpanCustomizer<? super CommonDataSource>> customizers) {
 		this.traceTypes = traceTypes;
 		this.customizers = customizers;
+		this.aggregateFetches = aggregateFetches && traceTypes.contains(TraceType.FETCH);
 		this.tracer = tracer;
 	}
 
-	TraceListenerStrategy(BeanFactory beanFactory, List<TraceType> traceTypes,
+	TraceListenerStrategy(BeanFactory beanFactory, List<TraceType> traceTypes, boolean aggregateFetches,
 			List<TraceListenerStrategySpanCustomizer<? super CommonDataSource>> customizers) {
 		this.traceTypes = traceTypes;
 		this.customizers = customizers;
+		this.aggregateFetches = aggregateFetches && traceTypes.contains(TraceType.FETCH);
 		this.beanFactory = beanFactory;
 	}
 
@@ -108,8 +127,8 @@ class TraceListenerStrategy<CON, STMT, RS> {
 		}
 		SpanAndScope spanAndScope = null;
 		if (this.traceTypes.contains(TraceType.CONNECTION)) {
-			AssertingSpanBuilder connectionSpanBuilder = AssertingSpanBuilder
-					.of(SleuthJdbcSpan.JDBC_CONNECTION_SPAN, getTracer().spanBuilder())
+			Span.Builder connectionSpanBuilder = SleuthJdbcSpan.JDBC_CONNECTION_SPAN
+					.wrapIfAssertionsEnabled(getTracer().spanBuilder())
 					.name(SleuthJdbcSpan.JDBC_CONNECTION_SPAN.getName());
 			connectionSpanBuilder.remoteServiceName(dataSourceName);
 			connectionSpanBuilder.kind(Span.Kind.CLIENT);
@@ -189,9 +208,9 @@ class TraceListenerStrategy<CON, STMT, RS> {
 		}
 		SpanAndScope spanAndScope = null;
 		if (traceTypes.contains(TraceType.QUERY)) {
-			Span.Builder statementSpanBuilder = AssertingSpanBuilder
-					.of(SleuthJdbcSpan.JDBC_QUERY_SPAN, getTracer().spanBuilder())
-					.name(String.format(SleuthJdbcSpan.JDBC_QUERY_SPAN.getName(), "query"));
+			Span.Builder statementSpanBuilder = SleuthJdbcSpan.JDBC_QUERY_SPAN
+					.wrapIfAssertionsEnabled(getTracer().spanBuilder())
+					.name(QUERY_SPAN_NAME);
 			statementSpanBuilder.remoteServiceName(connectionInfo.remoteServiceName);
 			if (connectionInfo.url != null) {
 				statementSpanBuilder.remoteIpAndPort(connectionInfo.url.getHost(), connectionInfo.url.getPort());
@@ -206,7 +225,12 @@ class TraceListenerStrategy<CON, STMT, RS> {
 			}
 		}
 		StatementInfo statementInfo = new StatementInfo(spanAndScope);
-		connectionInfo.nestedStatements.put(statementKey, statementInfo);
+		StatementInfo previousStatementInfo = connectionInfo.nestedStatements.put(statementKey, statementInfo);
+		if (previousStatementInfo != null) {
+			// statement executed again while the span of the previous execution was
+			// still waiting for its fetches
+			endPendingStatementSpan(connectionInfo, previousStatementInfo);
+		}
 	}
 
 	void addQueryRowCount(CON connectionKey, STMT statementKey, int rowCount) {
@@ -223,12 +247,21 @@ class TraceListenerStrategy<CON, STMT, RS> {
 		StatementInfo statementInfo = connectionInfo.nestedStatements.get(statementKey);
 		SpanAndScope statementSpan = statementInfo.span;
 		if (statementSpan != null) {
-			AssertingSpan.of(SleuthJdbcSpan.JDBC_QUERY_SPAN, statementSpan.getSpan())
-					.tag(SleuthJdbcSpan.QueryTags.ROW_COUNT, String.valueOf(rowCount));
+			SleuthJdbcSpan.JDBC_QUERY_SPAN.wrapIfAssertionsEnabled(statementSpan.getSpan())
+					.tag(SleuthJdbcSpan.QueryTags.ROW_COUNT.getKey(), rowCount(rowCount));
 		}
 	}
 
-	void afterQuery(CON connectionKey, STMT statementKey, String sql, @Nullable Throwable t) {
+	/**
+	 * @param connectionKey connection key
+	 * @param statementKey statement key
+	 * @param sql executed SQL
+	 * @param t error of the execution
+	 * @param resultSetExpected whether the execution may have produced a result set, only
+	 * then the span is kept open for the fetches when they're aggregated
+	 */
+	void afterQuery(CON connectionKey, STMT statementKey, String sql, @Nullable Throwable t,
+			boolean resultSetExpected) {
 		if (log.isTraceEnabled()) {
 			log.trace("After query for connection key [" + connectionKey + "]");
 		}
@@ -244,11 +277,20 @@ class TraceListenerStrategy<CON, STMT, RS> {
 		StatementInfo statementInfo = connectionInfo.nestedStatements.get(statementKey);
 		SpanAndScope statementSpan = statementInfo.span;
 		if (statementSpan != null) {
-			AssertingSpan.of(SleuthJdbcSpan.JDBC_QUERY_SPAN, statementSpan.getSpan())
-					.tag(SleuthJdbcSpan.QueryTags.QUERY, sql).name(SPAN_NAME_PROVIDER.getSpanNameFor(sql));
+			SleuthJdbcSpan.JDBC_QUERY_SPAN.wrapIfAssertionsEnabled(statementSpan.getSpan())
+					.tag(SleuthJdbcSpan.QueryTags.QUERY.getKey(), sql).name(SPAN_NAME_PROVIDER.getSpanNameFor(sql));
 			if (t != null) {
 				statementSpan.getSpan().error(t);
 			}
+			if (this.aggregateFetches && t == null && resultSetExpected) {
+				// the span ends once the result set gets fetched
+				if (statementSpan.getScope() != null) {
+					statementSpan.getScope().close();
+				}
+				statementInfo.spanPending = true;
+				connectionInfo.lastPendingStatement = statementInfo;
+				return;
+			}
 			if (log.isTraceEnabled()) {
 				log.trace("Closing statement span [" + statementSpan + "] - current span is ["
 						+ getTracer().currentSpan() + "]");
@@ -275,14 +317,18 @@ class TraceListenerStrategy<CON, STMT, RS> {
 			}
 			return;
 		}
+		if (this.aggregateFetches) {
+			aggregateFetch(connectionInfo, statementKey, resultSetKey);
+			return;
+		}
 		if (connectionInfo.nestedResultSetSpans.containsKey(resultSetKey)) {
 			if (log.isTraceEnabled()) {
 				log.trace("ResultSet span is already created");
 			}
 			return;
 		}
-		AssertingSpanBuilder resultSetSpanBuilder = AssertingSpanBuilder
-				.of(SleuthJdbcSpan.JDBC_RESULT_SET_SPAN, getTracer().spanBuilder())
+		Span.Builder resultSetSpanBuilder = SleuthJdbcSpan.JDBC_RESULT_SET_SPAN
+				.wrapIfAssertionsEnabled(getTracer().spanBuilder())
 				.name(SleuthJdbcSpan.JDBC_RESULT_SET_SPAN.getName());
 		resultSetSpanBuilder.kind(Span.Kind.CLIENT);
 		resultSetSpanBuilder.remoteServiceName(connectionInfo.remoteServiceName);
@@ -307,6 +353,55 @@ class TraceListenerStrategy<CON, STMT, RS> {
 		}
 	}
 
+	private void aggregateFetch(ConnectionInfo connectionInfo, STMT statementKey, RS resultSetKey) {
+		StatementInfo statementInfo = connectionInfo.nestedStatements.get(statementKey);
+		// StatementInfo may be null when Statement is proxied and instance returned from
+		// ResultSet is different from instance returned in query method, the result set
+		// most likely belongs to the last executed statement then
+		if (statementInfo == null) {
+			statementInfo = connectionInfo.lastPendingStatement;
+		}
+		if (statementInfo == null || !statementInfo.spanPending) {
+			return;
+		}
+		if (statementInfo.fetchedResultSet != resultSetKey) {
+			statementInfo.finishFetch(-1);
+			statementInfo.fetchedResultSet = resultSetKey;
+			statementInfo.fetchStartNanos = System.nanoTime();
+			statementInfo.fetchCount++;
+			connectionInfo.fetchingStatement = statementInfo;
+		}
+		statementInfo.nextCount++;
+	}
+
+	private void endPendingStatementSpan(ConnectionInfo connectionInfo, StatementInfo statementInfo) {
+		if (!statementInfo.spanPending) {
+			return;
+		}
+		statementInfo.spanPending = false;
+		if (connectionInfo.fetchingStatement == statementInfo) {
+			connectionInfo.fetchingStatement = null;
+		}
+		if (connectionInfo.lastPendingStatement == statementInfo) {
+			connectionInfo.lastPendingStatement = null;
+		}
+		statementInfo.finishFetch(-1);
+		Span statementSpan = statementInfo.span.getSpan();
+		if (statementInfo.fetchCount > 0) {
+			Span span = SleuthJdbcSpan.JDBC_QUERY_SPAN.wrapIfAssertionsEnabled(statementSpan);
+			span.tag(SleuthJdbcSpan.QueryTags.FETCH_COUNT.getKey(), String.valueOf(statementInfo.fetchCount));
+			span.tag(SleuthJdbcSpan.QueryTags.FETCH_ROW_COUNT.getKey(), String.valueOf(statementInfo.fetchRowCount));
+			span.tag(SleuthJdbcSpan.QueryTags.FETCH_DURATION.getKey(),
+					String.valueOf(TimeUnit.NANOSECONDS.toMicros(statementInfo.fetchDurationNanos)));
+		}
+		if (log.isTraceEnabled()) {
+			log.trace("Closing statement span after fetches [" + statementSpan + "] - current span is ["
+					+ getTracer().currentSpan() + "]");
+		}
+		// the scope got closed after the query
+		statementSpan.end();
+	}
+
 	void afterStatementClose(CON connectionKey, STMT statementKey) {
 		if (log.isTraceEnabled()) {
 			log.trace("After statement close");
@@ -318,6 +413,7 @@ class TraceListenerStrategy<CON, STMT, RS> {
 		}
 		StatementInfo statementInfo = connectionInfo.nestedStatements.remove(statementKey);
 		if (statementInfo != null) {
+			endPendingStatementSpan(connectionInfo, statementInfo);
 			statementInfo.nestedResultSetSpans.forEach((resultSetKey, span) -> {
 				connectionInfo.nestedResultSetSpans.remove(resultSetKey);
 				if (log.isTraceEnabled()) {
@@ -342,14 +438,25 @@ class TraceListenerStrategy<CON, STMT, RS> {
 		if (connectionInfo == null) {
 			return;
 		}
+		if (this.aggregateFetches) {
+			StatementInfo statementInfo = connectionInfo.fetchingStatement;
+			if (statementInfo != null && statementInfo.fetchedResultSet == resultSetKey) {
+				statementInfo.finishFetch(rowCount);
+				if (t != null) {
+					statementInfo.span.getSpan().error(t);
+				}
+				endPendingStatementSpan(connectionInfo, statementInfo);
+			}
+			return;
+		}
 		SpanAndScope resultSetSpan = connectionInfo.nestedResultSetSpans.remove(resultSetKey);
 		// ResultSet span may be null if Statement or ResultSet were already closed
 		if (resultSetSpan == null) {
 			return;
 		}
 		if (rowCount != -1) {
-			AssertingSpan.of(SleuthJdbcSpan.JDBC_RESULT_SET_SPAN, resultSetSpan.getSpan())
-					.tag(SleuthJdbcSpan.QueryTags.ROW_COUNT, String.valueOf(rowCount));
+			SleuthJdbcSpan.JDBC_RESULT_SET_SPAN.wrapIfAssertionsEnabled(resultSetSpan.getSpan())
+					.tag(SleuthJdbcSpan.QueryTags.ROW_COUNT.getKey(), rowCount(rowCount));
 		}
 		if (t != null) {
 			resultSetSpan.getSpan().error(t);
@@ -378,8 +485,8 @@ class TraceListenerStrategy<CON, STMT, RS> {
 			if (t != null) {
 				connectionSpan.getSpan().error(t);
 			}
-			AssertingSpan.of(SleuthJdbcSpan.JDBC_QUERY_SPAN, connectionSpan.getSpan())
-					.event(SleuthJdbcSpan.QueryEvents.COMMIT);
+			SleuthJdbcSpan.JDBC_QUERY_SPAN.wrapIfAssertionsEnabled(connectionSpan.getSpan())
+					.event(SleuthJdbcSpan.QueryEvents.COMMIT.getValue());
 		}
 	}
 
@@ -400,8 +507,8 @@ class TraceListenerStrategy<CON, STMT, RS> {
 			else {
 				connectionSpan.getSpan().error(new JdbcException("Transaction rolled back"));
 			}
-			AssertingSpan.of(SleuthJdbcSpan.JDBC_QUERY_SPAN, connectionSpan.getSpan())
-					.event(SleuthJdbcSpan.QueryEvents.ROLLBACK);
+			SleuthJdbcSpan.JDBC_QUERY_SPAN.wrapIfAssertionsEnabled(connectionSpan.getSpan())
+					.event(SleuthJdbcSpan.QueryEvents.ROLLBACK.getValue());
 		}
 	}
 
@@ -420,7 +527,10 @@ class TraceListenerStrategy<CON, STMT, RS> {
 		connectionInfo.nestedResultSetSpans.values().forEach(SpanAndScope::close);
 		connectionInfo.nestedStatements.values().forEach(statementInfo -> {
 			SpanAndScope statementSpan = statementInfo.span;
-			if (statementSpan != null) {
+			if (statementInfo.spanPending) {
+				endPendingStatementSpan(connectionInfo, statementInfo);
+			}
+			else if (statementSpan != null) {
 				statementSpan.close();
 			}
 		});
@@ -443,6 +553,42 @@ class TraceListenerStrategy<CON, STMT, RS> {
 		}
 	}
 
+	/**
+	 * Removes the cached connection metadata of the given data source, so that it gets
+	 * parsed again for the next connection. Needed for data sources that route to
+	 * different databases under the same name.
+	 * @param dataSourceName name of the data source
+	 */
+	void invalidateConnectionMetadata(String dataSourceName) {
+		this.connectionMetadata.remove(dataSourceName);
+	}
+
+	/**
+	 * Removes the cached connection metadata of all data sources.
+	 */
+	void invalidateConnectionMetadata() {
+		this.connectionMetadata.clear();
+	}
+
+	private void parseAndSetServerIpAndPort(ConnectionInfo connectionInfo, Connection connection,
+			@Nullable String dataSourceName) {
+		ConnectionMetadata metadata = dataSourceName != null ? this.connectionMetadata.get(dataSourceName) : null;
+		if (metadata == null) {
+			metadata = parseConnectionMetadata(connection);
+			// failed parsing might be transient, so we don't cache it
+			if (dataSourceName != null && metadata.url != null) {
+				this.connectionMetadata.put(dataSourceName, metadata);
+			}
+		}
+		connectionInfo.url = metadata.url;
+		if (metadata.remoteServiceName != null) {
+			connectionInfo.remoteServiceName = metadata.remoteServiceName;
+		}
+		else {
+			connectionInfo.remoteServiceName = dataSourceName;
+		}
+	}
+
 	/**
 	 * This attempts to get the ip and port from the JDBC URL. Ex. localhost and 5555 from
 	 * {@code
@@ -450,8 +596,7 @@ class TraceListenerStrategy<CON, STMT, RS> {
 	 *
 	 * Taken from Brave.
 	 */
-	private void parseAndSetServerIpAndPort(ConnectionInfo connectionInfo, Connection connection,
-			String dataSourceName) {
+	private ConnectionMetadata parseConnectionMetadata(Connection connection) {
 		URI url = null;
 		String remoteServiceName = "";
 		try {
@@ -476,13 +621,11 @@ class TraceListenerStrategy<CON, STMT, RS> {
 		catch (Exception e) {
 			// remote address is optional
 		}
-		connectionInfo.url = url;
-		if (StringUtils.hasText(remoteServiceName)) {
-			connectionInfo.remoteServiceName = remoteServiceName;
-		}
-		else {
-			connectionInfo.remoteServiceName = dataSourceName;
-		}
+		return new ConnectionMetadata(url, StringUtils.hasText(remoteServiceName) ? remoteServiceName : null);
+	}
+
+	private static String rowCount(int rowCount) {
+		return rowCount >= 0 && rowCount < ROW_COUNTS.length ? ROW_COUNTS[rowCount] : String.valueOf(rowCount);
 	}
 
 	private Tracer getTracer() {
@@ -501,6 +644,14 @@ class TraceListenerStrategy<CON, STMT, RS> {
 
 		final Map<RS, SpanAndScope> nestedResultSetSpans = new ConcurrentHashMap<>();
 
+		// statement whose result set is being fetched, when fetches are aggregated
+		@Nullable
+		StatementInfo fetchingStatement;
+
+		// last executed statement whose span waits for fetches
+		@Nullable
+		StatementInfo lastPendingStatement;
+
 		@Nullable
 		URI url;
 
@@ -519,10 +670,57 @@ class TraceListenerStrategy<CON, STMT, RS> {
 
 		final Map<RS, SpanAndScope> nestedResultSetSpans = new ConcurrentHashMap<>();
 
+		// the fields below are used only when fetches are aggregated into the span
+
+		boolean spanPending;
+
+		@Nullable
+		RS fetchedResultSet;
+
+		long fetchStartNanos;
+
+		int nextCount;
+
+		int fetchCount;
+
+		long fetchRowCount;
+
+		long fetchDurationNanos;
+
 		StatementInfo(SpanAndScope span) {
 			this.span = span;
 		}
 
+		/**
+		 * Finishes fetching the current result set.
+		 * @param rowCount number of fetched rows or -1 if unknown, in which case the
+		 * number of {@link ResultSet#next()} calls is used
+		 */
+		void finishFetch(int rowCount) {
+			if (this.fetchedResultSet == null) {
+				return;
+			}
+			this.fetchDurationNanos += System.nanoTime() - this.fetchStartNanos;
+			this.fetchRowCount += rowCount != -1 ? rowCount : this.nextCount;
+			this.fetchedResultSet = null;
+			this.nextCount = 0;
+		}
+
+	}
+
+	private static final class ConnectionMetadata {
+
+		@Nullable
+		final URI url;
+
+		@Nullable
+		final String remoteServiceName;
+
+		ConnectionMetadata(@Nullable URI url, @Nullable String remoteServiceName) {
+			this.url = url;
+			this.remoteServiceName = remoteServiceName;
+		}
+
 	}
 
 	private static final class JdbcException extends RuntimeException {
@@ -51,7 +51,39 @@ public class TraceQueryExecutionListener implements QueryExecutionListener, Meth
 
 	public TraceQueryExecutionListener(BeanFactory beanFactory, List<TraceType> traceTypes,
 			List<TraceListenerStrategySpanCustomizer<? super CommonDataSource>> customizers) {
-		this.strategy = new TraceListenerStrategy<>(beanFactory, traceTypes, customizers);
+		this(beanFactory, traceTypes, false, customizers);
+	}
+
+	/**
+	 * @param beanFactory bean factory
+	 * @param traceTypes types of tracing to include
+	 * @param aggregateFetches whether {@link TraceType#FETCH} should be recorded on the
+	 * statement span instead of creating a span per result set
+	 * @param customizers span customizers
+	 * @since 3.1.11
+	 */
+	public TraceQueryExecutionListener(BeanFactory beanFactory, List<TraceType> traceTypes, boolean aggregateFetches,
+			List<TraceListenerStrategySpanCustomizer<? super CommonDataSource>> customizers) {
+		this.strategy = new TraceListenerStrategy<>(beanFactory, traceTypes, aggregateFetches, customizers);
+	}
+
+	/**
+	 * Removes the cached connection metadata (URL, remote service name) of the given data
+	 * source. Should be called when a data source starts routing to a different database
+	 * under the same name.
+	 * @param dataSourceName name of the data source
+	 * @since 3.1.11
+	 */
+	public void invalidateConnectionMetadata(String dataSourceName) {
+		this.strategy.invalidateConnectionMetadata(dataSourceName);
+	}
+
+	/**
+	 * Removes the cached connection metadata of all data sources.
+	 * @since 3.1.11
+	 */
+	public void invalidateConnectionMetadata() {
+		this.strategy.invalidateConnectionMetadata();
 	}
 
 	@Override
@@ -66,7 +98,17 @@ public class TraceQueryExecutionListener implements QueryExecutionListener, Meth
 					(int) execInfo.getResult());
 		}
 		String sql = queryInfoList.stream().map(QueryInfo::getQuery).collect(Collectors.joining("\n"));
-		this.strategy.afterQuery(execInfo.getConnectionId(), execInfo.getStatement(), sql, execInfo.getThrowable());
+		this.strategy.afterQuery(execInfo.getConnectionId(), execInfo.getStatement(), sql, execInfo.getThrowable(),
+				producedResultSet(execInfo));
+	}
+
+	private static boolean producedResultSet(ExecutionInfo execInfo) {
+		String methodName = execInfo.getMethod().getName();
+		if (methodName.equals("execute")) {
+			// execute returns true when the first result is a result set
+			return Boolean.TRUE.equals(execInfo.getResult());
+		}
+		return methodName.equals("executeQuery");
 	}
 
 	@Override
@@ -16,18 +16,39 @@
 
 package org.springframework.cloud.sleuth.instrument.kafka;
 
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+
 import org.apache.commons.logging.Log;
 import org.apache.commons.logging.LogFactory;
 import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.apache.kafka.clients.consumer.ConsumerRecords;
+import org.apache.kafka.common.TopicPartition;
 
 import org.springframework.cloud.sleuth.Span;
-import org.springframework.cloud.sleuth.docs.AssertingSpanBuilder;
+import org.springframework.cloud.sleuth.Tracer;
+import org.springframework.cloud.sleuth.internal.EncodingUtils;
 import org.springframework.cloud.sleuth.propagation.Propagator;
 
 final class KafkaTracingUtils {
 
 	private static final Log log = LogFactory.getLog(KafkaTracingUtils.class);
 
+	private static final String TRACEPARENT = "traceparent";
+
+	private static final String B3 = "b3";
+
+	private static final String B3_TRACE_ID = "X-B3-TraceId";
+
+	private static final int W3C_TRACE_ID_OFFSET = 3;
+
+	private static final int TRACE_ID_LENGTH = 32;
+
+	private static final int SHORT_TRACE_ID_LENGTH = 16;
+
+	private static final String HIGH_TRACE_ID_UNSET = "0000000000000000";
+
 	private KafkaTracingUtils() {
 	}
 
@@ -40,14 +61,144 @@ final class KafkaTracingUtils {
 		span.end();
 	}
 
+	/**
+	 * Creates and finishes a single span for the whole batch of records. Only the first
+	 * {@code maxUpstreamTraceIds} records get their context extracted, so that the
+	 * overhead doesn't grow with the size of the batch.
+	 */
+	static <K, V> void buildAndFinishBatchSpan(ConsumerRecords<K, V> consumerRecords, Tracer tracer,
+			Propagator propagator, Propagator.Getter<ConsumerRecord<?, ?>> extractor, int maxUpstreamTraceIds) {
+		SleuthKafkaSpan sleuthKafkaSpan = SleuthKafkaSpan.KAFKA_CONSUMER_BATCH_SPAN;
+		// @formatter:off
+		Span span = sleuthKafkaSpan.wrapIfAssertionsEnabled(tracer.spanBuilder().kind(Span.Kind.CONSUMER))
+				.name(sleuthKafkaSpan.getName())
+				.tag(SleuthKafkaSpan.BatchConsumerTags.TOPICS.getKey(), topics(consumerRecords))
+				.tag(SleuthKafkaSpan.BatchConsumerTags.RECORD_COUNT.getKey(), Integer.toString(consumerRecords.count()))
+				.start();
+		// @formatter:on
+		String upstreamTraceIds = upstreamTraceIds(consumerRecords, span.context().traceId(), propagator, extractor,
+				maxUpstreamTraceIds);
+		if (!upstreamTraceIds.isEmpty()) {
+			span.tag(SleuthKafkaSpan.BatchConsumerTags.UPSTREAM_TRACE_IDS.getKey(), upstreamTraceIds);
+		}
+		if (log.isDebugEnabled()) {
+			log.debug("Created span for a batch of [" + consumerRecords.count() + "] records " + span);
+		}
+		span.end();
+	}
+
+	private static String topics(ConsumerRecords<?, ?> consumerRecords) {
+		Set<String> topics = new LinkedHashSet<>();
+		for (TopicPartition partition : consumerRecords.partitions()) {
+			topics.add(partition.topic());
+		}
+		return String.join(",", topics);
+	}
+
+	/**
+	 * Reads the trace ids straight from the tracing headers of the records. Extracting
+	 * them through the {@link Propagator} would require starting a span per record. Only
+	 * the B3 and W3C headers that the propagator uses are read, so nothing gets tagged for
+	 * other propagation types. Invalid and all-zero trace ids are skipped.
+	 */
+	private static String upstreamTraceIds(ConsumerRecords<?, ?> consumerRecords, String batchTraceId,
+			Propagator propagator, Propagator.Getter<ConsumerRecord<?, ?>> extractor, int maxUpstreamTraceIds) {
+		if (maxUpstreamTraceIds <= 0) {
+			return "";
+		}
+		List<String> fields = propagator.fields();
+		String traceparent = field(fields, TRACEPARENT);
+		String b3 = field(fields, B3);
+		String b3TraceId = field(fields, B3_TRACE_ID);
+		if (traceparent == null && b3 == null && b3TraceId == null) {
+			return "";
+		}
+		Set<String> traceIds = new LinkedHashSet<>();
+		int inspected = 0;
+		for (ConsumerRecord<?, ?> consumerRecord : consumerRecords) {
+			if (inspected++ == maxUpstreamTraceIds) {
+				break;
+			}
+			String traceId = null;
+			if (traceparent != null) {
+				traceId = traceIdFromTraceparent(extractor.get(consumerRecord, traceparent));
+			}
+			if (traceId == null && b3 != null) {
+				traceId = traceIdFromB3(extractor.get(consumerRecord, b3));
+			}
+			if (traceId == null && b3TraceId != null) {
+				traceId = normalizeTraceId(extractor.get(consumerRecord, b3TraceId));
+			}
+			// records without tracing headers end up in the trace of the batch span
+			if (traceId != null && !batchTraceId.equals(traceId)) {
+				traceIds.add(traceId);
+			}
+		}
+		return String.join(",", traceIds);
+	}
+
+	/**
+	 * Header names are case-insensitive, so the field is looked up ignoring the case and
+	 * the name used by the propagator is returned.
+	 */
+	private static String field(List<String> fields, String name) {
+		for (String field : fields) {
+			if (name.equalsIgnoreCase(field)) {
+				return field;
+			}
+		}
+		return null;
+	}
+
+	private static String traceIdFromTraceparent(String traceparent) {
+		if (traceparent == null || traceparent.length() <= W3C_TRACE_ID_OFFSET + TRACE_ID_LENGTH
+				|| traceparent.charAt(W3C_TRACE_ID_OFFSET - 1) != '-') {
+			return null;
+		}
+		return normalizeTraceId(traceparent.substring(W3C_TRACE_ID_OFFSET, W3C_TRACE_ID_OFFSET + TRACE_ID_LENGTH));
+	}
+
+	private static String traceIdFromB3(String b3) {
+		if (b3 == null) {
+			return null;
+		}
+		int delimiter = b3.indexOf('-');
+		return delimiter > 0 ? normalizeTraceId(b3.substring(0, delimiter)) : null;
+	}
+
+	/**
+	 * Drops the unset high bits of 128-bit trace ids, the same way the tracers render
+	 * them. Returns {@code null} for ids that the tracers would reject.
+	 */
+	private static String normalizeTraceId(String traceId) {
+		if (traceId == null || (traceId.length() != TRACE_ID_LENGTH && traceId.length() != SHORT_TRACE_ID_LENGTH)
+				|| !EncodingUtils.isValidBase16String(traceId) || isAllZeros(traceId)) {
+			return null;
+		}
+		if (traceId.length() == TRACE_ID_LENGTH && traceId.startsWith(HIGH_TRACE_ID_UNSET)) {
+			return traceId.substring(HIGH_TRACE_ID_UNSET.length());
+		}
+		return traceId;
+	}
+
+	private static boolean isAllZeros(String traceId) {
+		for (int i = 0; i < traceId.length(); i++) {
+			if (traceId.charAt(i) != '0') {
+				return false;
+			}
+		}
+		return true;
+	}
+
 	static <K, V> Span buildSpan(SleuthKafkaSpan sleuthKafkaSpan, ConsumerRecord<K, V> consumerRecord,
 			Propagator propagator, Propagator.Getter<ConsumerRecord<?, ?>> extractor) {
 		// @formatter:off
-		Span.Builder spanBuilder = AssertingSpanBuilder.of(sleuthKafkaSpan, propagator.extract(consumerRecord, extractor).kind(Span.Kind.CONSUMER))
+		Span.Builder spanBuilder = sleuthKafkaSpan
+				.wrapIfAssertionsEnabled(propagator.extract(consumerRecord, extractor).kind(Span.Kind.CONSUMER))
 				.name(sleuthKafkaSpan.getName())
-				.tag(SleuthKafkaSpan.ConsumerTags.TOPIC, consumerRecord.topic())
-				.tag(SleuthKafkaSpan.ConsumerTags.OFFSET, Long.toString(consumerRecord.offset()))
-				.tag(SleuthKafkaSpan.ConsumerTags.PARTITION, Integer.toString(consumerRecord.partition()));
+				.tag(SleuthKafkaSpan.ConsumerTags.TOPIC.getKey(), consumerRecord.topic())
+				.tag(SleuthKafkaSpan.ConsumerTags.OFFSET.getKey(), Long.toString(consumerRecord.offset()))
+				.tag(SleuthKafkaSpan.ConsumerTags.PARTITION.getKey(), Integer.toString(consumerRecord.partition()));
 		// @formatter:on
 		return spanBuilder.start();
 	}
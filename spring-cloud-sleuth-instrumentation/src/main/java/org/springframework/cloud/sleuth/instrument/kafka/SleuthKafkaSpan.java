@@ -41,6 +41,27 @@ enum SleuthKafkaSpan implements DocumentedSpan {
 		}
 	},
 
+	/**
+	 * Span created on the Kafka consumer side for a whole batch of polled records when
+	 * the consumer runs in batch mode.
+	 */
+	KAFKA_CONSUMER_BATCH_SPAN {
+		@Override
+		public String getName() {
+			return "kafka.consume-batch";
+		}
+
+		@Override
+		public TagKey[] getTagKeys() {
+			return BatchConsumerTags.values();
+		}
+
+		@Override
+		public String prefix() {
+			return "kafka.";
+		}
+	},
+
 	/**
 	 * Span created on the Kafka consumer side when using a MessageListener.
 	 */
@@ -115,6 +136,42 @@ enum SleuthKafkaSpan implements DocumentedSpan {
 
 	}
 
+	enum BatchConsumerTags implements TagKey {
+
+		/**
+		 * Comma separated names of the Kafka topics of the polled records.
+		 */
+		TOPICS {
+			@Override
+			public String getKey() {
+				return "kafka.topics";
+			}
+		},
+
+		/**
+		 * Number of polled records.
+		 */
+		RECORD_COUNT {
+			@Override
+			public String getKey() {
+				return "kafka.record-count";
+			}
+		},
+
+		/**
+		 * Comma separated, distinct trace ids read from the B3 or W3C headers of the
+		 * first polled records (the number of inspected records is capped). Not set for
+		 * other propagation types.
+		 */
+		UPSTREAM_TRACE_IDS {
+			@Override
+			public String getKey() {
+				return "kafka.upstream-trace-ids";
+			}
+		}
+
+	}
+
 	enum ProducerTags implements TagKey {
 
 		/**
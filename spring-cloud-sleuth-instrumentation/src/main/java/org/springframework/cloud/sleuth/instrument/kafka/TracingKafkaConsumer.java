@@ -39,6 +39,7 @@ import org.apache.kafka.common.TopicPartition;
 
 import org.springframework.beans.factory.BeanFactory;
 import org.springframework.cloud.sleuth.Span;
+import org.springframework.cloud.sleuth.Tracer;
 import org.springframework.cloud.sleuth.propagation.Propagator;
 import org.springframework.core.ParameterizedTypeReference;
 import org.springframework.core.ResolvableType;
@@ -48,6 +49,11 @@ import org.springframework.core.ResolvableType;
  * {@link Span.Kind#CONSUMER} span for each record received. This span will be a child
  * span of the one extracted from the record headers.
  *
+ * In batch mode a single {@link Span.Kind#CONSUMER} span is created for each non empty
+ * batch of polled records instead. It is tagged with the trace ids extracted from the
+ * headers of at most {@code maxUpstreamTraceIds} records. A span for a given record can
+ * still be created on demand via {@link #nextSpan(ConsumerRecord)}.
+ *
  * @author Anders Clausen
  * @author Flaviu Muresan
  * @since 3.1.0
@@ -58,13 +64,35 @@ public class TracingKafkaConsumer<K, V> implements Consumer<K, V> {
 
 	private final Consumer<K, V> delegate;
 
+	private final boolean batchMode;
+
+	private final int maxUpstreamTraceIds;
+
 	private Propagator propagator;
 
 	private Propagator.Getter<ConsumerRecord<?, ?>> extractor;
 
+	private Tracer tracer;
+
 	public TracingKafkaConsumer(Consumer<K, V> consumer, BeanFactory beanFactory) {
+		this(consumer, beanFactory, false, 0);
+	}
+
+	/**
+	 * @param consumer consumer to decorate
+	 * @param beanFactory bean factory
+	 * @param batchMode whether a single span should be created per batch of polled
+	 * records instead of a span per record
+	 * @param maxUpstreamTraceIds maximum number of records, per batch, from which the
+	 * upstream trace ids get extracted in batch mode
+	 * @since 3.1.11
+	 */
+	public TracingKafkaConsumer(Consumer<K, V> consumer, BeanFactory beanFactory, boolean batchMode,
+			int maxUpstreamTraceIds) {
 		this.delegate = consumer;
 		this.beanFactory = beanFactory;
+		this.batchMode = batchMode;
+		this.maxUpstreamTraceIds = maxUpstreamTraceIds;
 	}
 
 	private Propagator propagator() {
@@ -85,6 +113,41 @@ public class TracingKafkaConsumer<K, V> implements Consumer<K, V> {
 		return this.extractor;
 	}
 
+	private Tracer tracer() {
+		if (this.tracer == null) {
+			this.tracer = this.beanFactory.getBean(Tracer.class);
+		}
+		return this.tracer;
+	}
+
+	/**
+	 * Creates and starts a {@link Span.Kind#CONSUMER} span that is a child of the one
+	 * extracted from the record headers. Useful in batch mode when a record gets
+	 * processed on its own. The caller is responsible for ending the span.
+	 * @param consumerRecord record for which the span should be created
+	 * @return started span
+	 * @since 3.1.11
+	 */
+	public Span nextSpan(ConsumerRecord<?, ?> consumerRecord) {
+		return KafkaTracingUtils.buildSpan(SleuthKafkaSpan.KAFKA_CONSUMER_SPAN, consumerRecord, propagator(),
+				extractor());
+	}
+
+	private void traceRecords(ConsumerRecords<K, V> consumerRecords) {
+		if (consumerRecords.isEmpty()) {
+			return;
+		}
+		if (this.batchMode) {
+			KafkaTracingUtils.buildAndFinishBatchSpan(consumerRecords, tracer(), propagator(), extractor(),
+					this.maxUpstreamTraceIds);
+			return;
+		}
+		for (ConsumerRecord<K, V> consumerRecord : consumerRecords) {
+			KafkaTracingUtils.buildAndFinishSpan(SleuthKafkaSpan.KAFKA_CONSUMER_SPAN, consumerRecord, propagator(),
+					extractor());
+		}
+	}
+
 	@Override
 	public Set<TopicPartition> assignment() {
 		return this.delegate.assignment();
@@ -129,20 +192,14 @@ public class TracingKafkaConsumer<K, V> implements Consumer<K, V> {
 	@Override
 	public ConsumerRecords<K, V> poll(long l) {
 		ConsumerRecords<K, V> consumerRecords = this.delegate.poll(l);
-		for (ConsumerRecord<K, V> consumerRecord : consumerRecords) {
-			KafkaTracingUtils.buildAndFinishSpan(SleuthKafkaSpan.KAFKA_CONSUMER_SPAN, consumerRecord, propagator(),
-					extractor());
-		}
+		traceRecords(consumerRecords);
 		return consumerRecords;
 	}
 
 	@Override
 	public ConsumerRecords<K, V> poll(Duration duration) {
 		ConsumerRecords<K, V> consumerRecords = this.delegate.poll(duration);
-		for (ConsumerRecord<K, V> consumerRecord : consumerRecords) {
-			KafkaTracingUtils.buildAndFinishSpan(SleuthKafkaSpan.KAFKA_CONSUMER_SPAN, consumerRecord, propagator(),
-					extractor());
-		}
+		traceRecords(consumerRecords);
 		return consumerRecords;
 	}
 
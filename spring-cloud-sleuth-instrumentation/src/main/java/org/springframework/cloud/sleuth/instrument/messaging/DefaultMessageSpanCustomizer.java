@@ -100,15 +100,15 @@ public class DefaultMessageSpanCustomizer implements MessageSpanCustomizer {
 
 	private void addTags(SpanCustomizer result, MessageChannel channel) {
 		if (channel != null) {
-			SleuthMessagingSpan.MESSAGING_SPAN.wrap(result).tag(SleuthMessagingSpan.Tags.CHANNEL,
-					messageChannelName(channel));
+			SleuthMessagingSpan.MESSAGING_SPAN.wrapIfAssertionsEnabled(result)
+					.tag(SleuthMessagingSpan.Tags.CHANNEL.getKey(), messageChannelName(channel));
 		}
 	}
 
 	private void addTags(Span.Builder result, MessageChannel channel) {
 		if (channel != null) {
-			SleuthMessagingSpan.MESSAGING_SPAN.wrap(result).tag(SleuthMessagingSpan.Tags.CHANNEL,
-					messageChannelName(channel));
+			SleuthMessagingSpan.MESSAGING_SPAN.wrapIfAssertionsEnabled(result)
+					.tag(SleuthMessagingSpan.Tags.CHANNEL.getKey(), messageChannelName(channel));
 		}
 	}
 
@@ -18,12 +18,14 @@ package org.springframework.cloud.sleuth.instrument.messaging;
 
 import java.util.Collections;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 
 import org.apache.commons.logging.Log;
 import org.apache.commons.logging.LogFactory;
 
+import org.springframework.cloud.sleuth.TraceContext;
 import org.springframework.cloud.sleuth.propagation.Propagator;
 import org.springframework.messaging.support.MessageHeaderAccessor;
 import org.springframework.messaging.support.NativeMessageHeaderAccessor;
@@ -53,13 +55,16 @@ public class MessageHeaderPropagatorSetter implements Propagator.Setter<MessageH
 	}
 
 	static void removeAnyTraceHeaders(MessageHeaderAccessor accessor, List<String> keysToRemove) {
+		if (accessor instanceof NativeMessageHeaderAccessor && accessor.isMutable()) {
+			// 1184 native headers can be an immutable map
+			ensureNativeHeadersAreMutable((NativeMessageHeaderAccessor) accessor);
+		}
 		for (String keyToRemove : keysToRemove) {
 			accessor.removeHeader(keyToRemove);
 			if (accessor instanceof NativeMessageHeaderAccessor) {
 				NativeMessageHeaderAccessor nativeAccessor = (NativeMessageHeaderAccessor) accessor;
 				if (accessor.isMutable()) {
-					// 1184 native headers can be an immutable map
-					ensureNativeHeadersAreMutable(nativeAccessor).removeNativeHeader(keyToRemove);
+					nativeAccessor.removeNativeHeader(keyToRemove);
 				}
 			}
 			else {
@@ -71,6 +76,27 @@ public class MessageHeaderPropagatorSetter implements Propagator.Setter<MessageH
 		}
 	}
 
+	/**
+	 * Injects the context into the message headers. When the default setter is used, all
+	 * propagation fields are collected first and then written in a single pass, so that
+	 * the native headers get copied once per message instead of once per field.
+	 * @param propagator propagator
+	 * @param context context to inject
+	 * @param accessor message headers
+	 * @param setter setter to use
+	 */
+	static void inject(Propagator propagator, TraceContext context, MessageHeaderAccessor accessor,
+			Propagator.Setter<MessageHeaderAccessor> setter) {
+		// custom setters and subclasses have to see every single field
+		if (setter.getClass() != MessageHeaderPropagatorSetter.class) {
+			propagator.inject(context, accessor, setter);
+			return;
+		}
+		Map<String, String> headers = new LinkedHashMap<>();
+		propagator.inject(context, headers, Map::put);
+		((MessageHeaderPropagatorSetter) setter).setAll(accessor, headers);
+	}
+
 	/**
 	 * Since for some reason, the native headers sometimes are immutable even though the
 	 * accessor says that the headers are mutable, then we have to ensure their
@@ -102,6 +128,47 @@ public class MessageHeaderPropagatorSetter implements Propagator.Setter<MessageH
 		}
 	}
 
+	void setAll(MessageHeaderAccessor accessor, Map<String, String> headers) {
+		if (headers.isEmpty()) {
+			return;
+		}
+		try {
+			doPutAll(accessor, headers);
+		}
+		catch (Exception ex) {
+			if (log.isDebugEnabled()) {
+				log.debug("An exception happened when we tried to set the " + headers.keySet() + " on message", ex);
+			}
+		}
+	}
+
+	private void doPutAll(MessageHeaderAccessor accessor, Map<String, String> headers) {
+		for (Map.Entry<String, String> entry : headers.entrySet()) {
+			accessor.setHeader(entry.getKey(), entry.getValue());
+		}
+		if (accessor instanceof NativeMessageHeaderAccessor) {
+			NativeMessageHeaderAccessor nativeAccessor = ensureNativeHeadersAreMutable(
+					(NativeMessageHeaderAccessor) accessor);
+			for (Map.Entry<String, String> entry : headers.entrySet()) {
+				nativeAccessor.setNativeHeader(entry.getKey(), entry.getValue());
+			}
+		}
+		else {
+			Object nativeHeaders = accessor.getHeader(NativeMessageHeaderAccessor.NATIVE_HEADERS);
+			if (nativeHeaders == null) {
+				nativeHeaders = new LinkedMultiValueMap<>();
+				accessor.setHeader(NativeMessageHeaderAccessor.NATIVE_HEADERS, nativeHeaders);
+			}
+			if (nativeHeaders instanceof Map<?, ?>) {
+				Map<String, List<String>> copy = toNativeHeaderMap((Map<String, List<String>>) nativeHeaders);
+				for (Map.Entry<String, String> entry : headers.entrySet()) {
+					copy.put(entry.getKey(), Collections.singletonList(entry.getValue()));
+				}
+				accessor.setHeader(NativeMessageHeaderAccessor.NATIVE_HEADERS, copy);
+			}
+		}
+	}
+
 	private void doPut(MessageHeaderAccessor accessor, String key, String value) {
 		accessor.setHeader(key, value);
 		if (accessor instanceof NativeMessageHeaderAccessor) {
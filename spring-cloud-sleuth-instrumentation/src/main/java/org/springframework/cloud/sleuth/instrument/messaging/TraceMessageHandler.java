@@ -101,8 +101,8 @@ class TraceMessageHandler {
 	static TraceMessageHandler forNonSpringIntegration(Tracer tracer, Propagator propagator,
 			Propagator.Setter<MessageHeaderAccessor> injector, Propagator.Getter<MessageHeaderAccessor> extractor,
 			List<FunctionMessageSpanCustomizer> customizers) {
-		Function<Span, Span> preSendFunction = span -> SleuthMessagingSpan.MESSAGING_SPAN.wrap(tracer.nextSpan(span))
-				.name("function").start();
+		Function<Span, Span> preSendFunction = span -> SleuthMessagingSpan.MESSAGING_SPAN
+				.wrapIfAssertionsEnabled(tracer.nextSpan(span)).name("function").start();
 		TriConsumer<MessageHeaderAccessor, Span, Span> preSendMessageManipulator = (headers, parentSpan, childSpan) -> {
 			headers.setHeader("traceHandlerParentSpan", parentSpan);
 			headers.setHeader(Span.class.getName(), childSpan);
@@ -150,7 +150,7 @@ class TraceMessageHandler {
 	MessageAndSpans wrapInputMessage(Message<?> message, String destinationName) {
 		MessageHeaderAccessor headers = mutableHeaderAccessor(message);
 		Span.Builder consumerSpanBuilder = SleuthMessagingSpan.MESSAGING_SPAN
-				.wrap(this.propagator.extract(headers, this.extractor));
+				.wrapIfAssertionsEnabled(this.propagator.extract(headers, this.extractor));
 		Span consumerSpan = consumerSpan(destinationName, consumerSpanBuilder, message);
 		if (log.isDebugEnabled()) {
 			log.debug("Built a consumer span " + consumerSpan);
@@ -195,8 +195,8 @@ class TraceMessageHandler {
 
 	private void addTags(Span.Builder result, String destinationName) {
 		if (StringUtils.hasText(destinationName)) {
-			SleuthMessagingSpan.MESSAGING_SPAN.wrap(result).tag(SleuthMessagingSpan.Tags.CHANNEL,
-					SpanNameUtil.shorten(destinationName));
+			SleuthMessagingSpan.MESSAGING_SPAN.wrapIfAssertionsEnabled(result)
+					.tag(SleuthMessagingSpan.Tags.CHANNEL.getKey(), SpanNameUtil.shorten(destinationName));
 		}
 	}
 
@@ -237,7 +237,7 @@ class TraceMessageHandler {
 		Span.Builder span = this.outputMessageSpanFunction.apply(parentSpan);
 		clearTracingHeaders(headers);
 		Span producerSpan = createProducerSpan(headers, span, destinationName, message);
-		this.propagator.inject(producerSpan.context(), headers, this.injector);
+		MessageHeaderPropagatorSetter.inject(this.propagator, producerSpan.context(), headers, this.injector);
 		if (log.isDebugEnabled()) {
 			log.debug("Created a new span output message " + span);
 		}
@@ -39,6 +39,7 @@ import org.springframework.messaging.support.ExecutorChannelInterceptor;
 import org.springframework.messaging.support.GenericMessage;
 import org.springframework.messaging.support.MessageHeaderAccessor;
 import org.springframework.util.ClassUtils;
+import org.springframework.util.ConcurrentLruCache;
 import org.springframework.util.StringUtils;
 
 /**
@@ -104,6 +105,18 @@ public final class TracingChannelInterceptor implements ExecutorChannelIntercept
 
 	private final Function<String, String> remoteServiceNameMapper;
 
+	/**
+	 * Results of the {@link #remoteServiceNameMapper} per header name, an empty string
+	 * when the header name is not mapped.
+	 */
+	private final ConcurrentLruCache<String, String> remoteServiceNamesByHeader;
+
+	/**
+	 * Remote service name resolved from the registered binders, used when none of the
+	 * headers are mapped. The binders are known at startup so it is resolved once.
+	 */
+	private volatile String binderRemoteServiceName;
+
 	private ApplicationContext applicationContext;
 
 	public TracingChannelInterceptor(Tracer tracer, Propagator propagator,
@@ -114,6 +127,7 @@ public final class TracingChannelInterceptor implements ExecutorChannelIntercept
 		this.injector = setter;
 		this.extractor = getter;
 		this.remoteServiceNameMapper = remoteServiceNameMapper;
+		this.remoteServiceNamesByHeader = new ConcurrentLruCache<>(256, this::mapRemoteServiceName);
 		this.messageSpanCustomizer = messageSpanCustomizer;
 		this.threadLocalSpan = new ThreadLocalSpan(tracer);
 	}
@@ -135,11 +149,11 @@ public final class TracingChannelInterceptor implements ExecutorChannelIntercept
 		MessageHeaderPropagatorSetter.removeAnyTraceHeaders(headers, this.propagator.fields());
 		spanBuilder = spanBuilder.kind(Span.Kind.PRODUCER);
 		spanBuilder = this.messageSpanCustomizer.customizeSend(spanBuilder, message, channel)
-				.remoteServiceName(toRemoteServiceName(headers, remoteServiceNameMapper, applicationContext));
+				.remoteServiceName(toRemoteServiceName(headers));
 		Span span = spanBuilder.start();
 		log.debug(() -> "Extracted result from headers " + span);
 		setSpanInScope(span);
-		this.propagator.inject(span.context(), headers, this.injector);
+		MessageHeaderPropagatorSetter.inject(this.propagator, span.context(), headers, this.injector);
 		log.debug(() -> "Created a new span in pre send " + span);
 		Message<?> outputMessage = outputMessage(message, retrievedMessage, headers);
 		if (isDirectChannel(channel)) {
@@ -153,22 +167,35 @@ public final class TracingChannelInterceptor implements ExecutorChannelIntercept
 		log.debug(() -> "Put span in scope " + span);
 	}
 
-	private static String toRemoteServiceName(MessageHeaderAccessor headers,
-			Function<String, String> remoteServiceNameMapper, ApplicationContext applicationContext) {
-
+	private String toRemoteServiceName(MessageHeaderAccessor headers) {
 		for (String key : headers.getMessageHeaders().keySet()) {
-			String remoteServiceName = remoteServiceNameMapper.apply(key);
-			if (StringUtils.hasText(remoteServiceName)) {
+			String remoteServiceName = this.remoteServiceNamesByHeader.get(key);
+			if (!remoteServiceName.isEmpty()) {
 				return remoteServiceName;
 			}
 		}
+		String remoteServiceName = this.binderRemoteServiceName;
+		if (remoteServiceName == null) {
+			remoteServiceName = binderRemoteServiceName();
+			if (this.applicationContext != null) {
+				this.binderRemoteServiceName = remoteServiceName;
+			}
+		}
+		return remoteServiceName;
+	}
+
+	private String mapRemoteServiceName(String key) {
+		String remoteServiceName = this.remoteServiceNameMapper.apply(key);
+		return StringUtils.hasText(remoteServiceName) ? remoteServiceName : "";
+	}
 
-		if (hasBinderTypeRegistry && applicationContext != null) {
-			org.springframework.cloud.stream.binder.BinderTypeRegistry typeRegistry = applicationContext
+	private String binderRemoteServiceName() {
+		if (hasBinderTypeRegistry && this.applicationContext != null) {
+			org.springframework.cloud.stream.binder.BinderTypeRegistry typeRegistry = this.applicationContext
 					.getBean(org.springframework.cloud.stream.binder.BinderTypeRegistry.class);
 			Set<String> binderNames = typeRegistry.getAll().keySet();
 			for (String binderName : binderNames) {
-				String remoteServiceName = remoteServiceNameMapper.apply(binderName);
+				String remoteServiceName = this.remoteServiceNameMapper.apply(binderName);
 				if (StringUtils.hasText(remoteServiceName)) {
 					return remoteServiceName;
 				}
@@ -226,7 +253,7 @@ public final class TracingChannelInterceptor implements ExecutorChannelIntercept
 		Span span = consumerSpanReceive(message, channel, headers, result);
 		setSpanInScope(span);
 		log.debug(() -> "Created a new span that will be injected in the headers " + span);
-		this.propagator.inject(span.context(), headers, this.injector);
+		MessageHeaderPropagatorSetter.inject(this.propagator, span.context(), headers, this.injector);
 		log.debug(() -> "Created a new span in post receive " + span);
 		headers.setImmutable();
 		if (message instanceof ErrorMessage) {
@@ -243,7 +270,7 @@ public final class TracingChannelInterceptor implements ExecutorChannelIntercept
 		MessageHeaderPropagatorSetter.removeAnyTraceHeaders(headers, this.propagator.fields());
 		builder = builder.kind(Span.Kind.CONSUMER);
 		builder = this.messageSpanCustomizer.customizeReceive(builder, message, channel);
-		builder = builder.remoteServiceName(toRemoteServiceName(headers, remoteServiceNameMapper, applicationContext));
+		builder = builder.remoteServiceName(toRemoteServiceName(headers));
 		return builder.start();
 	}
 
@@ -26,7 +26,6 @@ import org.quartz.TriggerListener;
 
 import org.springframework.cloud.sleuth.Span;
 import org.springframework.cloud.sleuth.Tracer;
-import org.springframework.cloud.sleuth.docs.AssertingSpan;
 import org.springframework.cloud.sleuth.propagation.Propagator;
 
 /**
@@ -67,8 +66,8 @@ public class TracingJobListener implements JobListener, TriggerListener {
 	@Override
 	public void triggerFired(Trigger trigger, JobExecutionContext context) {
 		Span nextSpan = propagator.extract(context.getMergedJobDataMap(), GETTER).start();
-		AssertingSpan span = SleuthQuartzSpan.QUARTZ_TRIGGER_SPAN.wrap(nextSpan)
-				.tag(SleuthQuartzSpan.Tags.TRIGGER, context.getTrigger().getKey().toString())
+		Span span = SleuthQuartzSpan.QUARTZ_TRIGGER_SPAN.wrapIfAssertionsEnabled(nextSpan)
+				.tag(SleuthQuartzSpan.Tags.TRIGGER.getKey(), context.getTrigger().getKey().toString())
 				.name(context.getTrigger().getJobKey().toString());
 		context.put(CONTEXT_SPAN_KEY, span);
 		context.put(CONTEXT_SPAN_IN_SCOPE_KEY, tracer.withSpan(span.start()));
@@ -29,9 +29,8 @@ import org.springframework.beans.factory.BeanFactory;
 import org.springframework.boot.autoconfigure.r2dbc.R2dbcProperties;
 import org.springframework.cloud.sleuth.Span;
 import org.springframework.cloud.sleuth.Tracer;
-import org.springframework.cloud.sleuth.docs.AssertingSpan;
-import org.springframework.cloud.sleuth.docs.AssertingSpanBuilder;
 import org.springframework.cloud.sleuth.internal.ContextUtil;
+import org.springframework.lang.Nullable;
 import org.springframework.util.StringUtils;
 
 /**
@@ -44,15 +43,41 @@ public class TraceProxyExecutionListener implements ProxyExecutionListener {
 
 	private static final Log log = LogFactory.getLog(TraceProxyExecutionListener.class);
 
+	// tag keys of the first queries of a batch, so that they don't get formatted per query
+	private static final String[] QUERY_TAG_KEYS = new String[16];
+
+	static {
+		for (int i = 0; i < QUERY_TAG_KEYS.length; i++) {
+			QUERY_TAG_KEYS[i] = String.format(SleuthR2dbcSpan.Tags.QUERY.getKey(), i);
+		}
+	}
+
 	private final BeanFactory beanFactory;
 
 	private final ConnectionFactory connectionFactory;
 
+	private final int queryMaxLength;
+
 	private Tracer tracer;
 
+	private ConnectionMetadata connectionMetadata;
+
 	public TraceProxyExecutionListener(BeanFactory beanFactory, ConnectionFactory connectionFactory) {
+		this(beanFactory, connectionFactory, -1);
+	}
+
+	/**
+	 * @param beanFactory bean factory
+	 * @param connectionFactory traced connection factory
+	 * @param queryMaxLength maximum length of the query tag values, longer queries get
+	 * truncated and suffixed with their hash; a negative value means no limit
+	 * @since 3.1.11
+	 */
+	public TraceProxyExecutionListener(BeanFactory beanFactory, ConnectionFactory connectionFactory,
+			int queryMaxLength) {
 		this.beanFactory = beanFactory;
 		this.connectionFactory = connectionFactory;
+		this.queryMaxLength = queryMaxLength;
 	}
 
 	@Override
@@ -66,8 +91,7 @@ public class TraceProxyExecutionListener implements ProxyExecutionListener {
 		else if (tracer().currentSpan() == null) {
 			return;
 		}
-		String name = this.connectionFactory.getMetadata().getName();
-		AssertingSpan span = clientSpan(executionInfo, name);
+		Span span = clientSpan(executionInfo, connectionMetadata().name);
 		if (log.isDebugEnabled()) {
 			log.debug("Created a new child span before query [" + span + "]");
 		}
@@ -75,20 +99,56 @@ public class TraceProxyExecutionListener implements ProxyExecutionListener {
 		executionInfo.getValueStore().put(Span.class, span);
 	}
 
-	AssertingSpan clientSpan(QueryExecutionInfo executionInfo, String name) {
-		R2dbcProperties r2dbcProperties = this.beanFactory.getBean(R2dbcProperties.class);
-		String url = r2dbcProperties.getUrl();
+	Span clientSpan(QueryExecutionInfo executionInfo, String name) {
+		ConnectionMetadata connectionMetadata = connectionMetadata();
 		// @formatter:off
-		AssertingSpanBuilder builder = AssertingSpanBuilder.of(SleuthR2dbcSpan.R2DBC_QUERY_SPAN, tracer.spanBuilder())
+		Span.Builder builder = SleuthR2dbcSpan.R2DBC_QUERY_SPAN.wrapIfAssertionsEnabled(tracer().spanBuilder())
 				.kind(Span.Kind.CLIENT)
 				.name(SleuthR2dbcSpan.R2DBC_QUERY_SPAN.getName()).remoteServiceName(name)
-				.tag(SleuthR2dbcSpan.Tags.CONNECTION, name)
-				.tag(SleuthR2dbcSpan.Tags.THREAD, executionInfo.getThreadName());
+				.tag(SleuthR2dbcSpan.Tags.CONNECTION.getKey(), name)
+				.tag(SleuthR2dbcSpan.Tags.THREAD.getKey(), executionInfo.getThreadName());
 		// @formatter:on
+		if (connectionMetadata.host != null) {
+			builder.remoteIpAndPort(connectionMetadata.host, connectionMetadata.port);
+		}
+		return builder.start();
+	}
+
+	private void tagQueries(QueryExecutionInfo executionInfo, Span span) {
+		int i = 0;
+		for (QueryInfo queryInfo : executionInfo.getQueries()) {
+			String key = i < QUERY_TAG_KEYS.length ? QUERY_TAG_KEYS[i]
+					: String.format(SleuthR2dbcSpan.Tags.QUERY.getKey(), i);
+			span.tag(key, queryValue(queryInfo.getQuery()));
+			i = i + 1;
+		}
+	}
+
+	private String queryValue(String query) {
+		if (this.queryMaxLength < 0 || query == null || query.length() <= this.queryMaxLength) {
+			return query;
+		}
+		// the hash tells apart queries that share the same beginning
+		return query.substring(0, this.queryMaxLength) + "...#" + Integer.toHexString(query.hashCode());
+	}
+
+	// the connection factory and the properties don't change, so there's no need to
+	// resolve the metadata per query
+	private ConnectionMetadata connectionMetadata() {
+		if (this.connectionMetadata == null) {
+			this.connectionMetadata = resolveConnectionMetadata();
+		}
+		return this.connectionMetadata;
+	}
+
+	private ConnectionMetadata resolveConnectionMetadata() {
+		String name = this.connectionFactory.getMetadata().getName();
+		R2dbcProperties r2dbcProperties = this.beanFactory.getBean(R2dbcProperties.class);
+		String url = r2dbcProperties.getUrl();
 		if (StringUtils.hasText(url)) {
 			try {
 				URI uri = URI.create(url);
-				builder.remoteIpAndPort(uri.getHost(), uri.getPort());
+				return new ConnectionMetadata(name, uri.getHost(), uri.getPort());
 			}
 			catch (Exception e) {
 				if (log.isDebugEnabled()) {
@@ -96,15 +156,7 @@ public class TraceProxyExecutionListener implements ProxyExecutionListener {
 				}
 			}
 		}
-		return builder.start();
-	}
-
-	private void tagQueries(QueryExecutionInfo executionInfo, AssertingSpan span) {
-		int i = 0;
-		for (QueryInfo queryInfo : executionInfo.getQueries()) {
-			span.tag(String.format(SleuthR2dbcSpan.Tags.QUERY.getKey(), i), queryInfo.getQuery());
-			i = i + 1;
-		}
+		return new ConnectionMetadata(name, null, 0);
 	}
 
 	@Override
@@ -141,7 +193,8 @@ public class TraceProxyExecutionListener implements ProxyExecutionListener {
 			if (log.isDebugEnabled()) {
 				log.debug("Marking after query result for span [" + span + "]");
 			}
-			SleuthR2dbcSpan.R2DBC_QUERY_SPAN.wrap(span).event(SleuthR2dbcSpan.Events.QUERY_RESULT);
+			SleuthR2dbcSpan.R2DBC_QUERY_SPAN.wrapIfAssertionsEnabled(span)
+					.event(SleuthR2dbcSpan.Events.QUERY_RESULT.getValue());
 		}
 	}
 
@@ -156,4 +209,21 @@ public class TraceProxyExecutionListener implements ProxyExecutionListener {
 		return this.tracer;
 	}
 
+	private static final class ConnectionMetadata {
+
+		final String name;
+
+		@Nullable
+		final String host;
+
+		final int port;
+
+		ConnectionMetadata(String name, @Nullable String host, int port) {
+			this.name = name;
+			this.host = host;
+			this.port = port;
+		}
+
+	}
+
 }
@@ -20,6 +20,7 @@ import org.apache.commons.logging.Log;
 import org.apache.commons.logging.LogFactory;
 import org.reactivestreams.Subscriber;
 import org.reactivestreams.Subscription;
+import reactor.core.Fuseable;
 import reactor.core.Scannable;
 import reactor.util.context.Context;
 
@@ -48,6 +49,9 @@ final class ScopePassingSpanSubscriber<T> implements SpanSubscription<T>, Scanna
 
 	private Subscription s;
 
+	@Nullable
+	private Fuseable.QueueSubscription<T> qs;
+
 	ScopePassingSpanSubscriber(Subscriber<? super T> subscriber, Context ctx, CurrentTraceContext currentTraceContext,
 			@Nullable TraceContext parent) {
 		this.subscriber = subscriber;
@@ -62,8 +66,16 @@ final class ScopePassingSpanSubscriber<T> implements SpanSubscription<T>, Scanna
 	}
 
 	@Override
+	@SuppressWarnings("unchecked")
 	public void onSubscribe(Subscription subscription) {
 		this.s = subscription;
+		if (subscription instanceof Fuseable.QueueSubscription) {
+			this.qs = (Fuseable.QueueSubscription<T>) subscription;
+		}
+		if (isParentInScope()) {
+			this.subscriber.onSubscribe(this);
+			return;
+		}
 		try (CurrentTraceContext.Scope scope = this.currentTraceContext.maybeScope(this.parent)) {
 			this.subscriber.onSubscribe(this);
 		}
@@ -71,6 +83,10 @@ final class ScopePassingSpanSubscriber<T> implements SpanSubscription<T>, Scanna
 
 	@Override
 	public void request(long n) {
+		if (isParentInScope()) {
+			this.s.request(n);
+			return;
+		}
 		try (CurrentTraceContext.Scope scope = this.currentTraceContext.maybeScope(this.parent)) {
 			this.s.request(n);
 		}
@@ -78,6 +94,10 @@ final class ScopePassingSpanSubscriber<T> implements SpanSubscription<T>, Scanna
 
 	@Override
 	public void cancel() {
+		if (isParentInScope()) {
+			this.s.cancel();
+			return;
+		}
 		try (CurrentTraceContext.Scope scope = this.currentTraceContext.maybeScope(this.parent)) {
 			this.s.cancel();
 		}
@@ -85,6 +105,10 @@ final class ScopePassingSpanSubscriber<T> implements SpanSubscription<T>, Scanna
 
 	@Override
 	public void onNext(T o) {
+		if (isParentInScope()) {
+			this.subscriber.onNext(o);
+			return;
+		}
 		try (CurrentTraceContext.Scope scope = this.currentTraceContext.maybeScope(this.parent)) {
 			this.subscriber.onNext(o);
 		}
@@ -92,6 +116,10 @@ final class ScopePassingSpanSubscriber<T> implements SpanSubscription<T>, Scanna
 
 	@Override
 	public void onError(Throwable throwable) {
+		if (isParentInScope()) {
+			this.subscriber.onError(throwable);
+			return;
+		}
 		try (CurrentTraceContext.Scope scope = this.currentTraceContext.maybeScope(this.parent)) {
 			this.subscriber.onError(throwable);
 		}
@@ -99,11 +127,65 @@ final class ScopePassingSpanSubscriber<T> implements SpanSubscription<T>, Scanna
 
 	@Override
 	public void onComplete() {
+		if (isParentInScope()) {
+			this.subscriber.onComplete();
+			return;
+		}
 		try (CurrentTraceContext.Scope scope = this.currentTraceContext.maybeScope(this.parent)) {
 			this.subscriber.onComplete();
 		}
 	}
 
+	/**
+	 * Fusion is negotiated with the upstream subscription, if it supports it, so that
+	 * wrapping doesn't disable it. Since in fused mode the values are pulled via
+	 * {@link #poll()}, possibly on another thread, that's where the scope gets applied.
+	 */
+	@Override
+	public int requestFusion(int requestedMode) {
+		if (this.qs == null) {
+			return Fuseable.NONE;
+		}
+		return this.qs.requestFusion(requestedMode);
+	}
+
+	@Override
+	@Nullable
+	public T poll() {
+		if (isParentInScope()) {
+			return this.qs.poll();
+		}
+		try (CurrentTraceContext.Scope scope = this.currentTraceContext.maybeScope(this.parent)) {
+			return this.qs.poll();
+		}
+	}
+
+	@Override
+	public int size() {
+		return this.qs == null ? 0 : this.qs.size();
+	}
+
+	@Override
+	public boolean isEmpty() {
+		return this.qs == null || this.qs.isEmpty();
+	}
+
+	@Override
+	public void clear() {
+		if (this.qs != null) {
+			this.qs.clear();
+		}
+	}
+
+	/**
+	 * When the parent is already the current context of this thread (e.g. the upstream
+	 * operator has already scoped it) opening and closing a scope is a no-op, so it can
+	 * be skipped altogether.
+	 */
+	private boolean isParentInScope() {
+		return this.currentTraceContext.isCurrent(this.parent);
+	}
+
 	@Override
 	public Context currentContext() {
 		return this.context;
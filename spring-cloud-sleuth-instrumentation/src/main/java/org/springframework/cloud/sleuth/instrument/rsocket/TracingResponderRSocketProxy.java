@@ -38,7 +38,6 @@ import org.springframework.cloud.sleuth.Span;
 import org.springframework.cloud.sleuth.ThreadLocalSpan;
 import org.springframework.cloud.sleuth.TraceContext;
 import org.springframework.cloud.sleuth.Tracer;
-import org.springframework.cloud.sleuth.docs.AssertingSpanBuilder;
 import org.springframework.cloud.sleuth.instrument.reactor.ReactorSleuth;
 import org.springframework.cloud.sleuth.internal.EncodingUtils;
 import org.springframework.cloud.sleuth.propagation.Propagator;
@@ -148,9 +147,8 @@ public class TracingResponderRSocketProxy extends RSocketProxy {
 			final Iterator<String> iterator = routingMetadata.iterator();
 			name = requestType.name() + " " + iterator.next();
 		}
-		return AssertingSpanBuilder
-				.of(SleuthRSocketSpan.RSOCKET_RESPONDER_SPAN, consumerSpanBuilder.kind(Span.Kind.CONSUMER)).name(name)
-				.start();
+		return SleuthRSocketSpan.RSOCKET_RESPONDER_SPAN
+				.wrapIfAssertionsEnabled(consumerSpanBuilder.kind(Span.Kind.CONSUMER)).name(name).start();
 	}
 
 	private Span.Builder consumerSpanBuilder(ByteBuf headers) {
@@ -147,9 +147,9 @@ public class SleuthRxJavaSchedulersHook extends RxJavaSchedulersHook {
 			Span span = this.parent;
 			boolean created = false;
 			if (span == null) {
-				span = SleuthRxJavaSpan.RX_JAVA_TRACE_ACTION_SPAN.wrap(this.tracer.nextSpan())
+				span = SleuthRxJavaSpan.RX_JAVA_TRACE_ACTION_SPAN.wrapIfAssertionsEnabled(this.tracer.nextSpan())
 						.name(SleuthRxJavaSpan.RX_JAVA_TRACE_ACTION_SPAN.getName())
-						.tag(SleuthRxJavaSpan.Tags.THREAD, Thread.currentThread().getName()).start();
+						.tag(SleuthRxJavaSpan.Tags.THREAD.getKey(), Thread.currentThread().getName()).start();
 				created = true;
 			}
 			try (Tracer.SpanInScope ws = this.tracer.withSpan(span)) {
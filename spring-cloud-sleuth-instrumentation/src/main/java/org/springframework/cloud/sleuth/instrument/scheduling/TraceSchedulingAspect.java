@@ -24,7 +24,7 @@ import org.aspectj.lang.annotation.Aspect;
 
 import org.springframework.cloud.sleuth.Span;
 import org.springframework.cloud.sleuth.Tracer;
-import org.springframework.cloud.sleuth.docs.AssertingSpan;
+import org.springframework.cloud.sleuth.internal.SkipPatternMatcher;
 import org.springframework.cloud.sleuth.internal.SpanNameUtil;
 import org.springframework.lang.Nullable;
 
@@ -47,26 +47,27 @@ public class TraceSchedulingAspect {
 	private final Tracer tracer;
 
 	@Nullable
-	private final Pattern skipPattern;
+	private final SkipPatternMatcher skipPattern;
 
 	public TraceSchedulingAspect(Tracer tracer, Pattern skipPattern) {
 		this.tracer = tracer;
-		this.skipPattern = skipPattern;
+		this.skipPattern = SkipPatternMatcher.of(skipPattern);
 	}
 
 	@Around("execution (@org.springframework.scheduling.annotation.Scheduled  * *.*(..))")
 	public Object traceBackgroundThread(final ProceedingJoinPoint pjp) throws Throwable {
-		if (this.skipPattern != null && this.skipPattern.matcher(pjp.getTarget().getClass().getName()).matches()) {
+		if (this.skipPattern != null && this.skipPattern.matches(pjp.getTarget().getClass().getName())) {
 			// we might have a span in context due to wrapping of runnables
 			// we want to clear that context
 			this.tracer.withSpan(null);
 			return pjp.proceed();
 		}
 		String spanName = SpanNameUtil.toLowerHyphen(pjp.getSignature().getName());
-		AssertingSpan span = SleuthSchedulingSpan.SCHEDULED_ANNOTATION_SPAN.wrap(startOrContinueSpan()).name(spanName);
+		Span span = SleuthSchedulingSpan.SCHEDULED_ANNOTATION_SPAN.wrapIfAssertionsEnabled(startOrContinueSpan())
+				.name(spanName);
 		try (Tracer.SpanInScope ws = this.tracer.withSpan(span.start())) {
-			span.tag(SleuthSchedulingSpan.Tags.CLASS, pjp.getTarget().getClass().getSimpleName())
-					.tag(SleuthSchedulingSpan.Tags.METHOD, pjp.getSignature().getName());
+			span.tag(SleuthSchedulingSpan.Tags.CLASS.getKey(), pjp.getTarget().getClass().getSimpleName())
+					.tag(SleuthSchedulingSpan.Tags.METHOD.getKey(), pjp.getSignature().getName());
 			return pjp.proceed();
 		}
 		catch (Throwable ex) {
@@ -83,7 +84,7 @@ public class TraceSchedulingAspect {
 		if (currentSpan != null) {
 			return currentSpan;
 		}
-		return SleuthSchedulingSpan.SCHEDULED_ANNOTATION_SPAN.wrap(this.tracer.nextSpan());
+		return SleuthSchedulingSpan.SCHEDULED_ANNOTATION_SPAN.wrapIfAssertionsEnabled(this.tracer.nextSpan());
 	}
 
 }
@@ -86,7 +86,7 @@ public class TracingSecurityContextChangedListener implements SecurityContextCha
 			if (log.isDebugEnabled()) {
 				log.debug(event);
 			}
-			SECURITY_CONTEXT_CHANGE.wrap(span).event(event);
+			SECURITY_CONTEXT_CHANGE.wrapIfAssertionsEnabled(span).event(event);
 		}
 	}
 
@@ -18,8 +18,8 @@ package org.springframework.cloud.sleuth.instrument.session;
 
 import java.util.Map;
 
+import org.springframework.cloud.sleuth.Span;
 import org.springframework.cloud.sleuth.Tracer;
-import org.springframework.cloud.sleuth.docs.AssertingSpan;
 import org.springframework.session.FindByIndexNameSessionRepository;
 
 class TraceFindByIndexNameSessionRepository extends TraceSessionRepository implements FindByIndexNameSessionRepository {
@@ -33,7 +33,7 @@ class TraceFindByIndexNameSessionRepository extends TraceSessionRepository imple
 
 	@Override
 	public Map findByPrincipalName(String principalName) {
-		AssertingSpan span = newSessionFindSpan();
+		Span span = newSessionFindSpan();
 		try (Tracer.SpanInScope ws = this.tracer.withSpan(span.start())) {
 			return this.delegate.findByPrincipalName(principalName);
 		}
@@ -42,16 +42,16 @@ class TraceFindByIndexNameSessionRepository extends TraceSessionRepository imple
 		}
 	}
 
-	private AssertingSpan newSessionFindSpan() {
-		return AssertingSpan.of(SleuthSessionSpan.SESSION_FIND_SPAN, this.tracer.nextSpan())
+	private Span newSessionFindSpan() {
+		return SleuthSessionSpan.SESSION_FIND_SPAN.wrapIfAssertionsEnabled(this.tracer.nextSpan())
 				.name(SleuthSessionSpan.SESSION_FIND_SPAN.getName());
 	}
 
 	@Override
 	public Map findByIndexNameAndIndexValue(String indexName, String indexValue) {
-		AssertingSpan span = newSessionFindSpan();
+		Span span = newSessionFindSpan();
 		try (Tracer.SpanInScope ws = this.tracer.withSpan(span.start())) {
-			span.tag(SleuthSessionSpan.Tags.INDEX_NAME, indexName);
+			span.tag(SleuthSessionSpan.Tags.INDEX_NAME.getKey(), indexName);
 			return this.delegate.findByIndexNameAndIndexValue(indexName, indexValue);
 		}
 		finally {
@@ -21,8 +21,8 @@ import java.util.function.Supplier;
 import org.apache.commons.logging.Log;
 import org.apache.commons.logging.LogFactory;
 
+import org.springframework.cloud.sleuth.Span;
 import org.springframework.cloud.sleuth.Tracer;
-import org.springframework.cloud.sleuth.docs.AssertingSpan;
 import org.springframework.session.Session;
 import org.springframework.session.SessionRepository;
 
@@ -45,10 +45,9 @@ class TraceSessionRepository implements SessionRepository {
 	}
 
 	private <T> T wrap(SleuthSessionSpan sessionSpan, Supplier<T> supplier) {
-		AssertingSpan span = newSpan(sessionSpan);
+		Span span = newSpan(sessionSpan);
 		if (log.isDebugEnabled()) {
-			log.debug(
-					"Wrapping call in a span with name [" + span.getDocumentedSpan().getName() + "] - [" + span + "]");
+			log.debug("Wrapping call in a span with name [" + sessionSpan.getName() + "] - [" + span + "]");
 		}
 		try (Tracer.SpanInScope ws = this.tracer.withSpan(span.start())) {
 			return supplier.get();
@@ -65,8 +64,8 @@ class TraceSessionRepository implements SessionRepository {
 		});
 	}
 
-	private AssertingSpan newSpan(SleuthSessionSpan sessionCreateSpan) {
-		return AssertingSpan.of(sessionCreateSpan, this.tracer.nextSpan()).name(sessionCreateSpan.getName());
+	private Span newSpan(SleuthSessionSpan sessionCreateSpan) {
+		return sessionCreateSpan.wrapIfAssertionsEnabled(this.tracer.nextSpan()).name(sessionCreateSpan.getName());
 	}
 
 	@Override
@@ -45,7 +45,7 @@ public class TraceCommandLineRunner implements CommandLineRunner {
 
 	@Override
 	public void run(String... args) throws Exception {
-		Span span = SleuthTaskSpan.TASK_RUNNER_SPAN.wrap(tracer().nextSpan()).name(this.beanName);
+		Span span = SleuthTaskSpan.TASK_RUNNER_SPAN.wrapIfAssertionsEnabled(tracer().nextSpan()).name(this.beanName);
 		try (Tracer.SpanInScope spanInScope = tracer().withSpan(span.start())) {
 			this.delegate.run(args);
 		}
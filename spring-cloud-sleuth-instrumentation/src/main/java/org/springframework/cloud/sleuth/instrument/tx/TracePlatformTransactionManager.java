@@ -85,7 +85,8 @@ public class TracePlatformTransactionManager implements PlatformTransactionManag
 	}
 
 	Span fallbackSpan() {
-		return SleuthTxSpan.TX_SPAN.wrap(tracer().nextSpan()).name(SleuthTxSpan.TX_SPAN.getName()).start();
+		return SleuthTxSpan.TX_SPAN.wrapIfAssertionsEnabled(tracer().nextSpan()).name(SleuthTxSpan.TX_SPAN.getName())
+				.start();
 	}
 
 	private Span taggedSpan(Span currentSpan, Span span, TransactionDefinition def, TransactionStatus status) {
@@ -126,7 +127,7 @@ public class TracePlatformTransactionManager implements PlatformTransactionManag
 			throw e;
 		}
 		finally {
-			SleuthTxSpan.TX_SPAN.wrap(span).event(SleuthTxSpan.Events.COMMIT);
+			SleuthTxSpan.TX_SPAN.wrapIfAssertionsEnabled(span).event(SleuthTxSpan.Events.COMMIT.getValue());
 			spanAndScope.close();
 			if (ex == null) {
 				if (log.isDebugEnabled()) {
@@ -159,7 +160,7 @@ public class TracePlatformTransactionManager implements PlatformTransactionManag
 			throw e;
 		}
 		finally {
-			SleuthTxSpan.TX_SPAN.wrap(span).event(SleuthTxSpan.Events.ROLLBACK);
+			SleuthTxSpan.TX_SPAN.wrapIfAssertionsEnabled(span).event(SleuthTxSpan.Events.ROLLBACK.getValue());
 			spanAndScope.close();
 			this.threadLocalSpan.remove();
 		}
@@ -17,7 +17,6 @@
 package org.springframework.cloud.sleuth.instrument.tx;
 
 import org.springframework.cloud.sleuth.Span;
-import org.springframework.cloud.sleuth.docs.AssertingSpan;
 import org.springframework.transaction.TransactionDefinition;
 import org.springframework.util.ClassUtils;
 import org.springframework.util.StringUtils;
@@ -30,16 +29,17 @@ final class TracePlatformTransactionManagerTags {
 
 	static void tag(Span span, TransactionDefinition def, Class transactionManagerClass) {
 		// @formatter:off
-		AssertingSpan assertingSpan = SleuthTxSpan.TX_SPAN.wrap(span)
-				.tag(SleuthTxSpan.Tags.TRANSACTION_MANAGER, ClassUtils.getQualifiedName(transactionManagerClass))
-				.tag(SleuthTxSpan.Tags.READ_ONLY, String.valueOf(def.isReadOnly()))
-				.tag(SleuthTxSpan.Tags.PROPAGATION_LEVEL, propagationLevel(def))
-				.tag(SleuthTxSpan.Tags.ISOLATION_LEVEL, isolationLevel(def));
+		Span txSpan = SleuthTxSpan.TX_SPAN.wrapIfAssertionsEnabled(span)
+				.tag(SleuthTxSpan.Tags.TRANSACTION_MANAGER.getKey(),
+						ClassUtils.getQualifiedName(transactionManagerClass))
+				.tag(SleuthTxSpan.Tags.READ_ONLY.getKey(), String.valueOf(def.isReadOnly()))
+				.tag(SleuthTxSpan.Tags.PROPAGATION_LEVEL.getKey(), propagationLevel(def))
+				.tag(SleuthTxSpan.Tags.ISOLATION_LEVEL.getKey(), isolationLevel(def));
 		if (def.getTimeout() > 0) {
-			assertingSpan.tag(SleuthTxSpan.Tags.TIMEOUT, String.valueOf(def.getTimeout()));
+			txSpan.tag(SleuthTxSpan.Tags.TIMEOUT.getKey(), String.valueOf(def.getTimeout()));
 		}
 		if (StringUtils.hasText(def.getName())) {
-			assertingSpan.tag(SleuthTxSpan.Tags.NAME, def.getName());
+			txSpan.tag(SleuthTxSpan.Tags.NAME.getKey(), def.getName());
 		}
 		// @formatter:on
 	}
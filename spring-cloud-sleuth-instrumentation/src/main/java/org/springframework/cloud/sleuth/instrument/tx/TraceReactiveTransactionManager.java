@@ -73,17 +73,21 @@ public class TraceReactiveTransactionManager implements ReactiveTransactionManag
 	public Mono<ReactiveTransaction> getReactiveTransaction(TransactionDefinition definition)
 			throws TransactionException {
 		return Mono.deferContextual(contextView -> this.delegate.getReactiveTransaction(definition).map(tx -> {
-			Span span = AssertingSpan.continueSpan(SleuthTxSpan.TX_SPAN, SleuthTxSpan.TX_SPAN.wrap(span(contextView)));
+			Span span = SleuthTxSpan.TX_SPAN.wrapIfAssertionsEnabled(span(contextView));
+			if (span instanceof AssertingSpan) {
+				span = AssertingSpan.continueSpan(SleuthTxSpan.TX_SPAN, span);
+			}
 			if (tx.isNewTransaction() || span == null) {
 				if (log.isDebugEnabled()) {
 					log.debug("New transaction is required, span in context [" + span + "]");
 				}
 				if (span == null) {
-					span = SleuthTxSpan.TX_SPAN.wrap(tracer().nextSpan()).name(SleuthTxSpan.TX_SPAN.getName()).start();
+					span = SleuthTxSpan.TX_SPAN.wrapIfAssertionsEnabled(tracer().nextSpan())
+							.name(SleuthTxSpan.TX_SPAN.getName()).start();
 				}
 				else {
-					span = SleuthTxSpan.TX_SPAN.wrap(tracer().nextSpan(span)).name(SleuthTxSpan.TX_SPAN.getName())
-							.start();
+					span = SleuthTxSpan.TX_SPAN.wrapIfAssertionsEnabled(tracer().nextSpan(span))
+							.name(SleuthTxSpan.TX_SPAN.getName()).start();
 				}
 				TracePlatformTransactionManagerTags.tag(span, definition, this.delegate.getClass());
 			}
@@ -120,7 +124,7 @@ public class TraceReactiveTransactionManager implements ReactiveTransactionManag
 
 	private Span spanFromContext(TraceContext traceContext) {
 		try (CurrentTraceContext.Scope scope = currentTraceContext().maybeScope(traceContext)) {
-			return SleuthTxSpan.TX_SPAN.wrap(tracer().currentSpan()).start();
+			return SleuthTxSpan.TX_SPAN.wrapIfAssertionsEnabled(tracer().currentSpan()).start();
 		}
 	}
 
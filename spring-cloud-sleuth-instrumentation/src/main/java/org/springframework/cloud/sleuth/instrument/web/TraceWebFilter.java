@@ -33,7 +33,6 @@ import org.springframework.cloud.sleuth.CurrentTraceContext;
 import org.springframework.cloud.sleuth.Span;
 import org.springframework.cloud.sleuth.TraceContext;
 import org.springframework.cloud.sleuth.Tracer;
-import org.springframework.cloud.sleuth.docs.AssertingSpan;
 import org.springframework.cloud.sleuth.http.HttpServerHandler;
 import org.springframework.cloud.sleuth.http.HttpServerRequest;
 import org.springframework.cloud.sleuth.http.HttpServerResponse;
@@ -200,7 +199,7 @@ public class TraceWebFilter implements WebFilter, Ordered, ApplicationContextAwa
 
 		private Span findOrCreateSpan(Context c) {
 			Span span;
-			AssertingSpan assertingSpan = null;
+			Span wrappedSpan = null;
 			if (c.hasKey(Span.class)) {
 				Span parent = c.get(Span.class);
 				try (Tracer.SpanInScope spanInScope = this.tracer.withSpan(parent)) {
@@ -229,13 +228,13 @@ public class TraceWebFilter implements WebFilter, Ordered, ApplicationContextAwa
 				else if (log.isDebugEnabled()) {
 					log.debug("Found tracer specific span in reactor context [" + span + "]");
 				}
-				assertingSpan = SleuthWebSpan.WEB_FILTER_SPAN.wrap(span);
-				this.exchange.getAttributes().put(TRACE_REQUEST_ATTR, assertingSpan);
+				wrappedSpan = SleuthWebSpan.WEB_FILTER_SPAN.wrapIfAssertionsEnabled(span);
+				this.exchange.getAttributes().put(TRACE_REQUEST_ATTR, wrappedSpan);
 			}
-			if (assertingSpan == null) {
-				assertingSpan = SleuthWebSpan.WEB_FILTER_SPAN.wrap(span);
+			if (wrappedSpan == null) {
+				wrappedSpan = SleuthWebSpan.WEB_FILTER_SPAN.wrapIfAssertionsEnabled(span);
 			}
-			return assertingSpan;
+			return wrappedSpan;
 		}
 
 		static final class WebFilterTraceSubscriber implements CoreSubscriber<Void> {
@@ -310,7 +309,8 @@ public class TraceWebFilter implements WebFilter, Ordered, ApplicationContextAwa
 			private void addClassMethodTag(Object handler, Span span) {
 				if (handler instanceof HandlerMethod) {
 					String methodName = ((HandlerMethod) handler).getMethod().getName();
-					SleuthWebSpan.WEB_FILTER_SPAN.wrap(span).tag(SleuthWebSpan.Tags.METHOD, methodName);
+					SleuthWebSpan.WEB_FILTER_SPAN.wrapIfAssertionsEnabled(span).tag(SleuthWebSpan.Tags.METHOD.getKey(),
+							methodName);
 					if (log.isDebugEnabled()) {
 						log.debug("Adding a method tag with value [" + methodName + "] to a span " + span);
 					}
@@ -331,13 +331,14 @@ public class TraceWebFilter implements WebFilter, Ordered, ApplicationContextAwa
 				if (log.isDebugEnabled()) {
 					log.debug("Adding a class tag with value [" + className + "] to a span " + span);
 				}
-				SleuthWebSpan.WEB_FILTER_SPAN.wrap(span).tag(SleuthWebSpan.Tags.CLASS, className);
+				SleuthWebSpan.WEB_FILTER_SPAN.wrapIfAssertionsEnabled(span).tag(SleuthWebSpan.Tags.CLASS.getKey(),
+						className);
 			}
 
 			private void addResponseTagsForSpanWithoutParent(ServerWebExchange exchange, ServerHttpResponse response,
 					Span span) {
 				if (spanWithoutParent(exchange) && response.getStatusCode() != null && span != null) {
-					SleuthWebSpan.WEB_FILTER_SPAN.wrap(span).tag(SleuthWebSpan.Tags.CLASS,
+					SleuthWebSpan.WEB_FILTER_SPAN.wrapIfAssertionsEnabled(span).tag(SleuthWebSpan.Tags.CLASS.getKey(),
 							String.valueOf(response.getStatusCode().value()));
 				}
 			}
@@ -40,6 +40,8 @@ class LazyClient implements Client {
 
 	private TraceFeignObjectWrapper wrapper;
 
+	private Client tracingClient;
+
 	LazyClient(BeanFactory beanFactory, Client client) {
 		this.beanFactory = beanFactory;
 		this.delegate = client;
@@ -51,7 +53,14 @@ class LazyClient implements Client {
 
 	@Override
 	public Response execute(Request request, Request.Options options) throws IOException {
-		return ((Client) wrapper().wrap(delegate())).execute(request, options);
+		return tracingClient().execute(request, options);
+	}
+
+	private Client tracingClient() {
+		if (this.tracingClient == null) {
+			this.tracingClient = (Client) wrapper().wrap(delegate());
+		}
+		return this.tracingClient;
 	}
 
 	private Client delegate() {
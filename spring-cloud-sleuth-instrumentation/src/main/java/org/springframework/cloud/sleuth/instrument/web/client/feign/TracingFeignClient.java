@@ -22,6 +22,7 @@ import java.nio.charset.Charset;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.LinkedHashMap;
+import java.util.List;
 import java.util.Map;
 
 import feign.Client;
@@ -107,15 +108,22 @@ final class TracingFeignClient implements Client {
 
 		final Request delegate;
 
+		final Map<String, Collection<String>> delegateHeaders;
+
+		/**
+		 * Headers added on top of the ones of the delegate, merged with them only when
+		 * the request gets built.
+		 */
 		Map<String, Collection<String>> headers;
 
 		RequestWrapper(Request delegate) {
 			this.delegate = delegate;
+			this.delegateHeaders = delegate.headers();
 		}
 
 		@Override
 		public Collection<String> headerNames() {
-			return this.delegate.headers().keySet();
+			return this.delegateHeaders.keySet();
 		}
 
 		@Override
@@ -144,16 +152,22 @@ final class TracingFeignClient implements Client {
 
 		@Override
 		public String header(String name) {
-			Collection<String> result = delegate.headers().get(name);
-			return result != null && result.iterator().hasNext() ? result.iterator().next() : null;
+			Collection<String> result = this.delegateHeaders.get(name);
+			if (result == null && this.headers != null) {
+				result = this.headers.get(name);
+			}
+			if (result == null || result.isEmpty()) {
+				return null;
+			}
+			return result instanceof List ? ((List<String>) result).get(0) : result.iterator().next();
 		}
 
 		@Override
 		public void header(String name, String value) {
-			if (headers == null) {
-				headers = new LinkedHashMap<>(delegate.headers());
-			}
-			if (!headers.containsKey(name)) {
+			if (!this.delegateHeaders.containsKey(name) && (headers == null || !headers.containsKey(name))) {
+				if (headers == null) {
+					headers = new LinkedHashMap<>();
+				}
 				headers.put(name, Collections.singletonList(value));
 				if (log.isTraceEnabled()) {
 					log.trace("Added key [" + name + "] and header value [" + value + "]");
@@ -171,10 +185,14 @@ final class TracingFeignClient implements Client {
 			if (headers == null) {
 				return delegate;
 			}
+			Map<String, Collection<String>> merged = new LinkedHashMap<>(
+					(int) ((this.delegateHeaders.size() + headers.size()) / 0.75f) + 1);
+			merged.putAll(this.delegateHeaders);
+			merged.putAll(headers);
 			String url = delegate.url();
 			byte[] body = delegate.body();
 			Charset charset = delegate.charset();
-			return Request.create(delegate.httpMethod(), url, headers, body, charset, delegate.requestTemplate());
+			return Request.create(delegate.httpMethod(), url, merged, body, charset, delegate.requestTemplate());
 		}
 
 	}
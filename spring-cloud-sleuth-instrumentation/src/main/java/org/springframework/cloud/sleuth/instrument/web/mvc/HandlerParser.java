@@ -20,7 +20,7 @@ import javax.servlet.http.HttpServletRequest;
 import javax.servlet.http.HttpServletResponse;
 
 import org.springframework.cloud.sleuth.SpanCustomizer;
-import org.springframework.cloud.sleuth.docs.AssertingSpanCustomizer;
+import org.springframework.util.ConcurrentLruCache;
 import org.springframework.web.method.HandlerMethod;
 import org.springframework.web.servlet.HandlerInterceptor;
 import org.springframework.web.servlet.ModelAndView;
@@ -57,6 +57,13 @@ public class HandlerParser {
 	// TODO: Remove me
 	public static final String CONTROLLER_METHOD = SleuthMvcSpan.Tags.METHOD.getKey();
 
+	/**
+	 * {@link Class#getSimpleName()} is not cached by the JDK and is costly for nested and
+	 * proxied classes. Keyed by type as handler methods get recreated for each request.
+	 */
+	private final ConcurrentLruCache<Class<?>, String> simpleNames = new ConcurrentLruCache<>(256,
+			Class::getSimpleName);
+
 	/**
 	 * Invoked prior to request invocation during
 	 * {@link HandlerInterceptor#preHandle(HttpServletRequest, HttpServletResponse, Object)}.
@@ -69,14 +76,14 @@ public class HandlerParser {
 	 * @param customizer span customizer
 	 */
 	protected void preHandle(HttpServletRequest request, Object handler, SpanCustomizer customizer) {
-		AssertingSpanCustomizer span = SleuthMvcSpan.MVC_HANDLER_INTERCEPTOR_SPAN.wrap(customizer);
+		SpanCustomizer span = SleuthMvcSpan.MVC_HANDLER_INTERCEPTOR_SPAN.wrapIfAssertionsEnabled(customizer);
 		if (WebMvcRuntime.get().isHandlerMethod(handler)) {
 			HandlerMethod handlerMethod = ((HandlerMethod) handler);
-			span.tag(SleuthMvcSpan.Tags.CLASS, handlerMethod.getBeanType().getSimpleName());
-			span.tag(SleuthMvcSpan.Tags.METHOD, handlerMethod.getMethod().getName());
+			span.tag(SleuthMvcSpan.Tags.CLASS.getKey(), this.simpleNames.get(handlerMethod.getBeanType()));
+			span.tag(SleuthMvcSpan.Tags.METHOD.getKey(), handlerMethod.getMethod().getName());
 		}
 		else {
-			span.tag(SleuthMvcSpan.Tags.CLASS, handler.getClass().getSimpleName());
+			span.tag(SleuthMvcSpan.Tags.CLASS.getKey(), this.simpleNames.get(handler.getClass()));
 		}
 	}
 
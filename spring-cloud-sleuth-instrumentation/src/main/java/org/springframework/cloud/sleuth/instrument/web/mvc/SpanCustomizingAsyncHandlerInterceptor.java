@@ -27,6 +27,7 @@ import org.springframework.web.servlet.HandlerInterceptor;
 import org.springframework.web.servlet.ModelAndView;
 import org.springframework.web.servlet.handler.HandlerInterceptorAdapter;
 
+import static org.springframework.cloud.sleuth.instrument.web.mvc.SpanCustomizingHandlerInterceptor.SPAN_CUSTOMIZER_ATTRIBUTE;
 import static org.springframework.cloud.sleuth.instrument.web.mvc.SpanCustomizingHandlerInterceptor.setErrorAttribute;
 import static org.springframework.cloud.sleuth.instrument.web.mvc.SpanCustomizingHandlerInterceptor.setHttpRouteAttribute;
 
@@ -45,7 +46,7 @@ public final class SpanCustomizingAsyncHandlerInterceptor extends HandlerInterce
 
 	@Override
 	public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object o) {
-		Object span = request.getAttribute(SpanCustomizer.class.getName());
+		Object span = request.getAttribute(SPAN_CUSTOMIZER_ATTRIBUTE);
 		if (span instanceof SpanCustomizer) {
 			handlerParser.preHandle(request, o, (SpanCustomizer) span);
 		}
@@ -55,7 +56,7 @@ public final class SpanCustomizingAsyncHandlerInterceptor extends HandlerInterce
 	@Override
 	public void postHandle(HttpServletRequest request, HttpServletResponse response, Object handler,
 			ModelAndView modelAndView) {
-		Object span = request.getAttribute(SpanCustomizer.class.getName());
+		Object span = request.getAttribute(SPAN_CUSTOMIZER_ATTRIBUTE);
 		if (span instanceof SpanCustomizer) {
 			handlerParser.postHandle(request, handler, modelAndView, (SpanCustomizer) span);
 		}
@@ -68,7 +69,7 @@ public final class SpanCustomizingAsyncHandlerInterceptor extends HandlerInterce
 	@Override
 	public void afterCompletion(HttpServletRequest request, HttpServletResponse response, Object handler,
 			Exception ex) {
-		Object span = request.getAttribute(SpanCustomizer.class.getName());
+		Object span = request.getAttribute(SPAN_CUSTOMIZER_ATTRIBUTE);
 		if (span instanceof SpanCustomizer) {
 			setErrorAttribute(request, ex);
 			setHttpRouteAttribute(request);
@@ -41,6 +41,12 @@ public final class SpanCustomizingHandlerInterceptor implements HandlerIntercept
 	 */
 	static final String BEST_MATCHING_PATTERN_ATTRIBUTE = "org.springframework.web.servlet.HandlerMapping.bestMatchingPattern";
 
+	/**
+	 * Name of the request attribute under which the {@link TracingFilter} stores the
+	 * {@link SpanCustomizer}.
+	 */
+	static final String SPAN_CUSTOMIZER_ATTRIBUTE = SpanCustomizer.class.getName();
+
 	@Autowired(required = false)
 	HandlerParser handlerParser = new HandlerParser();
 
@@ -54,7 +60,7 @@ public final class SpanCustomizingHandlerInterceptor implements HandlerIntercept
 	 */
 	@Override
 	public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object o) {
-		Object span = request.getAttribute(SpanCustomizer.class.getName());
+		Object span = request.getAttribute(SPAN_CUSTOMIZER_ATTRIBUTE);
 		if (span instanceof SpanCustomizer) {
 			setHttpRouteAttribute(request);
 			handlerParser.preHandle(request, o, (SpanCustomizer) span);
@@ -65,7 +71,7 @@ public final class SpanCustomizingHandlerInterceptor implements HandlerIntercept
 	@Override
 	public void postHandle(HttpServletRequest request, HttpServletResponse response, Object handler,
 			ModelAndView modelAndView) {
-		Object span = request.getAttribute(SpanCustomizer.class.getName());
+		Object span = request.getAttribute(SPAN_CUSTOMIZER_ATTRIBUTE);
 		if (span instanceof SpanCustomizer) {
 			handlerParser.postHandle(request, handler, modelAndView, (SpanCustomizer) span);
 		}
@@ -75,7 +81,7 @@ public final class SpanCustomizingHandlerInterceptor implements HandlerIntercept
 	@Override
 	public void afterCompletion(HttpServletRequest request, HttpServletResponse response, Object handler,
 			Exception ex) {
-		Object span = request.getAttribute(SpanCustomizer.class.getName());
+		Object span = request.getAttribute(SPAN_CUSTOMIZER_ATTRIBUTE);
 		if (span instanceof SpanCustomizer) {
 			setErrorAttribute(request, ex);
 		}
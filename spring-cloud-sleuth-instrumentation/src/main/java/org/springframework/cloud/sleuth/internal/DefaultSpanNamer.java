@@ -17,10 +17,13 @@
 package org.springframework.cloud.sleuth.internal;
 
 import java.lang.reflect.Method;
+import java.util.Map;
 
 import org.springframework.cloud.sleuth.SpanName;
 import org.springframework.cloud.sleuth.SpanNamer;
 import org.springframework.core.annotation.AnnotationUtils;
+import org.springframework.util.ConcurrentReferenceHashMap;
+import org.springframework.util.ReflectionUtils;
 
 /**
  * Default implementation of SpanNamer that tries to get the span name as follows:
@@ -34,6 +37,10 @@ import org.springframework.core.annotation.AnnotationUtils;
  * {@link Object#toString()}.
  * <p>
  * * the default provided value.
+ * <p>
+ * The annotation lookup and the check whether {@code toString()} is overridden are done
+ * once per class (or method) and cached. The caches hold weak references, so that they
+ * don't prevent classes from being unloaded.
  *
  * @author Marcin Grzejszczak
  * @since 1.0.0
@@ -41,6 +48,12 @@ import org.springframework.core.annotation.AnnotationUtils;
  */
 public class DefaultSpanNamer implements SpanNamer {
 
+	private final Map<Class<?>, ClassSpanName> classSpanNames = new ConcurrentReferenceHashMap<>(16,
+			ConcurrentReferenceHashMap.ReferenceType.WEAK);
+
+	private final Map<Method, ClassSpanName> methodSpanNames = new ConcurrentReferenceHashMap<>(16,
+			ConcurrentReferenceHashMap.ReferenceType.WEAK);
+
 	private static boolean isDefaultToString(Object delegate, String spanName) {
 		if (delegate instanceof Method) {
 			return delegate.toString().equals(spanName);
@@ -50,20 +63,58 @@ public class DefaultSpanNamer implements SpanNamer {
 
 	@Override
 	public String name(Object object, String defaultValue) {
-		SpanName annotation = annotation(object);
-		String spanName = annotation != null ? annotation.value() : object.toString();
+		if (object instanceof Method) {
+			String spanName = this.methodSpanNames.computeIfAbsent((Method) object, ClassSpanName::forMethod).name;
+			return spanName != null ? spanName : defaultValue;
+		}
+		ClassSpanName classSpanName = this.classSpanNames.computeIfAbsent(object.getClass(), ClassSpanName::forClass);
+		if (classSpanName.name != null) {
+			return classSpanName.name;
+		}
 		// If there is no overridden toString method we'll put a constant value
+		if (!classSpanName.toStringOverridden) {
+			return defaultValue;
+		}
+		String spanName = object.toString();
+		// The overridden toString method might still return the default value
 		if (isDefaultToString(object, spanName)) {
 			return defaultValue;
 		}
 		return spanName;
 	}
 
-	private SpanName annotation(Object o) {
-		if (o instanceof Method) {
-			return AnnotationUtils.findAnnotation((Method) o, SpanName.class);
+	/**
+	 * Span name resolved from a class or a method.
+	 */
+	private static final class ClassSpanName {
+
+		/**
+		 * Value of the {@link SpanName} annotation or {@code null} if not annotated.
+		 */
+		final String name;
+
+		final boolean toStringOverridden;
+
+		private ClassSpanName(String name, boolean toStringOverridden) {
+			this.name = name;
+			this.toStringOverridden = toStringOverridden;
+		}
+
+		static ClassSpanName forMethod(Method method) {
+			// Method#toString is never a custom name
+			SpanName annotation = AnnotationUtils.findAnnotation(method, SpanName.class);
+			return new ClassSpanName(annotation != null ? annotation.value() : null, false);
 		}
-		return AnnotationUtils.findAnnotation(o.getClass(), SpanName.class);
+
+		static ClassSpanName forClass(Class<?> clazz) {
+			SpanName annotation = AnnotationUtils.findAnnotation(clazz, SpanName.class);
+			if (annotation != null) {
+				return new ClassSpanName(annotation.value(), true);
+			}
+			Method toString = ReflectionUtils.findMethod(clazz, "toString");
+			return new ClassSpanName(null, toString == null || toString.getDeclaringClass() != Object.class);
+		}
+
 	}
 
 }
@@ -0,0 +1,525 @@
+/*
+ * Copyright 2013-2021 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.cloud.sleuth.internal;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.StringJoiner;
+import java.util.regex.Pattern;
+
+import org.springframework.lang.Nullable;
+
+/**
+ * Matches input against a skip {@link Pattern} without running the regular expression
+ * for the common shapes of skip patterns. The top level alternatives of the pattern
+ * (including simple groups such as {@code /actuator(/|/(health|health/.*))?}) are
+ * expanded and sorted into exact values, prefixes ({@code /swagger.*}), file extensions
+ * ({@code .*\.png}) and other suffixes. Only the alternatives that don't fit any of those
+ * shapes are compiled into a fallback regular expression.
+ *
+ * @since 3.1.11
+ */
+public final class SkipPatternMatcher {
+
+	private static final int MAX_EXPANSIONS = 256;
+
+	/**
+	 * Marks a single {@code .} in an expanded alternative.
+	 */
+	private static final char ANY = '\uE000';
+
+	/**
+	 * Marks a {@code .*} in an expanded alternative.
+	 */
+	private static final char ANY_STAR = '\uE001';
+
+	private final Pattern pattern;
+
+	private final boolean regexOnly;
+
+	private final Set<String> exact;
+
+	private final PrefixNode prefixes;
+
+	private final ExtensionTable extensions;
+
+	private final String[] suffixes;
+
+	private final String[] templates;
+
+	@Nullable
+	private final Pattern fallback;
+
+	private SkipPatternMatcher(Pattern pattern) {
+		this.pattern = pattern;
+		Set<String> exact = new HashSet<>();
+		PrefixNode prefixes = new PrefixNode();
+		Set<String> extensions = new HashSet<>();
+		List<String> suffixes = new ArrayList<>();
+		List<String> templates = new ArrayList<>();
+		List<String> fallback = new ArrayList<>();
+		// inline flags and quoting change the meaning of the following alternatives
+		String source = pattern.pattern();
+		List<String> alternatives = pattern.flags() == 0 && !source.contains("(?") && !source.contains("\\Q")
+				? topLevelAlternatives(source) : null;
+		if (alternatives == null) {
+			fallback.add(pattern.pattern());
+		}
+		else {
+			for (String alternative : alternatives) {
+				List<String> expanded = new Parser(alternative).expand();
+				if (expanded == null || !classify(expanded, exact, prefixes, extensions, suffixes, templates)) {
+					fallback.add(alternative);
+				}
+			}
+		}
+		this.regexOnly = alternatives == null || fallback.size() == alternatives.size();
+		this.exact = exact;
+		this.prefixes = prefixes;
+		this.extensions = new ExtensionTable(extensions);
+		this.suffixes = suffixes.toArray(new String[0]);
+		this.templates = templates.toArray(new String[0]);
+		this.fallback = fallback(pattern, alternatives, fallback);
+	}
+
+	/**
+	 * Creates a matcher for the given pattern.
+	 * @param pattern skip pattern
+	 * @return matcher or {@code null} when there is no pattern
+	 */
+	@Nullable
+	public static SkipPatternMatcher of(@Nullable Pattern pattern) {
+		if (pattern == null) {
+			return null;
+		}
+		return new SkipPatternMatcher(pattern);
+	}
+
+	/**
+	 * @param input input to match
+	 * @return {@code true} when the whole input matches the skip pattern
+	 */
+	public boolean matches(String input) {
+		if (this.regexOnly || hasLineTerminator(input)) {
+			// . doesn't match line terminators, let the regex decide
+			return this.pattern.matcher(input).matches();
+		}
+		if (this.exact.contains(input) || this.prefixes.matchesPrefixOf(input) || this.extensions.matches(input)) {
+			return true;
+		}
+		for (String suffix : this.suffixes) {
+			if (input.endsWith(suffix)) {
+				return true;
+			}
+		}
+		for (String template : this.templates) {
+			if (matchesTemplate(template, input)) {
+				return true;
+			}
+		}
+		return this.fallback != null && this.fallback.matcher(input).matches();
+	}
+
+	/**
+	 * @return the original pattern
+	 */
+	public Pattern pattern() {
+		return this.pattern;
+	}
+
+	@Override
+	public String toString() {
+		return this.pattern.pattern();
+	}
+
+	@Nullable
+	private static Pattern fallback(Pattern pattern, @Nullable List<String> alternatives, List<String> fallback) {
+		if (fallback.isEmpty()) {
+			return null;
+		}
+		if (alternatives == null || fallback.size() == alternatives.size()) {
+			return pattern;
+		}
+		StringJoiner joiner = new StringJoiner("|");
+		fallback.forEach(joiner::add);
+		return Pattern.compile(joiner.toString());
+	}
+
+	private static boolean classify(List<String> expanded, Set<String> exact, PrefixNode prefixes,
+			Set<String> extensions, List<String> suffixes, List<String> templates) {
+		for (String value : expanded) {
+			int firstStar = value.indexOf(ANY_STAR);
+			if (firstStar != value.lastIndexOf(ANY_STAR)) {
+				return false;
+			}
+			if (firstStar == -1) {
+				continue;
+			}
+			boolean prefix = firstStar == value.length() - 1;
+			boolean suffix = firstStar == 0;
+			if ((!prefix && !suffix) || value.indexOf(ANY) != -1) {
+				return false;
+			}
+		}
+		// all expanded values fit, only now we can register them
+		for (String value : expanded) {
+			int star = value.indexOf(ANY_STAR);
+			if (star == -1) {
+				if (value.indexOf(ANY) == -1) {
+					exact.add(value);
+				}
+				else {
+					templates.add(value);
+				}
+			}
+			else if (star == value.length() - 1) {
+				prefixes.add(value.substring(0, star));
+			}
+			else {
+				String suffix = value.substring(1);
+				if (isExtension(suffix)) {
+					extensions.add(suffix.substring(1));
+				}
+				else {
+					suffixes.add(suffix);
+				}
+			}
+		}
+		return true;
+	}
+
+	private static boolean isExtension(String suffix) {
+		return suffix.length() > 1 && suffix.charAt(0) == '.' && suffix.indexOf('.', 1) == -1
+				&& suffix.indexOf('/') == -1;
+	}
+
+	private static boolean matchesTemplate(String template, String input) {
+		if (template.length() != input.length()) {
+			return false;
+		}
+		for (int i = 0; i < template.length(); i++) {
+			char c = template.charAt(i);
+			if (c != ANY && c != input.charAt(i)) {
+				return false;
+			}
+		}
+		return true;
+	}
+
+	private static boolean hasLineTerminator(String input) {
+		for (int i = 0; i < input.length(); i++) {
+			char c = input.charAt(i);
+			if (c == '\n' || c == '\r' || c == '\u0085' || c == '\u2028' || c == '\u2029') {
+				return true;
+			}
+		}
+		return false;
+	}
+
+	/**
+	 * Splits the pattern on the {@code |} characters that are not nested in a group or
+	 * in a character class.
+	 * @return alternatives or {@code null} if the pattern is not well formed
+	 */
+	@Nullable
+	private static List<String> topLevelAlternatives(String source) {
+		List<String> alternatives = new ArrayList<>();
+		int depth = 0;
+		boolean inCharacterClass = false;
+		int start = 0;
+		for (int i = 0; i < source.length(); i++) {
+			char c = source.charAt(i);
+			if (c == '\\') {
+				i++;
+			}
+			else if (inCharacterClass) {
+				inCharacterClass = c != ']';
+			}
+			else if (c == '[') {
+				inCharacterClass = true;
+			}
+			else if (c == '(') {
+				depth++;
+			}
+			else if (c == ')') {
+				depth--;
+			}
+			else if (c == '|' && depth == 0) {
+				alternatives.add(source.substring(start, i));
+				start = i + 1;
+			}
+		}
+		if (depth != 0 || inCharacterClass) {
+			return null;
+		}
+		alternatives.add(source.substring(start));
+		return alternatives;
+	}
+
+	/**
+	 * Expands a regular expression built only of literals, {@code .}, {@code .*} and
+	 * (optional) groups of alternatives into all the values it describes.
+	 */
+	private static final class Parser {
+
+		private final String source;
+
+		private int position;
+
+		private Parser(String source) {
+			this.source = source;
+		}
+
+		/**
+		 * @return the expanded alternatives or {@code null} if the pattern uses syntax
+		 * that can't be expanded
+		 */
+		@Nullable
+		List<String> expand() {
+			List<String> result = alternatives();
+			return result != null && this.position == this.source.length() ? result : null;
+		}
+
+		@Nullable
+		private List<String> alternatives() {
+			List<String> first = sequence();
+			if (first == null) {
+				return null;
+			}
+			List<String> result = new ArrayList<>(first);
+			while (peek() == '|') {
+				this.position++;
+				List<String> next = sequence();
+				if (next == null) {
+					return null;
+				}
+				result.addAll(next);
+				if (result.size() > MAX_EXPANSIONS) {
+					return null;
+				}
+			}
+			return result;
+		}
+
+		@Nullable
+		private List<String> sequence() {
+			List<String> current = Collections.singletonList("");
+			while (this.position < this.source.length() && peek() != '|' && peek() != ')') {
+				char c = this.source.charAt(this.position);
+				if (c == '(') {
+					if (peekAt(1) == '?') {
+						return null;
+					}
+					this.position++;
+					List<String> group = alternatives();
+					if (group == null || peek() != ')') {
+						return null;
+					}
+					this.position++;
+					if (peek() == '?') {
+						this.position++;
+						group = new ArrayList<>(group);
+						group.add("");
+					}
+					current = append(current, group);
+					if (current == null) {
+						return null;
+					}
+				}
+				else if (c == '.') {
+					if (peekAt(1) == '*') {
+						this.position += 2;
+						current = append(current, ANY_STAR);
+					}
+					else {
+						this.position++;
+						current = append(current, ANY);
+					}
+				}
+				else if (c == '\\') {
+					char escaped = peekAt(1);
+					if (Character.isLetterOrDigit(escaped) || escaped == 0) {
+						return null;
+					}
+					this.position += 2;
+					current = append(current, escaped);
+				}
+				else if ("[]{}*+?^$".indexOf(c) != -1 || c == ANY || c == ANY_STAR) {
+					return null;
+				}
+				else {
+					this.position++;
+					current = append(current, c);
+				}
+				if ("*+?{".indexOf(peek()) != -1) {
+					// quantifier that is not a supported .* or (...)?
+					return null;
+				}
+			}
+			return current;
+		}
+
+		private List<String> append(List<String> current, char c) {
+			List<String> result = new ArrayList<>(current.size());
+			for (String value : current) {
+				result.add(value + c);
+			}
+			return result;
+		}
+
+		@Nullable
+		private List<String> append(List<String> current, List<String> group) {
+			if (current.size() * group.size() > MAX_EXPANSIONS) {
+				return null;
+			}
+			List<String> result = new ArrayList<>(current.size() * group.size());
+			for (String value : current) {
+				for (String suffix : group) {
+					result.add(value + suffix);
+				}
+			}
+			return result;
+		}
+
+		private char peek() {
+			return peekAt(0);
+		}
+
+		private char peekAt(int offset) {
+			int index = this.position + offset;
+			return index < this.source.length() ? this.source.charAt(index) : 0;
+		}
+
+	}
+
+	/**
+	 * Character trie of prefixes.
+	 */
+	private static final class PrefixNode {
+
+		private char[] keys = new char[0];
+
+		private PrefixNode[] children = new PrefixNode[0];
+
+		private boolean terminal;
+
+		private void add(String prefix) {
+			PrefixNode node = this;
+			for (int i = 0; i < prefix.length(); i++) {
+				node = node.childOrCreate(prefix.charAt(i));
+			}
+			node.terminal = true;
+		}
+
+		private PrefixNode childOrCreate(char c) {
+			PrefixNode child = child(c);
+			if (child != null) {
+				return child;
+			}
+			int length = this.keys.length;
+			char[] keys = new char[length + 1];
+			PrefixNode[] children = new PrefixNode[length + 1];
+			System.arraycopy(this.keys, 0, keys, 0, length);
+			System.arraycopy(this.children, 0, children, 0, length);
+			keys[length] = c;
+			children[length] = new PrefixNode();
+			this.keys = keys;
+			this.children = children;
+			return children[length];
+		}
+
+		@Nullable
+		private PrefixNode child(char c) {
+			for (int i = 0; i < this.keys.length; i++) {
+				if (this.keys[i] == c) {
+					return this.children[i];
+				}
+			}
+			return null;
+		}
+
+		private boolean matchesPrefixOf(String input) {
+			PrefixNode node = this;
+			for (int i = 0; !node.terminal; i++) {
+				if (i == input.length()) {
+					return false;
+				}
+				node = node.child(input.charAt(i));
+				if (node == null) {
+					return false;
+				}
+			}
+			return true;
+		}
+
+	}
+
+	/**
+	 * Open addressing hash table of file extensions that looks up the extension of the
+	 * input without creating a substring.
+	 */
+	private static final class ExtensionTable {
+
+		private final String[] slots;
+
+		private final int mask;
+
+		private ExtensionTable(Set<String> extensions) {
+			int size = 2;
+			while (size < extensions.size() * 2) {
+				size <<= 1;
+			}
+			this.slots = new String[size];
+			this.mask = size - 1;
+			for (String extension : extensions) {
+				int index = spread(extension.hashCode()) & this.mask;
+				while (this.slots[index] != null) {
+					index = (index + 1) & this.mask;
+				}
+				this.slots[index] = extension;
+			}
+		}
+
+		private static int spread(int hash) {
+			return hash ^ (hash >>> 16);
+		}
+
+		private boolean matches(String input) {
+			int dot = input.lastIndexOf('.');
+			if (dot == -1 || dot == input.length() - 1) {
+				return false;
+			}
+			int hash = 0;
+			for (int i = dot + 1; i < input.length(); i++) {
+				hash = 31 * hash + input.charAt(i);
+			}
+			int length = input.length() - dot - 1;
+			for (int index = spread(hash) & this.mask; this.slots[index] != null; index = (index + 1) & this.mask) {
+				String extension = this.slots[index];
+				if (extension.length() == length && input.regionMatches(dot + 1, extension, 0, length)) {
+					return true;
+				}
+			}
+			return false;
+		}
+
+	}
+
+}
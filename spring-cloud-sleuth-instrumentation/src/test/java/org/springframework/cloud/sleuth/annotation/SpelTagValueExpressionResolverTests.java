@@ -38,6 +38,22 @@ public class SpelTagValueExpressionResolverTests {
 		then(resolved).isEqualTo("hello world");
 	}
 
+	@Test
+	public void should_reuse_cached_expression_for_different_parameters() throws Exception {
+		SpelTagValueExpressionResolver resolver = new SpelTagValueExpressionResolver(1);
+		MyObject first = new MyObject();
+		first.name = "hello";
+		OtherObject second = new OtherObject();
+		second.name = 5;
+
+		for (int i = 0; i < 5; i++) {
+			then(resolver.resolve("name + ' world'", first)).isEqualTo("hello world");
+		}
+		then(resolver.resolve("name + ' world'", second)).isEqualTo("5 world");
+		then(resolver.resolve("name", first)).isEqualTo("hello");
+		then(resolver.resolve("name + ' world'", first)).isEqualTo("hello world");
+	}
+
 	@Test
 	public void should_use_to_string_if_expression_is_not_analyzed_properly() throws Exception {
 		SpelTagValueExpressionResolver resolver = new SpelTagValueExpressionResolver();
@@ -53,6 +69,12 @@ public class SpelTagValueExpressionResolverTests {
 
 	}
 
+	public static class OtherObject {
+
+		public Integer name;
+
+	}
+
 }
 
 class Foo {
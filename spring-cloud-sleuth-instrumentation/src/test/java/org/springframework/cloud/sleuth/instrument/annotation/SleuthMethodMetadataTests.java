@@ -0,0 +1,141 @@
+/*
+ * Copyright 2013-2023 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.cloud.sleuth.instrument.annotation;
+
+import java.lang.reflect.Method;
+
+import org.aopalliance.intercept.MethodInvocation;
+import org.junit.jupiter.api.Test;
+
+import org.springframework.beans.factory.support.StaticListableBeanFactory;
+import org.springframework.cloud.sleuth.annotation.ContinueSpan;
+import org.springframework.cloud.sleuth.annotation.NewSpan;
+import org.springframework.cloud.sleuth.annotation.SleuthMethodInvocationProcessor;
+import org.springframework.cloud.sleuth.annotation.SpanTag;
+
+import static org.assertj.core.api.BDDAssertions.then;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+
+class SleuthMethodMetadataTests {
+
+	SleuthMethodMetadata.Cache cache = new SleuthMethodMetadata.Cache();
+
+	@Test
+	void should_resolve_metadata_once_per_method_and_target_class() throws Exception {
+		Method method = Service.class.getMethod("annotated", String.class);
+
+		SleuthMethodMetadata metadata = this.cache.get(invocation(method, new Service()));
+
+		then(metadata.isAnnotated()).isTrue();
+		then(metadata.newSpan.name()).isEqualTo("foo");
+		then(metadata.className).isEqualTo("Service");
+		then(metadata.methodName).isEqualTo("annotated");
+		then(metadata.annotatedParameters).hasSize(1);
+		then(this.cache.get(invocation(method, new Service()))).isSameAs(metadata);
+		then(this.cache.get(invocation(method, new SubService()))).isNotSameAs(metadata)
+				.extracting(subMetadata -> subMetadata.className).isEqualTo("SubService");
+	}
+
+	@Test
+	void should_resolve_metadata_of_not_annotated_methods() throws Exception {
+		Method method = Service.class.getMethod("notAnnotated");
+
+		SleuthMethodMetadata metadata = this.cache.get(invocation(method, new Service()));
+
+		then(metadata.isAnnotated()).isFalse();
+		then(this.cache.get(invocation(method, new Service()))).isSameAs(metadata);
+	}
+
+	@Test
+	void should_reuse_metadata_when_annotations_are_the_same() throws Exception {
+		Method method = Service.class.getMethod("annotated", String.class);
+		SleuthMethodMetadata metadata = this.cache.get(invocation(method, new Service()));
+
+		then(metadata.withAnnotations(metadata.newSpan, null)).isSameAs(metadata);
+		then(metadata.withAnnotations(null, null).isAnnotated()).isFalse();
+	}
+
+	@Test
+	void should_call_overridden_process_method_of_processor_subclasses() throws Throwable {
+		Method method = Service.class.getMethod("annotated", String.class);
+		CustomProcessor processor = new CustomProcessor();
+		StaticListableBeanFactory beanFactory = new StaticListableBeanFactory();
+		beanFactory.addBean("processor", processor);
+		SleuthInterceptor interceptor = new SleuthInterceptor();
+		interceptor.setBeanFactory(beanFactory);
+		MethodInvocation invocation = invocation(method, new Service());
+
+		Object result = interceptor.invoke(invocation);
+
+		then(result).isEqualTo("custom");
+		then(processor.newSpan.name()).isEqualTo("foo");
+	}
+
+	@Test
+	void should_proceed_with_not_annotated_methods() throws Throwable {
+		Method method = Service.class.getMethod("notAnnotated");
+		SleuthMethodInvocationProcessor processor = mock(SleuthMethodInvocationProcessor.class);
+		StaticListableBeanFactory beanFactory = new StaticListableBeanFactory();
+		beanFactory.addBean("processor", processor);
+		SleuthInterceptor interceptor = new SleuthInterceptor();
+		interceptor.setBeanFactory(beanFactory);
+		MethodInvocation invocation = invocation(method, new Service());
+		given(invocation.proceed()).willReturn("proceeded");
+
+		then(interceptor.invoke(invocation)).isEqualTo("proceeded");
+		verify(invocation).proceed();
+	}
+
+	private MethodInvocation invocation(Method method, Object target) {
+		MethodInvocation invocation = mock(MethodInvocation.class);
+		given(invocation.getMethod()).willReturn(method);
+		given(invocation.getThis()).willReturn(target);
+		return invocation;
+	}
+
+	static class Service {
+
+		@NewSpan("foo")
+		public String annotated(@SpanTag("bar") String bar) {
+			return bar;
+		}
+
+		public String notAnnotated() {
+			return "";
+		}
+
+	}
+
+	static class SubService extends Service {
+
+	}
+
+	static class CustomProcessor extends NonReactorSleuthMethodInvocationProcessor {
+
+		NewSpan newSpan;
+
+		@Override
+		public Object process(MethodInvocation invocation, NewSpan newSpan, ContinueSpan continueSpan) {
+			this.newSpan = newSpan;
+			return "custom";
+		}
+
+	}
+
+}
@@ -130,4 +130,31 @@ public class SpanNameProviderTest {
 		assertThat(result).isEqualTo(expectedResult);
 	}
 
+	@Test
+	public void should_return_default_on_input_not_starting_with_a_letter() {
+		SpanNameProvider provider = new SpanNameProvider();
+
+		assertThat(provider.getSpanNameFor(" SELECT 1")).isEqualTo(DEFAULT_SPAN_NAME);
+		assertThat(provider.getSpanNameFor("/* comment */ SELECT 1")).isEqualTo(DEFAULT_SPAN_NAME);
+	}
+
+	@Test
+	public void should_name_multi_line_statements_after_the_first_word() {
+		SpanNameProvider provider = new SpanNameProvider();
+		String sql = "INSERT INTO test_table (foo) VALUES ('bar');\nINSERT INTO test_table (foo) VALUES ('baz');";
+
+		String result = provider.getSpanNameFor(sql);
+
+		assertThat(result).isEqualTo(SPAN_NAME_FOR_INSERTS);
+	}
+
+	@Test
+	public void should_return_lower_case_first_word_of_not_common_statements() {
+		SpanNameProvider provider = new SpanNameProvider();
+
+		assertThat(provider.getSpanNameFor("VACUUM test_table")).isEqualTo("vacuum");
+		assertThat(provider.getSpanNameFor("ANALYZE test_table")).isEqualTo("analyze");
+		assertThat(provider.getSpanNameFor("VACUUM test_table")).isEqualTo("vacuum");
+	}
+
 }
@@ -16,8 +16,11 @@
 
 package org.springframework.cloud.sleuth.instrument.kafka;
 
+import java.nio.charset.StandardCharsets;
 import java.time.Duration;
 import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
@@ -27,6 +30,7 @@ import org.apache.kafka.clients.consumer.ConsumerRecord;
 import org.apache.kafka.clients.consumer.ConsumerRecords;
 import org.apache.kafka.clients.consumer.KafkaConsumer;
 import org.apache.kafka.common.TopicPartition;
+import org.apache.kafka.common.header.Header;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.Answers;
@@ -37,8 +41,11 @@ import org.mockito.junit.jupiter.MockitoExtension;
 
 import org.springframework.beans.factory.BeanFactory;
 import org.springframework.beans.factory.support.StaticListableBeanFactory;
+import org.springframework.cloud.sleuth.Span;
+import org.springframework.cloud.sleuth.Tracer;
 import org.springframework.cloud.sleuth.propagation.Propagator;
 
+import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
 
 @ExtendWith(MockitoExtension.class)
@@ -53,6 +60,9 @@ public class TracingKafkaConsumerTest {
 	@Mock
 	Propagator.Getter<ConsumerRecord<?, ?>> extractor;
 
+	@Mock(answer = Answers.RETURNS_DEEP_STUBS)
+	Tracer tracer;
+
 	@Test
 	void should_delegate_poll_calls() {
 		Duration pollTimeout = Duration.of(5, ChronoUnit.SECONDS);
@@ -69,10 +79,87 @@ public class TracingKafkaConsumerTest {
 		Mockito.verify(kafkaConsumer).poll(eq(pollTimeout));
 	}
 
+	@Test
+	void should_create_a_single_span_per_batch_in_batch_mode() {
+		Duration pollTimeout = Duration.of(5, ChronoUnit.SECONDS);
+		List<ConsumerRecord<String, String>> recordList = new ArrayList<>();
+		for (int i = 0; i < 5; i++) {
+			recordList.add(new ConsumerRecord<>("topic", 0, i, "test-key", "test-value"));
+		}
+		recordList.get(0).headers().add("traceparent",
+				"00-0af7651916cd43dd8448eb211c80319c-b7ad6b7169203331-01".getBytes(StandardCharsets.UTF_8));
+		recordList.get(1).headers().add("b3", "463ac35c9f6413ad-a2fb4a1d1a96d312-1".getBytes(StandardCharsets.UTF_8));
+		recordList.get(2).headers().add("b3", "000000000000000a-a2fb4a1d1a96d312-1".getBytes(StandardCharsets.UTF_8));
+		Map<TopicPartition, List<ConsumerRecord<String, String>>> map = new HashMap<>();
+		map.put(new TopicPartition("topic", 0), recordList);
+		BDDMockito.given(kafkaConsumer.poll(pollTimeout)).willReturn(new ConsumerRecords<>(map));
+		BDDMockito.given(propagator.fields()).willReturn(Arrays.asList("b3", "traceparent"));
+		BDDMockito.given(extractor.get(any(), any())).willAnswer(invocation -> {
+			Header header = invocation.<ConsumerRecord<?, ?>>getArgument(0).headers()
+					.lastHeader(invocation.getArgument(1));
+			return header != null ? new String(header.value(), StandardCharsets.UTF_8) : null;
+		});
+		BDDMockito.given(tracer.spanBuilder().kind(any()).start().context().traceId()).willReturn("batch");
+		TracingKafkaConsumer<String, String> tracingKafkaConsumer = new TracingKafkaConsumer<>(kafkaConsumer,
+				beanFactory(), true, 2);
+
+		tracingKafkaConsumer.poll(pollTimeout);
+
+		Span batchSpan = tracer.spanBuilder().kind(Span.Kind.CONSUMER).start();
+		Mockito.verify(batchSpan).tag(SleuthKafkaSpan.BatchConsumerTags.UPSTREAM_TRACE_IDS.getKey(),
+				"0af7651916cd43dd8448eb211c80319c,463ac35c9f6413ad");
+		Mockito.verify(propagator, Mockito.never()).extract(any(), any());
+	}
+
+	@Test
+	void should_skip_invalid_upstream_trace_ids_and_match_fields_ignoring_case_in_batch_mode() {
+		Duration pollTimeout = Duration.of(5, ChronoUnit.SECONDS);
+		List<ConsumerRecord<String, String>> recordList = new ArrayList<>();
+		for (int i = 0; i < 4; i++) {
+			recordList.add(new ConsumerRecord<>("topic", 0, i, "test-key", "test-value"));
+		}
+		recordList.get(0).headers().add("x-b3-traceid",
+				"00000000000000000000000000000000".getBytes(StandardCharsets.UTF_8));
+		recordList.get(1).headers().add("x-b3-traceid", "463AC35C9F6413AD".getBytes(StandardCharsets.UTF_8));
+		recordList.get(2).headers().add("x-b3-traceid", "not-a-trace-id".getBytes(StandardCharsets.UTF_8));
+		recordList.get(3).headers().add("x-b3-traceid", "a2fb4a1d1a96d312".getBytes(StandardCharsets.UTF_8));
+		Map<TopicPartition, List<ConsumerRecord<String, String>>> map = new HashMap<>();
+		map.put(new TopicPartition("topic", 0), recordList);
+		BDDMockito.given(kafkaConsumer.poll(pollTimeout)).willReturn(new ConsumerRecords<>(map));
+		BDDMockito.given(propagator.fields()).willReturn(Arrays.asList("x-b3-traceid", "x-b3-spanid"));
+		BDDMockito.given(extractor.get(any(), any())).willAnswer(invocation -> {
+			Header header = invocation.<ConsumerRecord<?, ?>>getArgument(0).headers()
+					.lastHeader(invocation.getArgument(1));
+			return header != null ? new String(header.value(), StandardCharsets.UTF_8) : null;
+		});
+		BDDMockito.given(tracer.spanBuilder().kind(any()).start().context().traceId()).willReturn("batch");
+		TracingKafkaConsumer<String, String> tracingKafkaConsumer = new TracingKafkaConsumer<>(kafkaConsumer,
+				beanFactory(), true, 10);
+
+		tracingKafkaConsumer.poll(pollTimeout);
+
+		Span batchSpan = tracer.spanBuilder().kind(Span.Kind.CONSUMER).start();
+		Mockito.verify(batchSpan).tag(SleuthKafkaSpan.BatchConsumerTags.UPSTREAM_TRACE_IDS.getKey(),
+				"a2fb4a1d1a96d312");
+	}
+
+	@Test
+	void should_not_create_spans_for_empty_batch_in_batch_mode() {
+		Duration pollTimeout = Duration.of(5, ChronoUnit.SECONDS);
+		BDDMockito.given(kafkaConsumer.poll(pollTimeout)).willReturn(ConsumerRecords.empty());
+		TracingKafkaConsumer<String, String> tracingKafkaConsumer = new TracingKafkaConsumer<>(kafkaConsumer,
+				beanFactory(), true, 2);
+
+		tracingKafkaConsumer.poll(pollTimeout);
+
+		Mockito.verifyNoInteractions(tracer, propagator);
+	}
+
 	private BeanFactory beanFactory() {
 		StaticListableBeanFactory beanFactory = new StaticListableBeanFactory();
 		beanFactory.addBean("propagator", this.propagator);
 		beanFactory.addBean("extractor", this.extractor);
+		beanFactory.addBean("tracer", this.tracer);
 		return beanFactory;
 	}
 
@@ -0,0 +1,106 @@
+/*
+ * Copyright 2013-2023 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.cloud.sleuth.instrument.messaging;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.Test;
+
+import org.springframework.cloud.sleuth.Span;
+import org.springframework.cloud.sleuth.TraceContext;
+import org.springframework.cloud.sleuth.propagation.Propagator;
+import org.springframework.messaging.simp.SimpMessageHeaderAccessor;
+import org.springframework.messaging.support.MessageHeaderAccessor;
+import org.springframework.messaging.support.NativeMessageHeaderAccessor;
+
+import static org.assertj.core.api.BDDAssertions.then;
+import static org.mockito.Mockito.mock;
+
+class MessageHeaderPropagatorSetterTests {
+
+	TraceContext context = mock(TraceContext.class);
+
+	Propagator propagator = new Propagator() {
+		@Override
+		public List<String> fields() {
+			return Arrays.asList("traceparent", "tracestate");
+		}
+
+		@Override
+		public <C> void inject(TraceContext context, C carrier, Setter<C> setter) {
+			setter.set(carrier, "traceparent", "00-0af7651916cd43dd8448eb211c80319c-b7ad6b7169203331-01");
+			setter.set(carrier, "tracestate", "foo=bar");
+		}
+
+		@Override
+		public <C> Span.Builder extract(C carrier, Getter<C> getter) {
+			throw new UnsupportedOperationException();
+		}
+	};
+
+	@Test
+	void should_inject_all_fields_into_native_headers_in_one_pass() {
+		NativeMessageHeaderAccessor accessor = SimpMessageHeaderAccessor.create();
+
+		MessageHeaderPropagatorSetter.inject(this.propagator, this.context, accessor,
+				new MessageHeaderPropagatorSetter());
+
+		then(accessor.getHeader("traceparent"))
+				.isEqualTo("00-0af7651916cd43dd8448eb211c80319c-b7ad6b7169203331-01");
+		then(accessor.getHeader("tracestate")).isEqualTo("foo=bar");
+		then(accessor.getFirstNativeHeader("traceparent"))
+				.isEqualTo("00-0af7651916cd43dd8448eb211c80319c-b7ad6b7169203331-01");
+		then(accessor.getFirstNativeHeader("tracestate")).isEqualTo("foo=bar");
+	}
+
+	@Test
+	@SuppressWarnings("unchecked")
+	void should_inject_all_fields_into_the_native_headers_map() {
+		MessageHeaderAccessor accessor = new MessageHeaderAccessor();
+
+		MessageHeaderPropagatorSetter.inject(this.propagator, this.context, accessor,
+				new MessageHeaderPropagatorSetter());
+
+		then(accessor.getHeader("tracestate")).isEqualTo("foo=bar");
+		Map<String, List<String>> nativeHeaders = (Map<String, List<String>>) accessor
+				.getHeader(NativeMessageHeaderAccessor.NATIVE_HEADERS);
+		then(nativeHeaders).containsOnlyKeys("traceparent", "tracestate");
+		then(nativeHeaders.get("tracestate")).containsExactly("foo=bar");
+	}
+
+	@Test
+	void should_call_a_custom_setter_for_each_field() {
+		MessageHeaderAccessor accessor = new MessageHeaderAccessor();
+		List<String> keys = new ArrayList<>();
+
+		MessageHeaderPropagatorSetter.inject(this.propagator, this.context, accessor,
+				new MessageHeaderPropagatorSetter() {
+					@Override
+					public void set(MessageHeaderAccessor carrier, String key, String value) {
+						keys.add(key);
+						super.set(carrier, key, value);
+					}
+				});
+
+		then(keys).containsExactly("traceparent", "tracestate");
+		then(accessor.getHeader("tracestate")).isEqualTo("foo=bar");
+	}
+
+}
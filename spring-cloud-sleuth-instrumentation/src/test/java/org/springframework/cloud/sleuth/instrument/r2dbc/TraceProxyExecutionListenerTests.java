@@ -19,6 +19,7 @@ package org.springframework.cloud.sleuth.instrument.r2dbc;
 import java.util.concurrent.atomic.AtomicReference;
 
 import io.r2dbc.proxy.core.QueryExecutionInfo;
+import io.r2dbc.proxy.core.QueryInfo;
 import io.r2dbc.proxy.core.ValueStore;
 import io.r2dbc.proxy.test.MockQueryExecutionInfo;
 import io.r2dbc.spi.Connection;
@@ -31,7 +32,6 @@ import org.springframework.beans.factory.BeanFactory;
 import org.springframework.beans.factory.support.StaticListableBeanFactory;
 import org.springframework.boot.autoconfigure.r2dbc.R2dbcProperties;
 import org.springframework.cloud.sleuth.Span;
-import org.springframework.cloud.sleuth.docs.AssertingSpan;
 import org.springframework.cloud.sleuth.tracer.SimpleSpan;
 import org.springframework.cloud.sleuth.tracer.SimpleTracer;
 
@@ -87,8 +87,8 @@ class TraceProxyExecutionListenerTests {
 		AtomicReference<Span> clientSpan = new AtomicReference<>();
 		listener = new TraceProxyExecutionListener(beanFactory(), connectionFactory) {
 			@Override
-			AssertingSpan clientSpan(QueryExecutionInfo executionInfo, String name) {
-				AssertingSpan span = super.clientSpan(executionInfo, name);
+			Span clientSpan(QueryExecutionInfo executionInfo, String name) {
+				Span span = super.clientSpan(executionInfo, name);
 				clientSpan.set(span);
 				return span;
 			}
@@ -99,6 +99,38 @@ class TraceProxyExecutionListenerTests {
 		then(queryExecutionInfo.getValueStore().get(Span.class)).isSameAs(clientSpan.get());
 	}
 
+	@Test
+	void should_tag_queries_with_indexed_keys() {
+		MockQueryExecutionInfo queryExecutionInfo = MockQueryExecutionInfo.builder()
+				.queryInfo(new QueryInfo("SELECT 1")).queryInfo(new QueryInfo("SELECT 2")).build();
+		this.simpleTracer.currentSpan = this.simpleTracer.nextSpan().start();
+
+		listener.beforeQuery(queryExecutionInfo);
+
+		SimpleSpan span = this.simpleTracer.getLastSpan();
+		then(span.tags).containsEntry("r2dbc.query[0]", "SELECT 1").containsEntry("r2dbc.query[1]", "SELECT 2")
+				.containsEntry("r2dbc.connection", "my-name");
+	}
+
+	@Test
+	void should_truncate_long_queries() {
+		String query = "SELECT * FROM customers WHERE id = 1";
+		MockQueryExecutionInfo queryExecutionInfo = MockQueryExecutionInfo.builder().queryInfo(new QueryInfo(query))
+				.build();
+		this.simpleTracer.currentSpan = this.simpleTracer.nextSpan().start();
+		listener = new TraceProxyExecutionListener(beanFactory(), connectionFactory, 8) {
+			@Override
+			boolean isContextUnusable() {
+				return false;
+			}
+		};
+
+		listener.beforeQuery(queryExecutionInfo);
+
+		SimpleSpan span = this.simpleTracer.getLastSpan();
+		then(span.tags).containsEntry("r2dbc.query[0]", "SELECT *...#" + Integer.toHexString(query.hashCode()));
+	}
+
 	@Test
 	void should_annotate_a_span_on_query_result() {
 		SimpleSpan span = new SimpleSpan();
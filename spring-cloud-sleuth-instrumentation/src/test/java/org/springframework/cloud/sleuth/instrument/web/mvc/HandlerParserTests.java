@@ -0,0 +1,63 @@
+/*
+ * Copyright 2013-2023 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.cloud.sleuth.instrument.web.mvc;
+
+import org.junit.jupiter.api.Test;
+
+import org.springframework.cloud.sleuth.SpanCustomizer;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.web.method.HandlerMethod;
+
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+class HandlerParserTests {
+
+	HandlerParser parser = new HandlerParser();
+
+	SpanCustomizer customizer = mock(SpanCustomizer.class);
+
+	@Test
+	void should_tag_class_and_method_of_each_handler_method() throws Exception {
+		BookController controller = new BookController();
+
+		this.parser.preHandle(new MockHttpServletRequest(), new HandlerMethod(controller, "listOfBooks"),
+				this.customizer);
+		this.parser.preHandle(new MockHttpServletRequest(), new HandlerMethod(controller, "listOfBooks"),
+				this.customizer);
+
+		verify(this.customizer, times(2)).tag(HandlerParser.CONTROLLER_CLASS, "BookController");
+		verify(this.customizer, times(2)).tag(HandlerParser.CONTROLLER_METHOD, "listOfBooks");
+	}
+
+	@Test
+	void should_tag_class_of_other_handlers() {
+		this.parser.preHandle(new MockHttpServletRequest(), new BookController(), this.customizer);
+
+		verify(this.customizer).tag(HandlerParser.CONTROLLER_CLASS, "BookController");
+	}
+
+	static class BookController {
+
+		public String listOfBooks() {
+			return "books";
+		}
+
+	}
+
+}
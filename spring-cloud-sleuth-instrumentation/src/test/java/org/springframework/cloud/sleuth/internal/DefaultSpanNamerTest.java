@@ -47,6 +47,34 @@ class DefaultSpanNamerTest {
 		BDDAssertions.then(defaultValue).isEqualTo("new-name");
 	}
 
+	@Test
+	void nameWithToStringOverrideReturningDefaultToString() {
+		DefaultSpanNamer spanNamer = new DefaultSpanNamer();
+
+		BDDAssertions.then(spanNamer.name(new DefaultToStringOverride(), "default value"))
+				.isEqualTo("default value");
+		BDDAssertions.then(spanNamer.name(new DefaultToStringOverride(), "default value"))
+				.isEqualTo("default value");
+	}
+
+	@Test
+	void nameIsResolvedForEachInstanceWithToStringOverride() {
+		DefaultSpanNamer spanNamer = new DefaultSpanNamer();
+
+		BDDAssertions.then(spanNamer.name(new DynamicToString("first"), "default value")).isEqualTo("first");
+		BDDAssertions.then(spanNamer.name(new DynamicToString("second"), "default value")).isEqualTo("second");
+	}
+
+	@Test
+	void nameOfMethod() throws Exception {
+		DefaultSpanNamer spanNamer = new DefaultSpanNamer();
+
+		BDDAssertions.then(spanNamer.name(AnnotatedMethods.class.getMethod("annotated"), "default value"))
+				.isEqualTo("method-name");
+		BDDAssertions.then(spanNamer.name(AnnotatedMethods.class.getMethod("notAnnotated"), "default value"))
+				.isEqualTo("default value");
+	}
+
 	static class NoToStringOverride {
 
 	}
@@ -69,4 +97,41 @@ class DefaultSpanNamerTest {
 
 	}
 
+	static class DefaultToStringOverride {
+
+		@Override
+		public String toString() {
+			return super.toString();
+		}
+
+	}
+
+	static class DynamicToString {
+
+		private final String name;
+
+		DynamicToString(String name) {
+			this.name = name;
+		}
+
+		@Override
+		public String toString() {
+			return this.name;
+		}
+
+	}
+
+	public static class AnnotatedMethods {
+
+		@SpanName("method-name")
+		public void annotated() {
+
+		}
+
+		public void notAnnotated() {
+
+		}
+
+	}
+
 }
@@ -40,4 +40,24 @@ class EncodingUtilsTests {
 		BDDAssertions.then(fromLong).isEqualTo("596e1787feb110407c6239a5ad0a4287");
 	}
 
+	@Test
+	void should_validate_base16_region() {
+		String traceparent = "00-596e1787feb110407c6239a5ad0a4287-7c6239a5ad0a4287-01";
+
+		BDDAssertions.then(EncodingUtils.isValidBase16String(traceparent, 3, 32)).isTrue();
+		BDDAssertions.then(EncodingUtils.isValidBase16String(traceparent, 2, 32)).isFalse();
+		BDDAssertions.then(EncodingUtils.isValidBase16String(traceparent, 53, 4)).isFalse();
+		BDDAssertions.then(EncodingUtils.isValidBase16String("7C6239A5AD0A4287", 0, 16)).isFalse();
+	}
+
+	@Test
+	void should_read_long_at_offset() {
+		String traceparent = "00-596e1787feb110407c6239a5ad0a4287-7c6239a5ad0a4287-01";
+
+		BDDAssertions.then(EncodingUtils.longFromBase16String(traceparent, 19))
+				.isEqualTo(EncodingUtils.longFromBase16String("7c6239a5ad0a4287"));
+		BDDAssertions.thenThrownBy(() -> EncodingUtils.longFromBase16String(traceparent, 2))
+				.isInstanceOf(IllegalArgumentException.class);
+	}
+
 }
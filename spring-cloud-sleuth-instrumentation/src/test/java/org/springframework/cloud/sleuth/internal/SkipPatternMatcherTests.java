@@ -0,0 +1,77 @@
+/*
+ * Copyright 2013-2021 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.cloud.sleuth.internal;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.regex.Pattern;
+
+import org.assertj.core.api.BDDAssertions;
+import org.junit.jupiter.api.Test;
+
+class SkipPatternMatcherTests {
+
+	static final String DEFAULT_SKIP_PATTERN = "/api-docs.*|/swagger.*|"
+			+ ".*\\.png|.*\\.css|.*\\.js|.*\\.html|/favicon.ico|/hystrix.stream";
+
+	static final List<String> INPUTS = Arrays.asList("", "/", "/api-docs", "/api-docs/v2", "/api-doc", "/swagger",
+			"/swagger-ui.html", "/foo.png", "/foo.png/bar", "/a.b/c.css", ".js", "/x.min.js", "/x.json",
+			"/favicon.ico", "/faviconXico", "/favicon.icox", "/hystrix.stream", "/actuator", "/actuator/",
+			"/actuator/health", "/actuator/health/db", "/actuator/healthz", "/actuator/info", "/manage",
+			"/manage/info", "/context/actuator/env", "/context/actuator/envX", "/foo/bar", "/foo\n.png",
+			"com.example.MyJob", "com.example.OtherJob", "org.springframework.Foo");
+
+	@Test
+	void should_match_the_same_inputs_as_the_regex_for_the_default_pattern() {
+		thenMatchesLikeRegex(DEFAULT_SKIP_PATTERN);
+	}
+
+	@Test
+	void should_match_the_same_inputs_as_the_regex_for_actuator_patterns() {
+		thenMatchesLikeRegex(DEFAULT_SKIP_PATTERN + "|/actuator(/|/(health|health/.*|info|info/.*))?|/manage.*");
+		thenMatchesLikeRegex("/context/actuator(/|/(env|env/.*))?");
+		thenMatchesLikeRegex("/(health|health/.*|info|info/.*)");
+	}
+
+	@Test
+	void should_match_the_same_inputs_as_the_regex_for_irregular_patterns() {
+		thenMatchesLikeRegex("/foo/[0-9]+|.*\\.png");
+		thenMatchesLikeRegex(".*bar.*|/api-docs.*");
+		thenMatchesLikeRegex("com\\.example\\..*Job");
+		thenMatchesLikeRegex("(?i)/FOO/BAR");
+		thenMatchesLikeRegex("/x\\.JSON|(?i)/FOO/BAR|/API-DOCS.*");
+		thenMatchesLikeRegex("/foo.*?|/x\\.json");
+		thenMatchesLikeRegex("\\Q/foo.png\\E");
+		thenMatchesLikeRegex("/(a|b)*");
+		thenMatchesLikeRegex(".*");
+	}
+
+	@Test
+	void should_match_the_same_inputs_as_the_regex_for_class_name_patterns() {
+		thenMatchesLikeRegex("com\\.example\\.MyJob|org\\.springframework\\..*");
+	}
+
+	private void thenMatchesLikeRegex(String regex) {
+		Pattern pattern = Pattern.compile(regex);
+		SkipPatternMatcher matcher = SkipPatternMatcher.of(pattern);
+		for (String input : INPUTS) {
+			BDDAssertions.then(matcher.matches(input)).as("[%s] matching [%s]", regex, input)
+					.isEqualTo(pattern.matcher(input).matches());
+		}
+	}
+
+}
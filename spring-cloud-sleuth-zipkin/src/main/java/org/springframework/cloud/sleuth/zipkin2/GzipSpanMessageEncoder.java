@@ -0,0 +1,217 @@
+/*
+ * Copyright 2013-2021 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.cloud.sleuth.zipkin2;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.zip.CRC32;
+import java.util.zip.Deflater;
+
+import zipkin2.codec.Encoding;
+
+/**
+ * Encodes a list of spans into a gzipped message without building the uncompressed
+ * message first. Each encoded span is fed straight into a {@link Deflater} that writes
+ * into a buffer reused by the reporting thread, so the only allocation per message is
+ * the final, compressed payload. The native memory held by the deflaters is freed on
+ * {@link #close()}.
+ *
+ * @since 3.1.11
+ */
+final class GzipSpanMessageEncoder {
+
+	private static final byte[] GZIP_HEADER = { 0x1f, (byte) 0x8b, Deflater.DEFLATED, 0, 0, 0, 0, 0, 0, 0 };
+
+	private static final int TRAILER_SIZE = 8;
+
+	/**
+	 * Buffers that grew beyond this size are not kept for the next message.
+	 */
+	private static final int MAX_RETAINED_BUFFER_SIZE = 1024 * 1024;
+
+	private static final byte[] LIST_START = { '[' };
+
+	private static final byte[] LIST_SEPARATOR = { ',' };
+
+	private static final byte[] LIST_END = { ']' };
+
+	private final boolean jsonList;
+
+	private final int level;
+
+	private final ThreadLocal<Buffer> buffers;
+
+	/**
+	 * All buffers handed out by {@link #buffers}, so that their deflaters can be ended
+	 * whichever thread created them.
+	 */
+	private final Set<Buffer> createdBuffers = ConcurrentHashMap.newKeySet();
+
+	private volatile boolean closed;
+
+	GzipSpanMessageEncoder(Encoding encoding, int level) {
+		// PROTO3 ListOfSpans is just the concatenation of the encoded spans
+		this.jsonList = encoding == Encoding.JSON;
+		this.level = level;
+		this.buffers = ThreadLocal.withInitial(() -> {
+			Buffer buffer = new Buffer(this.level);
+			this.createdBuffers.add(buffer);
+			if (this.closed) {
+				// close() might have missed it
+				close();
+			}
+			return buffer;
+		});
+	}
+
+	/**
+	 * Encodes the spans as a list and compresses the result.
+	 * @param encodedSpans encoded spans
+	 * @return gzipped message
+	 */
+	byte[] encode(List<byte[]> encodedSpans) {
+		Buffer buffer = this.buffers.get();
+		synchronized (buffer) {
+			buffer.assertNotEnded();
+			if (this.jsonList) {
+				buffer.write(LIST_START);
+			}
+			for (int i = 0; i < encodedSpans.size(); i++) {
+				if (this.jsonList && i > 0) {
+					buffer.write(LIST_SEPARATOR);
+				}
+				buffer.write(encodedSpans.get(i));
+			}
+			if (this.jsonList) {
+				buffer.write(LIST_END);
+			}
+			return buffer.finish();
+		}
+	}
+
+	/**
+	 * Compresses an already built message.
+	 * @param message message to compress
+	 * @return gzipped message
+	 */
+	byte[] encode(byte[] message) {
+		Buffer buffer = this.buffers.get();
+		synchronized (buffer) {
+			buffer.assertNotEnded();
+			buffer.write(message);
+			return buffer.finish();
+		}
+	}
+
+	/**
+	 * Ends the deflaters of all threads. The encoder can't be used afterwards.
+	 */
+	void close() {
+		this.closed = true;
+		for (Buffer buffer : this.createdBuffers) {
+			synchronized (buffer) {
+				buffer.end();
+			}
+			this.createdBuffers.remove(buffer);
+		}
+	}
+
+	private static final class Buffer {
+
+		private final Deflater deflater;
+
+		private final CRC32 crc = new CRC32();
+
+		private byte[] bytes = newBytes();
+
+		private int count = GZIP_HEADER.length;
+
+		private boolean ended;
+
+		private Buffer(int level) {
+			this.deflater = new Deflater(level, true);
+		}
+
+		private static byte[] newBytes() {
+			byte[] bytes = new byte[8192];
+			System.arraycopy(GZIP_HEADER, 0, bytes, 0, GZIP_HEADER.length);
+			return bytes;
+		}
+
+		private void assertNotEnded() {
+			if (this.ended) {
+				throw new IllegalStateException("close");
+			}
+		}
+
+		private void end() {
+			this.ended = true;
+			this.deflater.end();
+		}
+
+		private void write(byte[] input) {
+			this.crc.update(input, 0, input.length);
+			this.deflater.setInput(input, 0, input.length);
+			while (!this.deflater.needsInput()) {
+				deflate();
+			}
+		}
+
+		private byte[] finish() {
+			try {
+				this.deflater.finish();
+				while (!this.deflater.finished()) {
+					deflate();
+				}
+				ensureCapacity(TRAILER_SIZE);
+				writeIntLittleEndian((int) this.crc.getValue());
+				writeIntLittleEndian(this.deflater.getTotalIn());
+				return Arrays.copyOf(this.bytes, this.count);
+			}
+			finally {
+				this.deflater.reset();
+				this.crc.reset();
+				this.count = GZIP_HEADER.length;
+				if (this.bytes.length > MAX_RETAINED_BUFFER_SIZE) {
+					this.bytes = newBytes();
+				}
+			}
+		}
+
+		private void deflate() {
+			ensureCapacity(512);
+			this.count += this.deflater.deflate(this.bytes, this.count, this.bytes.length - this.count);
+		}
+
+		private void ensureCapacity(int required) {
+			if (this.bytes.length - this.count < required) {
+				this.bytes = Arrays.copyOf(this.bytes, Math.max(this.bytes.length << 1, this.count + required));
+			}
+		}
+
+		private void writeIntLittleEndian(int value) {
+			this.bytes[this.count++] = (byte) value;
+			this.bytes[this.count++] = (byte) (value >>> 8);
+			this.bytes[this.count++] = (byte) (value >>> 16);
+			this.bytes[this.count++] = (byte) (value >>> 24);
+		}
+
+	}
+
+}
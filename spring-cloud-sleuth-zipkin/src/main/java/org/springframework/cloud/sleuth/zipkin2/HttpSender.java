@@ -19,6 +19,7 @@ package org.springframework.cloud.sleuth.zipkin2;
 import java.io.IOException;
 import java.util.List;
 import java.util.Objects;
+import java.util.zip.Deflater;
 
 import zipkin2.Call;
 import zipkin2.Callback;
@@ -50,12 +51,27 @@ abstract class HttpSender extends Sender {
 
 	final BytesMessageEncoder messageEncoder;
 
+	/**
+	 * {@code null} when the payload is not compressed.
+	 */
+	final GzipSpanMessageEncoder gzipEncoder;
+
 	/**
 	 * close is typically called from a different thread.
 	 */
 	transient boolean closeCalled;
 
 	HttpSender(ZipkinHttpClientSender sender, String baseUrl, String apiPath, BytesEncoder<Span> encoder) {
+		this(sender, baseUrl, apiPath, encoder, false, Deflater.DEFAULT_COMPRESSION);
+	}
+
+	/**
+	 * When {@code compressionEnabled} is set, the {@link ZipkinHttpClientSender} receives
+	 * a gzipped payload and is responsible for setting the {@code Content-Encoding}
+	 * header.
+	 */
+	HttpSender(ZipkinHttpClientSender sender, String baseUrl, String apiPath, BytesEncoder<Span> encoder,
+			boolean compressionEnabled, int compressionLevel) {
 		this.sender = sender;
 		this.encoding = encoder.encoding();
 		if (encoder.equals(JSON_V2)) {
@@ -77,6 +93,7 @@ abstract class HttpSender extends Sender {
 			throw new UnsupportedOperationException("Unsupported encoding: " + this.encoding.name());
 		}
 		this.messageEncoder = BytesMessageEncoder.forEncoding(this.encoding);
+		this.gzipEncoder = compressionEnabled ? new GzipSpanMessageEncoder(this.encoding, compressionLevel) : null;
 	}
 
 	private String buildUrlWithCustomPathIfNecessary(final String baseUrl, final String customApiPath,
@@ -111,7 +128,14 @@ abstract class HttpSender extends Sender {
 		if (this.closeCalled) {
 			throw new IllegalStateException("close");
 		}
-		return new HttpPostCall(this.messageEncoder.encode(encodedSpans));
+		return new HttpPostCall(encodeMessage(encodedSpans));
+	}
+
+	byte[] encodeMessage(List<byte[]> encodedSpans) {
+		if (this.gzipEncoder != null) {
+			return this.gzipEncoder.encode(encodedSpans);
+		}
+		return this.messageEncoder.encode(encodedSpans);
 	}
 
 	/**
@@ -120,7 +144,8 @@ abstract class HttpSender extends Sender {
 	@Override
 	public CheckResult check() {
 		try {
-			post(new byte[] { '[', ']' });
+			byte[] emptyList = new byte[] { '[', ']' };
+			post(this.gzipEncoder != null ? this.gzipEncoder.encode(emptyList) : emptyList);
 			return CheckResult.OK;
 		}
 		catch (Exception e) {
@@ -131,6 +156,9 @@ abstract class HttpSender extends Sender {
 	@Override
 	public void close() {
 		this.closeCalled = true;
+		if (this.gzipEncoder != null) {
+			this.gzipEncoder.close();
+		}
 	}
 
 	void post(byte[] json) {
@@ -17,6 +17,7 @@
 package org.springframework.cloud.sleuth.zipkin2;
 
 import java.net.URI;
+import java.util.zip.Deflater;
 
 import zipkin2.Span;
 import zipkin2.codec.BytesEncoder;
@@ -41,12 +42,35 @@ public class RestTemplateSender extends HttpSender {
 	}
 
 	public RestTemplateSender(RestTemplate restTemplate, String baseUrl, String apiPath, BytesEncoder<Span> encoder) {
-		super((url, mediaType, bytes) -> post(url, mediaType, bytes, restTemplate), baseUrl, apiPath, encoder);
+		this(restTemplate, baseUrl, apiPath, encoder, false, Deflater.DEFAULT_COMPRESSION);
 	}
 
-	private static void post(String url, MediaType mediaType, byte[] json, RestTemplate restTemplate) {
+	/**
+	 * Creates a new instance of {@link RestTemplateSender}. When compression is enabled
+	 * the spans are gzipped while being encoded, so the {@link RestTemplate} must not
+	 * compress the payload on its own.
+	 * @param restTemplate rest template
+	 * @param baseUrl base url
+	 * @param apiPath api path
+	 * @param encoder encoder
+	 * @param compressionEnabled whether the payload should be gzipped
+	 * @param compressionLevel gzip compression level ({@code 0-9} or {@code -1} for the
+	 * default level)
+	 * @since 3.1.11
+	 */
+	public RestTemplateSender(RestTemplate restTemplate, String baseUrl, String apiPath, BytesEncoder<Span> encoder,
+			boolean compressionEnabled, int compressionLevel) {
+		super((url, mediaType, bytes) -> post(url, mediaType, compressionEnabled, bytes, restTemplate), baseUrl,
+				apiPath, encoder, compressionEnabled, compressionLevel);
+	}
+
+	private static void post(String url, MediaType mediaType, boolean gzipped, byte[] json,
+			RestTemplate restTemplate) {
 		HttpHeaders httpHeaders = new HttpHeaders();
 		httpHeaders.setContentType(mediaType);
+		if (gzipped) {
+			httpHeaders.set(HttpHeaders.CONTENT_ENCODING, "gzip");
+		}
 		RequestEntity<byte[]> requestEntity = new RequestEntity<>(json, httpHeaders, HttpMethod.POST, URI.create(url));
 		restTemplate.exchange(requestEntity, String.class);
 	}
@@ -18,13 +18,24 @@ package org.springframework.cloud.sleuth.zipkin2;
 
 import java.net.URI;
 import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
 import java.util.function.Function;
+import java.util.zip.Deflater;
 
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+import reactor.core.Disposable;
 import reactor.core.publisher.Mono;
+import zipkin2.Call;
+import zipkin2.Callback;
 import zipkin2.Span;
 import zipkin2.codec.BytesEncoder;
+import zipkin2.reporter.ReporterMetrics;
 import zipkin2.reporter.Sender;
 
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.reactive.function.client.WebClient;
@@ -32,12 +43,40 @@ import org.springframework.web.reactive.function.client.WebClient;
 /**
  * {@link Sender} that uses {@link WebClient} to send spans to Zipkin.
  *
+ * When created with a positive number of maximum in-flight requests the sender works in
+ * a non-blocking mode - {@link Call#enqueue(Callback)} completes from the HTTP client
+ * callback and {@link Call#execute()} returns as soon as the batch got dispatched. The
+ * reporting thread never waits - when the maximum number of batches is already in flight
+ * the next batch is rejected. As failures can't be propagated to the reporter in that
+ * mode, the batches that were rejected or failed to be sent are counted as dropped in the
+ * {@link ReporterMetrics} passed to the sender.
+ *
  * @since 3.1.0
  */
 public class WebClientSender extends HttpSender {
 
+	private static final Log log = LogFactory.getLog(WebClientSender.class);
+
 	private static final long DEFAULT_CHECK_TIMEOUT = 1_000L;
 
+	private final Function<Mono<ResponseEntity<Void>>, Mono<ResponseEntity<Void>>> wrapperFunction;
+
+	private final WebClient webClient;
+
+	private final long checkTimeout;
+
+	private final boolean compressionEnabled;
+
+	private final int maxInFlightRequests;
+
+	/**
+	 * Limits the number of batches sent concurrently. {@code null} when running in the
+	 * blocking mode.
+	 */
+	private final Semaphore inFlightRequests;
+
+	private final ReporterMetrics reporterMetrics;
+
 	/**
 	 * Use
 	 * {@link WebClientSender#WebClientSender(WebClient, String, String, BytesEncoder, long)}.
@@ -63,8 +102,7 @@ public class WebClientSender extends HttpSender {
 	 */
 	public WebClientSender(WebClient webClient, String baseUrl, String apiPath, BytesEncoder<Span> encoder,
 			long checkTimeout) {
-		super((url, mediaType, bytes) -> post(null, url, mediaType, bytes, webClient, checkTimeout).block(), baseUrl,
-				apiPath, encoder);
+		this(null, webClient, baseUrl, apiPath, encoder, checkTimeout);
 	}
 
 	/**
@@ -79,19 +117,185 @@ public class WebClientSender extends HttpSender {
 	 */
 	public WebClientSender(Function<Mono<ResponseEntity<Void>>, Mono<ResponseEntity<Void>>> wrapperFunction,
 			WebClient webClient, String baseUrl, String apiPath, BytesEncoder<Span> encoder, long checkTimeout) {
-		super((url, mediaType, bytes) -> post(wrapperFunction, url, mediaType, bytes, webClient, checkTimeout).block(),
-				baseUrl, apiPath, encoder);
+		this(wrapperFunction, webClient, baseUrl, apiPath, encoder, checkTimeout, 0, false,
+				Deflater.DEFAULT_COMPRESSION, ReporterMetrics.NOOP_METRICS);
+	}
+
+	/**
+	 * Creates a new instance of {@link WebClientSender}.
+	 * @param webClient web client
+	 * @param wrapperFunction function that will be run on onErrorResume. Send in null to
+	 * get default behavior.
+	 * @param baseUrl base url
+	 * @param apiPath api path
+	 * @param encoder encoder
+	 * @param checkTimeout check timeout
+	 * @param maxInFlightRequests maximum number of batches of spans being sent at the
+	 * same time. Further batches are dropped until one of the in-flight requests
+	 * completes. Set to {@code 0} or less to block the reporting thread until each batch
+	 * got sent.
+	 * @param compressionEnabled whether the payload should be gzipped
+	 * @param compressionLevel gzip compression level ({@code 0-9} or {@code -1} for the
+	 * default level)
+	 * @param reporterMetrics metrics in which the batches that failed to be sent in the
+	 * non-blocking mode are counted as dropped
+	 * @since 3.1.11
+	 */
+	public WebClientSender(Function<Mono<ResponseEntity<Void>>, Mono<ResponseEntity<Void>>> wrapperFunction,
+			WebClient webClient, String baseUrl, String apiPath, BytesEncoder<Span> encoder, long checkTimeout,
+			int maxInFlightRequests, boolean compressionEnabled, int compressionLevel,
+			ReporterMetrics reporterMetrics) {
+		super((url, mediaType, bytes) -> post(wrapperFunction, url, mediaType, compressionEnabled, bytes, webClient,
+				checkTimeout).block(), baseUrl, apiPath, encoder, compressionEnabled, compressionLevel);
+		this.compressionEnabled = compressionEnabled;
+		this.wrapperFunction = wrapperFunction;
+		this.webClient = webClient;
+		this.checkTimeout = checkTimeout;
+		this.maxInFlightRequests = maxInFlightRequests;
+		this.inFlightRequests = maxInFlightRequests > 0 ? new Semaphore(maxInFlightRequests) : null;
+		this.reporterMetrics = reporterMetrics;
+	}
+
+	@Override
+	public Call<Void> sendSpans(List<byte[]> encodedSpans) {
+		if (this.inFlightRequests == null) {
+			return super.sendSpans(encodedSpans);
+		}
+		if (this.closeCalled) {
+			throw new IllegalStateException("close");
+		}
+		return new AsyncHttpPostCall(encodeMessage(encodedSpans), encodedSpans.size());
+	}
+
+	/**
+	 * Waits up to the check timeout for the batches that are still in flight.
+	 */
+	@Override
+	public void close() {
+		super.close();
+		if (this.inFlightRequests == null) {
+			return;
+		}
+		try {
+			if (this.inFlightRequests.tryAcquire(this.maxInFlightRequests, this.checkTimeout, TimeUnit.MILLISECONDS)) {
+				this.inFlightRequests.release(this.maxInFlightRequests);
+			}
+			else if (log.isDebugEnabled()) {
+				log.debug("Timed out waiting for in-flight spans to be sent to Zipkin");
+			}
+		}
+		catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+		}
 	}
 
 	private static Mono<ResponseEntity<Void>> post(
 			Function<Mono<ResponseEntity<Void>>, Mono<ResponseEntity<Void>>> wrapperFunction, String url,
-			MediaType mediaType, byte[] json, WebClient webClient, long checkTimeout) {
+			MediaType mediaType, boolean gzipped, byte[] json, WebClient webClient, long checkTimeout) {
 		if (wrapperFunction == null) {
 			wrapperFunction = (response) -> response;
 		}
+		WebClient.RequestBodySpec request = webClient.post().uri(URI.create(url)).accept(mediaType)
+				.contentType(mediaType);
+		if (gzipped) {
+			request.header(HttpHeaders.CONTENT_ENCODING, "gzip");
+		}
+		return wrapperFunction.apply(
+				request.bodyValue(json).retrieve().toBodilessEntity().timeout(Duration.ofMillis(checkTimeout)));
+	}
+
+	class AsyncHttpPostCall extends Call.Base<Void> {
+
+		private final byte[] message;
+
+		private final int spanCount;
+
+		private volatile Disposable subscription;
+
+		AsyncHttpPostCall(byte[] message, int spanCount) {
+			this.message = message;
+			this.spanCount = spanCount;
+		}
+
+		/**
+		 * The {@code AsyncReporter} flushes through this method. We return as soon as the
+		 * batch got dispatched so that the next batch can be encoded while this one is in
+		 * flight. There is no caller to propagate the failure to, so we log it and count
+		 * the batch as dropped, as the reporter would have done.
+		 */
+		@Override
+		protected Void doExecute() {
+			doEnqueue(new DroppedSpansCallback(this.spanCount));
+			return null;
+		}
+
+		/**
+		 * Never waits for a free slot. The permit is given back before the callback gets
+		 * notified so that the caller can send the next batch straight away.
+		 */
+		@Override
+		protected void doEnqueue(Callback<Void> callback) {
+			Semaphore inFlightRequests = WebClientSender.this.inFlightRequests;
+			if (!inFlightRequests.tryAcquire()) {
+				callback.onError(new IllegalStateException(
+						"Maximum number of in-flight requests [" + maxInFlightRequests + "] reached"));
+				return;
+			}
+			try {
+				this.subscription = post(wrapperFunction, url, mediaType, compressionEnabled, this.message, webClient,
+						checkTimeout)
+						.doOnCancel(inFlightRequests::release).subscribe(response -> {
+						}, error -> {
+							inFlightRequests.release();
+							callback.onError(error);
+						}, () -> {
+							inFlightRequests.release();
+							callback.onSuccess(null);
+						});
+			}
+			catch (RuntimeException | Error e) {
+				inFlightRequests.release();
+				callback.onError(e);
+			}
+		}
+
+		@Override
+		protected void doCancel() {
+			Disposable subscription = this.subscription;
+			if (subscription != null) {
+				subscription.dispose();
+			}
+		}
+
+		@Override
+		public Call<Void> clone() {
+			return new AsyncHttpPostCall(this.message, this.spanCount);
+		}
+
+	}
+
+	class DroppedSpansCallback implements Callback<Void> {
+
+		private final int spanCount;
+
+		DroppedSpansCallback(int spanCount) {
+			this.spanCount = spanCount;
+		}
+
+		@Override
+		public void onSuccess(Void value) {
+			// nothing to do
+		}
+
+		@Override
+		public void onError(Throwable t) {
+			reporterMetrics.incrementMessagesDropped(t);
+			reporterMetrics.incrementSpansDropped(this.spanCount);
+			if (log.isWarnEnabled()) {
+				log.warn("Failed to send " + this.spanCount + " spans to Zipkin", t);
+			}
+		}
 
-		return wrapperFunction.apply(webClient.post().uri(URI.create(url)).accept(mediaType).contentType(mediaType)
-				.bodyValue(json).retrieve().toBodilessEntity().timeout(Duration.ofMillis(checkTimeout)));
 	}
 
 	@Override
@@ -16,6 +16,8 @@
 
 package org.springframework.cloud.sleuth.zipkin2;
 
+import java.util.zip.Deflater;
+
 import zipkin2.codec.SpanBytesEncoder;
 
 import org.springframework.boot.context.properties.ConfigurationProperties;
@@ -76,6 +78,11 @@ public class ZipkinProperties {
 	 */
 	private Compression compression = new Compression();
 
+	/**
+	 * Configuration related to non-blocking sending of spans to Zipkin.
+	 */
+	private Async async = new Async();
+
 	private Service service = new Service();
 
 	private Locator locator = new Locator();
@@ -149,6 +156,14 @@ public class ZipkinProperties {
 		this.compression = compression;
 	}
 
+	public Async getAsync() {
+		return this.async;
+	}
+
+	public void setAsync(Async async) {
+		this.async = async;
+	}
+
 	public Service getService() {
 		return this.service;
 	}
@@ -178,6 +193,11 @@ public class ZipkinProperties {
 
 		private boolean enabled = false;
 
+		/**
+		 * Gzip compression level (0-9, -1 for the default level).
+		 */
+		private int level = Deflater.DEFAULT_COMPRESSION;
+
 		public boolean isEnabled() {
 			return this.enabled;
 		}
@@ -186,6 +206,51 @@ public class ZipkinProperties {
 			this.enabled = enabled;
 		}
 
+		public int getLevel() {
+			return this.level;
+		}
+
+		public void setLevel(int level) {
+			this.level = level;
+		}
+
+	}
+
+	/**
+	 * When enabled, the reactive HTTP sender will not block the reporting thread while
+	 * waiting for Zipkin to respond.
+	 */
+	public static class Async {
+
+		/**
+		 * Enables non-blocking sending of spans via WebClient. Failures are then not
+		 * propagated to the reporter, the failed batches are logged and counted as
+		 * dropped in the reporter metrics by the sender instead.
+		 */
+		private boolean enabled = false;
+
+		/**
+		 * Maximum number of batches of spans sent to Zipkin at the same time. Batches
+		 * exceeding that number are dropped.
+		 */
+		private int maxInFlightRequests = 4;
+
+		public boolean isEnabled() {
+			return this.enabled;
+		}
+
+		public void setEnabled(boolean enabled) {
+			this.enabled = enabled;
+		}
+
+		public int getMaxInFlightRequests() {
+			return this.maxInFlightRequests;
+		}
+
+		public void setMaxInFlightRequests(int maxInFlightRequests) {
+			this.maxInFlightRequests = maxInFlightRequests;
+		}
+
 	}
 
 	/**
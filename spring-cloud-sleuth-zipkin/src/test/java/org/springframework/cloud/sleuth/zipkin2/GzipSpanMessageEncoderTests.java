@@ -0,0 +1,91 @@
+/*
+ * Copyright 2013-2021 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.cloud.sleuth.zipkin2;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.zip.Deflater;
+import java.util.zip.GZIPInputStream;
+
+import org.junit.jupiter.api.Test;
+import zipkin2.codec.Encoding;
+import zipkin2.codec.SpanBytesEncoder;
+import zipkin2.reporter.BytesMessageEncoder;
+
+import org.springframework.util.StreamUtils;
+
+import static org.assertj.core.api.BDDAssertions.then;
+import static org.assertj.core.api.BDDAssertions.thenThrownBy;
+
+class GzipSpanMessageEncoderTests {
+
+	@Test
+	void should_gzip_json_list_of_spans() throws IOException {
+		List<byte[]> spans = Arrays.asList(SpanBytesEncoder.JSON_V2.encode(AbstractSenderTest.SPAN),
+				SpanBytesEncoder.JSON_V2.encode(AbstractSenderTest.SPAN));
+		GzipSpanMessageEncoder encoder = new GzipSpanMessageEncoder(Encoding.JSON, Deflater.DEFAULT_COMPRESSION);
+
+		byte[] gzipped = encoder.encode(spans);
+
+		then(gunzip(gzipped)).isEqualTo(BytesMessageEncoder.JSON.encode(spans));
+	}
+
+	@Test
+	void should_gzip_proto3_list_of_spans() throws IOException {
+		List<byte[]> spans = Arrays.asList(SpanBytesEncoder.PROTO3.encode(AbstractSenderTest.SPAN),
+				SpanBytesEncoder.PROTO3.encode(AbstractSenderTest.SPAN));
+		GzipSpanMessageEncoder encoder = new GzipSpanMessageEncoder(Encoding.PROTO3, Deflater.BEST_SPEED);
+
+		byte[] gzipped = encoder.encode(spans);
+
+		then(gunzip(gzipped)).isEqualTo(BytesMessageEncoder.PROTO3.encode(spans));
+	}
+
+	@Test
+	void should_reuse_buffers_between_messages_of_different_sizes() throws IOException {
+		GzipSpanMessageEncoder encoder = new GzipSpanMessageEncoder(Encoding.JSON, Deflater.DEFAULT_COMPRESSION);
+		List<byte[]> bigBatch = new ArrayList<>();
+		for (int i = 0; i < 5_000; i++) {
+			bigBatch.add(SpanBytesEncoder.JSON_V2.encode(AbstractSenderTest.SPAN));
+		}
+		List<byte[]> smallBatch = bigBatch.subList(0, 1);
+
+		then(gunzip(encoder.encode(bigBatch))).isEqualTo(BytesMessageEncoder.JSON.encode(bigBatch));
+		then(gunzip(encoder.encode(smallBatch))).isEqualTo(BytesMessageEncoder.JSON.encode(smallBatch));
+		then(gunzip(encoder.encode(new byte[] { '[', ']' }))).isEqualTo(new byte[] { '[', ']' });
+	}
+
+	@Test
+	void should_not_encode_after_close() {
+		GzipSpanMessageEncoder encoder = new GzipSpanMessageEncoder(Encoding.JSON, Deflater.DEFAULT_COMPRESSION);
+		encoder.encode(new byte[] { '[', ']' });
+
+		encoder.close();
+
+		thenThrownBy(() -> encoder.encode(new byte[] { '[', ']' })).isInstanceOf(IllegalStateException.class);
+	}
+
+	private byte[] gunzip(byte[] gzipped) throws IOException {
+		try (GZIPInputStream stream = new GZIPInputStream(new ByteArrayInputStream(gzipped))) {
+			return StreamUtils.copyToByteArray(stream);
+		}
+	}
+
+}
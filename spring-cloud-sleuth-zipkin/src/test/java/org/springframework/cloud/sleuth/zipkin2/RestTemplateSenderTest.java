@@ -16,12 +16,21 @@
 
 package org.springframework.cloud.sleuth.zipkin2;
 
+import java.io.ByteArrayInputStream;
+import java.util.zip.Deflater;
+import java.util.zip.GZIPInputStream;
+
+import okhttp3.mockwebserver.MockResponse;
+import okhttp3.mockwebserver.RecordedRequest;
+import org.junit.jupiter.api.Test;
 import zipkin2.reporter.Sender;
 
 import org.springframework.http.client.ClientHttpRequestFactory;
 import org.springframework.http.client.SimpleClientHttpRequestFactory;
+import org.springframework.util.StreamUtils;
 import org.springframework.web.client.RestTemplate;
 
+import static org.assertj.core.api.Assertions.assertThat;
 import static zipkin2.codec.SpanBytesEncoder.JSON_V2;
 import static zipkin2.codec.SpanBytesEncoder.PROTO3;
 
@@ -58,6 +67,23 @@ class RestTemplateSenderTest extends AbstractSenderTest {
 		return "RestTemplateSender{" + this.endpoint + mockedApiPath + "}";
 	}
 
+	@Test
+	void gzipsJsonWhenCompressionEnabled() throws Exception {
+		this.server.enqueue(new MockResponse());
+		this.sender = new RestTemplateSender(new RestTemplate(clientHttpRequestFactory()), this.endpoint, null, JSON_V2,
+				true, Deflater.BEST_SPEED);
+
+		send(SPAN).execute();
+
+		RecordedRequest request = this.server.takeRequest();
+		assertThat(request.getHeader("Content-Encoding")).isEqualTo("gzip");
+		try (GZIPInputStream body = new GZIPInputStream(
+				new ByteArrayInputStream(request.getBody().readByteArray()))) {
+			assertThat(new String(StreamUtils.copyToByteArray(body), "UTF-8"))
+					.isEqualTo("[" + new String(JSON_V2.encode(SPAN), "UTF-8") + "]");
+		}
+	}
+
 	private ClientHttpRequestFactory clientHttpRequestFactory() {
 		SimpleClientHttpRequestFactory factory = new SimpleClientHttpRequestFactory();
 		factory.setReadTimeout(DEFAULT_CHECK_TIMEOUT);
@@ -17,16 +17,29 @@
 package org.springframework.cloud.sleuth.zipkin2;
 
 import java.io.IOException;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.zip.Deflater;
 
+import okhttp3.mockwebserver.MockResponse;
+import okhttp3.mockwebserver.RecordedRequest;
 import org.junit.jupiter.api.Test;
 import reactor.core.publisher.Mono;
+import zipkin2.Call;
+import zipkin2.Callback;
 import zipkin2.CheckResult;
+import zipkin2.reporter.InMemoryReporterMetrics;
+import zipkin2.reporter.ReporterMetrics;
 import zipkin2.reporter.Sender;
 
 import org.springframework.http.client.reactive.ReactorClientHttpConnector;
 import org.springframework.web.reactive.function.client.WebClient;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.awaitility.Awaitility.await;
 import static zipkin2.codec.SpanBytesEncoder.JSON_V2;
 import static zipkin2.codec.SpanBytesEncoder.PROTO3;
 
@@ -76,4 +89,84 @@ class WebClientSenderTests extends AbstractSenderTest {
 		assertThat(result.ok()).isTrue();
 	}
 
+	@Test
+	void asyncModeShouldCompleteEnqueuedCallFromHttpClientCallback() throws Exception {
+		this.server.enqueue(new MockResponse().setBodyDelay(200, TimeUnit.MILLISECONDS));
+		WebClientSender sender = new WebClientSender(null,
+				WebClient.builder().clientConnector(new ReactorClientHttpConnector()).build(), this.endpoint, null,
+				JSON_V2, DEFAULT_CHECK_TIMEOUT, 2, false, Deflater.DEFAULT_COMPRESSION, ReporterMetrics.NOOP_METRICS);
+		CountDownLatch latch = new CountDownLatch(1);
+		AtomicReference<Throwable> error = new AtomicReference<>();
+
+		Call<Void> call = sender.sendSpans(Collections.singletonList(JSON_V2.encode(SPAN)));
+		call.enqueue(new Callback<Void>() {
+			@Override
+			public void onSuccess(Void value) {
+				latch.countDown();
+			}
+
+			@Override
+			public void onError(Throwable t) {
+				error.set(t);
+				latch.countDown();
+			}
+		});
+
+		assertThat(latch.await(5, TimeUnit.SECONDS)).isTrue();
+		assertThat(error.get()).isNull();
+		RecordedRequest request = this.server.takeRequest(1, TimeUnit.SECONDS);
+		assertThat(request.getBody().readUtf8()).isEqualTo("[" + new String(JSON_V2.encode(SPAN), "UTF-8") + "]");
+	}
+
+	@Test
+	void asyncModeShouldNotBlockOnExecute() throws Exception {
+		this.server.enqueue(new MockResponse().setHeadersDelay(3, TimeUnit.SECONDS));
+		WebClientSender sender = new WebClientSender(null,
+				WebClient.builder().clientConnector(new ReactorClientHttpConnector()).build(), this.endpoint, null,
+				JSON_V2, 5_000, 2, false, Deflater.DEFAULT_COMPRESSION, ReporterMetrics.NOOP_METRICS);
+
+		long start = System.nanoTime();
+		sender.sendSpans(Collections.singletonList(JSON_V2.encode(SPAN))).execute();
+
+		assertThat(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start)).isLessThan(2_000L);
+		assertThat(this.server.takeRequest(5, TimeUnit.SECONDS)).isNotNull();
+		sender.close();
+	}
+
+	@Test
+	void asyncModeShouldCountFailedBatchesAsDropped() throws Exception {
+		this.server.enqueue(new MockResponse().setResponseCode(500));
+		InMemoryReporterMetrics metrics = new InMemoryReporterMetrics();
+		WebClientSender sender = new WebClientSender(null,
+				WebClient.builder().clientConnector(new ReactorClientHttpConnector()).build(), this.endpoint, null,
+				JSON_V2, DEFAULT_CHECK_TIMEOUT, 2, false, -1, metrics);
+
+		sender.sendSpans(Arrays.asList(JSON_V2.encode(SPAN), JSON_V2.encode(SPAN))).execute();
+
+		await().atMost(5, TimeUnit.SECONDS).untilAsserted(() -> {
+			assertThat(metrics.messagesDropped()).isEqualTo(1);
+			assertThat(metrics.spansDropped()).isEqualTo(2);
+		});
+		sender.close();
+	}
+
+	@Test
+	void asyncModeShouldDropBatchesExceedingTheInFlightLimitWithoutBlocking() throws Exception {
+		this.server.enqueue(new MockResponse().setHeadersDelay(3, TimeUnit.SECONDS));
+		InMemoryReporterMetrics metrics = new InMemoryReporterMetrics();
+		WebClientSender sender = new WebClientSender(null,
+				WebClient.builder().clientConnector(new ReactorClientHttpConnector()).build(), this.endpoint, null,
+				JSON_V2, 5_000, 1, false, Deflater.DEFAULT_COMPRESSION, metrics);
+
+		long start = System.nanoTime();
+		sender.sendSpans(Collections.singletonList(JSON_V2.encode(SPAN))).execute();
+		sender.sendSpans(Arrays.asList(JSON_V2.encode(SPAN), JSON_V2.encode(SPAN))).execute();
+
+		assertThat(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start)).isLessThan(2_000L);
+		assertThat(metrics.messagesDropped()).isEqualTo(1);
+		assertThat(metrics.spansDropped()).isEqualTo(2);
+		assertThat(this.server.takeRequest(5, TimeUnit.SECONDS)).isNotNull();
+		sender.close();
+	}
+
 }
@@ -18,12 +18,16 @@ package org.springframework.cloud.sleuth.instrument.annotation;
 
 import java.lang.annotation.Annotation;
 import java.lang.reflect.Method;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
 import org.springframework.beans.factory.BeanFactory;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.config.BeanDefinition;
+import org.springframework.beans.factory.support.DefaultListableBeanFactory;
+import org.springframework.beans.factory.support.RootBeanDefinition;
 import org.springframework.boot.autoconfigure.EnableAutoConfiguration;
 import org.springframework.cloud.sleuth.annotation.NewSpan;
 import org.springframework.cloud.sleuth.annotation.SpanTag;
@@ -91,6 +95,35 @@ public abstract class SpanTagAnnotationHandlerTests {
 		}
 	}
 
+	@Test
+	public void shouldLookUpPrototypeTagValueResolversOnEachCall() throws NoSuchMethodException, SecurityException {
+		DefaultListableBeanFactory beanFactory = new DefaultListableBeanFactory();
+		RootBeanDefinition definition = new RootBeanDefinition(CountingTagValueResolver.class);
+		definition.setScope(BeanDefinition.SCOPE_PROTOTYPE);
+		beanFactory.registerBeanDefinition("countingTagValueResolver", definition);
+		SpanTagAnnotationHandler handler = new SpanTagAnnotationHandler(beanFactory);
+		Method method = AnnotationMockClass.class.getMethod("getAnnotationForPrototypeTagValueResolver", String.class);
+		SpanTag annotation = (SpanTag) method.getParameterAnnotations()[0][0];
+
+		String first = handler.resolveTagValue(annotation, "test");
+		String second = handler.resolveTagValue(annotation, "test");
+
+		assertThat(second).isNotEqualTo(first);
+	}
+
+	static class CountingTagValueResolver implements TagValueResolver {
+
+		static final AtomicInteger instances = new AtomicInteger();
+
+		private final int instance = instances.incrementAndGet();
+
+		@Override
+		public String resolve(Object parameter) {
+			return String.valueOf(this.instance);
+		}
+
+	}
+
 	@Configuration(proxyBeanMethods = false)
 	@EnableAutoConfiguration
 	public static class TestConfiguration {
@@ -126,6 +159,11 @@ public abstract class SpanTagAnnotationHandlerTests {
 		}
 		// end::toString[]
 
+		@NewSpan
+		public void getAnnotationForPrototypeTagValueResolver(
+				@SpanTag(key = "test", resolver = CountingTagValueResolver.class) String test) {
+		}
+
 	}
 
 }
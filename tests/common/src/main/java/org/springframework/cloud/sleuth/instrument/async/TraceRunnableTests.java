@@ -16,6 +16,7 @@
 
 package org.springframework.cloud.sleuth.instrument.async;
 
+import java.util.List;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
 import java.util.concurrent.atomic.AtomicReference;
@@ -29,6 +30,7 @@ import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.cloud.sleuth.Span;
 import org.springframework.cloud.sleuth.SpanName;
 import org.springframework.cloud.sleuth.Tracer;
+import org.springframework.cloud.sleuth.exporter.FinishedSpan;
 import org.springframework.cloud.sleuth.internal.DefaultSpanNamer;
 import org.springframework.cloud.sleuth.test.TestTracingAwareSupplier;
 
@@ -105,6 +107,94 @@ public abstract class TraceRunnableTests implements TestTracingAwareSupplier {
 				.isEqualTo("some-runnable-name-from-to-string");
 	}
 
+	@Test
+	public void should_only_propagate_context_in_context_only_mode() throws Exception {
+		Tracer tracer = tracerTest().tracing().tracer();
+		TraceKeepingRunnable traceKeepingRunnable = runnableThatRetrievesTraceFromThreadLocal();
+		Span parent = tracer.nextSpan().name("parent").start();
+		try (Tracer.SpanInScope ws = tracer.withSpan(parent)) {
+			this.executor.submit(new TraceRunnable(tracer, new DefaultSpanNamer(), traceKeepingRunnable, null,
+					ExecutorTracingMode.CONTEXT_ONLY, null)).get();
+		}
+		finally {
+			parent.end();
+		}
+
+		BDDAssertions.then(traceKeepingRunnable.span.context().spanId()).isEqualTo(parent.context().spanId());
+		BDDAssertions.then(tracerTest().handler().reportedSpans()).hasSize(1);
+		BDDAssertions.then(tracerTest().handler().reportedSpans().get(0).getName()).isEqualTo("parent");
+	}
+
+	@Test
+	public void should_record_one_span_per_burst_of_tasks_in_batched_per_burst_mode() throws Exception {
+		Tracer tracer = tracerTest().tracing().tracer();
+		BatchedTaskSpan.Batches batches = new BatchedTaskSpan.Batches();
+		Span parent = tracer.nextSpan().name("parent").start();
+		try (Tracer.SpanInScope ws = tracer.withSpan(parent)) {
+			TraceRunnable first = batchedRunnable(tracer, batches);
+			TraceRunnable second = batchedRunnable(tracer, batches);
+			this.executor.submit(first).get();
+			this.executor.submit(second).get();
+		}
+		finally {
+			parent.end();
+		}
+
+		BDDAssertions.then(tracerTest().handler().reportedSpans()).hasSize(2);
+		FinishedSpan batch = tracerTest().handler().reportedSpans().get(0);
+		BDDAssertions.then(batch.getName()).isEqualTo("batch");
+		BDDAssertions.then(batch.getParentId()).isEqualTo(parent.context().spanId());
+		BDDAssertions.then(batch.getTags()).containsEntry("async.task-count", "2")
+				.containsKeys("async.total-duration-micros", "async.max-duration-micros");
+	}
+
+	@Test
+	public void should_start_a_new_batch_span_when_tasks_are_submitted_after_the_previous_ones_completed()
+			throws Exception {
+		Tracer tracer = tracerTest().tracing().tracer();
+		BatchedTaskSpan.Batches batches = new BatchedTaskSpan.Batches();
+		Span parent = tracer.nextSpan().name("parent").start();
+		try (Tracer.SpanInScope ws = tracer.withSpan(parent)) {
+			this.executor.submit(batchedRunnable(tracer, batches)).get();
+			this.executor.submit(batchedRunnable(tracer, batches)).get();
+		}
+		finally {
+			parent.end();
+		}
+
+		BDDAssertions.then(tracerTest().handler().reportedSpans()).hasSize(3);
+		List<FinishedSpan> batchSpans = tracerTest().handler().reportedSpans().subList(0, 2);
+		BDDAssertions.then(batchSpans).extracting(FinishedSpan::getName).containsOnly("batch");
+		BDDAssertions.then(batchSpans).extracting(FinishedSpan::getParentId).containsOnly(parent.context().spanId());
+		BDDAssertions.then(batchSpans).allSatisfy(
+				batchSpan -> BDDAssertions.then(batchSpan.getTags()).containsEntry("async.task-count", "1"));
+		BDDAssertions.then(batchSpans.get(0).getSpanId()).isNotEqualTo(batchSpans.get(1).getSpanId());
+	}
+
+	@Test
+	public void should_not_share_batch_spans_between_executors() throws Exception {
+		Tracer tracer = tracerTest().tracing().tracer();
+		Span parent = tracer.nextSpan().name("parent").start();
+		try (Tracer.SpanInScope ws = tracer.withSpan(parent)) {
+			TraceRunnable first = batchedRunnable(tracer, new BatchedTaskSpan.Batches());
+			TraceRunnable second = batchedRunnable(tracer, new BatchedTaskSpan.Batches());
+			this.executor.submit(first).get();
+			this.executor.submit(second).get();
+		}
+		finally {
+			parent.end();
+		}
+
+		BDDAssertions.then(tracerTest().handler().reportedSpans()).hasSize(3);
+		BDDAssertions.then(tracerTest().handler().reportedSpans().subList(0, 2)).allSatisfy(
+				batchSpan -> BDDAssertions.then(batchSpan.getTags()).containsEntry("async.task-count", "1"));
+	}
+
+	private TraceRunnable batchedRunnable(Tracer tracer, BatchedTaskSpan.Batches batches) {
+		return new TraceRunnable(tracer, new DefaultSpanNamer(), () -> {
+		}, "batch", ExecutorTracingMode.BATCHED_PER_BURST, batches);
+	}
+
 	private TraceKeepingRunnable runnableThatRetrievesTraceFromThreadLocal() {
 		return new TraceKeepingRunnable(tracerTest().tracing().tracer());
 	}
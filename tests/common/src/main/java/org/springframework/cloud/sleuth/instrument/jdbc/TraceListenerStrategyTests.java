@@ -17,10 +17,12 @@
 package org.springframework.cloud.sleuth.instrument.jdbc;
 
 import java.sql.Connection;
+import java.sql.DatabaseMetaData;
 import java.sql.PreparedStatement;
 import java.sql.ResultSet;
 import java.sql.SQLException;
 import java.sql.Statement;
+import java.util.Collections;
 import java.util.Map;
 import java.util.concurrent.CompletableFuture;
 import java.util.stream.Collectors;
@@ -40,6 +42,10 @@ import org.springframework.context.annotation.Bean;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 
 abstract class TraceListenerStrategyTests {
 
@@ -97,6 +103,70 @@ abstract class TraceListenerStrategyTests {
 				});
 	}
 
+	@Test
+	void testShouldReuseConnectionMetadataForSubsequentConnections() {
+		parentContextRunner().run(context -> {
+			DataSource dataSource = context.getBean(DataSource.class);
+			TestSpanHandler spanReporter = context.getBean(TestSpanHandler.class);
+
+			dataSource.getConnection().close();
+			dataSource.getConnection().close();
+
+			assertThat(spanReporter.reportedSpans()).hasSize(2);
+			assertThat(spanReporter.reportedSpans()).extracting(FinishedSpan::getRemoteServiceName)
+					.containsOnly("TESTDB-BAZ");
+			assertThat(context.getBean(Tracer.class).currentSpan()).isNull();
+		});
+	}
+
+	@Test
+	void testShouldReadConnectionMetadataOnceUntilInvalidated() {
+		parentContextRunner().run(context -> {
+			TraceListenerStrategy<Object, Object, Object> strategy = new TraceListenerStrategy<>(
+					context.getBean(Tracer.class), Collections.singletonList(TraceType.CONNECTION), false,
+					Collections.emptyList());
+			TestSpanHandler spanReporter = context.getBean(TestSpanHandler.class);
+			Connection connection = mock(Connection.class);
+			DatabaseMetaData metaData = mock(DatabaseMetaData.class);
+			given(connection.getMetaData()).willReturn(metaData);
+			given(metaData.getURL()).willReturn("jdbc:h2:mem:testdb-baz");
+			given(connection.getCatalog()).willReturn("TESTDB-BAZ");
+
+			checkOut(strategy, connection, "dataSource");
+			checkOut(strategy, connection, "dataSource");
+
+			verify(connection, times(1)).getMetaData();
+			verify(connection, times(1)).getCatalog();
+
+			strategy.invalidateConnectionMetadata("otherDataSource");
+			checkOut(strategy, connection, "dataSource");
+
+			verify(connection, times(1)).getMetaData();
+
+			strategy.invalidateConnectionMetadata("dataSource");
+			checkOut(strategy, connection, "dataSource");
+
+			verify(connection, times(2)).getMetaData();
+			verify(connection, times(2)).getCatalog();
+
+			strategy.invalidateConnectionMetadata();
+			checkOut(strategy, connection, "dataSource");
+
+			verify(connection, times(3)).getMetaData();
+			verify(connection, times(3)).getCatalog();
+			assertThat(spanReporter.reportedSpans()).hasSize(5).extracting(FinishedSpan::getRemoteServiceName)
+					.containsOnly("TESTDB-BAZ");
+		});
+	}
+
+	private void checkOut(TraceListenerStrategy<Object, Object, Object> strategy, Connection connection,
+			String dataSourceName) {
+		Object connectionKey = new Object();
+		strategy.beforeGetConnection(connectionKey, null, dataSourceName);
+		strategy.afterGetConnection(connectionKey, connection, dataSourceName, null);
+		strategy.afterConnectionClose(connectionKey, null);
+	}
+
 	@Test
 	void testShouldAddSpanForPreparedStatementExecute() {
 		parentContextRunner().run(context -> {
@@ -194,6 +264,53 @@ abstract class TraceListenerStrategyTests {
 		});
 	}
 
+	@Test
+	void testShouldAggregateFetchesIntoStatementSpan() {
+		parentContextRunner().withPropertyValues("spring.sleuth.jdbc.aggregate-fetches=true").run(context -> {
+			DataSource dataSource = context.getBean(DataSource.class);
+			TestSpanHandler spanReporter = context.getBean(TestSpanHandler.class);
+
+			Connection connection = dataSource.getConnection();
+			ResultSet resultSet = connection.prepareStatement("SELECT NOW() UNION ALL select NOW()").executeQuery();
+			resultSet.next();
+			resultSet.next();
+			resultSet.close();
+			connection.close();
+
+			assertThat(spanReporter.reportedSpans()).hasSize(2);
+			FinishedSpan connectionSpan = spanReporter.reportedSpans().get(1);
+			FinishedSpan statementSpan = spanReporter.reportedSpans().get(0);
+			assertThat(connectionSpan.getName()).isEqualTo("connection");
+			assertThat(statementSpan.getName()).isEqualTo("select");
+			assertThat(statementSpan.getTags()).containsEntry("jdbc.fetch-count", "1")
+					.containsEntry("jdbc.fetch-row-count", "2").containsKey("jdbc.fetch-duration-micros");
+			assertThat(context.getBean(Tracer.class).currentSpan()).isNull();
+		});
+	}
+
+	@Test
+	void testShouldNotWaitForFetchesOfUpdatesWhenAggregatingFetches() {
+		parentContextRunner().withPropertyValues("spring.sleuth.jdbc.aggregate-fetches=true").run(context -> {
+			DataSource dataSource = context.getBean(DataSource.class);
+			TestSpanHandler spanReporter = context.getBean(TestSpanHandler.class);
+
+			Connection connection = dataSource.getConnection();
+			connection.prepareStatement("UPDATE INFORMATION_SCHEMA.TABLES SET table_Name = '' WHERE 0 = 1")
+					.executeUpdate();
+			connection.createStatement()
+					.executeUpdate("UPDATE INFORMATION_SCHEMA.TABLES SET table_Name = '' WHERE 0 = 1");
+
+			// the statements are still open, yet their spans got reported
+			assertThat(spanReporter.reportedSpans()).hasSize(2).extracting(FinishedSpan::getName)
+					.containsOnly("update");
+			connection.close();
+
+			assertThat(spanReporter.reportedSpans()).hasSize(3);
+			assertThat(spanReporter.reportedSpans().get(2).getName()).isEqualTo("connection");
+			assertThat(context.getBean(Tracer.class).currentSpan()).isNull();
+		});
+	}
+
 	@Test
 	void testShouldAddSpanForStatementAndResultSet() {
 		parentContextRunner().run(context -> {
@@ -350,6 +350,29 @@ public abstract class TracingChannelInterceptorTest implements TestTracingAwareS
 		assertThat(this.spans).extracting(FinishedSpan::getRemoteServiceName).containsOnly("broker", null);
 	}
 
+	@Test
+	public void should_map_each_header_name_to_remote_service_name_once() {
+		List<String> mappedKeys = new ArrayList<>();
+		Function<String, String> mapper = remoteServiceNameMapper(new SleuthMessagingProperties());
+		ExecutorSubscribableChannel channel = new ExecutorSubscribableChannel();
+		channel.addInterceptor(new TracingChannelInterceptor(tracerTest().tracing().tracer(),
+				tracerTest().tracing().propagator(), new MessageHeaderPropagatorSetter(),
+				new MessageHeaderPropagatorGetter(), key -> {
+					mappedKeys.add(key);
+					return mapper.apply(key);
+				}, new DefaultMessageSpanCustomizer()));
+		List<Message<?>> messages = new ArrayList<>();
+		channel.subscribe(messages::add);
+
+		Map<String, Object> headers = new HashMap<>();
+		headers.put("kafka_messageKey", "hello");
+		channel.send(MessageBuilder.createMessage("foo", new MessageHeaders(headers)));
+		channel.send(MessageBuilder.createMessage("bar", new MessageHeaders(headers)));
+
+		assertThat(this.spans).extracting(FinishedSpan::getRemoteServiceName).contains("kafka");
+		assertThat(mappedKeys).containsOnlyOnce("kafka_messageKey");
+	}
+
 	@Test
 	public void should_propagate_headers_case_insensitive() {
 		channel.addInterceptor(this.interceptor);
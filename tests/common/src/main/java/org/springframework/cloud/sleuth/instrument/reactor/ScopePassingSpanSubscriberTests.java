@@ -17,7 +17,13 @@
 package org.springframework.cloud.sleuth.instrument.reactor;
 
 import java.util.Objects;
+import java.util.concurrent.Callable;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
 import java.util.function.Function;
+import java.util.function.Supplier;
 
 import org.assertj.core.presentation.StandardRepresentation;
 import org.junit.jupiter.api.AfterEach;
@@ -27,9 +33,11 @@ import org.reactivestreams.Publisher;
 import org.reactivestreams.Subscriber;
 import org.reactivestreams.Subscription;
 import reactor.core.CoreSubscriber;
+import reactor.core.Fuseable;
 import reactor.core.publisher.BaseSubscriber;
 import reactor.core.publisher.Hooks;
 import reactor.core.publisher.Mono;
+import reactor.core.publisher.Operators;
 import reactor.core.scheduler.Schedulers;
 import reactor.util.context.Context;
 
@@ -197,6 +205,58 @@ public abstract class ScopePassingSpanSubscriberTests {
 		}
 	}
 
+	@Test
+	public void should_negotiate_fusion_with_upstream_and_poll_in_scope() {
+		AtomicReference<TraceContext> contextInPoll = new AtomicReference<>();
+		ScopePassingSpanSubscriber<Integer> subscriber = new ScopePassingSpanSubscriber<>(new BaseSubscriber<Integer>() {
+		}, Context.empty(), currentTraceContext(), context());
+		subscriber.onSubscribe(new SyncQueueSubscription(() -> {
+			contextInPoll.set(currentTraceContext().context());
+			return 1;
+		}));
+
+		then(subscriber.requestFusion(Fuseable.ANY)).isEqualTo(Fuseable.SYNC);
+		then(subscriber.poll()).isEqualTo(1);
+		then(contextInPoll.get()).isEqualTo(context());
+	}
+
+	@Test
+	public void should_not_negotiate_fusion_when_upstream_does_not_support_it() {
+		ScopePassingSpanSubscriber<Integer> subscriber = new ScopePassingSpanSubscriber<>(new BaseSubscriber<Integer>() {
+		}, Context.empty(), currentTraceContext(), context());
+		subscriber.onSubscribe(Operators.emptySubscription());
+
+		then(subscriber.requestFusion(Fuseable.ANY)).isEqualTo(Fuseable.NONE);
+	}
+
+	@Test
+	public void should_not_open_a_scope_when_parent_is_already_in_scope() {
+		AtomicInteger scopes = new AtomicInteger();
+		CurrentTraceContext countingCurrentTraceContext = new CountingCurrentTraceContext(currentTraceContext(),
+				scopes);
+		AtomicReference<TraceContext> contextInOnNext = new AtomicReference<>();
+		ScopePassingSpanSubscriber<Integer> subscriber = new ScopePassingSpanSubscriber<>(new BaseSubscriber<Integer>() {
+			@Override
+			protected void hookOnNext(Integer value) {
+				contextInOnNext.set(currentTraceContext().context());
+			}
+		}, Context.empty(), countingCurrentTraceContext, context());
+		subscriber.onSubscribe(Operators.emptySubscription());
+		scopes.set(0);
+
+		try (CurrentTraceContext.Scope ws = currentTraceContext().newScope(context())) {
+			subscriber.onNext(1);
+		}
+		then(scopes.get()).isZero();
+		then(contextInOnNext.get()).isEqualTo(context());
+
+		try (CurrentTraceContext.Scope ws = currentTraceContext().newScope(context2())) {
+			subscriber.onNext(2);
+		}
+		then(scopes.get()).isOne();
+		then(contextInOnNext.get()).isEqualTo(context());
+	}
+
 	@Test
 	public void should_not_scope_scalar_subscribe() {
 		springContext.registerBean(CurrentTraceContext.class, this::currentTraceContext);
@@ -234,4 +294,104 @@ public abstract class ScopePassingSpanSubscriberTests {
 		}
 	}
 
+	static final class SyncQueueSubscription implements Fuseable.QueueSubscription<Integer> {
+
+		private final Supplier<Integer> supplier;
+
+		SyncQueueSubscription(Supplier<Integer> supplier) {
+			this.supplier = supplier;
+		}
+
+		@Override
+		public Integer poll() {
+			return this.supplier.get();
+		}
+
+		@Override
+		public int requestFusion(int requestedMode) {
+			return requestedMode & Fuseable.SYNC;
+		}
+
+		@Override
+		public int size() {
+			return 1;
+		}
+
+		@Override
+		public boolean isEmpty() {
+			return false;
+		}
+
+		@Override
+		public void clear() {
+
+		}
+
+		@Override
+		public void request(long n) {
+
+		}
+
+		@Override
+		public void cancel() {
+
+		}
+
+	}
+
+	static final class CountingCurrentTraceContext implements CurrentTraceContext {
+
+		private final CurrentTraceContext delegate;
+
+		private final AtomicInteger scopes;
+
+		CountingCurrentTraceContext(CurrentTraceContext delegate, AtomicInteger scopes) {
+			this.delegate = delegate;
+			this.scopes = scopes;
+		}
+
+		@Override
+		public TraceContext context() {
+			return this.delegate.context();
+		}
+
+		@Override
+		public boolean isCurrent(TraceContext context) {
+			return this.delegate.isCurrent(context);
+		}
+
+		@Override
+		public Scope newScope(TraceContext context) {
+			this.scopes.incrementAndGet();
+			return this.delegate.newScope(context);
+		}
+
+		@Override
+		public Scope maybeScope(TraceContext context) {
+			this.scopes.incrementAndGet();
+			return this.delegate.maybeScope(context);
+		}
+
+		@Override
+		public <C> Callable<C> wrap(Callable<C> task) {
+			return this.delegate.wrap(task);
+		}
+
+		@Override
+		public Runnable wrap(Runnable task) {
+			return this.delegate.wrap(task);
+		}
+
+		@Override
+		public Executor wrap(Executor delegate) {
+			return this.delegate.wrap(delegate);
+		}
+
+		@Override
+		public ExecutorService wrap(ExecutorService delegate) {
+			return this.delegate.wrap(delegate);
+		}
+
+	}
+
 }
@@ -17,7 +17,11 @@
 package org.springframework.cloud.sleuth.instrument.web.client.feign;
 
 import java.io.IOException;
+import java.util.Collection;
+import java.util.Collections;
 import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicReference;
 
 import feign.Client;
 import feign.Request;
@@ -112,4 +116,23 @@ public abstract class TracingFeignClientTests implements TestTracingAwareSupplie
 		this.traceFeignClient.execute(this.request, this.options);
 	}
 
+	@Test
+	public void should_add_trace_headers_on_top_of_request_headers() throws IOException {
+		Map<String, Collection<String>> headers = new HashMap<>();
+		headers.put("foo", Collections.singletonList("bar"));
+		Request request = Request.create(Request.HttpMethod.GET, "https://foo", headers, null, null,
+				this.requestTemplate);
+		AtomicReference<Request> sent = new AtomicReference<>();
+		BDDMockito.given(this.client.execute(BDDMockito.any(), BDDMockito.any())).willAnswer(invocation -> {
+			sent.set(invocation.getArgument(0));
+			return null;
+		});
+
+		this.traceFeignClient.execute(request, this.options);
+
+		BDDAssertions.then(sent.get().headers()).hasSizeGreaterThan(1);
+		BDDAssertions.then(sent.get().headers().get("foo")).containsExactly("bar");
+		BDDAssertions.then(request.headers()).containsOnlyKeys("foo");
+	}
+
 }